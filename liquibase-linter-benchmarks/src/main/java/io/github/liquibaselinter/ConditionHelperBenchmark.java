@@ -0,0 +1,61 @@
+package io.github.liquibaselinter;
+
+import io.github.liquibaselinter.benchmarks.ChangeLogState;
+import io.github.liquibaselinter.config.ConditionEngine;
+import io.github.liquibaselinter.config.RuleConfig;
+import java.util.concurrent.TimeUnit;
+import liquibase.change.Change;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Evaluates one typical rule condition against every change, change set and change log of the synthetic tree.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ConditionHelperBenchmark {
+
+    private static final ConditionEngine CONDITIONS = new ConditionEngine();
+
+    private static final RuleConfig CHANGE_CONDITION = RuleConfig.builder()
+        .withCondition("matchesContext('ddl') and change.class.simpleName != 'RawSQLChange'")
+        .build();
+    private static final RuleConfig CHANGE_SET_CONDITION = RuleConfig.builder()
+        .withCondition("changeSet.author == 'benchmark' and !matchesContext('dml')")
+        .build();
+    private static final RuleConfig CHANGE_LOG_CONDITION = RuleConfig.builder()
+        .withCondition("changeLog.physicalFilePath.endsWith('.xml')")
+        .build();
+
+    @Benchmark
+    public void evaluateChangeCondition(ChangeLogState state, Blackhole blackhole) {
+        for (Change change : state.changes) {
+            blackhole.consume(ConditionHelper.evaluateCondition(CONDITIONS, CHANGE_CONDITION, change));
+        }
+    }
+
+    @Benchmark
+    public void evaluateChangeSetCondition(ChangeLogState state, Blackhole blackhole) {
+        for (ChangeSet changeSet : state.rootChangeLog.getChangeSets()) {
+            blackhole.consume(ConditionHelper.evaluateCondition(CONDITIONS, CHANGE_SET_CONDITION, changeSet));
+        }
+    }
+
+    @Benchmark
+    public void evaluateChangeLogCondition(ChangeLogState state, Blackhole blackhole) {
+        for (DatabaseChangeLog changeLog : state.changeLogs) {
+            blackhole.consume(ConditionHelper.evaluateCondition(CONDITIONS, CHANGE_LOG_CONDITION, changeLog));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.liquibaselinter;
+
+import io.github.liquibaselinter.benchmarks.ChangeLogState;
+import java.util.concurrent.TimeUnit;
+import liquibase.change.Change;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lints the whole synthetic tree per operation, one entry point of {@link RuleRunner} at a time, plus the complete
+ * {@link ChangeLogLinter#lintChangeLog(DatabaseChangeLog)} run. Each operation uses a fresh {@link RuleRunner}, as a
+ * lint run does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class RuleRunnerBenchmark {
+
+    @Benchmark
+    public Object checkChange(ChangeLogState state) throws ChangeLogLintingException {
+        final RuleRunner ruleRunner = new RuleRunner(state.config);
+        for (Change change : state.changes) {
+            ruleRunner.checkChange(change);
+        }
+        return ruleRunner.buildReport();
+    }
+
+    @Benchmark
+    public Object checkChangeSet(ChangeLogState state) throws ChangeLogLintingException {
+        final RuleRunner ruleRunner = new RuleRunner(state.config);
+        for (ChangeSet changeSet : state.rootChangeLog.getChangeSets()) {
+            ruleRunner.checkChangeSet(changeSet);
+        }
+        return ruleRunner.buildReport();
+    }
+
+    @Benchmark
+    public Object checkChangeLog(ChangeLogState state) throws ChangeLogLintingException {
+        final RuleRunner ruleRunner = new RuleRunner(state.config);
+        ruleRunner.checkChangeLog(state.rootChangeLog);
+        for (DatabaseChangeLog changeLog : state.changeLogs) {
+            ruleRunner.checkChangeLog(changeLog);
+        }
+        return ruleRunner.buildReport();
+    }
+
+    @Benchmark
+    public void lintChangeLog(ChangeLogState state, Blackhole blackhole) {
+        final ChangeLogLinter linter = new ChangeLogLinter(new ClassLoaderResourceAccessor(), state.config);
+        try {
+            linter.lintChangeLog(state.rootChangeLog);
+        } catch (ChangeLogLintingException expected) {
+            // the synthetic tree deliberately contains violations
+            blackhole.consume(expected);
+        }
+    }
+}
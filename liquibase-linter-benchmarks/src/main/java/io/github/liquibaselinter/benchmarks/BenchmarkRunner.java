@@ -0,0 +1,68 @@
+package io.github.liquibaselinter.benchmarks;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler attached, then restates each result per change set: throughput becomes
+ * change sets per second and the normalised allocation rate becomes bytes allocated per change set. Accepts the usual
+ * JMH command line options, e.g. {@code java -jar benchmarks.jar RuleRunner -p changeSets=10000}.
+ */
+public final class BenchmarkRunner {
+
+    private static final String ALLOCATION_PER_OPERATION = "gc.alloc.rate.norm";
+
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        final Options options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build();
+        printPerChangeSet(new Runner(options).run());
+    }
+
+    private static void printPerChangeSet(Collection<RunResult> results) {
+        System.out.println();
+        System.out.println("Per change set:");
+        System.out.printf(Locale.ROOT, "%-90s %12s %16s %16s%n", "Benchmark", "changeSets", "changeSets/s", "B/changeSet");
+        for (RunResult result : results) {
+            final BenchmarkParams params = result.getParams();
+            final String changeSetsParam = params.getParam(ChangeLogState.CHANGE_SETS_PARAM);
+            if (changeSetsParam == null) {
+                continue;
+            }
+            final int changeSets = Integer.parseInt(changeSetsParam);
+            final double operationsPerSecond = result.getPrimaryResult().getScore();
+            System.out.printf(
+                Locale.ROOT,
+                "%-90s %12d %16.1f %16.1f%n",
+                params.getBenchmark(),
+                changeSets,
+                operationsPerSecond * changeSets,
+                allocationPerOperation(result.getSecondaryResults()) / changeSets
+            );
+        }
+    }
+
+    private static double allocationPerOperation(Map<String, Result> secondaryResults) {
+        return secondaryResults
+            .entrySet()
+            .stream()
+            .filter(entry -> entry.getKey().endsWith(ALLOCATION_PER_OPERATION))
+            .mapToDouble(entry -> entry.getValue().getScore())
+            .findFirst()
+            .orElse(Double.NaN);
+    }
+}
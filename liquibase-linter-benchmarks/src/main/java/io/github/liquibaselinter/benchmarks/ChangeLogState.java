@@ -0,0 +1,51 @@
+package io.github.liquibaselinter.benchmarks;
+
+import io.github.liquibaselinter.config.Config;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import liquibase.change.Change;
+import liquibase.changelog.DatabaseChangeLog;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared benchmark input: a synthetic change log tree of {@link #changeSets} change sets and the benchmark
+ * configuration. {@link BenchmarkRunner} divides allocation figures by {@link #changeSets} to report them per change
+ * set.
+ */
+@State(Scope.Benchmark)
+public class ChangeLogState {
+
+    public static final String CHANGE_SETS_PARAM = "changeSets";
+
+    private static final String CONFIG_RESOURCE = "/benchmark-lqlint.json";
+
+    @Param({ "1000", "10000", "100000" })
+    public int changeSets;
+
+    public Config config;
+    public DatabaseChangeLog rootChangeLog;
+    public List<DatabaseChangeLog> changeLogs;
+    public List<Change> changes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        config = loadConfig();
+        rootChangeLog = SyntheticChangeLogs.changeLogWith(changeSets);
+        changeLogs = SyntheticChangeLogs.includedChangeLogs(rootChangeLog);
+        changes = SyntheticChangeLogs.changes(rootChangeLog);
+    }
+
+    public static Config loadConfig() {
+        try (InputStream inputStream = ChangeLogState.class.getResourceAsStream(CONFIG_RESOURCE)) {
+            return Config.fromInputStream(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load benchmark configuration " + CONFIG_RESOURCE, e);
+        }
+    }
+}
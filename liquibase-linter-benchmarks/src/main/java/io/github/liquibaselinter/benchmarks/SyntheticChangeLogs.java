@@ -0,0 +1,264 @@
+package io.github.liquibaselinter.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import liquibase.change.AddColumnConfig;
+import liquibase.change.Change;
+import liquibase.change.ColumnConfig;
+import liquibase.change.ConstraintsConfig;
+import liquibase.change.core.AddColumnChange;
+import liquibase.change.core.AddForeignKeyConstraintChange;
+import liquibase.change.core.AddPrimaryKeyChange;
+import liquibase.change.core.CreateIndexChange;
+import liquibase.change.core.CreateTableChange;
+import liquibase.change.core.DeleteDataChange;
+import liquibase.change.core.DropNotNullConstraintChange;
+import liquibase.change.core.InsertDataChange;
+import liquibase.change.core.RawSQLChange;
+import liquibase.change.core.RenameTableChange;
+import liquibase.change.core.UpdateDataChange;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+
+/**
+ * Builds in-memory {@link DatabaseChangeLog} trees shaped like a real project: a root change log including one file
+ * per {@value #CHANGE_SETS_PER_FILE} change sets, with a deterministic mix of change types and about one change set in
+ * ten breaking at least one rule of the benchmark configuration.
+ */
+public final class SyntheticChangeLogs {
+
+    public static final String ROOT_CHANGE_LOG = "db/changelog/db.changelog-master.xml";
+    public static final String AUTHOR = "benchmark";
+
+    private static final int CHANGE_SETS_PER_FILE = 50;
+    private static final long SEED = 20_180_906L;
+    private static final int VIOLATION_ONE_IN = 10;
+
+    private final Random random = new Random(SEED);
+    private int tableCount;
+
+    private SyntheticChangeLogs() {}
+
+    public static DatabaseChangeLog changeLogWith(int changeSetCount) {
+        return new SyntheticChangeLogs().build(changeSetCount);
+    }
+
+    /**
+     * @return every included change log of the tree, in include order.
+     */
+    public static List<DatabaseChangeLog> includedChangeLogs(DatabaseChangeLog rootChangeLog) {
+        final List<DatabaseChangeLog> changeLogs = new ArrayList<>();
+        for (ChangeSet changeSet : rootChangeLog.getChangeSets()) {
+            final DatabaseChangeLog changeLog = changeSet.getChangeLog();
+            if (changeLogs.isEmpty() || changeLogs.get(changeLogs.size() - 1) != changeLog) {
+                changeLogs.add(changeLog);
+            }
+        }
+        return Collections.unmodifiableList(changeLogs);
+    }
+
+    /**
+     * @return every change of the tree, in execution order.
+     */
+    public static List<Change> changes(DatabaseChangeLog rootChangeLog) {
+        final List<Change> changes = new ArrayList<>();
+        for (ChangeSet changeSet : rootChangeLog.getChangeSets()) {
+            changes.addAll(changeSet.getChanges());
+        }
+        return Collections.unmodifiableList(changes);
+    }
+
+    private DatabaseChangeLog build(int changeSetCount) {
+        final DatabaseChangeLog root = new DatabaseChangeLog(ROOT_CHANGE_LOG);
+        DatabaseChangeLog current = null;
+        for (int index = 0; index < changeSetCount; index++) {
+            if (index % CHANGE_SETS_PER_FILE == 0) {
+                current = new DatabaseChangeLog(
+                    String.format(Locale.ROOT, "db/changelog/changes/%05d_changes.xml", index / CHANGE_SETS_PER_FILE)
+                );
+                current.setParentChangeLog(root);
+                current.setRootChangeLog(root);
+            }
+            final ChangeSet changeSet = changeSet(index, current, random.nextInt(VIOLATION_ONE_IN) == 0);
+            current.addChangeSet(changeSet);
+            root.addChangeSet(changeSet);
+        }
+        return root;
+    }
+
+    private ChangeSet changeSet(int index, DatabaseChangeLog changeLog, boolean violating) {
+        final String context = violating ? null : (index % 3 == 0 ? "ddl" : "dml");
+        final ChangeSet changeSet = new ChangeSet(
+            String.format(Locale.ROOT, "%08d-1", index),
+            AUTHOR,
+            false,
+            false,
+            changeLog.getFilePath(),
+            context,
+            null,
+            changeLog
+        );
+        changeSet.setComments(violating ? null : "Synthetic change set " + index);
+        if ("ddl".equals(context) || context == null) {
+            addDdlChanges(changeSet, violating);
+        } else {
+            addDmlChanges(changeSet);
+        }
+        return changeSet;
+    }
+
+    private void addDdlChanges(ChangeSet changeSet, boolean violating) {
+        final String tableName = tableName(violating);
+        switch (random.nextInt(5)) {
+            case 0:
+                changeSet.addChange(createTable(tableName, violating));
+                changeSet.addChange(addPrimaryKey(tableName, violating));
+                break;
+            case 1:
+                changeSet.addChange(addColumn(tableName, violating));
+                break;
+            case 2:
+                changeSet.addChange(createIndex(tableName, violating));
+                break;
+            case 3:
+                changeSet.addChange(addForeignKey(tableName, violating));
+                break;
+            default:
+                changeSet.addChange(renameTable(tableName, violating));
+                changeSet.addChange(dropNotNull(tableName));
+                break;
+        }
+    }
+
+    private void addDmlChanges(ChangeSet changeSet) {
+        final String tableName = tableName(false);
+        switch (random.nextInt(4)) {
+            case 0:
+                changeSet.addChange(insertData(tableName));
+                break;
+            case 1:
+                changeSet.addChange(updateData(tableName));
+                break;
+            case 2:
+                changeSet.addChange(deleteData(tableName));
+                break;
+            default:
+                changeSet.addChange(rawSql(tableName));
+                break;
+        }
+    }
+
+    private String tableName(boolean violating) {
+        final String name = String.format(Locale.ROOT, "TABLE_%05d", tableCount++);
+        return violating ? "TBL_" + name.toLowerCase(Locale.ROOT) : name;
+    }
+
+    private static CreateTableChange createTable(String tableName, boolean violating) {
+        final CreateTableChange change = new CreateTableChange();
+        change.setTableName(tableName);
+        change.setRemarks(violating ? null : "Synthetic table " + tableName);
+        for (int column = 0; column < 6; column++) {
+            final ColumnConfig columnConfig = new ColumnConfig();
+            columnConfig.setName(column == 0 ? "ID" : "COLUMN_" + column);
+            columnConfig.setType(column == 0 ? "NUMBER(19)" : "VARCHAR2(255)");
+            columnConfig.setRemarks("Synthetic column " + column);
+            final ConstraintsConfig constraints = new ConstraintsConfig();
+            constraints.setNullable(column != 0);
+            columnConfig.setConstraints(constraints);
+            change.addColumn(columnConfig);
+        }
+        return change;
+    }
+
+    private static AddPrimaryKeyChange addPrimaryKey(String tableName, boolean violating) {
+        final AddPrimaryKeyChange change = new AddPrimaryKeyChange();
+        change.setTableName(tableName);
+        change.setColumnNames("ID");
+        change.setConstraintName(violating ? "pk" : tableName + "_PK");
+        change.setTablespace("INDEX_TS");
+        return change;
+    }
+
+    private static AddColumnChange addColumn(String tableName, boolean violating) {
+        final AddColumnChange change = new AddColumnChange();
+        change.setTableName(tableName);
+        final AddColumnConfig column = new AddColumnConfig();
+        column.setName(violating ? "badColumn" : "NEW_COLUMN");
+        column.setType("VARCHAR2(50)");
+        column.setRemarks(violating ? null : "Added column");
+        change.addColumn(column);
+        return change;
+    }
+
+    private static CreateIndexChange createIndex(String tableName, boolean violating) {
+        final CreateIndexChange change = new CreateIndexChange();
+        change.setTableName(tableName);
+        change.setIndexName(violating ? "idx" : tableName + "_IX");
+        change.setTablespace(violating ? null : "INDEX_TS");
+        final AddColumnConfig column = new AddColumnConfig();
+        column.setName("COLUMN_1");
+        change.addColumn(column);
+        return change;
+    }
+
+    private static AddForeignKeyConstraintChange addForeignKey(String tableName, boolean violating) {
+        final AddForeignKeyConstraintChange change = new AddForeignKeyConstraintChange();
+        change.setBaseTableName(tableName);
+        change.setBaseColumnNames("PARENT_ID");
+        change.setReferencedTableName("PARENT");
+        change.setReferencedColumnNames("ID");
+        change.setConstraintName(violating ? "fk" : tableName + "_PARENT_FK");
+        return change;
+    }
+
+    private static RenameTableChange renameTable(String tableName, boolean violating) {
+        final RenameTableChange change = new RenameTableChange();
+        change.setOldTableName(tableName + "_OLD");
+        change.setNewTableName(tableName);
+        change.setSchemaName(violating ? "PUBLIC" : null);
+        return change;
+    }
+
+    private static DropNotNullConstraintChange dropNotNull(String tableName) {
+        final DropNotNullConstraintChange change = new DropNotNullConstraintChange();
+        change.setTableName(tableName);
+        change.setColumnName("COLUMN_1");
+        change.setColumnDataType("VARCHAR2(255)");
+        return change;
+    }
+
+    private static InsertDataChange insertData(String tableName) {
+        final InsertDataChange change = new InsertDataChange();
+        change.setTableName(tableName);
+        final ColumnConfig column = new ColumnConfig();
+        column.setName("COLUMN_1");
+        column.setValue("value");
+        change.addColumn(column);
+        return change;
+    }
+
+    private static UpdateDataChange updateData(String tableName) {
+        final UpdateDataChange change = new UpdateDataChange();
+        change.setTableName(tableName);
+        change.setWhere("ID = 1");
+        final ColumnConfig column = new ColumnConfig();
+        column.setName("COLUMN_1");
+        column.setValue("value");
+        change.addColumn(column);
+        return change;
+    }
+
+    private static DeleteDataChange deleteData(String tableName) {
+        final DeleteDataChange change = new DeleteDataChange();
+        change.setTableName(tableName);
+        change.setWhere("COLUMN_1 IS NULL");
+        return change;
+    }
+
+    private static RawSQLChange rawSql(String tableName) {
+        return new RawSQLChange("UPDATE " + tableName + " SET COLUMN_1 = NULL WHERE ID = 2");
+    }
+}
@@ -0,0 +1,169 @@
+package io.github.liquibaselinter.report;
+
+import static io.github.liquibaselinter.report.ReportItem.ReportItemType.ERROR;
+import static io.github.liquibaselinter.report.ReportItem.ReportItemType.IGNORED;
+import static io.github.liquibaselinter.report.ReportItem.ReportItemType.PASSED;
+
+import com.google.common.collect.ImmutableListMultimap;
+import io.github.liquibaselinter.ChangeLogLinter;
+import io.github.liquibaselinter.ChangeLogLintingException;
+import io.github.liquibaselinter.benchmarks.ChangeLogState;
+import io.github.liquibaselinter.config.Config;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Formats the report of a full lint of the synthetic tree with each core reporter. Output goes to a discarding writer
+ * so that only the grouping and formatting work is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ReporterBenchmark {
+
+    @Benchmark
+    public void processReport(ReportState state) {
+        state.reporter.processReport(state.report);
+    }
+
+    @State(Scope.Benchmark)
+    public static class ReportState {
+
+        @Param({ TextReporter.NAME, ConsoleReporter.NAME, MarkdownReporter.NAME })
+        public String reporterName;
+
+        @Param({ "default", "all" })
+        public String filter;
+
+        Reporter reporter;
+        Report report;
+
+        @Setup(Level.Trial)
+        public void setUp(ChangeLogState changeLogState) {
+            report = lintReport(changeLogState);
+            reporter = createReporter(reporterConfig());
+        }
+
+        private ReporterConfig reporterConfig() {
+            final ReporterConfig.Builder builder = ReporterConfig.builder();
+            if ("all".equals(filter)) {
+                builder.withFilter(ERROR, IGNORED, PASSED);
+            }
+            return builder.build();
+        }
+
+        private Reporter createReporter(ReporterConfig config) {
+            switch (reporterName) {
+                case TextReporter.NAME:
+                    return new DiscardingTextReporter(config);
+                case ConsoleReporter.NAME:
+                    return new DiscardingConsoleReporter(config);
+                case MarkdownReporter.NAME:
+                    return new DiscardingMarkdownReporter(config);
+                default:
+                    throw new IllegalArgumentException("Unknown reporter " + reporterName);
+            }
+        }
+
+        private static Report lintReport(ChangeLogState changeLogState) {
+            final CapturingReporter capturingReporter = new CapturingReporter();
+            final Config config = new Config.Builder(changeLogState.config)
+                .withReporting(ImmutableListMultimap.of("capture", capturingReporter))
+                .build();
+            try {
+                new ChangeLogLinter(new ClassLoaderResourceAccessor(), config).lintChangeLog(
+                    changeLogState.rootChangeLog
+                );
+            } catch (ChangeLogLintingException expected) {
+                // the synthetic tree deliberately contains violations
+            }
+            return capturingReporter.report;
+        }
+    }
+
+    private static final class CapturingReporter implements Reporter {
+
+        private Report report;
+
+        @Override
+        public void processReport(Report report) {
+            this.report = report;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+    }
+
+    private static final class DiscardingTextReporter extends TextReporter {
+
+        private DiscardingTextReporter(ReporterConfig config) {
+            super(config);
+        }
+
+        @Override
+        protected void process(Report report, List<ReportItem> items) {
+            printReport(new PrintWriter(new DiscardingWriter()), report, items);
+        }
+    }
+
+    private static final class DiscardingConsoleReporter extends ConsoleReporter {
+
+        private DiscardingConsoleReporter(ReporterConfig config) {
+            super(config);
+        }
+
+        @Override
+        protected void process(Report report, List<ReportItem> items) {
+            printReport(new PrintWriter(new DiscardingWriter()), report, items);
+        }
+    }
+
+    private static final class DiscardingMarkdownReporter extends MarkdownReporter {
+
+        private DiscardingMarkdownReporter(ReporterConfig config) {
+            super(config);
+        }
+
+        @Override
+        protected void process(Report report, List<ReportItem> items) {
+            printReport(new PrintWriter(new DiscardingWriter()), report, items);
+        }
+    }
+
+    private static final class DiscardingWriter extends Writer {
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            // discarded
+        }
+
+        @Override
+        public void flush() {
+            // nothing buffered
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    }
+}
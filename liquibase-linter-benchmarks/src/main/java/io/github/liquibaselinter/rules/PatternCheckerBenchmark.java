@@ -0,0 +1,56 @@
+package io.github.liquibaselinter.rules;
+
+import io.github.liquibaselinter.benchmarks.ChangeLogState;
+import io.github.liquibaselinter.config.RuleConfig;
+import java.util.concurrent.TimeUnit;
+import liquibase.change.Change;
+import liquibase.change.ChangeWithColumns;
+import liquibase.change.ColumnConfig;
+import liquibase.change.core.CreateIndexChange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Checks the column names of the synthetic tree against a static pattern, and its index names against a dynamic
+ * pattern built from the table name.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class PatternCheckerBenchmark {
+
+    private static final PatternChecker STATIC_PATTERN = new PatternChecker(
+        RuleConfig.builder().withPattern("^(?!_)[A-Z_0-9]+(?<!_)$").build()
+    );
+    private static final PatternChecker DYNAMIC_PATTERN = new PatternChecker(
+        RuleConfig.builder().withPattern("^{{value}}_(IX|I\\d)$").withDynamicValue("tableName").build()
+    );
+
+    @Benchmark
+    public void checkStaticPattern(ChangeLogState state, Blackhole blackhole) {
+        for (Change change : state.changes) {
+            if (change instanceof ChangeWithColumns<?>) {
+                for (ColumnConfig column : ((ChangeWithColumns<?>) change).getColumns()) {
+                    blackhole.consume(STATIC_PATTERN.check(column.getName(), change));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void checkDynamicPattern(ChangeLogState state, Blackhole blackhole) {
+        for (Change change : state.changes) {
+            if (change instanceof CreateIndexChange) {
+                blackhole.consume(DYNAMIC_PATTERN.check(((CreateIndexChange) change).getIndexName(), change));
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.liquibaselinter;
+
+import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.ChangeRule;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import liquibase.change.Change;
+
+/**
+ * Enabled change rule configs, indexed by the concrete {@link Change} class they can apply to.
+ */
+class ChangeRuleIndex {
+
+    private final List<ChangeRuleBinding> bindings = new ArrayList<>();
+    private final Map<Class<?>, List<ChangeRuleBinding>> bindingsByChangeType = new ConcurrentHashMap<>();
+
+    ChangeRuleIndex(Collection<ChangeRule> changeRules, Config config) {
+        for (ChangeRule changeRule : changeRules) {
+            final Collection<Class<? extends Change>> supportedChangeTypes = changeRule.supportedChangeTypes();
+            for (RuleConfig ruleConfig : config.forRule(changeRule.getName())) {
+                if (ruleConfig.isEnabled()) {
+                    bindings.add(new ChangeRuleBinding(changeRule, ruleConfig, supportedChangeTypes));
+                }
+            }
+        }
+    }
+
+    List<ChangeRuleBinding> forChange(Change change) {
+        return bindingsByChangeType.computeIfAbsent(change.getClass(), this::bindingsFor);
+    }
+
+    private List<ChangeRuleBinding> bindingsFor(Class<?> changeType) {
+        final List<ChangeRuleBinding> applicable = new ArrayList<>();
+        for (ChangeRuleBinding binding : bindings) {
+            if (binding.supports(changeType)) {
+                applicable.add(binding);
+            }
+        }
+        return Collections.unmodifiableList(applicable);
+    }
+
+    static final class ChangeRuleBinding {
+
+        private final ChangeRule changeRule;
+        private final RuleConfig ruleConfig;
+        private final Collection<Class<? extends Change>> supportedChangeTypes;
+
+        private ChangeRuleBinding(
+            ChangeRule changeRule,
+            RuleConfig ruleConfig,
+            Collection<Class<? extends Change>> supportedChangeTypes
+        ) {
+            this.changeRule = changeRule;
+            this.ruleConfig = ruleConfig;
+            this.supportedChangeTypes = supportedChangeTypes;
+        }
+
+        ChangeRule getChangeRule() {
+            return changeRule;
+        }
+
+        RuleConfig getRuleConfig() {
+            return ruleConfig;
+        }
+
+        private boolean supports(Class<?> changeType) {
+            return supportedChangeTypes.stream().anyMatch(supported -> supported.isAssignableFrom(changeType));
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package io.github.liquibaselinter;
 
+import io.github.liquibaselinter.config.ConditionEngine;
 import io.github.liquibaselinter.config.RuleConfig;
 import java.util.Optional;
+import java.util.function.Supplier;
 import liquibase.Contexts;
 import liquibase.change.Change;
 import liquibase.changelog.ChangeSet;
@@ -11,28 +13,37 @@ final class ConditionHelper {
 
     private ConditionHelper() {}
 
-    public static boolean evaluateCondition(RuleConfig ruleConfig, Change change) {
-        return ruleConfig
-            .getConditionalExpression()
-            .map(expression -> expression.getValue(ConditionContext.from(change), boolean.class))
-            .orElse(true);
+    public static boolean evaluateCondition(ConditionEngine conditions, RuleConfig ruleConfig, Change change) {
+        return evaluateCondition(conditions, ruleConfig, () -> ConditionContext.from(change));
     }
 
-    public static boolean evaluateCondition(RuleConfig ruleConfig, ChangeSet changeSet) {
-        return ruleConfig
-            .getConditionalExpression()
-            .map(expression -> expression.getValue(ConditionContext.from(changeSet), boolean.class))
-            .orElse(true);
+    public static boolean evaluateCondition(ConditionEngine conditions, RuleConfig ruleConfig, ChangeSet changeSet) {
+        return evaluateCondition(conditions, ruleConfig, () -> ConditionContext.from(changeSet));
+    }
+
+    public static boolean evaluateCondition(
+        ConditionEngine conditions,
+        RuleConfig ruleConfig,
+        DatabaseChangeLog databaseChangeLog
+    ) {
+        return evaluateCondition(conditions, ruleConfig, () -> ConditionContext.from(databaseChangeLog));
     }
 
-    public static boolean evaluateCondition(RuleConfig ruleConfig, DatabaseChangeLog databaseChangeLog) {
+    private static boolean evaluateCondition(
+        ConditionEngine conditions,
+        RuleConfig ruleConfig,
+        Supplier<ConditionContext> conditionContext
+    ) {
         return ruleConfig
             .getConditionalExpression()
-            .map(expression -> expression.getValue(ConditionContext.from(databaseChangeLog), boolean.class))
+            .map(expression -> conditions.evaluateShared(expression, conditionContext.get(), boolean.class))
             .orElse(true);
     }
 
-    private static final class ConditionContext {
+    /**
+     * Root object of rule conditions; public so that SpEL can compile expressions reading it.
+     */
+    public static final class ConditionContext {
 
         private final DatabaseChangeLog changeLog;
         private final ChangeSet changeSet;
@@ -0,0 +1,219 @@
+package io.github.liquibaselinter;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import liquibase.Scope;
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.resource.Resource;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * A record that a change log linted without errors: the content hash of each change log file parsed, the values of the
+ * change log parameters each file uses, and the {@link LintEngine#getRulesFingerprint() fingerprint} of the config and
+ * rules it was linted with.
+ * <p>
+ * Written at build time, it lets the same change log be trusted at runtime by hashing its files instead of linting it
+ * again. Files are recorded by their path on the classpath: the paths a change log is parsed with at build time, e.g.
+ * under {@code src/main/resources}, are made {@link #relativeTo(Collection) relative} to the directories they ship
+ * from. Checks of files a change log does not include, such as {@code file-not-included}, are not covered.
+ */
+public final class LintAttestation {
+
+    public static final String LQLINT_ATTESTATION = "lqlint-attestation.json";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    @JsonProperty("fingerprint")
+    private final String fingerprint;
+
+    @JsonProperty("files")
+    private final SortedMap<String, String> fileHashes;
+
+    @JsonProperty("parameters")
+    private final SortedMap<String, SortedMap<String, String>> parameters;
+
+    @JsonCreator
+    private LintAttestation(
+        @JsonProperty("fingerprint") String fingerprint,
+        @JsonProperty("files") Map<String, String> fileHashes,
+        @JsonProperty("parameters") Map<String, ? extends Map<String, String>> parameters
+    ) {
+        this.fingerprint = fingerprint;
+        this.fileHashes = Collections.unmodifiableSortedMap(
+            new TreeMap<>(Optional.ofNullable(fileHashes).orElseGet(Collections::emptyMap))
+        );
+        final SortedMap<String, SortedMap<String, String>> sortedParameters = new TreeMap<>();
+        Optional.ofNullable(parameters)
+            .orElseGet(Collections::emptyMap)
+            .forEach((file, values) ->
+                sortedParameters.put(file, Collections.unmodifiableSortedMap(new TreeMap<>(values)))
+            );
+        this.parameters = Collections.unmodifiableSortedMap(sortedParameters);
+    }
+
+    /**
+     * @throws IOException if a file cannot be read
+     */
+    static LintAttestation of(
+        LintEngine engine,
+        ResourceAccessor resourceAccessor,
+        Collection<DatabaseChangeLog> changeLogs
+    ) throws IOException {
+        final Map<String, String> fileHashes = new TreeMap<>();
+        final Map<String, SortedMap<String, String>> parameters = new TreeMap<>();
+        for (DatabaseChangeLog changeLog : changeLogs) {
+            record(resourceAccessor, changeLog, fileHashes, parameters);
+        }
+        return new LintAttestation(engine.getRulesFingerprint(), fileHashes, parameters);
+    }
+
+    /**
+     * @return the attestation at the path, unless there is none
+     * @throws IOException if the attestation exists but cannot be read
+     */
+    public static Optional<LintAttestation> read(ResourceAccessor resourceAccessor, String path) throws IOException {
+        final Resource resource = resourceAccessor.get(path);
+        if (resource == null || !resource.exists()) {
+            return Optional.empty();
+        }
+        try (InputStream input = resource.openInputStream()) {
+            return Optional.of(OBJECT_MAPPER.readValue(input, LintAttestation.class));
+        }
+    }
+
+    public void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        OBJECT_MAPPER.writeValue(file.toFile(), this);
+    }
+
+    /**
+     * @param directories the directories the change log files ship from, e.g. {@code src/main/resources}, in the form
+     *     the change log was parsed with
+     * @return this attestation, with each file recorded by its path relative to the first directory containing it
+     */
+    public LintAttestation relativeTo(Collection<String> directories) {
+        final List<String> prefixes = directories
+            .stream()
+            .map(LintAttestation::classpathPath)
+            .filter(directory -> !directory.isEmpty())
+            .map(directory -> directory.endsWith("/") ? directory : directory + '/')
+            .collect(Collectors.toList());
+        final UnaryOperator<String> relative = file ->
+            prefixes
+                .stream()
+                .filter(file::startsWith)
+                .findFirst()
+                .map(prefix -> file.substring(prefix.length()))
+                .orElse(file);
+        final Map<String, String> relativeFileHashes = new TreeMap<>();
+        fileHashes.forEach((file, hash) -> relativeFileHashes.put(relative.apply(file), hash));
+        final Map<String, SortedMap<String, String>> relativeParameters = new TreeMap<>();
+        parameters.forEach((file, values) -> relativeParameters.put(relative.apply(file), values));
+        return new LintAttestation(fingerprint, relativeFileHashes, relativeParameters);
+    }
+
+    /**
+     * @return whether the change log consists of the attested files, at the same paths and with the same parameter
+     *     values, and would be linted with the same config and rules by the engine; a file that cannot be read makes it
+     *     unattested
+     */
+    public boolean attests(LintEngine engine, ResourceAccessor resourceAccessor, DatabaseChangeLog changeLog) {
+        if (!Objects.equals(fingerprint, engine.getRulesFingerprint())) {
+            return false;
+        }
+        final Map<String, String> currentFileHashes = new TreeMap<>();
+        final Map<String, SortedMap<String, String>> currentParameters = new TreeMap<>();
+        try {
+            record(resourceAccessor, changeLog, currentFileHashes, currentParameters);
+        } catch (IOException e) {
+            Scope.getCurrentScope().getLog(LintAttestation.class).fine("Cannot hash change log files to attest", e);
+            return false;
+        }
+        return fileHashes.equals(currentFileHashes) && parameters.equals(currentParameters);
+    }
+
+    private static void record(
+        ResourceAccessor resourceAccessor,
+        DatabaseChangeLog changeLog,
+        Map<String, String> fileHashes,
+        Map<String, SortedMap<String, String>> parameters
+    ) throws IOException {
+        for (DatabaseChangeLog file : filesOf(changeLog)) {
+            final byte[] content = contentOf(resourceAccessor, file.getPhysicalFilePath());
+            final String path = classpathPath(file.getPhysicalFilePath());
+            fileHashes.put(path, Hashing.sha256().hashBytes(content).toString());
+            final ChangeLogParameters changeLogParameters = file.getChangeLogParameters();
+            final SortedMap<String, String> values = new TreeMap<>();
+            for (String parameter : LintCache.parameterNames(new String(content, StandardCharsets.UTF_8))) {
+                values.put(
+                    parameter,
+                    changeLogParameters == null
+                        ? null
+                        : Objects.toString(changeLogParameters.getValue(parameter, file), null)
+                );
+            }
+            if (!values.isEmpty()) {
+                parameters.put(path, values);
+            }
+        }
+    }
+
+    /**
+     * @return the change log and the files its change sets come from, one change log object per file
+     */
+    private static Collection<DatabaseChangeLog> filesOf(DatabaseChangeLog changeLog) {
+        final Map<String, DatabaseChangeLog> files = new LinkedHashMap<>();
+        files.put(changeLog.getPhysicalFilePath(), changeLog);
+        for (ChangeSet changeSet : changeLog.getChangeSets()) {
+            files.putIfAbsent(changeSet.getChangeLog().getPhysicalFilePath(), changeSet.getChangeLog());
+        }
+        return files.values();
+    }
+
+    private static String classpathPath(String path) {
+        String classpathPath = path.replace('\\', '/');
+        if (classpathPath.startsWith(CLASSPATH_PREFIX)) {
+            classpathPath = classpathPath.substring(CLASSPATH_PREFIX.length());
+        }
+        while (classpathPath.startsWith("/")) {
+            classpathPath = classpathPath.substring(1);
+        }
+        return classpathPath;
+    }
+
+    private static byte[] contentOf(ResourceAccessor resourceAccessor, String file) throws IOException {
+        final Resource resource = resourceAccessor.get(file);
+        if (resource == null || !resource.exists()) {
+            throw new FileNotFoundException(file);
+        }
+        try (InputStream input = resource.openInputStream()) {
+            return ByteStreams.toByteArray(input);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.liquibaselinter;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.report.ReportItem;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import liquibase.Scope;
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.resource.ResourceAccessor;
+import liquibase.util.LiquibaseUtil;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Report items of change log files from earlier runs, stored as one JSON file per change log file.
+ * <p>
+ * An entry is only reused when its key matches, which is a hash of:
+ * <ul>
+ *     <li>the {@link Config#fingerprint() config}, the rule classes and the Liquibase version</li>
+ *     <li>the content of the file, and the values of the change log parameters it uses</li>
+ *     <li>whether each {@code enable-after} file, and the file itself, had already been parsed when it was reached</li>
+ * </ul>
+ * so rules and conditions are assumed to only depend on the file they check. Failing to read or write the cache is
+ * logged and only costs linting the file again.
+ */
+final class LintCache {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Pattern PARAMETER = Pattern.compile("\\$\\{([^}]+)}");
+
+    private final Path directory;
+    private final String fingerprint;
+    private final Set<String> enableAfterPaths = new TreeSet<>();
+
+    /**
+     * @param rulesFingerprint the {@link LintEngine#getRulesFingerprint() fingerprint} of the config and rules
+     */
+    LintCache(Config config, String rulesFingerprint) {
+        this.directory = Paths.get(config.getCacheDirectory());
+        this.fingerprint = Hashing.sha256()
+            .newHasher()
+            .putString(rulesFingerprint, StandardCharsets.UTF_8)
+            .putString(LiquibaseUtil.getBuildVersion(), StandardCharsets.UTF_8)
+            .hash()
+            .toString();
+
+        if (StringUtils.isNotEmpty(config.getEnableAfter())) {
+            enableAfterPaths.add(config.getEnableAfter());
+        }
+        config
+            .getRules()
+            .values()
+            .stream()
+            .filter(RuleConfig::isEnabledAfter)
+            .forEach(ruleConfig -> enableAfterPaths.add(ruleConfig.getEnableAfter()));
+    }
+
+    /**
+     * @param parsed tells whether a file has already been parsed when the change log is reached
+     * @return key of the results of linting the change log from here, or {@code null} when its file cannot be read
+     */
+    String key(
+        ResourceAccessor resourceAccessor,
+        DatabaseChangeLog changeLog,
+        boolean rootChangeLog,
+        Predicate<String> parsed
+    ) {
+        final byte[] content;
+        try (InputStream input = resourceAccessor.getExisting(changeLog.getPhysicalFilePath()).openInputStream()) {
+            content = ByteStreams.toByteArray(input);
+        } catch (IOException e) {
+            Scope.getCurrentScope()
+                .getLog(LintCache.class)
+                .fine("Cannot read " + changeLog.getPhysicalFilePath() + " to look up cached results", e);
+            return null;
+        }
+
+        final Hasher hasher = Hashing.sha256().newHasher().putString(fingerprint, StandardCharsets.UTF_8);
+        putString(hasher, changeLog.getFilePath());
+        hasher.putInt(content.length).putBytes(content).putBoolean(rootChangeLog);
+        final ChangeLogParameters parameters = changeLog.getChangeLogParameters();
+        if (parameters != null) {
+            for (String parameter : parameterNames(new String(content, StandardCharsets.UTF_8))) {
+                putString(hasher, parameter);
+                putString(hasher, String.valueOf(parameters.getValue(parameter, changeLog)));
+            }
+        }
+        for (String enableAfterPath : enableAfterPaths) {
+            hasher.putBoolean(parsed.test(enableAfterPath));
+        }
+        hasher.putBoolean(parsed.test(changeLog.getFilePath()));
+        return hasher.hash().toString();
+    }
+
+    /**
+     * @return the names of the change log parameters the content refers to
+     */
+    static Set<String> parameterNames(String content) {
+        final Set<String> names = new TreeSet<>();
+        final Matcher matcher = PARAMETER.matcher(content);
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+        return names;
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        final String string = String.valueOf(value);
+        hasher.putInt(string.length()).putString(string, StandardCharsets.UTF_8);
+    }
+
+    Optional<List<ReportItem>> load(String physicalFilePath, String key) {
+        final Path entryFile = entryFile(physicalFilePath);
+        if (!Files.isRegularFile(entryFile)) {
+            return Optional.empty();
+        }
+        try {
+            final Entry entry = OBJECT_MAPPER.readValue(entryFile.toFile(), Entry.class);
+            return key.equals(entry.key) ? Optional.of(entry.items) : Optional.empty();
+        } catch (IOException e) {
+            Scope.getCurrentScope().getLog(LintCache.class).warning("Cannot read lint cache entry " + entryFile, e);
+            return Optional.empty();
+        }
+    }
+
+    void store(String physicalFilePath, String key, List<ReportItem> items) {
+        final Path entryFile = entryFile(physicalFilePath);
+        Path temporaryFile = null;
+        try {
+            Files.createDirectories(directory);
+            temporaryFile = Files.createTempFile(directory, entryFile.getFileName().toString(), ".tmp");
+            OBJECT_MAPPER.writeValue(temporaryFile.toFile(), new Entry(key, items));
+            Files.move(temporaryFile, entryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Scope.getCurrentScope().getLog(LintCache.class).warning("Cannot write lint cache entry " + entryFile, e);
+            deleteQuietly(temporaryFile);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file != null) {
+            file.toFile().delete();
+        }
+    }
+
+    private Path entryFile(String physicalFilePath) {
+        return directory.resolve(Hashing.sha256().hashString(physicalFilePath, StandardCharsets.UTF_8) + ".json");
+    }
+
+    private static final class Entry {
+
+        @JsonProperty("key")
+        private final String key;
+
+        @JsonProperty("items")
+        private final List<ReportItem> items;
+
+        @JsonCreator
+        private Entry(@JsonProperty("key") String key, @JsonProperty("items") List<ReportItem> items) {
+            this.key = key;
+            this.items = items;
+        }
+    }
+}
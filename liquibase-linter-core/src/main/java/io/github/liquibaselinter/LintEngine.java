@@ -0,0 +1,232 @@
+package io.github.liquibaselinter;
+
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toList;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.github.liquibaselinter.config.ConditionEngine;
+import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.config.NamingPatterns;
+import io.github.liquibaselinter.report.BufferedReporter;
+import io.github.liquibaselinter.report.PassedItemCounts;
+import io.github.liquibaselinter.report.Report;
+import io.github.liquibaselinter.report.ReportItem;
+import io.github.liquibaselinter.report.Reporter;
+import io.github.liquibaselinter.report.StreamingReporter;
+import io.github.liquibaselinter.rules.ChangeLogRule;
+import io.github.liquibaselinter.rules.ChangeRule;
+import io.github.liquibaselinter.rules.ChangeSetRule;
+import io.github.liquibaselinter.rules.SchemaChangeRule;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * The long-lived part of linting: a {@link Config} and the rules loaded for it.
+ * <p>
+ * An engine can be built once and shared by any number of concurrent or successive {@link LintSession sessions},
+ * each of which holds the state of a single run. The rules and conditions it holds are thread-safe, and so are its
+ * cache and lock files, which concurrent sessions write entry by entry. Its reporters are not: every reported session
+ * hands them its items, and they write the same outputs, so reported sessions lint one at a time and each one's report
+ * replaces the previous one's. Sessions meant to run concurrently and be reported together should be
+ * {@link #newUnreportedSession(ResourceAccessor) unreported}, then {@link #report(List) reported} as one.
+ */
+public final class LintEngine {
+
+    private final Config config;
+    private final List<ChangeSetRule> changeSetRules;
+    private final List<ChangeLogRule> changeLogRules;
+    private final List<SchemaChangeRule> schemaChangeRules;
+    private final ChangeRuleIndex changeRuleIndex;
+    private final NamingPatterns namingPatterns;
+    private final ConditionEngine conditions = new ConditionEngine();
+    private final String rulesFingerprint;
+    private final LintCache cache;
+    private final LintLock lock;
+    private final List<StreamingReporter> reporters;
+    private final Object reporting = new Object();
+    private final boolean keepPassedItems;
+    private final boolean streamPassedItems;
+
+    public LintEngine(Config config) {
+        this.config = Objects.requireNonNull(config, "Configuration must not be null");
+        this.changeSetRules = loadAvailableServices(ChangeSetRule.class);
+        this.changeLogRules = loadAvailableServices(ChangeLogRule.class);
+        this.schemaChangeRules = loadAvailableServices(SchemaChangeRule.class)
+            .stream()
+            .filter(rule -> !config.forRule(rule.getName()).isEmpty())
+            .collect(collectingAndThen(toList(), Collections::unmodifiableList));
+        final List<ChangeRule> changeRules = loadAvailableServices(ChangeRule.class);
+        this.changeRuleIndex = new ChangeRuleIndex(changeRules, config);
+        this.namingPatterns = new NamingPatterns(config);
+        this.rulesFingerprint = rulesFingerprint(
+            config,
+            Stream.of(changeSetRules, changeLogRules, changeRules, schemaChangeRules)
+                .flatMap(List::stream)
+                .collect(toList())
+        );
+        this.cache = config.getCacheDirectory() == null ? null : new LintCache(config, rulesFingerprint);
+        this.lock = config.getLockFile() == null ? null : new LintLock(config, rulesFingerprint);
+        this.reporters = config
+            .getReporting()
+            .values()
+            .stream()
+            .filter(Reporter::isEnabled)
+            .map(BufferedReporter::adapt)
+            .collect(collectingAndThen(toList(), Collections::unmodifiableList));
+        this.keepPassedItems = includesPassedItems(reporters, true);
+        this.streamPassedItems = includesPassedItems(reporters, false);
+    }
+
+    private static boolean includesPassedItems(List<StreamingReporter> reporters, boolean buffered) {
+        return reporters
+            .stream()
+            .anyMatch(
+                reporter ->
+                    reporter instanceof BufferedReporter == buffered &&
+                    reporter.includes(ReportItem.ReportItemType.PASSED)
+            );
+    }
+
+    private static String rulesFingerprint(Config config, List<?> rules) {
+        final Hasher hasher = Hashing.sha256().newHasher().putString(config.fingerprint(), StandardCharsets.UTF_8);
+        for (Object rule : rules) {
+            hasher.putString(rule.getClass().getName(), StandardCharsets.UTF_8);
+            hasher.putString(
+                Optional.ofNullable(rule.getClass().getPackage()).map(Package::getImplementationVersion).orElse(""),
+                StandardCharsets.UTF_8
+            );
+        }
+        return hasher.hash().toString();
+    }
+
+    private static <T> List<T> loadAvailableServices(Class<T> clazz) {
+        return StreamSupport.stream(ServiceLoader.load(clazz).spliterator(), false).collect(
+            collectingAndThen(toList(), Collections::unmodifiableList)
+        );
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    /**
+     * @return a session handing its items to the reporters, which lints after any other reported session of this engine
+     *     still linting
+     */
+    public LintSession newSession(ResourceAccessor resourceAccessor) {
+        return new LintSession(this, resourceAccessor, true);
+    }
+
+    /**
+     * @return a session that does not hand its items to the reporters, so that several sessions, e.g. linting change
+     *     logs concurrently, can be {@link #report(List) reported} as one
+     */
+    public LintSession newUnreportedSession(ResourceAccessor resourceAccessor) {
+        return new LintSession(this, resourceAccessor, false);
+    }
+
+    /**
+     * Hands the reporters a single report merging the reports of several sessions, in order.
+     *
+     * @throws ChangeLogLintingException if the merged report has errors
+     */
+    public void report(List<Report> reports) throws ChangeLogLintingException {
+        final List<ReportItem> items = new ArrayList<>();
+        final PassedItemCounts passedItemCounts = new PassedItemCounts();
+        for (Report report : reports) {
+            items.addAll(report.getItems());
+            passedItemCounts.addAll(report.getPassedItemCounts());
+        }
+        final Report merged = new Report(config, items, passedItemCounts);
+        synchronized (reporting) {
+            reporters.forEach(reporter -> reporter.processReport(merged));
+        }
+        LintSession.failOnErrors(merged);
+    }
+
+    List<ChangeSetRule> getChangeSetRules() {
+        return changeSetRules;
+    }
+
+    List<ChangeLogRule> getChangeLogRules() {
+        return changeLogRules;
+    }
+
+    /**
+     * @return the schema rules configured, as the schema is only built when there is one
+     */
+    List<SchemaChangeRule> getSchemaChangeRules() {
+        return schemaChangeRules;
+    }
+
+    ChangeRuleIndex getChangeRuleIndex() {
+        return changeRuleIndex;
+    }
+
+    /**
+     * @return the static patterns of the configs of each rule, combined to match each identifier once per rule
+     */
+    NamingPatterns getNamingPatterns() {
+        return namingPatterns;
+    }
+
+    ConditionEngine getConditions() {
+        return conditions;
+    }
+
+    /**
+     * @return a hash of the {@link Config#fingerprint() config}, and of the rule classes with their versions
+     */
+    String getRulesFingerprint() {
+        return rulesFingerprint;
+    }
+
+    /**
+     * @return the cache of lint results per change log file, or {@code null} when caching is off
+     */
+    LintCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @return the lock of lint results per change set, or {@code null} when locking is off
+     */
+    LintLock getLock() {
+        return lock;
+    }
+
+    /**
+     * @return the enabled reporters, with those needing a complete report {@link BufferedReporter adapted}
+     */
+    List<StreamingReporter> getReporters() {
+        return reporters;
+    }
+
+    /**
+     * @return the monitor held while the reporters are in use, as they are shared by every reported session
+     */
+    Object getReporting() {
+        return reporting;
+    }
+
+    /**
+     * Passed checks are only counted unless a reporter needing a complete report prints them, as they usually
+     * outnumber everything else.
+     */
+    boolean isKeepPassedItems() {
+        return keepPassedItems;
+    }
+
+    boolean isStreamPassedItems() {
+        return streamPassedItems;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.liquibaselinter;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.github.liquibaselinter.config.ConfigLoader;
+import io.github.liquibaselinter.config.ConfigSources;
+import java.util.Arrays;
+import java.util.List;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * {@link LintEngine Engines} loaded from the config of each resource root, kept for as long as the config files they
+ * were loaded from stay the same.
+ * <p>
+ * A resource root is told apart by the locations its {@link ResourceAccessor} describes, so accessors created anew for
+ * the same locations, e.g. by every Liquibase context of an application, share one engine. Rules are loaded with the
+ * context class loader, which is therefore part of the root too.
+ * <p>
+ * An engine holds on to the class loader of its rules, e.g. that of an undeployed web application, so engines are only
+ * held softly, and only those of the most recently used roots are kept.
+ */
+public final class LintEngineCache {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 16;
+
+    private final Cache<List<Object>, CachedEngine> engines;
+
+    public LintEngineCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize number of roots whose engines are kept
+     */
+    LintEngineCache(long maximumSize) {
+        this.engines = CacheBuilder.newBuilder().maximumSize(maximumSize).softValues().build();
+    }
+
+    /**
+     * @return the engine for the config of the resource root, loaded again if any of its config files changed
+     */
+    public LintEngine get(ResourceAccessor resourceAccessor) {
+        final List<Object> root = Arrays.asList(
+            resourceAccessor.describeLocations(),
+            System.getProperty(ConfigLoader.LQLINT_CONFIG_PATH_PROPERTY),
+            Thread.currentThread().getContextClassLoader()
+        );
+        return engines.asMap().compute(root, (key, cached) ->
+            cached != null && cached.sources.isUnchanged(resourceAccessor) ? cached : load(resourceAccessor)
+        ).engine;
+    }
+
+    private static CachedEngine load(ResourceAccessor resourceAccessor) {
+        final ConfigSources sources = new ConfigSources();
+        return new CachedEngine(new LintEngine(ConfigLoader.load(resourceAccessor, sources)), sources);
+    }
+
+    private static final class CachedEngine {
+
+        private final LintEngine engine;
+        private final ConfigSources sources;
+
+        private CachedEngine(LintEngine engine, ConfigSources sources) {
+            this.engine = engine;
+            this.sources = sources;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package io.github.liquibaselinter;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.report.ReportItem;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import liquibase.ChecksumVersion;
+import liquibase.Scope;
+import liquibase.changelog.ChangeSet;
+import liquibase.precondition.Precondition;
+import liquibase.precondition.core.PreconditionContainer;
+import liquibase.util.LiquibaseUtil;
+
+/**
+ * The report items of each change set from earlier runs, stored in a single lock file, so that unchanged change sets
+ * are not linted again even when other change sets of the same file changed.
+ * <p>
+ * A change set is looked up by file path, id and author, and its items are only reused when its key matches, which is
+ * a hash of:
+ * <ul>
+ *     <li>the {@link LintEngine#getRulesFingerprint() config and rules} and the Liquibase version</li>
+ *     <li>the Liquibase checksum of the change set, and the attributes the checksum leaves out that rules commonly
+ *     look at: comments, contexts, labels, dbms, preconditions and run options</li>
+ *     <li>whether each rule {@code enableAfter} file had already been parsed when it was reached</li>
+ * </ul>
+ * so rules and conditions are assumed to only depend on those. Failing to read or write the lock is logged and only
+ * costs linting the change sets again.
+ */
+final class LintLock {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Path file;
+    private final String fingerprint;
+    private final Set<String> enableAfterPaths = new TreeSet<>();
+
+    LintLock(Config config, String rulesFingerprint) {
+        this.file = Paths.get(config.getLockFile());
+        this.fingerprint = Hashing.sha256()
+            .newHasher()
+            .putString(rulesFingerprint, StandardCharsets.UTF_8)
+            .putString(LiquibaseUtil.getBuildVersion(), StandardCharsets.UTF_8)
+            .hash()
+            .toString();
+        config
+            .getRules()
+            .values()
+            .stream()
+            .filter(RuleConfig::isEnabledAfter)
+            .forEach(ruleConfig -> enableAfterPaths.add(ruleConfig.getEnableAfter()));
+    }
+
+    /**
+     * @return the change sets of the lock file as last written, to look up and update during one session
+     */
+    Entries open() {
+        return new Entries(read());
+    }
+
+    private Map<String, Entry> read() {
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyMap();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(file.toFile(), LockFile.class).changeSets;
+        } catch (IOException e) {
+            Scope.getCurrentScope().getLog(LintLock.class).warning("Cannot read lint lock " + file, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Applies the changes of a session to the lock file as it is now, so that sessions of the same engine linting
+     * concurrently keep the entries stored by one another.
+     */
+    private synchronized void write(Map<String, Entry> stored, Predicate<Map.Entry<String, Entry>> gone) {
+        final Map<String, Entry> changeSets = new TreeMap<>(read());
+        changeSets.entrySet().removeIf(gone);
+        changeSets.putAll(stored);
+        Path temporaryFile = null;
+        try {
+            final Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            OBJECT_MAPPER.writeValue(temporaryFile.toFile(), new LockFile(changeSets));
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Scope.getCurrentScope().getLog(LintLock.class).warning("Cannot write lint lock " + file, e);
+            if (temporaryFile != null) {
+                temporaryFile.toFile().delete();
+            }
+        }
+    }
+
+    private static String changeSetKey(ChangeSet changeSet) {
+        return changeSet.getFilePath() + "::" + changeSet.getId() + "::" + changeSet.getAuthor();
+    }
+
+    /**
+     * @return the checksum of the change set, or {@code null} when it cannot be computed
+     */
+    private static String checksum(ChangeSet changeSet) {
+        try {
+            return changeSet.generateCheckSum(ChecksumVersion.latest()).toString();
+        } catch (RuntimeException e) {
+            Scope.getCurrentScope()
+                .getLog(LintLock.class)
+                .fine("Cannot compute the checksum of " + changeSetKey(changeSet) + " to look up its lint lock", e);
+            return null;
+        }
+    }
+
+    private String key(ChangeSet changeSet, String checksum, Predicate<String> parsed) {
+        final Hasher hasher = Hashing.sha256().newHasher().putString(fingerprint, StandardCharsets.UTF_8);
+        putString(hasher, checksum);
+        putString(hasher, changeSet.getComments());
+        putString(hasher, changeSet.getContextFilter());
+        putString(hasher, changeSet.getLabels());
+        putString(hasher, changeSet.getDbmsSet() == null ? null : new TreeSet<>(changeSet.getDbmsSet()));
+        putString(hasher, preconditionNames(changeSet.getPreconditions()));
+        putString(hasher, changeSet.getCreated());
+        putString(hasher, changeSet.getRunWith());
+        putString(hasher, changeSet.getFailOnError());
+        hasher
+            .putBoolean(changeSet.isAlwaysRun())
+            .putBoolean(changeSet.isRunOnChange())
+            .putBoolean(changeSet.isRunInTransaction())
+            .putBoolean(changeSet.isIgnore());
+        for (String enableAfterPath : enableAfterPaths) {
+            hasher.putBoolean(parsed.test(enableAfterPath));
+        }
+        return hasher.hash().toString();
+    }
+
+    private static List<String> preconditionNames(PreconditionContainer preconditions) {
+        if (preconditions == null) {
+            return Collections.emptyList();
+        }
+        return preconditions.getNestedPreconditions().stream().map(Precondition::getName).collect(Collectors.toList());
+    }
+
+    private static void putString(Hasher hasher, Object value) {
+        final String string = String.valueOf(value);
+        hasher.putInt(string.length()).putString(string, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The change sets of the lock file during one session: those looked up are kept, along with the items recorded
+     * for them, and those of the files reached but no longer there are dropped once the change log is linted.
+     */
+    final class Entries {
+
+        private final Map<String, Entry> changeSets;
+        private final Map<String, Entry> stored = new HashMap<>();
+        private final Set<String> reached = new HashSet<>();
+        private final Set<String> filesReached = new HashSet<>();
+
+        private Entries(Map<String, Entry> changeSets) {
+            this.changeSets = new TreeMap<>(changeSets);
+        }
+
+        /**
+         * @param parsed tells whether a file has already been parsed when the change set is reached
+         * @return the change set as found in the lock, or {@code null} when its checksum cannot be computed
+         */
+        LockedChangeSet lookUp(ChangeSet changeSet, Predicate<String> parsed) {
+            keep(changeSet);
+            final String checksum = checksum(changeSet);
+            if (checksum == null) {
+                return null;
+            }
+            final String key = key(changeSet, checksum, parsed);
+            final Entry entry = changeSets.get(changeSetKey(changeSet));
+            final boolean hit = entry != null && checksum.equals(entry.checksum) && key.equals(entry.key);
+            return new LockedChangeSet(changeSet, checksum, key, hit ? entry.items : null);
+        }
+
+        /**
+         * Keeps the entry of a change set that is not looked up, e.g. because it is replayed from the cache.
+         */
+        void keep(ChangeSet changeSet) {
+            reached.add(changeSetKey(changeSet));
+            filesReached.add(changeSet.getFilePath());
+        }
+
+        /**
+         * Writes the lock file.
+         *
+         * @param completed whether the whole change log was linted, so that the change sets not reached in the files
+         *     it reached are gone
+         */
+        void close(boolean completed) {
+            write(
+                stored,
+                entry ->
+                    completed && filesReached.contains(entry.getValue().file) && !reached.contains(entry.getKey())
+            );
+        }
+
+        /**
+         * A change set looked up in the lock: its items are replayed on a hit, or else stored once recorded.
+         */
+        final class LockedChangeSet {
+
+            private final ChangeSet changeSet;
+            private final String checksum;
+            private final String key;
+            private final List<ReportItem> items;
+
+            private LockedChangeSet(ChangeSet changeSet, String checksum, String key, List<ReportItem> items) {
+                this.changeSet = changeSet;
+                this.checksum = checksum;
+                this.key = key;
+                this.items = items;
+            }
+
+            boolean isHit() {
+                return items != null;
+            }
+
+            List<ReportItem> getItems() {
+                return items;
+            }
+
+            void store(List<ReportItem> recorded) {
+                stored.put(changeSetKey(changeSet), new Entry(changeSet.getFilePath(), checksum, key, recorded));
+            }
+        }
+    }
+
+    private static final class LockFile {
+
+        @JsonProperty("changeSets")
+        private final Map<String, Entry> changeSets;
+
+        @JsonCreator
+        private LockFile(@JsonProperty("changeSets") Map<String, Entry> changeSets) {
+            this.changeSets = changeSets == null ? Collections.emptyMap() : changeSets;
+        }
+    }
+
+    private static final class Entry {
+
+        @JsonProperty("file")
+        private final String file;
+
+        @JsonProperty("checksum")
+        private final String checksum;
+
+        @JsonProperty("key")
+        private final String key;
+
+        @JsonProperty("items")
+        private final List<ReportItem> items;
+
+        @JsonCreator
+        private Entry(
+            @JsonProperty("file") String file,
+            @JsonProperty("checksum") String checksum,
+            @JsonProperty("key") String key,
+            @JsonProperty("items") List<ReportItem> items
+        ) {
+            this.file = file;
+            this.checksum = checksum;
+            this.key = key;
+            this.items = items;
+        }
+    }
+}
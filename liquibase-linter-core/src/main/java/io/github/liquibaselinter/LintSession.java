@@ -0,0 +1,421 @@
+package io.github.liquibaselinter;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toSet;
+
+import com.google.common.base.Strings;
+import com.google.common.io.Files;
+import io.github.liquibaselinter.LintLock.Entries.LockedChangeSet;
+import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.report.Report;
+import io.github.liquibaselinter.report.ReportItem;
+import io.github.liquibaselinter.report.StreamingReporter;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import liquibase.ContextExpression;
+import liquibase.Scope;
+import liquibase.change.Change;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.resource.Resource;
+import liquibase.resource.ResourceAccessor;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * The state of linting with a {@link LintEngine}: the report items collected so far and the change log files already
+ * parsed. A session is not thread-safe; use one per run, or per thread.
+ */
+public final class LintSession {
+
+    private final LintEngine engine;
+    private final Config config;
+    private final RuleRunner ruleRunner;
+    private final List<StreamingReporter> reporters;
+    private final LintCache cache;
+    private final LintLock lock;
+    private final ResourceAccessor resourceAccessor;
+    private final List<DatabaseChangeLog> changeLogs = new CopyOnWriteArrayList<>();
+
+    LintSession(LintEngine engine, ResourceAccessor resourceAccessor, boolean reported) {
+        this.resourceAccessor = Objects.requireNonNull(resourceAccessor, "ResourceAccessor must not be null");
+        this.engine = engine;
+        this.config = engine.getConfig();
+        this.reporters = reported ? engine.getReporters() : Collections.emptyList();
+        this.ruleRunner = new RuleRunner(engine, reporters);
+        this.cache = engine.getCache();
+        this.lock = engine.getLock();
+    }
+
+    /**
+     * Lints a change log, handing its items to the engine's reporters unless the session is unreported. Sessions of the
+     * same engine share its reporters, so reported sessions lint one at a time, while unreported ones run freely.
+     */
+    public void lintChangeLog(final DatabaseChangeLog databaseChangeLog) throws ChangeLogLintingException {
+        changeLogs.add(databaseChangeLog);
+        if (reporters.isEmpty()) {
+            lint(databaseChangeLog);
+        } else {
+            synchronized (engine.getReporting()) {
+                lint(databaseChangeLog);
+            }
+        }
+    }
+
+    private void lint(final DatabaseChangeLog databaseChangeLog) throws ChangeLogLintingException {
+        reporters.forEach(reporter -> reporter.onStart(config));
+
+        if (shouldLint(databaseChangeLog)) {
+            ruleRunner.checkChangeLog(databaseChangeLog);
+        }
+        if (!hasAlreadyBeenParsed(databaseChangeLog.getFilePath())) {
+            ruleRunner.checkRootChangeLog(databaseChangeLog, this::shouldLint);
+        }
+
+        final Map<String, Integer> lastPositions = lastPositionByFilePath(databaseChangeLog.getChangeSets());
+        final LintLock.Entries lockEntries = lock == null ? null : lock.open();
+        boolean completed = false;
+        try {
+            lintChangeSets(databaseChangeLog.getChangeSets(), lastPositions, lockEntries);
+            completed = true;
+        } finally {
+            if (lockEntries != null) {
+                lockEntries.close(completed);
+            }
+        }
+
+        ruleRunner.getFilesParsed().add(databaseChangeLog.getPhysicalFilePath());
+        if (!lastPositions.containsKey(databaseChangeLog.getFilePath())) {
+            ruleRunner.completeFile(databaseChangeLog.getFilePath());
+        }
+
+        checkForFilesNotIncluded();
+        reports();
+    }
+
+    private void lintChangeSets(
+        List<ChangeSet> changeSets,
+        Map<String, Integer> lastPositions,
+        LintLock.Entries lockEntries
+    ) throws ChangeLogLintingException {
+        final int parallelism = config.getParallelism() == 0
+            ? Runtime.getRuntime().availableProcessors()
+            : config.getParallelism();
+        final ParallelChangeSetLinter parallelLinter = parallelism > 1 && changeSets.size() > 1
+            ? new ParallelChangeSetLinter(ruleRunner, parallelism)
+            : null;
+        final Set<String> cacheableFiles = cacheableFiles(changeSets);
+        CachedFile cachedFile = null;
+        for (int position = 0; position < changeSets.size(); position++) {
+            final ChangeSet changeSet = changeSets.get(position);
+            final DatabaseChangeLog databaseChangeLog = changeSet.getChangeLog();
+            final boolean startsFile = position == 0 || !isSameFile(changeSets.get(position - 1), changeSet);
+            if (startsFile) {
+                cachedFile = lookUp(databaseChangeLog, cacheableFiles);
+            }
+            final boolean replayed = cachedFile != null && cachedFile.isHit();
+            final boolean lintChangeLog =
+                !replayed && shouldLint(databaseChangeLog) && isNotRootChangeLog(databaseChangeLog);
+            final LockedChangeSet lockedChangeSet = lookUp(changeSet, replayed, lockEntries);
+            final boolean lintChangeSet =
+                !replayed && shouldLint(changeSet) && (lockedChangeSet == null || !lockedChangeSet.isHit());
+            final LockedChangeSet recordedChangeSet = lintChangeSet ? lockedChangeSet : null;
+            final Runnable started = startsFile && cachedFile != null ? cachedFile::start : () -> {};
+            final ParallelChangeSetLinter.Step linted = linted(
+                changeSet,
+                lockedChangeSet,
+                shouldLint(changeSet),
+                lastPositions.get(changeSet.getFilePath()) == position,
+                position == changeSets.size() - 1 || !isSameFile(changeSet, changeSets.get(position + 1))
+                    ? cachedFile
+                    : null
+            );
+
+            if (parallelLinter != null) {
+                parallelLinter.add(
+                    changeSet,
+                    lintChangeLog,
+                    lintChangeSet,
+                    started,
+                    linted,
+                    recordedChangeSet == null ? null : recordedChangeSet::store
+                );
+                parallelLinter.fileParsed(databaseChangeLog.getPhysicalFilePath());
+                continue;
+            }
+            started.run();
+            if (lintChangeLog) {
+                ruleRunner.checkChangeLog(databaseChangeLog);
+            }
+            if (lintChangeSet) {
+                if (recordedChangeSet != null) {
+                    ruleRunner.startRecording();
+                }
+                ruleRunner.checkChangeSet(changeSet);
+
+                for (Change change : changeSet.getChanges()) {
+                    ruleRunner.checkChange(change);
+                }
+                if (recordedChangeSet != null) {
+                    recordedChangeSet.store(ruleRunner.stopRecording());
+                }
+            }
+            ruleRunner.getFilesParsed().add(databaseChangeLog.getPhysicalFilePath());
+            linted.run();
+        }
+        if (parallelLinter != null) {
+            parallelLinter.lint();
+        }
+    }
+
+    /**
+     * @return what to do once the report items of a change set are in, which includes checking it against the schema
+     *     built by the change sets before it
+     */
+    private ParallelChangeSetLinter.Step linted(
+        ChangeSet changeSet,
+        LockedChangeSet lockedChangeSet,
+        boolean lintSchema,
+        boolean completesFile,
+        CachedFile finishedFile
+    ) {
+        return () -> {
+            if (lockedChangeSet != null && lockedChangeSet.isHit()) {
+                ruleRunner.replay(lockedChangeSet.getItems());
+            }
+            ruleRunner.applySchema(changeSet, lintSchema);
+            if (completesFile) {
+                ruleRunner.completeFile(changeSet.getFilePath());
+            }
+            if (finishedFile != null) {
+                finishedFile.finish();
+            }
+        };
+    }
+
+    private static boolean isSameFile(ChangeSet changeSet, ChangeSet other) {
+        return changeSet.getChangeLog() == other.getChangeLog();
+    }
+
+    /**
+     * @return the files whose change sets all follow each other, so that their results can be cached as a whole
+     */
+    private Set<String> cacheableFiles(List<ChangeSet> changeSets) {
+        if (cache == null) {
+            return Collections.emptySet();
+        }
+        final Map<String, Integer> runs = new HashMap<>();
+        for (int position = 0; position < changeSets.size(); position++) {
+            if (position == 0 || !isSameFile(changeSets.get(position - 1), changeSets.get(position))) {
+                runs.merge(changeSets.get(position).getChangeLog().getPhysicalFilePath(), 1, Integer::sum);
+            }
+        }
+        return runs.entrySet().stream().filter(run -> run.getValue() == 1).map(Map.Entry::getKey).collect(toSet());
+    }
+
+    private CachedFile lookUp(DatabaseChangeLog changeLog, Set<String> cacheableFiles) {
+        if (!cacheableFiles.contains(changeLog.getPhysicalFilePath())) {
+            return null;
+        }
+        final String key = cache.key(
+            resourceAccessor,
+            changeLog,
+            !isNotRootChangeLog(changeLog),
+            this::hasAlreadyBeenParsed
+        );
+        if (key == null) {
+            return null;
+        }
+        return new CachedFile(changeLog.getPhysicalFilePath(), key, cache.load(changeLog.getPhysicalFilePath(), key));
+    }
+
+    /**
+     * @return the change set as found in the lock, or {@code null} when locking is off or it is not linted
+     */
+    private LockedChangeSet lookUp(ChangeSet changeSet, boolean replayed, LintLock.Entries lockEntries) {
+        if (lockEntries == null) {
+            return null;
+        }
+        if (replayed || !shouldLint(changeSet)) {
+            lockEntries.keep(changeSet);
+            return null;
+        }
+        return lockEntries.lookUp(changeSet, this::hasAlreadyBeenParsed);
+    }
+
+    private static Map<String, Integer> lastPositionByFilePath(List<ChangeSet> changeSets) {
+        final Map<String, Integer> lastPositions = new HashMap<>();
+        for (int position = 0; position < changeSets.size(); position++) {
+            lastPositions.put(changeSets.get(position).getFilePath(), position);
+        }
+        return lastPositions;
+    }
+
+    private static boolean isNotRootChangeLog(DatabaseChangeLog databaseChangeLog) {
+        return databaseChangeLog.getRootChangeLog() != databaseChangeLog;
+    }
+
+    private boolean shouldLint(DatabaseChangeLog changeLog) {
+        return (
+            isEnabled() &&
+            isFilePathNotIgnored(changeLog.getFilePath()) &&
+            !hasAlreadyBeenParsed(changeLog.getFilePath())
+        );
+    }
+
+    private boolean isEnabled() {
+        return isEnabled(this::hasAlreadyBeenParsed);
+    }
+
+    private boolean isEnabled(Predicate<String> parsed) {
+        return StringUtils.isEmpty(config.getEnableAfter()) || parsed.test(config.getEnableAfter());
+    }
+
+    private boolean hasAlreadyBeenParsed(String filePath) {
+        return ruleRunner.getFilesParsed().contains(filePath);
+    }
+
+    private boolean shouldLint(ChangeSet changeSet) {
+        return shouldLint(changeSet, this::hasAlreadyBeenParsed);
+    }
+
+    /**
+     * @param parsed tells whether a file counts as parsed by the turn of the change set
+     */
+    private boolean shouldLint(ChangeSet changeSet, Predicate<String> parsed) {
+        return isEnabled(parsed) && !isContextIgnored(changeSet) && isFilePathNotIgnored(changeSet.getFilePath());
+    }
+
+    private boolean isContextIgnored(ChangeSet changeSet) {
+        final Set<String> contexts = Optional.ofNullable(changeSet.getContextFilter())
+            .map(ContextExpression::getContexts)
+            .orElseGet(Collections::emptySet);
+        return contexts.stream().anyMatch(config::isContextIgnored);
+    }
+
+    private boolean isFilePathNotIgnored(String filePath) {
+        return filePath == null || !config.isFileIgnored(filePath);
+    }
+
+    private void checkForFilesNotIncluded() throws ChangeLogLintingException {
+        final Set<String> fileExtensions = ruleRunner
+            .getFilesParsed()
+            .stream()
+            .map(Files::getFileExtension)
+            .filter(ext -> !Strings.isNullOrEmpty(ext))
+            .collect(toSet());
+
+        for (RuleConfig ruleConfig : config.getEnabledRuleConfig("file-not-included")) {
+            List<String> paths = Optional.ofNullable(ruleConfig.getValues()).orElseThrow(() ->
+                new IllegalArgumentException("values not configured for rule `file-not-included`")
+            );
+
+            for (String path : paths) {
+                try {
+                    final String unparsedFiles = resourceAccessor
+                        .search(path, true)
+                        .stream()
+                        .map(Resource::getPath)
+                        .filter(file -> fileExtensions.contains(Files.getFileExtension(file)))
+                        .filter(file -> !ruleRunner.getFilesParsed().contains(file))
+                        .collect(joining(","));
+                    if (!Strings.isNullOrEmpty(unparsedFiles)) {
+                        final String errorMessage = Optional.ofNullable(ruleConfig.getErrorMessage()).orElse(
+                            "Changelog files not included in deltas change log: %s"
+                        );
+                        throw new ChangeLogLintingException(String.format(errorMessage, unparsedFiles));
+                    }
+                } catch (IOException e) {
+                    Scope.getCurrentScope().getLog(LintSession.class).warning("Cannot list files in " + path, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return report of everything linted in this session so far
+     */
+    public Report getReport() {
+        return ruleRunner.buildReport();
+    }
+
+    /**
+     * @return attestation that the change logs linted in this session lint without errors
+     * @throws IllegalStateException if linting reported errors
+     * @throws IOException if a parsed file cannot be read
+     */
+    public LintAttestation attest() throws IOException {
+        if (getReport().getItems().stream().anyMatch(item -> item.getType() == ReportItem.ReportItemType.ERROR)) {
+            throw new IllegalStateException("Cannot attest change logs with lint errors");
+        }
+        return LintAttestation.of(engine, resourceAccessor, changeLogs);
+    }
+
+    private void reports() throws ChangeLogLintingException {
+        final Report report = ruleRunner.buildReport();
+        reporters.forEach(reporter -> reporter.onFinish(report));
+        failOnErrors(report);
+    }
+
+    /**
+     * @throws ChangeLogLintingException listing the errors of the report, if any
+     */
+    static void failOnErrors(Report report) throws ChangeLogLintingException {
+        final List<ReportItem> errors = report
+            .getItems()
+            .stream()
+            .filter(item -> item.getType() == ReportItem.ReportItemType.ERROR)
+            .collect(Collectors.toList());
+        final long errorCount = errors.size();
+        if (errorCount > 0) {
+            final String errorList = errors.stream().map(ReportItem::getMessage).collect(joining("\n - ", "\n - ", ""));
+            throw new ChangeLogLintingException(
+                String.format("Linting failed with %d errors: %s", errorCount, errorList)
+            );
+        }
+    }
+
+    /**
+     * A change log file looked up in the cache: its cached report items are replayed when it starts, or else the items
+     * linting it produces are stored once it finishes.
+     */
+    private final class CachedFile {
+
+        private final String physicalFilePath;
+        private final String key;
+        private final List<ReportItem> cachedItems;
+
+        private CachedFile(String physicalFilePath, String key, Optional<List<ReportItem>> cachedItems) {
+            this.physicalFilePath = physicalFilePath;
+            this.key = key;
+            this.cachedItems = cachedItems.orElse(null);
+        }
+
+        private boolean isHit() {
+            return cachedItems != null;
+        }
+
+        private void start() {
+            if (isHit()) {
+                ruleRunner.replay(cachedItems);
+            } else {
+                ruleRunner.startRecording();
+            }
+        }
+
+        private void finish() {
+            if (!isHit()) {
+                cache.store(physicalFilePath, key, ruleRunner.stopRecording());
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.liquibaselinter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import liquibase.resource.AbstractResourceAccessor;
+import liquibase.resource.Resource;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * Remembers the resources another accessor finds for each path, so that parsing, loading the configuration and
+ * linting a change log look each path up only once, including the paths that are not found.
+ * <p>
+ * The resources found are assumed not to change while it is in use, so it should live no longer than a lint session,
+ * or a few sessions run together. Failing lookups are not remembered. It is thread-safe if the other accessor is, and
+ * closing it closes the other accessor.
+ */
+public final class MemoizingResourceAccessor extends AbstractResourceAccessor {
+
+    private final ResourceAccessor delegate;
+    private final Map<String, Resource> got = new ConcurrentHashMap<>();
+    private final Map<String, List<Resource>> found = new ConcurrentHashMap<>();
+    private final Map<String, List<Resource>> searched = new ConcurrentHashMap<>();
+    private final Map<String, List<Resource>> searchedRecursively = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public MemoizingResourceAccessor(ResourceAccessor delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "ResourceAccessor must not be null");
+    }
+
+    /**
+     * Remembers the resource the other accessor gets for the path apart from {@link #getAll(String)}, as it may get one
+     * without looking up all of them.
+     */
+    @Override
+    public Resource get(String path) throws IOException {
+        Resource resource = got.get(path);
+        if (resource == null) {
+            misses.increment();
+            resource = delegate.get(path);
+            final Resource earlier = got.putIfAbsent(path, resource);
+            if (earlier != null) {
+                resource = earlier;
+            }
+        } else {
+            hits.increment();
+        }
+        return resource;
+    }
+
+    @Override
+    public List<Resource> getAll(String path) throws IOException {
+        List<Resource> resources = found.get(path);
+        if (resources == null) {
+            resources = remember(found, path, delegate.getAll(path));
+        } else {
+            hits.increment();
+        }
+        return new ArrayList<>(resources);
+    }
+
+    @Override
+    public List<Resource> search(String path, boolean recursive) throws IOException {
+        final Map<String, List<Resource>> searches = recursive ? searchedRecursively : searched;
+        List<Resource> resources = searches.get(path);
+        if (resources == null) {
+            resources = remember(searches, path, delegate.search(path, recursive));
+        } else {
+            hits.increment();
+        }
+        return new ArrayList<>(resources);
+    }
+
+    private List<Resource> remember(Map<String, List<Resource>> lookups, String path, List<Resource> resources) {
+        misses.increment();
+        final List<Resource> remembered = resources == null
+            ? Collections.emptyList()
+            : Collections.unmodifiableList(new ArrayList<>(resources));
+        final List<Resource> earlier = lookups.putIfAbsent(path, remembered);
+        return earlier == null ? remembered : earlier;
+    }
+
+    @Override
+    public List<String> describeLocations() {
+        return delegate.describeLocations();
+    }
+
+    @Override
+    public void close() throws Exception {
+        delegate.close();
+    }
+
+    /**
+     * @return the number of lookups answered from memory
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups handed to the other accessor
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+}
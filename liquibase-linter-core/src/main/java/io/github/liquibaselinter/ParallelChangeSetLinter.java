@@ -0,0 +1,189 @@
+package io.github.liquibaselinter;
+
+import io.github.liquibaselinter.report.ReportItem;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import liquibase.change.Change;
+import liquibase.changelog.ChangeSet;
+
+/**
+ * Lints change sets on a fork-join pool.
+ * <p>
+ * What gets linted is decided up front, in change set order, exactly as a sequential run would. Each change set is
+ * then checked by its own {@link RuleRunner#fork(java.util.function.Predicate) fork}, and the report items are merged
+ * back in change set order. With fail-fast, the change sets after the first failing one are skipped and that failure
+ * is rethrown.
+ */
+final class ParallelChangeSetLinter {
+
+    private static final int BATCH_SIZE = 16;
+
+    private final RuleRunner ruleRunner;
+    private final int parallelism;
+    private final List<PlannedChangeSet> changeSets = new ArrayList<>();
+    private final Map<String, Integer> parsedAfter = new HashMap<>();
+    private final AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+    private RuleRunner[] forks;
+    private ChangeLogLintingException[] failures;
+
+    ParallelChangeSetLinter(RuleRunner ruleRunner, int parallelism) {
+        this.ruleRunner = ruleRunner;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @param started run on the calling thread before the report items of the change set are merged
+     * @param linted run on the calling thread once they are merged, unless the change set fails fast; failing it
+     *     fails the linting there
+     * @param recorded when not {@code null}, given the items of the change set checks, on the calling thread before
+     *     {@code linted}
+     */
+    void add(
+        ChangeSet changeSet,
+        boolean lintChangeLog,
+        boolean lintChangeSet,
+        Runnable started,
+        Step linted,
+        Consumer<List<ReportItem>> recorded
+    ) {
+        changeSets.add(new PlannedChangeSet(changeSet, lintChangeLog, lintChangeSet, started, linted, recorded));
+    }
+
+    /**
+     * Marks a file as parsed once the change sets added so far have been linted.
+     */
+    void fileParsed(String filePath) {
+        if (ruleRunner.getFilesParsed().add(filePath)) {
+            parsedAfter.put(filePath, changeSets.size() - 1);
+        }
+    }
+
+    void lint() throws ChangeLogLintingException {
+        forks = new RuleRunner[changeSets.size()];
+        failures = new ChangeLogLintingException[changeSets.size()];
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new LintTask(0, changeSets.size()));
+        } finally {
+            pool.shutdown();
+        }
+
+        final int failure = firstFailure.get();
+        for (int position = 0; position < forks.length && position <= failure; position++) {
+            changeSets.get(position).started.run();
+            ruleRunner.addReportItems(forks[position]);
+            if (position < failure) {
+                changeSets.get(position).finish();
+            }
+        }
+        if (failure != Integer.MAX_VALUE) {
+            throw failures[failure];
+        }
+    }
+
+    private void lint(int position) {
+        if (position > firstFailure.get()) {
+            return;
+        }
+        final PlannedChangeSet planned = changeSets.get(position);
+        final RuleRunner fork = ruleRunner.fork(filePath -> isParsedBefore(filePath, position));
+        forks[position] = fork;
+        try {
+            if (planned.lintChangeLog) {
+                fork.checkChangeLog(planned.changeSet.getChangeLog());
+            }
+            if (planned.lintChangeSet) {
+                if (planned.recorded != null) {
+                    fork.startRecording();
+                }
+                fork.checkChangeSet(planned.changeSet);
+                for (Change change : planned.changeSet.getChanges()) {
+                    fork.checkChange(change);
+                }
+                if (planned.recorded != null) {
+                    planned.recordedItems = fork.stopRecording();
+                }
+            }
+        } catch (ChangeLogLintingException e) {
+            failures[position] = e;
+            firstFailure.accumulateAndGet(position, Math::min);
+        }
+    }
+
+    private boolean isParsedBefore(String filePath, int position) {
+        return ruleRunner.getFilesParsed().contains(filePath) && parsedAfter.getOrDefault(filePath, -1) < position;
+    }
+
+    /**
+     * A step run on the calling thread, which may fail the linting.
+     */
+    @FunctionalInterface
+    interface Step {
+        void run() throws ChangeLogLintingException;
+    }
+
+    private static final class PlannedChangeSet {
+
+        private final ChangeSet changeSet;
+        private final boolean lintChangeLog;
+        private final boolean lintChangeSet;
+        private final Runnable started;
+        private final Step linted;
+        private final Consumer<List<ReportItem>> recorded;
+        private List<ReportItem> recordedItems;
+
+        private PlannedChangeSet(
+            ChangeSet changeSet,
+            boolean lintChangeLog,
+            boolean lintChangeSet,
+            Runnable started,
+            Step linted,
+            Consumer<List<ReportItem>> recorded
+        ) {
+            this.changeSet = changeSet;
+            this.lintChangeLog = lintChangeLog;
+            this.lintChangeSet = lintChangeSet;
+            this.started = started;
+            this.linted = linted;
+            this.recorded = recorded;
+        }
+
+        private void finish() throws ChangeLogLintingException {
+            if (recordedItems != null) {
+                recorded.accept(recordedItems);
+            }
+            linted.run();
+        }
+    }
+
+    private final class LintTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        private LintTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                for (int position = from; position < to; position++) {
+                    lint(position);
+                }
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new LintTask(from, middle), new LintTask(middle, to));
+            }
+        }
+    }
+}
@@ -1,24 +1,37 @@
 package io.github.liquibaselinter;
 
-import static java.util.stream.Collectors.toList;
-
+import io.github.liquibaselinter.config.ConditionEngine;
 import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.config.NamingPatterns;
+import io.github.liquibaselinter.config.PatternTimeoutException;
 import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.report.PassedItemCounts;
 import io.github.liquibaselinter.report.Report;
 import io.github.liquibaselinter.report.ReportItem;
+import io.github.liquibaselinter.report.StreamingReporter;
+import io.github.liquibaselinter.rules.ChangeFacts;
 import io.github.liquibaselinter.rules.ChangeLogRule;
-import io.github.liquibaselinter.rules.ChangeRule;
 import io.github.liquibaselinter.rules.ChangeSetRule;
+import io.github.liquibaselinter.rules.RootChangeLogRule;
 import io.github.liquibaselinter.rules.RuleViolation;
+import io.github.liquibaselinter.rules.SchemaChangeRule;
+import io.github.liquibaselinter.rules.SchemaModel;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.ServiceLoader;
 import java.util.Set;
-import java.util.stream.StreamSupport;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import liquibase.change.Change;
 import liquibase.changelog.ChangeSet;
 import liquibase.changelog.DatabaseChangeLog;
@@ -29,50 +42,197 @@ class RuleRunner {
     private static final String LQL_IGNORE_TOKEN = "lql-ignore";
 
     private final Config config;
-    private final List<ChangeRule> changeRules = loadAvailablesServices(ChangeRule.class);
-    private final List<ChangeSetRule> changeSetRules = loadAvailablesServices(ChangeSetRule.class);
-    private final List<ChangeLogRule> changeLogRules = loadAvailablesServices(ChangeLogRule.class);
+    private final List<ChangeSetRule> changeSetRules;
+    private final List<ChangeLogRule> changeLogRules;
+    private final ChangeRuleIndex changeRuleIndex;
+    private final NamingPatterns namingPatterns;
+    private final ConditionEngine conditions;
+    private final List<StreamingReporter> reporters;
+    private final boolean keepPassedItems;
+    private final boolean streamPassedItems;
+    private final boolean cached;
     private final List<ReportItem> reportItems = new ArrayList<>();
+    private final PassedItemCounts passedItemCounts = new PassedItemCounts();
     private final Set<String> filesParsed = new HashSet<>();
+    private final Predicate<String> fileParsed;
+    private final Deque<List<ReportItem>> recordings = new ArrayDeque<>();
+    private final List<SchemaChangeRule> schemaChangeRules;
+    private final SchemaModel schema;
+    private boolean recordingSuspended;
 
     public RuleRunner(Config config) {
-        this.config = config;
+        this(new LintEngine(config));
+    }
+
+    RuleRunner(LintEngine engine) {
+        this(engine, engine.getReporters());
     }
 
-    private static <T> List<T> loadAvailablesServices(Class<T> clazz) {
-        return StreamSupport.stream(ServiceLoader.load(clazz).spliterator(), false).collect(toList());
+    RuleRunner(LintEngine engine, List<StreamingReporter> reporters) {
+        this.config = engine.getConfig();
+        this.changeSetRules = engine.getChangeSetRules();
+        this.changeLogRules = engine.getChangeLogRules();
+        this.changeRuleIndex = engine.getChangeRuleIndex();
+        this.namingPatterns = engine.getNamingPatterns();
+        this.conditions = engine.getConditions();
+        this.reporters = reporters;
+        this.keepPassedItems = engine.isKeepPassedItems();
+        this.streamPassedItems = engine.isStreamPassedItems();
+        this.cached = engine.getCache() != null;
+        this.fileParsed = filesParsed::contains;
+        this.schemaChangeRules = engine.getSchemaChangeRules();
+        this.schema = schemaChangeRules.isEmpty() ? null : new SchemaModel();
+    }
+
+    private RuleRunner(RuleRunner parent, Predicate<String> fileParsed) {
+        this.config = parent.config;
+        this.changeSetRules = parent.changeSetRules;
+        this.changeLogRules = parent.changeLogRules;
+        this.changeRuleIndex = parent.changeRuleIndex;
+        this.namingPatterns = parent.namingPatterns;
+        this.conditions = parent.conditions;
+        this.reporters = Collections.emptyList();
+        this.keepPassedItems = parent.keepPassedItems || parent.streamPassedItems || parent.cached;
+        this.streamPassedItems = false;
+        this.cached = false;
+        this.fileParsed = fileParsed;
+        this.schemaChangeRules = Collections.emptyList();
+        this.schema = null;
     }
 
     public Report buildReport() {
-        return new Report(config, reportItems);
+        return new Report(config, reportItems, passedItemCounts);
     }
 
     public Set<String> getFilesParsed() {
         return filesParsed;
     }
 
-    public void checkChange(Change change) throws ChangeLogLintingException {
+    /**
+     * Creates a runner sharing the rules and config of this one, but collecting its own report items, so that it can
+     * check a change set on another thread. Its items reach the reporters once {@link #addReportItems added} back.
+     *
+     * @param fileParsed tells whether a file counts as parsed for the rules {@code enableAfter}
+     */
+    RuleRunner fork(Predicate<String> fileParsed) {
+        return new RuleRunner(this, fileParsed);
+    }
+
+    void addReportItems(RuleRunner fork) {
+        fork.reportItems.forEach(this::replayReportItem);
+        passedItemCounts.addAll(fork.passedItemCounts);
+    }
+
+    /**
+     * Starts recording every report item, passed ones included, until {@link #stopRecording()}. Recordings nest: an
+     * item is recorded by each one started and not yet stopped.
+     */
+    void startRecording() {
+        recordings.push(new ArrayList<>());
+    }
+
+    /**
+     * @return the items recorded since the last recording started
+     */
+    List<ReportItem> stopRecording() {
+        return recordings.pop();
+    }
+
+    /**
+     * Adds report items recorded by an earlier run, as if the checks producing them had just been made.
+     */
+    void replay(List<ReportItem> items) {
+        items.forEach(this::replayReportItem);
+    }
+
+    private void replayReportItem(ReportItem item) {
+        if (item.getType() == ReportItem.ReportItemType.PASSED) {
+            handlePassed(item);
+        } else {
+            addReportItem(item);
+        }
+    }
+
+    /**
+     * Tells the reporters that all the change sets of a file have been checked.
+     */
+    void completeFile(String filePath) {
+        for (StreamingReporter reporter : reporters) {
+            reporter.onFileComplete(filePath);
+        }
+    }
+
+    /**
+     * Checks the changes of a change set against the schema built by the change sets applied before it, then applies
+     * them. Change sets must be applied in order, and on this runner rather than a fork. The items reported are never
+     * recorded, as they depend on the change sets before.
+     *
+     * @param lint whether to check the changes, or only apply them
+     */
+    void applySchema(ChangeSet changeSet, boolean lint) throws ChangeLogLintingException {
+        if (schema == null || changeSet.isIgnore()) {
+            return;
+        }
+        final boolean suspended = recordingSuspended;
+        recordingSuspended = true;
+        try {
+            for (Change change : changeSet.getChanges()) {
+                if (lint) {
+                    checkSchemaChange(change);
+                }
+                schema.apply(change);
+            }
+        } finally {
+            recordingSuspended = suspended;
+        }
+    }
+
+    private void checkSchemaChange(Change change) throws ChangeLogLintingException {
         final ChangeSet changeSet = change.getChangeSet();
         final DatabaseChangeLog changeLog = changeSet.getChangeLog();
 
-        for (ChangeRule changeRule : changeRules) {
-            final List<RuleConfig> configs = config.forRule(changeRule.getName());
-            final String ruleName = changeRule.getName();
-
-            for (RuleConfig ruleConfig : configs) {
-                if (isEnabled(ruleConfig) && ConditionHelper.evaluateCondition(ruleConfig, change)) {
-                    Collection<RuleViolation> violations = changeRule.check(change, ruleConfig);
+        for (SchemaChangeRule schemaChangeRule : schemaChangeRules) {
+            final String ruleName = schemaChangeRule.getName();
+            for (RuleConfig ruleConfig : config.forRule(ruleName)) {
+                if (isEnabled(ruleConfig) && ConditionHelper.evaluateCondition(conditions, ruleConfig, change)) {
+                    Collection<RuleViolation> violations = check(() ->
+                        schemaChangeRule.check(change, schema, ruleConfig)
+                    );
                     for (RuleViolation violation : violations) {
                         handleViolation(changeLog, changeSet, ruleName, violation.message());
                     }
                     if (violations.isEmpty()) {
-                        reportItems.add(ReportItem.passed(changeLog, changeSet, ruleName, ""));
+                        handlePassed(changeLog, changeSet, ruleName);
                     }
                 }
             }
         }
     }
 
+    public void checkChange(Change change) throws ChangeLogLintingException {
+        final ChangeSet changeSet = change.getChangeSet();
+        final DatabaseChangeLog changeLog = changeSet.getChangeLog();
+
+        final List<ChangeRuleIndex.ChangeRuleBinding> bindings = changeRuleIndex.forChange(change);
+        final ChangeFacts facts = bindings.isEmpty() ? null : ChangeFacts.of(change, namingPatterns, conditions);
+        for (ChangeRuleIndex.ChangeRuleBinding binding : bindings) {
+            final RuleConfig ruleConfig = binding.getRuleConfig();
+            final String ruleName = binding.getChangeRule().getName();
+
+            if (isEnabledAfter(ruleConfig) && ConditionHelper.evaluateCondition(conditions, ruleConfig, change)) {
+                Collection<RuleViolation> violations = check(() ->
+                    binding.getChangeRule().check(change, facts, ruleConfig)
+                );
+                for (RuleViolation violation : violations) {
+                    handleViolation(changeLog, changeSet, ruleName, violation.message());
+                }
+                if (violations.isEmpty()) {
+                    handlePassed(changeLog, changeSet, ruleName);
+                }
+            }
+        }
+    }
+
     public void checkChangeSet(ChangeSet changeSet) throws ChangeLogLintingException {
         final DatabaseChangeLog changeLog = changeSet.getChangeLog();
 
@@ -80,13 +240,13 @@ class RuleRunner {
             final String ruleName = changeSetRule.getName();
             final List<RuleConfig> configs = config.forRule(ruleName);
             for (RuleConfig ruleConfig : configs) {
-                if (isEnabled(ruleConfig) && ConditionHelper.evaluateCondition(ruleConfig, changeSet)) {
-                    Collection<RuleViolation> violations = changeSetRule.check(changeSet, ruleConfig);
+                if (isEnabled(ruleConfig) && ConditionHelper.evaluateCondition(conditions, ruleConfig, changeSet)) {
+                    Collection<RuleViolation> violations = check(() -> changeSetRule.check(changeSet, ruleConfig));
                     for (RuleViolation violation : violations) {
                         handleViolation(changeLog, changeSet, ruleName, violation.message());
                     }
                     if (violations.isEmpty()) {
-                        reportItems.add(ReportItem.passed(changeLog, changeSet, ruleName, ""));
+                        handlePassed(changeLog, changeSet, ruleName);
                     }
                 }
             }
@@ -95,30 +255,136 @@ class RuleRunner {
 
     public void checkChangeLog(DatabaseChangeLog changeLog) throws ChangeLogLintingException {
         for (ChangeLogRule changeLogRule : changeLogRules) {
+            if (changeLogRule instanceof RootChangeLogRule) {
+                continue;
+            }
             final String ruleName = changeLogRule.getName();
             final List<RuleConfig> configs = config.forRule(ruleName);
             for (RuleConfig ruleConfig : configs) {
-                if (isEnabled(ruleConfig) && ConditionHelper.evaluateCondition(ruleConfig, changeLog)) {
-                    Collection<RuleViolation> ruleViolations = changeLogRule.check(changeLog, ruleConfig);
+                if (isEnabled(ruleConfig) && ConditionHelper.evaluateCondition(conditions, ruleConfig, changeLog)) {
+                    Collection<RuleViolation> ruleViolations = check(() -> changeLogRule.check(changeLog, ruleConfig));
+                    for (RuleViolation ruleViolation : ruleViolations) {
+                        handleViolation(changeLog, null, ruleName, ruleViolation.message());
+                    }
+                    if (ruleViolations.isEmpty()) {
+                        handlePassed(changeLog, null, ruleName);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the root change log with the {@link RootChangeLogRule rules} checking all the change sets it includes,
+     * before any of them is linted. A change set is linted for a rule config when it is linted at all, its rule is
+     * enabled after the files parsed by its turn and its comments do not ignore the rule.
+     *
+     * @param linted tells whether a change set is linted at all, given which files count as parsed by its turn
+     */
+    void checkRootChangeLog(DatabaseChangeLog changeLog, BiPredicate<ChangeSet, Predicate<String>> linted)
+        throws ChangeLogLintingException {
+        final List<ChangeSet> changeSets = changeLog.getChangeSets();
+        final Map<ChangeSet, Integer> positions = new IdentityHashMap<>();
+        final Map<String, Integer> parsedFrom = new HashMap<>();
+        for (int position = 0; position < changeSets.size(); position++) {
+            positions.put(changeSets.get(position), position);
+            // a file counts as parsed once its first change set is linted
+            parsedFrom.putIfAbsent(changeSets.get(position).getChangeLog().getPhysicalFilePath(), position + 1);
+        }
+
+        for (ChangeLogRule changeLogRule : changeLogRules) {
+            if (!(changeLogRule instanceof RootChangeLogRule)) {
+                continue;
+            }
+            final RootChangeLogRule rootChangeLogRule = (RootChangeLogRule) changeLogRule;
+            final String ruleName = rootChangeLogRule.getName();
+            for (RuleConfig ruleConfig : config.forRule(ruleName)) {
+                if (ruleConfig.isEnabled() && ConditionHelper.evaluateCondition(conditions, ruleConfig, changeLog)) {
+                    final Predicate<ChangeSet> lintedForRule = changeSet -> {
+                        final int position = positions.getOrDefault(changeSet, 0);
+                        final Predicate<String> parsed = file ->
+                            fileParsed.test(file) || parsedFrom.getOrDefault(file, Integer.MAX_VALUE) <= position;
+                        return (
+                            linted.test(changeSet, parsed) &&
+                            (StringUtils.isEmpty(ruleConfig.getEnableAfter()) ||
+                                parsed.test(ruleConfig.getEnableAfter())) &&
+                            !isIgnored(ruleName, changeSet)
+                        );
+                    };
+                    Collection<RuleViolation> ruleViolations = check(() ->
+                        rootChangeLogRule.check(changeLog, lintedForRule, ruleConfig)
+                    );
                     for (RuleViolation ruleViolation : ruleViolations) {
                         handleViolation(changeLog, null, ruleName, ruleViolation.message());
                     }
                     if (ruleViolations.isEmpty()) {
-                        reportItems.add(ReportItem.passed(changeLog, null, ruleName, ""));
+                        handlePassed(changeLog, null, ruleName);
                     }
                 }
             }
         }
     }
 
+    /**
+     * Runs a rule check, reporting a pattern that takes too long to match as a violation of the rule.
+     */
+    private static Collection<RuleViolation> check(Supplier<Collection<RuleViolation>> check) {
+        try {
+            return check.get();
+        } catch (PatternTimeoutException e) {
+            return Collections.singleton(new RuleViolation(e.getMessage()));
+        }
+    }
+
     private void handleViolation(DatabaseChangeLog databaseChangeLog, ChangeSet changeSet, String rule, String message)
         throws ChangeLogLintingException {
         if (isIgnored(rule, changeSet)) {
-            reportItems.add(ReportItem.ignored(databaseChangeLog, changeSet, rule, message));
+            addReportItem(ReportItem.ignored(databaseChangeLog, changeSet, rule, message));
         } else if (config.isFailFast()) {
             throw ChangeLogLintingException.from(databaseChangeLog, changeSet, message);
         } else {
-            reportItems.add(ReportItem.error(databaseChangeLog, changeSet, rule, message));
+            addReportItem(ReportItem.error(databaseChangeLog, changeSet, rule, message));
+        }
+    }
+
+    private void handlePassed(DatabaseChangeLog databaseChangeLog, ChangeSet changeSet, String rule) {
+        if (keepPassedItems || streamPassedItems || !recordings.isEmpty()) {
+            handlePassed(ReportItem.passed(databaseChangeLog, changeSet, rule, ""));
+        } else {
+            passedItemCounts.increment(databaseChangeLog, changeSet, rule);
+        }
+    }
+
+    private void handlePassed(ReportItem item) {
+        if (keepPassedItems) {
+            addReportItem(item);
+        } else {
+            passedItemCounts.increment(item);
+            streamReportItem(item);
+            recordReportItem(item);
+        }
+    }
+
+    private void addReportItem(ReportItem item) {
+        reportItems.add(item);
+        streamReportItem(item);
+        recordReportItem(item);
+    }
+
+    private void recordReportItem(ReportItem item) {
+        if (recordingSuspended) {
+            return;
+        }
+        for (List<ReportItem> recording : recordings) {
+            recording.add(item);
+        }
+    }
+
+    private void streamReportItem(ReportItem item) {
+        for (StreamingReporter reporter : reporters) {
+            if (reporter.includes(item.getType())) {
+                reporter.onItem(item);
+            }
         }
     }
 
@@ -136,9 +402,10 @@ class RuleRunner {
     }
 
     private boolean isEnabled(RuleConfig ruleConfig) {
-        return (
-            ruleConfig.isEnabled() &&
-            (StringUtils.isEmpty(ruleConfig.getEnableAfter()) || filesParsed.contains(ruleConfig.getEnableAfter()))
-        );
+        return ruleConfig.isEnabled() && isEnabledAfter(ruleConfig);
+    }
+
+    private boolean isEnabledAfter(RuleConfig ruleConfig) {
+        return StringUtils.isEmpty(ruleConfig.getEnableAfter()) || fileParsed.test(ruleConfig.getEnableAfter());
     }
 }
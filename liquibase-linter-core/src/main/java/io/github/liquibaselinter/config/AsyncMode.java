@@ -0,0 +1,29 @@
+package io.github.liquibaselinter.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Whether change logs parsed by Liquibase with the parser extension are linted while they are parsed, or on a
+ * background thread so parsing returns right away.
+ */
+public enum AsyncMode {
+    /**
+     * Lint while parsing, failing the parse on errors.
+     */
+    @JsonProperty("off")
+    OFF,
+
+    /**
+     * Lint on a background thread, only sending the results to the reporters and the log. Linting races with the update
+     * Liquibase runs meanwhile, so the results are for inspection only.
+     */
+    @JsonProperty("report")
+    REPORT,
+
+    /**
+     * Lint on a background thread, failing the validation Liquibase runs before an update on errors, after waiting for
+     * linting to finish if needed.
+     */
+    @JsonProperty("block-on-error")
+    BLOCK_ON_ERROR,
+}
@@ -0,0 +1,214 @@
+package io.github.liquibaselinter.config;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+
+/**
+ * The regular expressions and SpEL expressions of a {@link RuleConfig}, compiled once when it is built.
+ * <p>
+ * Instances are immutable and safe to share between threads; dynamic patterns are compiled per resolved value into a
+ * thread-safe bounded cache.
+ */
+public final class CompiledRuleConfig {
+
+    private static final String DYNAMIC_VALUE = "{{value}}";
+
+    private final String patternString;
+    private final boolean dynamicPattern;
+    private final Optional<Pattern> pattern;
+    private final Optional<Expression> conditionExpression;
+    private final Optional<Expression> columnConditionExpression;
+    private final Optional<Expression> dynamicValueExpression;
+    private final List<Pattern> valuePatterns;
+    private final IllegalArgumentException invalidValuePattern;
+    private final Cache<String, Pattern> dynamicPatterns;
+    private final long patternTimeoutMillis;
+
+    private CompiledRuleConfig(
+        String patternString,
+        String condition,
+        String columnCondition,
+        String dynamicValue,
+        List<String> values,
+        long dynamicPatternCacheSize,
+        long patternTimeoutMillis
+    ) {
+        this.patternString = patternString;
+        this.dynamicPattern = patternString != null && patternString.contains(DYNAMIC_VALUE);
+        if (patternString == null) {
+            this.pattern = Optional.empty();
+        } else if (dynamicPattern) {
+            // the template must be a valid regex for any resolved value, so check it with a placeholder
+            compilePattern("pattern", patternString.replace(DYNAMIC_VALUE, "value"));
+            this.pattern = Optional.empty();
+        } else {
+            this.pattern = Optional.of(compilePattern("pattern", patternString));
+        }
+        this.conditionExpression = parseExpression("condition", condition);
+        this.columnConditionExpression = parseExpression("columnCondition", columnCondition);
+        this.dynamicValueExpression = parseExpression("dynamicValue", dynamicValue);
+
+        // values are only regular expressions to some rules, so an invalid one only fails when it is used as such
+        List<Pattern> compiledValues = null;
+        IllegalArgumentException invalidValue = null;
+        if (values != null) {
+            try {
+                compiledValues = values
+                    .stream()
+                    .map(value -> value == null ? null : compilePattern("values", value))
+                    .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+            } catch (IllegalArgumentException e) {
+                invalidValue = e;
+            }
+        }
+        this.valuePatterns = compiledValues;
+        this.invalidValuePattern = invalidValue;
+
+        this.dynamicPatterns = CacheBuilder.newBuilder().maximumSize(dynamicPatternCacheSize).recordStats().build();
+        this.patternTimeoutMillis = patternTimeoutMillis;
+    }
+
+    /**
+     * @throws IllegalArgumentException naming the setting whose regular expression or SpEL expression is invalid
+     */
+    static CompiledRuleConfig compile(
+        String patternString,
+        String condition,
+        String columnCondition,
+        String dynamicValue,
+        List<String> values,
+        long dynamicPatternCacheSize,
+        long patternTimeoutMillis
+    ) {
+        return new CompiledRuleConfig(
+            patternString,
+            condition,
+            columnCondition,
+            dynamicValue,
+            values,
+            dynamicPatternCacheSize,
+            patternTimeoutMillis
+        );
+    }
+
+    private static Pattern compilePattern(String setting, String regex) {
+        final Pattern compiled;
+        try {
+            compiled = Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException(
+                "Invalid " + setting + " '" + regex + "': " + e.getDescription() + " near index " + e.getIndex(),
+                e
+            );
+        }
+        return compiled;
+    }
+
+    private static Optional<Expression> parseExpression(String setting, String expression) {
+        if (expression == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(ConditionEngine.parse(expression));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException(
+                "Invalid " + setting + " '" + expression + "': " + e.getSimpleMessage(),
+                e
+            );
+        }
+    }
+
+    public boolean hasDynamicPattern() {
+        return dynamicPattern;
+    }
+
+    /**
+     * @return the pattern, unless it is missing or dynamic
+     */
+    public Optional<Pattern> getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return whether the value matches the pattern, or {@code true} when the pattern is missing or dynamic
+     * @throws PatternTimeoutException if matching takes longer than the pattern timeout
+     */
+    public boolean matchesPattern(String value) {
+        return !pattern.isPresent() || TimeLimitedCharSequence.matches(pattern.get(), value, patternTimeoutMillis);
+    }
+
+    /**
+     * @return whether the value matches the dynamic pattern resolved with the dynamic value
+     * @throws PatternTimeoutException if matching takes longer than the pattern timeout
+     */
+    public boolean matchesDynamicPattern(String dynamicValue, String value) {
+        return TimeLimitedCharSequence.matches(getDynamicPattern(dynamicValue), value, patternTimeoutMillis);
+    }
+
+    /**
+     * @return whether the value matches one of the values compiled as regular expressions, or {@code true} when there
+     *     are no values
+     * @throws IllegalArgumentException if a value is not a valid regular expression
+     * @throws PatternTimeoutException if matching takes longer than the pattern timeout
+     */
+    public boolean matchesValuePatterns(String value) {
+        final List<Pattern> patterns = getValuePatterns();
+        if (patterns == null) {
+            return true;
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern != null && TimeLimitedCharSequence.matches(pattern, value, patternTimeoutMillis)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Pattern getDynamicPattern(String value) {
+        if (!dynamicPattern) {
+            throw new IllegalStateException("Pattern is not dynamic");
+        }
+        Pattern compiled = dynamicPatterns.getIfPresent(value);
+        if (compiled == null) {
+            compiled = Pattern.compile(patternString.replace(DYNAMIC_VALUE, value));
+            dynamicPatterns.put(value, compiled);
+        }
+        return compiled;
+    }
+
+    CacheStats getDynamicPatternCacheStats() {
+        return dynamicPatterns.stats();
+    }
+
+    public Optional<Expression> getConditionExpression() {
+        return conditionExpression;
+    }
+
+    public Optional<Expression> getColumnConditionExpression() {
+        return columnConditionExpression;
+    }
+
+    public Optional<Expression> getDynamicValueExpression() {
+        return dynamicValueExpression;
+    }
+
+    /**
+     * @return the values compiled as regular expressions, or {@code null} when there are no values
+     * @throws IllegalArgumentException if a value is not a valid regular expression
+     */
+    public List<Pattern> getValuePatterns() {
+        if (invalidValuePattern != null) {
+            throw invalidValuePattern;
+        }
+        return valuePatterns;
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.liquibaselinter.config;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelMessage;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.ReflectiveConstructorResolver;
+import org.springframework.expression.spel.support.ReflectiveMethodResolver;
+import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.StandardTypeConverter;
+import org.springframework.expression.spel.support.StandardTypeLocator;
+
+/**
+ * Parses and evaluates the SpEL expressions used in rule configuration (conditions, column conditions, dynamic values).
+ * <p>
+ * Expressions run in {@link SpelCompilerMode#MIXED} mode: once evaluated often enough they are compiled to bytecode,
+ * and SpEL falls back to interpreting them whenever compilation is not possible or a compiled expression fails. Every
+ * evaluation shares one context, which reads properties, calls methods and refers to types as SpEL does by default,
+ * but neither writes properties nor assigns variables, so that it holds no state.
+ * <p>
+ * An instance belongs to a {@link io.github.liquibaselinter.LintEngine}: the rule configs it evaluates share the
+ * expression first evaluated with the same text, so that it is only compiled once, for as long as the engine lives.
+ * It evaluates the conditions of every rule, and the column conditions and dynamic values of change rules through
+ * the {@link io.github.liquibaselinter.rules.ChangeFacts facts} of the change. The dynamic values of change set and
+ * change log rules are evaluated on their own, as those rules are not handed the engine.
+ */
+public final class ConditionEngine {
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+        new SpelParserConfiguration(SpelCompilerMode.MIXED, ConditionEngine.class.getClassLoader())
+    );
+
+    private static final EvaluationContext CONTEXT = new ReadOnlyEvaluationContext();
+
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    /**
+     * @throws org.springframework.expression.ParseException if the expression is invalid
+     */
+    public static Expression parse(String expression) {
+        return PARSER.parseExpression(expression);
+    }
+
+    /**
+     * @throws SpelEvaluationException if the expression fails, or writes a property or assigns a variable
+     */
+    public static <T> T evaluate(Expression expression, Object root, Class<T> resultType) {
+        return expression.getValue(CONTEXT, root, resultType);
+    }
+
+    /**
+     * Evaluates the expression this engine first evaluated with the same text.
+     */
+    public <T> T evaluateShared(Expression expression, Object root, Class<T> resultType) {
+        return evaluate(shared(expression), root, resultType);
+    }
+
+    Expression shared(Expression expression) {
+        return expressions.computeIfAbsent(expression.getExpressionString(), text -> expression);
+    }
+
+    /**
+     * A context that cannot be changed through the expressions it evaluates. What it would otherwise create on first
+     * use, without synchronization, is set up front, so that it can be shared between threads.
+     */
+    private static final class ReadOnlyEvaluationContext extends StandardEvaluationContext {
+
+        private ReadOnlyEvaluationContext() {
+            setPropertyAccessors(Collections.singletonList(new ReflectivePropertyAccessor(false)));
+            setConstructorResolvers(Collections.singletonList(new ReflectiveConstructorResolver()));
+            setMethodResolvers(Collections.singletonList(new ReflectiveMethodResolver()));
+            setTypeLocator(new StandardTypeLocator(ConditionEngine.class.getClassLoader()));
+            setTypeConverter(new StandardTypeConverter());
+        }
+
+        @Override
+        public void setVariable(String name, Object value) {
+            throw new SpelEvaluationException(SpelMessage.VARIABLE_ASSIGNMENT_NOT_SUPPORTED, "#" + name);
+        }
+
+        @Override
+        public TypedValue assignVariable(String name, Supplier<TypedValue> valueSupplier) {
+            throw new SpelEvaluationException(SpelMessage.VARIABLE_ASSIGNMENT_NOT_SUPPORTED, "#" + name);
+        }
+    }
+}
@@ -12,15 +12,20 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Streams;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import io.github.liquibaselinter.report.Reporter;
 import io.github.liquibaselinter.report.ReporterConfig;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -43,6 +48,10 @@ public final class Config {
     private final String enableAfter;
     private final ListMultimap<String, Reporter> reporting;
     private final List<String> imports;
+    private final int parallelism;
+    private final String cacheDirectory;
+    private final String lockFile;
+    private final AsyncMode asyncMode;
 
     private Config(
         Pattern ignoreContextPattern,
@@ -51,7 +60,11 @@ public final class Config {
         boolean failFast,
         String enableAfter,
         ListMultimap<String, Reporter> reporting,
-        List<String> imports
+        List<String> imports,
+        int parallelism,
+        String cacheDirectory,
+        String lockFile,
+        AsyncMode asyncMode
     ) {
         this.ignoreContextPattern = ignoreContextPattern;
         this.ignoreFilesPattern = ignoreFilesPattern;
@@ -62,6 +75,10 @@ public final class Config {
             .map(ImmutableListMultimap::copyOf)
             .orElse(ImmutableListMultimap.of());
         this.imports = Optional.ofNullable(imports).map(ImmutableList::copyOf).orElse(ImmutableList.of());
+        this.parallelism = parallelism;
+        this.cacheDirectory = cacheDirectory;
+        this.lockFile = lockFile;
+        this.asyncMode = asyncMode;
     }
 
     public static Config fromInputStream(final InputStream inputStream) throws IOException {
@@ -76,6 +93,33 @@ public final class Config {
         return ignoreFilesPattern;
     }
 
+    /**
+     * @return whether the context matches the ignore-context-pattern
+     * @throws PatternTimeoutException if matching takes longer than a rule pattern may by default
+     */
+    public boolean isContextIgnored(String context) {
+        return (
+            ignoreContextPattern != null &&
+            TimeLimitedCharSequence.matches(ignoreContextPattern, context, RuleConfig.DEFAULT_PATTERN_TIMEOUT_MILLIS)
+        );
+    }
+
+    /**
+     * @param filePath path of a change log file, with either kind of separator
+     * @return whether the path matches the ignore-files-pattern
+     * @throws PatternTimeoutException if matching takes longer than a rule pattern may by default
+     */
+    public boolean isFileIgnored(String filePath) {
+        return (
+            ignoreFilesPattern != null &&
+            TimeLimitedCharSequence.matches(
+                ignoreFilesPattern,
+                filePath.replace('\\', '/'),
+                RuleConfig.DEFAULT_PATTERN_TIMEOUT_MILLIS
+            )
+        );
+    }
+
     public ListMultimap<String, RuleConfig> getRules() {
         return rules;
     }
@@ -100,10 +144,66 @@ public final class Config {
         return this.reporting;
     }
 
+    /**
+     * @return number of threads change sets are linted with; {@code 0} means one per available processor
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return directory where lint results are cached per change log file, or {@code null} when caching is off
+     */
+    public String getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    /**
+     * @return file where lint results are locked per change set, or {@code null} when locking is off
+     */
+    public String getLockFile() {
+        return lockFile;
+    }
+
+    /**
+     * @return whether the parser extension lints on a background thread
+     */
+    public AsyncMode getAsyncMode() {
+        return asyncMode;
+    }
+
     List<String> getImports() {
         return this.imports;
     }
 
+    /**
+     * @return a hash of the settings that decide linting results, so leaving out reporting, imports, parallelism,
+     *     caching, locking and async mode
+     */
+    public String fingerprint() {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        putNullable(hasher, ignoreContextPattern == null ? null : ignoreContextPattern.pattern());
+        putNullable(hasher, ignoreFilesPattern == null ? null : ignoreFilesPattern.pattern());
+        hasher.putBoolean(failFast);
+        putNullable(hasher, enableAfter);
+        rules
+            .entries()
+            .forEach(entry -> {
+                putNullable(hasher, entry.getKey());
+                entry.getValue().fingerprint(hasher);
+            });
+        return hasher.hash().toString();
+    }
+
+    static void putNullable(Hasher hasher, Object value) {
+        if (value == null) {
+            hasher.putBoolean(false);
+        } else {
+            final String string = value.toString();
+            hasher.putBoolean(true).putInt(string.length()).putString(string, StandardCharsets.UTF_8);
+        }
+    }
+
     /**
      * Merge the current {@link Config} with another config.
      * If the current config and the other config have both a rule or reporter config for the same name, both config are kept.
@@ -178,6 +278,10 @@ public final class Config {
         private String enableAfter;
         private ListMultimap<String, Reporter> reporting = ImmutableListMultimap.of();
         private List<String> imports = Collections.emptyList();
+        private int parallelism = 1;
+        private String cacheDirectory;
+        private String lockFile;
+        private AsyncMode asyncMode = AsyncMode.OFF;
 
         public Builder() {
             // Used primarily by JSON deserialization
@@ -190,11 +294,18 @@ public final class Config {
             this.failFast = config.isFailFast();
             this.enableAfter = config.getEnableAfter();
             this.imports = config.getImports();
+            this.parallelism = config.getParallelism();
+            this.cacheDirectory = config.getCacheDirectory();
+            this.lockFile = config.getLockFile();
+            this.asyncMode = config.getAsyncMode();
         }
 
         @JsonProperty("ignore-context-pattern")
         public Builder withIgnoreContextPattern(String ignoreContextPattern) {
             this.ignoreContextPattern = ignoreContextPattern != null ? Pattern.compile(ignoreContextPattern) : null;
+            if (ignoreContextPattern != null) {
+                PatternComplexity.warnIfProneToBacktracking("ignore-context-pattern", ignoreContextPattern);
+            }
             return this;
         }
 
@@ -206,6 +317,9 @@ public final class Config {
         @JsonProperty("ignore-files-pattern")
         public Builder withIgnoreFilesPattern(String ignoreFilesPattern) {
             this.ignoreFilesPattern = ignoreFilesPattern != null ? Pattern.compile(ignoreFilesPattern) : null;
+            if (ignoreFilesPattern != null) {
+                PatternComplexity.warnIfProneToBacktracking("ignore-files-pattern", ignoreFilesPattern);
+            }
             return this;
         }
 
@@ -233,6 +347,33 @@ public final class Config {
             return this;
         }
 
+        @JsonProperty("parallelism")
+        public Builder withParallelism(int parallelism) {
+            if (parallelism < 0) {
+                throw new IllegalArgumentException("parallelism must not be negative");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        @JsonProperty("cache")
+        public Builder withCacheDirectory(String cacheDirectory) {
+            this.cacheDirectory = cacheDirectory;
+            return this;
+        }
+
+        @JsonProperty("lock")
+        public Builder withLockFile(String lockFile) {
+            this.lockFile = lockFile;
+            return this;
+        }
+
+        @JsonProperty("async")
+        public Builder withAsyncMode(AsyncMode asyncMode) {
+            this.asyncMode = Objects.requireNonNull(asyncMode, "async mode must not be null");
+            return this;
+        }
+
         @JsonProperty("reporting")
         @JsonDeserialize(using = ReportingDeserializer.class)
         public Builder withReporting(ListMultimap<String, Reporter> reporting) {
@@ -255,7 +396,11 @@ public final class Config {
                 failFast,
                 enableAfter,
                 reporting,
-                imports
+                imports,
+                parallelism,
+                cacheDirectory,
+                lockFile,
+                asyncMode
             );
         }
     }
@@ -269,9 +414,12 @@ public final class Config {
             final ImmutableListMultimap.Builder<String, RuleConfig> ruleConfigs = new ImmutableListMultimap.Builder<>();
             config.forEach((key, value) -> {
                 if (value instanceof List) {
-                    ((List<?>) value).forEach(item -> populateConfigValue(ruleConfigs, key, item));
+                    final List<?> items = (List<?>) value;
+                    for (int i = 0; i < items.size(); i++) {
+                        populateConfigValue(ruleConfigs, key, "rules." + key + '[' + i + ']', items.get(i));
+                    }
                 } else {
-                    populateConfigValue(ruleConfigs, key, value);
+                    populateConfigValue(ruleConfigs, key, "rules." + key, value);
                 }
             });
             return ruleConfigs.build();
@@ -280,15 +428,42 @@ public final class Config {
         private void populateConfigValue(
             ImmutableListMultimap.Builder<String, RuleConfig> ruleConfigs,
             String key,
+            String path,
             Object value
         ) {
             try {
                 boolean ruleEnabled = OBJECT_MAPPER.convertValue(value, boolean.class);
                 ruleConfigs.put(key, ruleEnabled ? RuleConfig.enabled() : RuleConfig.disabled());
             } catch (IllegalArgumentException e) {
-                RuleConfig ruleConfig = OBJECT_MAPPER.convertValue(value, RuleConfig.class);
-                ruleConfigs.put(key, ruleConfig);
+                ruleConfigs.put(key, convertRuleConfig(path, value));
+            }
+        }
+
+        private static RuleConfig convertRuleConfig(String path, Object value) {
+            final RuleConfig ruleConfig;
+            try {
+                ruleConfig = OBJECT_MAPPER.convertValue(value, RuleConfig.class);
+            } catch (IllegalArgumentException e) {
+                // report the invalid pattern or expression, rather than the failure to build the rule config
+                final String problem = Throwables.getCausalChain(e)
+                    .stream()
+                    .filter(ValueInstantiationException.class::isInstance)
+                    .findFirst()
+                    .map(Throwable::getCause)
+                    .orElse(e)
+                    .getMessage();
+                throw new UnexpectedLiquibaseException("Invalid lq lint config " + path + ": " + problem, e);
+            }
+            if (ruleConfig.getPatternString() != null) {
+                PatternComplexity.warnIfProneToBacktracking(path + ".pattern", ruleConfig.getPatternString());
+            }
+            final List<String> values = Optional.ofNullable(ruleConfig.getValues()).orElseGet(Collections::emptyList);
+            for (int i = 0; i < values.size(); i++) {
+                if (values.get(i) != null) {
+                    PatternComplexity.warnIfProneToBacktracking(path + ".values[" + i + ']', values.get(i));
+                }
             }
+            return ruleConfig;
         }
     }
 
@@ -3,17 +3,19 @@ package io.github.liquibaselinter.config;
 import static java.lang.System.getProperty;
 import static java.util.stream.Collectors.toList;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.google.common.collect.ImmutableListMultimap;
 import io.github.liquibaselinter.report.ConsoleReporter;
 import io.github.liquibaselinter.report.Reporter;
 import io.github.liquibaselinter.report.ReporterConfig;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 import liquibase.exception.UnexpectedLiquibaseException;
-import liquibase.resource.Resource;
 import liquibase.resource.ResourceAccessor;
 
 public final class ConfigLoader {
@@ -25,6 +27,13 @@ public final class ConfigLoader {
     private ConfigLoader() {}
 
     public static Config load(ResourceAccessor resourceAccessor) {
+        return load(resourceAccessor, new ConfigSources());
+    }
+
+    /**
+     * @param sources records the config files looked up, to tell later whether the loaded config is still current
+     */
+    public static Config load(ResourceAccessor resourceAccessor, ConfigSources sources) {
         List<String> configPaths = Stream.of(
             getProperty(LQLINT_CONFIG_PATH_PROPERTY),
             LQLINT_CONFIG,
@@ -34,7 +43,7 @@ public final class ConfigLoader {
             .collect(toList());
         try {
             for (String configPath : configPaths) {
-                final Config config = loadConfig(resourceAccessor, configPath);
+                final Config config = loadConfig(resourceAccessor, configPath, sources);
                 if (config != null) {
                     return config.combineWith(defaultConfig());
                 }
@@ -52,27 +61,37 @@ public final class ConfigLoader {
     }
 
     public static Config loadConfig(ResourceAccessor resourceAccessor, String path) throws IOException {
+        return loadConfig(resourceAccessor, path, new ConfigSources());
+    }
+
+    private static Config loadConfig(ResourceAccessor resourceAccessor, String path, ConfigSources sources)
+        throws IOException {
         try {
-            Resource resource = resourceAccessor.get(path);
-            if (resource == null || !resource.exists()) {
+            final Optional<byte[]> content = sources.read(resourceAccessor, path);
+            if (!content.isPresent()) {
                 return null;
             }
-            Config config = Config.fromInputStream(resource.openInputStream());
+            Config config = Config.fromInputStream(new ByteArrayInputStream(content.get()));
             if (config != null) {
-                return loadImports(resourceAccessor, config);
+                return loadImports(resourceAccessor, config, sources);
             }
+        } catch (JsonMappingException e) {
+            throw new UnexpectedLiquibaseException(
+                "Invalid lq lint config file " + path + ": " + e.getOriginalMessage(),
+                e
+            );
         } catch (IOException e) {
             return null;
         }
         return null;
     }
 
-    private static Config loadImports(ResourceAccessor resourceAccessor, Config config) {
+    private static Config loadImports(ResourceAccessor resourceAccessor, Config config, ConfigSources sources) {
         List<String> imports = Collections.unmodifiableList(config.getImports());
         Config combinedImportConfig = new Config.Builder().build();
         for (String importPath : imports) {
             try {
-                final Config importedConfig = loadConfig(resourceAccessor, importPath);
+                final Config importedConfig = loadConfig(resourceAccessor, importPath, sources);
                 combinedImportConfig = combinedImportConfig.mergeWith(importedConfig);
             } catch (IOException | NullPointerException e) {
                 throw new UnexpectedLiquibaseException("Failed to load imported lq lint config file: " + importPath, e);
@@ -0,0 +1,61 @@
+package io.github.liquibaselinter.config;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import liquibase.resource.Resource;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * The config files looked up while {@link ConfigLoader#load(ResourceAccessor, ConfigSources) loading} a config,
+ * including the candidate paths that did not exist, so a loaded config can later be told apart from the files it came
+ * from having changed.
+ */
+public final class ConfigSources {
+
+    private static final HashCode ABSENT = HashCode.fromInt(0);
+
+    private final Map<String, HashCode> contentHashes = new LinkedHashMap<>();
+
+    /**
+     * @return content of the config file, unless it does not exist or cannot be read
+     */
+    Optional<byte[]> read(ResourceAccessor resourceAccessor, String path) {
+        final Optional<byte[]> content = readContent(resourceAccessor, path);
+        contentHashes.put(path, hash(content));
+        return content;
+    }
+
+    /**
+     * @return whether every config file looked up still has the content, or is still missing, as when loaded
+     */
+    public boolean isUnchanged(ResourceAccessor resourceAccessor) {
+        return contentHashes
+            .entrySet()
+            .stream()
+            .allMatch(source -> source.getValue().equals(hash(readContent(resourceAccessor, source.getKey()))));
+    }
+
+    private static Optional<byte[]> readContent(ResourceAccessor resourceAccessor, String path) {
+        try {
+            final Resource resource = resourceAccessor.get(path);
+            if (resource == null || !resource.exists()) {
+                return Optional.empty();
+            }
+            try (InputStream input = resource.openInputStream()) {
+                return Optional.of(ByteStreams.toByteArray(input));
+            }
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static HashCode hash(Optional<byte[]> content) {
+        return content.map(Hashing.sha256()::hashBytes).orElse(ABSENT);
+    }
+}
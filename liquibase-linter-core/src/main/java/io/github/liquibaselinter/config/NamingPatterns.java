@@ -0,0 +1,190 @@
+package io.github.liquibaselinter.config;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The static patterns of the configs of each rule, combined into one regular expression per rule, so that an identifier
+ * is matched once against all the patterns of the rule checking it, and the match tells which of them failed.
+ * <p>
+ * Each pattern becomes a lookahead at the start of the combined expression, capturing the value when the pattern
+ * matches all of it. This is not an automaton: the patterns rely on lookarounds, which rule out a DFA, so
+ * {@code java.util.regex} still tries each lookahead in turn. It saves a matcher and a match per config instead.
+ * Dynamic patterns, patterns that cannot be embedded, e.g. with back references, and rules with a single pattern are
+ * matched on their own.
+ * <p>
+ * Instances are built once per {@link Config}, are immutable and safe to share between threads.
+ */
+public final class NamingPatterns {
+
+    private static final String GROUP_PREFIX = "lqlint";
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(?:[1-9]|k<)");
+
+    private final Map<String, List<CombinedPattern>> combinedPatterns = new HashMap<>();
+    private final Map<RuleConfig, Member> members = new IdentityHashMap<>();
+
+    public NamingPatterns(Config config) {
+        config
+            .getRules()
+            .asMap()
+            .forEach((ruleName, ruleConfigs) -> {
+                final Map<Long, List<RuleConfig>> byTimeout = new LinkedHashMap<>();
+                for (RuleConfig ruleConfig : ruleConfigs) {
+                    if (isCombinable(ruleConfig)) {
+                        byTimeout
+                            .computeIfAbsent(ruleConfig.getPatternTimeoutMillis(), timeout -> new ArrayList<>())
+                            .add(ruleConfig);
+                    }
+                }
+                byTimeout.forEach((timeoutMillis, combinable) -> {
+                    if (combinable.size() > 1) {
+                        final CombinedPattern combined = new CombinedPattern(combinable, timeoutMillis);
+                        combinedPatterns.computeIfAbsent(ruleName, name -> new ArrayList<>()).add(combined);
+                        for (int i = 0; i < combinable.size(); i++) {
+                            members.put(combinable.get(i), new Member(combined, i));
+                        }
+                    }
+                });
+            });
+    }
+
+    private static boolean isCombinable(RuleConfig ruleConfig) {
+        if (!ruleConfig.isEnabled() || !ruleConfig.getPattern().isPresent()) {
+            return false;
+        }
+        final String regex = ruleConfig.getPatternString();
+        if (BACK_REFERENCE.matcher(regex).find() || regex.contains("(?<" + GROUP_PREFIX)) {
+            return false;
+        }
+        try {
+            // e.g. an unterminated \Q quote or a comment swallows the end of the lookahead, which then fails to compile
+            Pattern.compile(lookahead(0, regex));
+            return true;
+        } catch (PatternSyntaxException e) {
+            return false;
+        }
+    }
+
+    private static String lookahead(int index, String regex) {
+        return "(?=(?:(?<" + GROUP_PREFIX + index + '>' + regex + ")\\z)?)";
+    }
+
+    /**
+     * @return whether the pattern of the rule config is matched as part of a combined pattern
+     */
+    public boolean isCombined(RuleConfig ruleConfig) {
+        return members.containsKey(ruleConfig);
+    }
+
+    /**
+     * @return the combined patterns of the rule that the value does not match, or an empty list when the rule has
+     *     none
+     * @throws PatternTimeoutException if matching takes longer than the pattern timeouts of the combined configs
+     */
+    public List<String> failedPatterns(String ruleName, String value) {
+        final List<String> patterns = new ArrayList<>();
+        for (CombinedPattern combined : combinedPatterns.getOrDefault(ruleName, Collections.emptyList())) {
+            combined
+                .failed(value)
+                .stream()
+                .forEach(index -> patterns.add(combined.ruleConfigs.get(index).getPatternString()));
+        }
+        return patterns;
+    }
+
+    /**
+     * @return matches remembering the result of each combined pattern per value, for the checks of a single change
+     */
+    public Matches newMatches() {
+        return new Matches();
+    }
+
+    /**
+     * The results of the combined patterns per value, so that checking a value against several configs of a rule
+     * matches it once. Not safe to share between threads.
+     */
+    public final class Matches {
+
+        private final Map<CombinedPattern, Map<String, BitSet>> failed = new IdentityHashMap<>();
+
+        private Matches() {}
+
+        /**
+         * @return whether the value matches the pattern of the rule config, or {@code true} when the pattern is
+         *     missing or dynamic
+         * @throws PatternTimeoutException if matching takes longer than the pattern timeout
+         */
+        public boolean matchesPattern(RuleConfig ruleConfig, String value) {
+            final Member member = members.get(ruleConfig);
+            if (member == null) {
+                return ruleConfig.getCompiled().matchesPattern(value);
+            }
+            final Map<String, BitSet> failedByValue = failed.computeIfAbsent(member.combined, key -> new HashMap<>());
+            BitSet failedPatterns = failedByValue.get(value);
+            if (failedPatterns == null) {
+                try {
+                    failedPatterns = member.combined.failed(value);
+                } catch (PatternTimeoutException e) {
+                    // the patterns together ran out of time, so let the config's own pattern tell whether it is slow
+                    return ruleConfig.getCompiled().matchesPattern(value);
+                }
+                failedByValue.put(value, failedPatterns);
+            }
+            return !failedPatterns.get(member.index);
+        }
+    }
+
+    /**
+     * The patterns of several configs of a rule with the same pattern timeout, as lookaheads of one pattern.
+     */
+    private static final class CombinedPattern {
+
+        private final List<RuleConfig> ruleConfigs;
+        private final Pattern pattern;
+        private final long timeoutMillis;
+
+        private CombinedPattern(List<RuleConfig> ruleConfigs, long timeoutMillis) {
+            this.ruleConfigs = Collections.unmodifiableList(new ArrayList<>(ruleConfigs));
+            final StringBuilder regex = new StringBuilder();
+            for (int i = 0; i < ruleConfigs.size(); i++) {
+                regex.append(lookahead(i, ruleConfigs.get(i).getPatternString()));
+            }
+            this.pattern = Pattern.compile(regex.toString());
+            // the patterns are matched one after the other, each within the time it may take on its own
+            this.timeoutMillis = timeoutMillis * ruleConfigs.size();
+        }
+
+        private BitSet failed(String value) {
+            final Matcher matcher = TimeLimitedCharSequence.matcher(pattern, value, timeoutMillis);
+            // every lookahead is optional, so this always matches the empty start of the value
+            matcher.lookingAt();
+            final BitSet failed = new BitSet(ruleConfigs.size());
+            for (int i = 0; i < ruleConfigs.size(); i++) {
+                if (matcher.start(GROUP_PREFIX + i) < 0) {
+                    failed.set(i);
+                }
+            }
+            return failed;
+        }
+    }
+
+    private static final class Member {
+
+        private final CombinedPattern combined;
+        private final int index;
+
+        private Member(CombinedPattern combined, int index) {
+            this.combined = combined;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.liquibaselinter.config;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import liquibase.Scope;
+
+/**
+ * Static check of user configured patterns for nested unbounded quantifiers, such as {@code (a+)+} or
+ * {@code (\w+\s?)*}, which make {@link java.util.regex} backtrack exponentially on values that almost match.
+ * <p>
+ * This is a heuristic: it does not flag every slow pattern, e.g. overlapping alternatives like {@code (a|a)*}, and
+ * possessive quantifiers and atomic groups are considered safe. A repetition followed by a required punctuation
+ * character, as in {@code ([a-z]+/)*}, is considered safe too, since such separators rarely match the repeated part.
+ */
+final class PatternComplexity {
+
+    private PatternComplexity() {}
+
+    static void warnIfProneToBacktracking(String setting, String regex) {
+        if (isProneToBacktracking(regex)) {
+            Scope.getCurrentScope()
+                .getLog(PatternComplexity.class)
+                .warning(
+                    "Pattern '" +
+                    regex +
+                    "' of " +
+                    setting +
+                    " repeats a group that contains a repetition itself, so matching it can take exponential time;" +
+                    " consider a possessive quantifier or an atomic group"
+                );
+        }
+    }
+
+    static boolean isProneToBacktracking(String regex) {
+        final Deque<Group> groups = new ArrayDeque<>();
+        groups.push(new Group(false));
+        Group closed = null;
+        int i = 0;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                final int end = skipEscape(regex, i);
+                if (end == i + 2 && !Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    separate(groups.peek(), regex, end);
+                }
+                i = end;
+                closed = null;
+            } else if (c == '[') {
+                i = skipCharacterClass(regex, i);
+                closed = null;
+            } else if (c == '(') {
+                groups.push(new Group(regex.startsWith("(?>", i)));
+                i++;
+                closed = null;
+            } else if (c == ')' && groups.size() > 1) {
+                closed = groups.pop();
+                closed.repeats |= closed.open;
+                if (!closed.atomic) {
+                    groups.peek().open |= closed.repeats;
+                }
+                i++;
+            } else if (c == '|') {
+                groups.peek().repeats |= groups.peek().open;
+                groups.peek().open = false;
+                i++;
+                closed = null;
+            } else if (isQuantifier(regex, i)) {
+                final int end = quantifierEnd(regex, i);
+                final boolean unbounded = c == '*' || c == '+' || (c == '{' && regex.charAt(end - 2) == ',');
+                final boolean possessive = end < regex.length() && regex.charAt(end) == '+';
+                final boolean lazy = end < regex.length() && regex.charAt(end) == '?';
+                if (unbounded && !possessive) {
+                    if (closed != null && closed.repeats && !closed.atomic) {
+                        return true;
+                    }
+                    groups.peek().open = true;
+                }
+                i = possessive || lazy ? end + 1 : end;
+                closed = null;
+            } else {
+                if (!Character.isLetterOrDigit(c) && ".^$".indexOf(c) < 0) {
+                    separate(groups.peek(), regex, i + 1);
+                }
+                i++;
+                closed = null;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ends the repetitions before a punctuation character, unless a quantifier makes the character optional.
+     */
+    private static void separate(Group group, String regex, int next) {
+        final boolean optional =
+            regex.startsWith("?", next) || regex.startsWith("*", next) || regex.startsWith("{0", next);
+        if (!optional) {
+            group.open = false;
+        }
+    }
+
+    private static boolean isQuantifier(String regex, int i) {
+        final char c = regex.charAt(i);
+        return c == '*' || c == '+' || c == '?' || (c == '{' && regex.indexOf('}', i) > i + 1);
+    }
+
+    private static int quantifierEnd(String regex, int i) {
+        return regex.charAt(i) == '{' ? regex.indexOf('}', i) + 1 : i + 1;
+    }
+
+    private static int skipEscape(String regex, int i) {
+        if (regex.startsWith("\\Q", i)) {
+            final int end = regex.indexOf("\\E", i + 2);
+            return end < 0 ? regex.length() : end + 2;
+        }
+        return Math.min(i + 2, regex.length());
+    }
+
+    private static int skipCharacterClass(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+                // a ']' right after the opening bracket is a literal
+                if (regex.startsWith("]", i + 1) || regex.startsWith("^]", i + 1)) {
+                    i = regex.indexOf(']', i) + 1;
+                    continue;
+                }
+            } else if (c == ']') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return regex.length();
+    }
+
+    private static final class Group {
+
+        private final boolean atomic;
+        // whether a branch of the group has a repetition, and whether the current branch has one not yet separated
+        private boolean repeats;
+        private boolean open;
+
+        private Group(boolean atomic) {
+            this.atomic = atomic;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.liquibaselinter.config;
+
+/**
+ * Thrown when matching a rule config pattern takes longer than its {@code patternTimeout}, typically because the
+ * pattern backtracks catastrophically on the value; the linter reports it as a violation of the rule.
+ */
+public class PatternTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    PatternTimeoutException(String message) {
+        super(message);
+    }
+}
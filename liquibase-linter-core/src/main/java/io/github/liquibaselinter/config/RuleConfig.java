@@ -2,19 +2,21 @@ package io.github.liquibaselinter.config;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hasher;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Pattern;
 import org.springframework.expression.Expression;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 @JsonDeserialize(builder = RuleConfig.RuleConfigBuilder.class)
 public final class RuleConfig {
 
     public static final RuleConfig EMPTY = builder().build();
 
-    private static final String DYNAMIC_VALUE = "{{value}}";
+    private static final long DEFAULT_DYNAMIC_PATTERN_CACHE_SIZE = 1000;
+    static final long DEFAULT_PATTERN_TIMEOUT_MILLIS = 1000;
 
     private final boolean enabled;
     private final String condition;
@@ -25,10 +27,9 @@ public final class RuleConfig {
     private final Integer maxLength;
     private final String errorMessage;
     private final String enableAfter;
-    private Pattern pattern;
-    private Expression conditionExpression;
-    private Expression columnConditionExpression;
-    private Expression dynamicValueExpression;
+    private final long dynamicPatternCacheSize;
+    private final long patternTimeoutMillis;
+    private final CompiledRuleConfig compiled;
 
     private RuleConfig(RuleConfigBuilder builder) {
         this.enabled = builder.enabled;
@@ -40,6 +41,17 @@ public final class RuleConfig {
         this.values = builder.values;
         this.maxLength = builder.maxLength;
         this.enableAfter = builder.enableAfter;
+        this.dynamicPatternCacheSize = builder.dynamicPatternCacheSize;
+        this.patternTimeoutMillis = builder.patternTimeoutMillis;
+        this.compiled = CompiledRuleConfig.compile(
+            patternString,
+            condition,
+            columnCondition,
+            dynamicValue,
+            values,
+            dynamicPatternCacheSize,
+            patternTimeoutMillis
+        );
     }
 
     public static RuleConfig enabled() {
@@ -54,8 +66,15 @@ public final class RuleConfig {
         return new RuleConfigBuilder();
     }
 
+    /**
+     * @return the patterns and expressions of this config, compiled when it was built
+     */
+    public CompiledRuleConfig getCompiled() {
+        return compiled;
+    }
+
     public boolean hasDynamicPattern() {
-        return patternString != null && patternString.contains(DYNAMIC_VALUE);
+        return compiled.hasDynamicPattern();
     }
 
     public boolean isEnabled() {
@@ -79,51 +98,47 @@ public final class RuleConfig {
     }
 
     public Optional<Expression> getConditionalColumnExpression() {
-        if (columnCondition == null) {
-            return Optional.empty();
-        }
-        if (columnConditionExpression == null) {
-            columnConditionExpression = new SpelExpressionParser().parseExpression(columnCondition);
-        }
-        return Optional.of(columnConditionExpression);
+        return compiled.getColumnConditionExpression();
     }
 
     public Optional<Expression> getConditionalExpression() {
-        if (condition == null) {
-            return Optional.empty();
-        }
-        if (conditionExpression == null) {
-            conditionExpression = new SpelExpressionParser().parseExpression(condition);
-        }
-        return Optional.of(conditionExpression);
+        return compiled.getConditionExpression();
     }
 
     public Optional<Expression> getDynamicValueExpression() {
-        if (dynamicValue == null) {
-            return Optional.empty();
-        }
-        if (dynamicValueExpression == null) {
-            dynamicValueExpression = new SpelExpressionParser().parseExpression(dynamicValue);
-        }
-        return Optional.of(dynamicValueExpression);
+        return compiled.getDynamicValueExpression();
     }
 
     public Pattern getDynamicPattern(String value) {
-        if (!hasDynamicPattern()) {
-            throw new IllegalStateException("Pattern is not dynamic");
-        }
-        return Pattern.compile(getPatternString().replace(DYNAMIC_VALUE, value));
+        return compiled.getDynamicPattern(value);
+    }
+
+    public long getDynamicPatternCacheSize() {
+        return dynamicPatternCacheSize;
+    }
+
+    /**
+     * @return time in milliseconds a single match of the pattern may take, {@code 0} meaning no limit
+     */
+    public long getPatternTimeoutMillis() {
+        return patternTimeoutMillis;
+    }
+
+    /**
+     * @return hit and miss counts of the compiled dynamic patterns cache
+     */
+    public CacheStats getDynamicPatternCacheStats() {
+        return compiled.getDynamicPatternCacheStats();
     }
 
     public String getDynamicValue(Object subject) {
-        return getDynamicValueExpression().map(expression -> expression.getValue(subject, String.class)).orElse(null);
+        return getDynamicValueExpression()
+            .map(expression -> ConditionEngine.evaluate(expression, subject, String.class))
+            .orElse(null);
     }
 
     public Optional<Pattern> getPattern() {
-        if (pattern == null && patternString != null && !hasDynamicPattern()) {
-            pattern = Pattern.compile(patternString);
-        }
-        return Optional.ofNullable(pattern);
+        return compiled.getPattern();
     }
 
     public boolean hasPattern() {
@@ -145,6 +160,24 @@ public final class RuleConfig {
         return getDynamicPattern(getDynamicValue(subject)).pattern();
     }
 
+    void fingerprint(Hasher hasher) {
+        hasher.putBoolean(enabled);
+        Config.putNullable(hasher, errorMessage);
+        Config.putNullable(hasher, condition);
+        Config.putNullable(hasher, columnCondition);
+        Config.putNullable(hasher, patternString);
+        Config.putNullable(hasher, dynamicValue);
+        Config.putNullable(hasher, maxLength);
+        Config.putNullable(hasher, enableAfter);
+        hasher.putLong(patternTimeoutMillis);
+        if (values == null) {
+            hasher.putInt(-1);
+        } else {
+            hasher.putInt(values.size());
+            values.forEach(value -> Config.putNullable(hasher, value));
+        }
+    }
+
     public static class RuleConfigBuilder {
 
         private boolean enabled = true;
@@ -156,6 +189,8 @@ public final class RuleConfig {
         private List<String> values;
         private Integer maxLength;
         private String enableAfter;
+        private long dynamicPatternCacheSize = DEFAULT_DYNAMIC_PATTERN_CACHE_SIZE;
+        private long patternTimeoutMillis = DEFAULT_PATTERN_TIMEOUT_MILLIS;
 
         @JsonProperty("enabled")
         public RuleConfigBuilder withEnabled(boolean enabled) {
@@ -215,6 +250,21 @@ public final class RuleConfig {
             return this;
         }
 
+        @JsonProperty("dynamicPatternCacheSize")
+        public RuleConfigBuilder withDynamicPatternCacheSize(long dynamicPatternCacheSize) {
+            this.dynamicPatternCacheSize = dynamicPatternCacheSize;
+            return this;
+        }
+
+        @JsonProperty("patternTimeout")
+        public RuleConfigBuilder withPatternTimeoutMillis(long patternTimeoutMillis) {
+            if (patternTimeoutMillis < 0) {
+                throw new IllegalArgumentException("patternTimeout must not be negative");
+            }
+            this.patternTimeoutMillis = patternTimeoutMillis;
+            return this;
+        }
+
         public RuleConfig build() {
             return new RuleConfig(this);
         }
@@ -0,0 +1,79 @@
+package io.github.liquibaselinter.config;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A value to match that stops the match once its time is up: {@link java.util.regex.Matcher} cannot be interrupted, but
+ * reads every character it tries through {@link #charAt(int)}.
+ */
+final class TimeLimitedCharSequence implements CharSequence {
+
+    private static final int CHECK_INTERVAL = 1024;
+    private static final int MAX_REPORTED_LENGTH = 100;
+
+    private final String value;
+    private final String regex;
+    private final long timeoutMillis;
+    private final long deadline;
+    private int reads;
+
+    TimeLimitedCharSequence(String value, String regex, long timeoutMillis) {
+        this.value = value;
+        this.regex = regex;
+        this.timeoutMillis = timeoutMillis;
+        this.deadline = System.nanoTime() + timeoutMillis * 1_000_000;
+    }
+
+    /**
+     * @param timeoutMillis time the match may take, or {@code 0} for no limit
+     * @throws PatternTimeoutException if matching takes longer
+     */
+    static boolean matches(Pattern pattern, String value, long timeoutMillis) {
+        return matcher(pattern, value, timeoutMillis).matches();
+    }
+
+    /**
+     * @param timeoutMillis time matching may take from now, or {@code 0} for no limit
+     * @return a matcher of the value that throws {@link PatternTimeoutException} once matching takes longer
+     */
+    static Matcher matcher(Pattern pattern, String value, long timeoutMillis) {
+        final CharSequence input = timeoutMillis > 0
+            ? new TimeLimitedCharSequence(value, pattern.pattern(), timeoutMillis)
+            : value;
+        return pattern.matcher(input);
+    }
+
+    @Override
+    public char charAt(int index) {
+        reads++;
+        if (reads % CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+            throw new PatternTimeoutException(
+                "Pattern '" +
+                regex +
+                "' did not finish matching '" +
+                StringUtils.abbreviate(value, MAX_REPORTED_LENGTH) +
+                "' within " +
+                timeoutMillis +
+                " ms"
+            );
+        }
+        return value.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return value.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return value.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
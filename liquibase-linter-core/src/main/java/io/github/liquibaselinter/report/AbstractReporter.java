@@ -35,6 +35,11 @@ public abstract class AbstractReporter implements Reporter {
         return config.isEnabled();
     }
 
+    @Override
+    public boolean includes(ReportItem.ReportItemType type) {
+        return filter.contains(type);
+    }
+
     @Override
     public void processReport(Report report) {
         final List<ReportItem> filteredItems = report
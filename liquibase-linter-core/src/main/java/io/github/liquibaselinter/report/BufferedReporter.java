@@ -0,0 +1,55 @@
+package io.github.liquibaselinter.report;
+
+import java.util.Objects;
+
+/**
+ * Adapts a {@link Reporter} to {@link StreamingReporter}: the items are buffered by the linter, whose {@link Report}
+ * is handed to {@link Reporter#processReport(Report)} once linting has finished.
+ */
+public final class BufferedReporter implements StreamingReporter {
+
+    private final Reporter reporter;
+
+    private BufferedReporter(Reporter reporter) {
+        this.reporter = Objects.requireNonNull(reporter, "Reporter must not be null");
+    }
+
+    /**
+     * @return the reporter itself when it already streams, otherwise a buffering adapter for it
+     */
+    public static StreamingReporter adapt(Reporter reporter) {
+        if (reporter instanceof StreamingReporter) {
+            return (StreamingReporter) reporter;
+        }
+        return new BufferedReporter(reporter);
+    }
+
+    public Reporter getReporter() {
+        return reporter;
+    }
+
+    @Override
+    public void onItem(ReportItem item) {
+        // the linter keeps the items for the report handed to onFinish
+    }
+
+    @Override
+    public void onFinish(Report report) {
+        reporter.processReport(report);
+    }
+
+    @Override
+    public void processReport(Report report) {
+        reporter.processReport(report);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return reporter.isEnabled();
+    }
+
+    @Override
+    public boolean includes(ReportItem.ReportItemType type) {
+        return reporter.includes(type);
+    }
+}
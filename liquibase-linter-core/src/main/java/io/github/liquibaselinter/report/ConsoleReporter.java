@@ -33,15 +33,15 @@ public class ConsoleReporter extends TextReporter {
     }
 
     @Override
-    protected void printItemTypeSummary(PrintWriter output, ReportItem.ReportItemType type, List<ReportItem> items) {
+    protected void printItemTypeSummary(PrintWriter output, ReportItem.ReportItemType type, long count) {
         output.append('\t');
-        if (items.isEmpty()) {
+        if (count == 0) {
             // don't draw attention with color when there are no report items
             output.print(type.name());
         } else {
             printItemTypeName(output, type);
         }
-        output.append(": ").println(items.size());
+        output.append(": ").println(count);
     }
 
     private void printItemTypeName(PrintWriter output, ReportItem.ReportItemType type) {
@@ -124,8 +124,8 @@ public class MarkdownReporter extends TextReporter {
     }
 
     @Override
-    protected void printItemTypeSummary(PrintWriter output, ReportItem.ReportItemType type, List<ReportItem> items) {
-        output.append("* ").append(type.name()).append(": ").println(items.size());
+    protected void printItemTypeSummary(PrintWriter output, ReportItem.ReportItemType type, long count) {
+        output.append("* ").append(type.name()).append(": ").println(count);
     }
 
     @Override
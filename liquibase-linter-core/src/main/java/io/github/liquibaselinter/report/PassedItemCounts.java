@@ -0,0 +1,58 @@
+package io.github.liquibaselinter.report;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import org.apache.commons.lang3.mutable.MutableLong;
+
+/**
+ * Number of passed rule checks per change log file and rule, kept instead of {@link ReportItem#passed passed} report
+ * items when no reporter prints them.
+ */
+public final class PassedItemCounts {
+
+    private final Map<String, Map<String, MutableLong>> countsByFilePath = new HashMap<>();
+    private long total;
+
+    public void increment(DatabaseChangeLog databaseChangeLog, ChangeSet changeSet, String rule) {
+        add(ReportItem.getFilePath(databaseChangeLog, changeSet), rule, 1);
+    }
+
+    public void increment(ReportItem item) {
+        add(item.getFilePath(), item.getRule(), 1);
+    }
+
+    public void addAll(PassedItemCounts other) {
+        other.countsByFilePath.forEach((filePath, countsByRule) ->
+            countsByRule.forEach((rule, count) -> add(filePath, rule, count.longValue()))
+        );
+    }
+
+    void add(String filePath, String rule, long count) {
+        countsByFilePath
+            .computeIfAbsent(filePath, key -> new HashMap<>())
+            .computeIfAbsent(rule, key -> new MutableLong())
+            .add(count);
+        total += count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getCount(String filePath, String rule) {
+        final MutableLong count = countsByFilePath.getOrDefault(filePath, Collections.emptyMap()).get(rule);
+        return count == null ? 0 : count.longValue();
+    }
+
+    public Map<String, Long> getCountsByRule() {
+        final Map<String, Long> countsByRule = new TreeMap<>();
+        countsByFilePath
+            .values()
+            .forEach(counts -> counts.forEach((rule, count) -> countsByRule.merge(rule, count.longValue(), Long::sum)));
+        return countsByRule;
+    }
+}
@@ -11,10 +11,16 @@ public class Report {
 
     private final Config config;
     private final List<ReportItem> items;
+    private final PassedItemCounts passedItemCounts;
 
     public Report(Config config, List<ReportItem> items) {
+        this(config, items, new PassedItemCounts());
+    }
+
+    public Report(Config config, List<ReportItem> items, PassedItemCounts passedItemCounts) {
         this.config = config;
         this.items = Optional.ofNullable(items).map(Collections::unmodifiableList).orElse(emptyList());
+        this.passedItemCounts = passedItemCounts;
     }
 
     public Config getConfig() {
@@ -24,4 +30,19 @@ public class Report {
     public List<ReportItem> getItems() {
         return items;
     }
+
+    /**
+     * @return passed checks that were only counted, and so are not part of {@link #getItems()}
+     */
+    public PassedItemCounts getPassedItemCounts() {
+        return passedItemCounts;
+    }
+
+    /**
+     * @return number of items of the given type, including passed checks that were only counted
+     */
+    public long countItems(ReportItem.ReportItemType type) {
+        final long count = items.stream().filter(item -> item.getType() == type).count();
+        return type == ReportItem.ReportItemType.PASSED ? count + passedItemCounts.getTotal() : count;
+    }
 }
@@ -1,5 +1,7 @@
 package io.github.liquibaselinter.report;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import liquibase.changelog.ChangeSet;
 import liquibase.changelog.DatabaseChangeLog;
 
@@ -11,7 +13,14 @@ public final class ReportItem {
     private final ReportItemType type;
     private final String message;
 
-    ReportItem(String filePath, String changeSetId, String rule, ReportItemType type, String message) {
+    @JsonCreator
+    ReportItem(
+        @JsonProperty("filePath") String filePath,
+        @JsonProperty("changeSetId") String changeSetId,
+        @JsonProperty("rule") String rule,
+        @JsonProperty("type") ReportItemType type,
+        @JsonProperty("message") String message
+    ) {
         this.filePath = filePath;
         this.changeSetId = changeSetId;
         this.rule = rule;
@@ -62,7 +71,7 @@ public final class ReportItem {
         );
     }
 
-    private static String getFilePath(DatabaseChangeLog databaseChangeLog, ChangeSet changeSet) {
+    static String getFilePath(DatabaseChangeLog databaseChangeLog, ChangeSet changeSet) {
         if (changeSet != null) {
             return changeSet.getFilePath();
         } else if (databaseChangeLog != null) {
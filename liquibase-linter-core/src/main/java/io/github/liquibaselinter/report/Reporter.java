@@ -4,6 +4,14 @@ public interface Reporter {
     void processReport(Report report);
     boolean isEnabled();
 
+    /**
+     * Tells whether this reporter prints items of the given type. When no enabled reporter that needs a complete
+     * {@link Report} includes {@link ReportItem.ReportItemType#PASSED}, passed checks are only counted.
+     */
+    default boolean includes(ReportItem.ReportItemType type) {
+        return true;
+    }
+
     interface Factory<R extends Reporter, C extends ReporterConfig> {
         boolean supports(String name);
         Class<? extends C> getConfigClass();
@@ -0,0 +1,48 @@
+package io.github.liquibaselinter.report;
+
+import io.github.liquibaselinter.config.Config;
+
+/**
+ * A reporter that is handed report items while linting runs, instead of one {@link Report} once it has finished.
+ * <p>
+ * For each linted change log the callbacks are made in order, on the thread calling the linter: {@link #onStart},
+ * then {@link #onItem} and {@link #onFileComplete} as change sets are checked, and finally {@link #onFinish}. Only
+ * items of the types the reporter {@link #includes(ReportItem.ReportItemType) includes} are passed to {@link #onItem}.
+ * A run stopped by a fail-fast violation does not finish. Change sets linted in parallel stream their items once they
+ * are merged back in change set order, and {@link io.github.liquibaselinter.LintEngine#report(java.util.List) merged
+ * reports} are replayed through {@link #processReport} once all their sessions have finished.
+ */
+public interface StreamingReporter extends Reporter {
+    default void onStart(Config config) {
+        // nothing to prepare by default
+    }
+
+    void onItem(ReportItem item);
+
+    /**
+     * Called once all the change sets of a change log file have been checked.
+     */
+    default void onFileComplete(String filePath) {
+        // items are not grouped by file by default
+    }
+
+    /**
+     * @param report the report of the whole run, whose items may omit counted passes; see
+     *     {@link Report#countItems(ReportItem.ReportItemType)}
+     */
+    void onFinish(Report report);
+
+    /**
+     * Replays a finished report, for callers that still hand reporters a complete {@link Report}.
+     */
+    @Override
+    default void processReport(Report report) {
+        onStart(report.getConfig());
+        report
+            .getItems()
+            .stream()
+            .filter(item -> includes(item.getType()))
+            .forEach(this::onItem);
+        onFinish(report);
+    }
+}
@@ -2,7 +2,6 @@ package io.github.liquibaselinter.report;
 
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import com.google.auto.service.AutoService;
@@ -102,7 +101,7 @@ public class TextReporter extends AbstractReporter {
 
     protected void printSummary(PrintWriter output, Report report) {
         printSummaryHeader(output, report);
-        printSummaryByItemType(output, report.getItems());
+        printSummaryByItemType(output, report);
         printSummaryDisabledRules(output, report);
     }
 
@@ -110,14 +109,14 @@ public class TextReporter extends AbstractReporter {
         output.println("Summary:");
     }
 
-    protected void printSummaryByItemType(PrintWriter output, List<ReportItem> items) {
+    protected void printSummaryByItemType(PrintWriter output, Report report) {
         for (ReportItem.ReportItemType type : ReportItem.ReportItemType.values()) {
-            printItemTypeSummary(output, type, items.stream().filter(item -> item.getType() == type).collect(toList()));
+            printItemTypeSummary(output, type, report.countItems(type));
         }
     }
 
-    protected void printItemTypeSummary(PrintWriter output, ReportItem.ReportItemType type, List<ReportItem> items) {
-        output.append('\t').append(type.name()).append(": ").println(items.size());
+    protected void printItemTypeSummary(PrintWriter output, ReportItem.ReportItemType type, long count) {
+        output.append('\t').append(type.name()).append(": ").println(count);
     }
 
     protected void printSummaryDisabledRules(PrintWriter output, Report report) {
@@ -0,0 +1,293 @@
+package io.github.liquibaselinter.rules;
+
+import io.github.liquibaselinter.config.ConditionEngine;
+import io.github.liquibaselinter.config.NamingPatterns;
+import io.github.liquibaselinter.config.RuleConfig;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import liquibase.change.Change;
+import liquibase.change.ChangeWithColumns;
+import liquibase.change.ColumnConfig;
+import liquibase.change.ConstraintsConfig;
+import liquibase.change.core.*;
+import org.springframework.expression.Expression;
+
+/**
+ * The identifiers of a {@link Change} that naming rules check, extracted once per change and shared by every rule
+ * checking it.
+ * <p>
+ * Which getters of a change type provide each fact is resolved once per concrete change class, so extracting the
+ * facts of a change does not go through {@code instanceof} chains.
+ */
+public final class ChangeFacts {
+
+    private static final Lookup<List<String>> TABLE_NAMES = new Lookup<List<String>>()
+        .add(CreateTableChange.class, change -> Collections.singletonList(change.getTableName()))
+        .add(RenameTableChange.class, change -> Collections.singletonList(change.getNewTableName()));
+
+    private static final Lookup<List<String>> CONSTRAINT_NAMES = new Lookup<List<String>>()
+        .add(AddForeignKeyConstraintChange.class, change -> Collections.singletonList(change.getConstraintName()))
+        .add(AddPrimaryKeyChange.class, change -> Collections.singletonList(change.getConstraintName()))
+        .add(AddUniqueConstraintChange.class, change -> Collections.singletonList(change.getConstraintName()));
+
+    private static final Lookup<List<String>> PRIMARY_KEY_NAMES = new Lookup<List<String>>()
+        .add(AddPrimaryKeyChange.class, change -> Collections.singletonList(change.getConstraintName()))
+        .add(CreateTableChange.class, change -> primaryKeyNames(columnsOf(change)));
+
+    private static final Lookup<List<String>> COLUMN_NAMES = new Lookup<List<String>>()
+        .add(ChangeWithColumns.class, change -> distinctNames(columnsOf((ChangeWithColumns<?>) change)))
+        .add(RenameColumnChange.class, change -> Collections.singletonList(change.getNewColumnName()))
+        .add(MergeColumnChange.class, change -> Collections.singletonList(change.getFinalColumnName()));
+
+    private static final Lookup<List<String>> OBJECT_NAMES = new Lookup<List<String>>()
+        .add(AddColumnChange.class, change -> names(columnsOf(change)))
+        .add(AddForeignKeyConstraintChange.class, change -> Collections.singletonList(change.getConstraintName()))
+        .add(AddPrimaryKeyChange.class, change -> Collections.singletonList(change.getConstraintName()))
+        .add(AddUniqueConstraintChange.class, change -> Collections.singletonList(change.getConstraintName()))
+        .add(CreateTableChange.class, change -> names(columnsOf(change)))
+        .add(MergeColumnChange.class, change -> Collections.singletonList(change.getFinalColumnName()))
+        .add(RenameColumnChange.class, change -> Collections.singletonList(change.getNewColumnName()))
+        .add(RenameViewChange.class, change -> Collections.singletonList(change.getNewViewName()))
+        .add(CreateViewChange.class, change -> Collections.singletonList(change.getViewName()))
+        .add(CreateIndexChange.class, change -> Collections.singletonList(change.getIndexName()));
+
+    private static final Lookup<List<String>> SCHEMA_NAMES = new Lookup<List<String>>()
+        .add(AbstractModifyDataChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(AddAutoIncrementChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(AddColumnChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(AddDefaultValueChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(AddForeignKeyConstraintChange.class, change ->
+            Arrays.asList(change.getBaseTableSchemaName(), change.getReferencedTableSchemaName())
+        )
+        .add(AddLookupTableChange.class, change ->
+            Arrays.asList(change.getExistingTableSchemaName(), change.getNewTableSchemaName())
+        )
+        .add(AddNotNullConstraintChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(AddPrimaryKeyChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(AddUniqueConstraintChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(AlterSequenceChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(CreateIndexChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(CreateProcedureChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(CreateSequenceChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(CreateTableChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(CreateViewChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(DropAllForeignKeyConstraintsChange.class, change ->
+            Collections.singletonList(change.getBaseTableSchemaName())
+        )
+        .add(DropColumnChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(DropDefaultValueChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(DropForeignKeyConstraintChange.class, change -> Collections.singletonList(change.getBaseTableSchemaName()))
+        .add(DropIndexChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(DropNotNullConstraintChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(DropPrimaryKeyChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(DropProcedureChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(DropSequenceChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(DropTableChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(DropUniqueConstraintChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(DropViewChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(InsertDataChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(LoadDataChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(MergeColumnChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(ModifyDataTypeChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(RenameColumnChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(RenameSequenceChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(RenameTableChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(RenameViewChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(SetColumnRemarksChange.class, change -> Collections.singletonList(change.getSchemaName()))
+        .add(SetTableRemarksChange.class, change -> Collections.singletonList(change.getSchemaName()));
+
+    private static final Map<Class<?>, Extractor> EXTRACTORS = new ConcurrentHashMap<>();
+
+    private final List<String> tableNames;
+    private final List<ColumnConfig> columns;
+    private final List<String> columnNames;
+    private final List<String> objectNames;
+    private final List<String> schemaNames;
+    private final List<String> constraintNames;
+    private final List<String> primaryKeyNames;
+    private final NamingPatterns.Matches patternMatches;
+    private final ConditionEngine conditions;
+
+    private ChangeFacts(Change change, Extractor extractor, NamingPatterns namingPatterns, ConditionEngine conditions) {
+        this.tableNames = extractor.tableNames.apply(change);
+        this.columns = change instanceof ChangeWithColumns<?>
+            ? columnsOf((ChangeWithColumns<?>) change)
+            : Collections.emptyList();
+        this.columnNames = extractor.columnNames.apply(change);
+        this.objectNames = extractor.objectNames.apply(change);
+        this.schemaNames = extractor.schemaNames.apply(change);
+        this.constraintNames = extractor.constraintNames.apply(change);
+        this.primaryKeyNames = extractor.primaryKeyNames.apply(change);
+        this.patternMatches = namingPatterns == null ? null : namingPatterns.newMatches();
+        this.conditions = conditions;
+    }
+
+    public static ChangeFacts of(Change change) {
+        return of(change, null, null);
+    }
+
+    /**
+     * @param namingPatterns the combined patterns of the config linting the change, or {@code null} to match each
+     *     rule config pattern on its own
+     * @param conditions the expressions of the engine linting the change, or {@code null} to evaluate each rule config
+     *     expression on its own
+     */
+    public static ChangeFacts of(Change change, NamingPatterns namingPatterns, ConditionEngine conditions) {
+        return new ChangeFacts(
+            change,
+            EXTRACTORS.computeIfAbsent(change.getClass(), Extractor::new),
+            namingPatterns,
+            conditions
+        );
+    }
+
+    /**
+     * @return whether the identifier matches the pattern of the rule config, matching it once for all the configs of
+     *     the rule whose patterns are combined
+     * @throws io.github.liquibaselinter.config.PatternTimeoutException if matching takes longer than the pattern
+     *     timeout
+     */
+    public boolean matchesPattern(RuleConfig ruleConfig, String value) {
+        return patternMatches == null
+            ? ruleConfig.getCompiled().matchesPattern(value)
+            : patternMatches.matchesPattern(ruleConfig, value);
+    }
+
+    /**
+     * @return names of the tables the change creates, or renames to
+     */
+    public List<String> getTableNames() {
+        return tableNames;
+    }
+
+    /**
+     * @return columns of a change with columns, in order
+     */
+    public List<ColumnConfig> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return distinct names of the columns the change defines, or renames or merges to
+     */
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * @return names of the columns, constraints, views and indexes the change creates, or renames to
+     */
+    public List<String> getObjectNames() {
+        return objectNames;
+    }
+
+    /**
+     * @return schema names the change refers to, including {@code null} when a schema is left out
+     */
+    public List<String> getSchemaNames() {
+        return schemaNames;
+    }
+
+    /**
+     * @return name of the foreign key, primary key or unique constraint the change adds
+     */
+    public List<String> getConstraintNames() {
+        return constraintNames;
+    }
+
+    /**
+     * @return distinct names of the primary keys the change adds, including those defined on created table columns
+     */
+    public List<String> getPrimaryKeyNames() {
+        return primaryKeyNames;
+    }
+
+    /**
+     * Evaluates a column condition or dynamic value of a rule config, as the engine linting the change first evaluated
+     * it with the same text.
+     */
+    public <T> T evaluate(Expression expression, Object root, Class<T> resultType) {
+        return conditions == null
+            ? ConditionEngine.evaluate(expression, root, resultType)
+            : conditions.evaluateShared(expression, root, resultType);
+    }
+
+    private static List<ColumnConfig> columnsOf(ChangeWithColumns<?> change) {
+        final List<? extends ColumnConfig> columns = change.getColumns();
+        return columns == null ? Collections.emptyList() : Collections.unmodifiableList(columns);
+    }
+
+    private static List<String> names(List<ColumnConfig> columns) {
+        return columns.stream().map(ColumnConfig::getName).collect(Collectors.toList());
+    }
+
+    private static List<String> distinctNames(List<ColumnConfig> columns) {
+        return columns.stream().map(ColumnConfig::getName).distinct().collect(Collectors.toList());
+    }
+
+    private static List<String> primaryKeyNames(List<ColumnConfig> columns) {
+        return columns
+            .stream()
+            .map(ColumnConfig::getConstraints)
+            .filter(Objects::nonNull)
+            .filter(
+                constraint -> Boolean.TRUE.equals(constraint.isPrimaryKey()) || constraint.getPrimaryKeyName() != null
+            )
+            .map(ConstraintsConfig::getPrimaryKeyName)
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * The extraction of each fact resolved for one concrete change class.
+     */
+    private static final class Extractor {
+
+        private final Function<Change, List<String>> tableNames;
+        private final Function<Change, List<String>> columnNames;
+        private final Function<Change, List<String>> objectNames;
+        private final Function<Change, List<String>> schemaNames;
+        private final Function<Change, List<String>> constraintNames;
+        private final Function<Change, List<String>> primaryKeyNames;
+
+        private Extractor(Class<?> changeType) {
+            this.tableNames = TABLE_NAMES.resolve(changeType, Collections.emptyList());
+            this.columnNames = COLUMN_NAMES.resolve(changeType, Collections.emptyList());
+            this.objectNames = OBJECT_NAMES.resolve(changeType, Collections.emptyList());
+            this.schemaNames = SCHEMA_NAMES.resolve(changeType, Collections.emptyList());
+            this.constraintNames = CONSTRAINT_NAMES.resolve(changeType, Collections.emptyList());
+            this.primaryKeyNames = PRIMARY_KEY_NAMES.resolve(changeType, Collections.emptyList());
+        }
+    }
+
+    /**
+     * Extractions of a fact per change type; the first one whose type a change class is assignable to applies.
+     */
+    private static final class Lookup<T> {
+
+        private final List<Class<?>> changeTypes = new ArrayList<>();
+        private final List<Function<Change, T>> extractions = new ArrayList<>();
+
+        private <C> Lookup<T> add(Class<C> changeType, Function<? super C, T> extraction) {
+            changeTypes.add(changeType);
+            extractions.add(change -> extraction.apply(changeType.cast(change)));
+            return this;
+        }
+
+        private Function<Change, T> resolve(Class<?> changeType, T absent) {
+            for (int i = 0; i < changeTypes.size(); i++) {
+                if (changeTypes.get(i).isAssignableFrom(changeType)) {
+                    return extractions.get(i);
+                }
+            }
+            return change -> absent;
+        }
+    }
+}
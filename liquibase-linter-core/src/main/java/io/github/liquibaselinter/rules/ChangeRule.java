@@ -2,10 +2,31 @@ package io.github.liquibaselinter.rules;
 
 import io.github.liquibaselinter.config.RuleConfig;
 import java.util.Collection;
+import java.util.Collections;
 import liquibase.change.Change;
 
 public interface ChangeRule {
     String getName();
 
     Collection<RuleViolation> check(Change change, RuleConfig ruleConfig);
+
+    /**
+     * Checks a change given its facts, which the linter extracts once for all the rules checking the change.
+     * Defaults to {@link #check(Change, RuleConfig)}, for rules that do not use the facts.
+     *
+     * @return the violations found
+     */
+    default Collection<RuleViolation> check(Change change, ChangeFacts facts, RuleConfig ruleConfig) {
+        return check(change, ruleConfig);
+    }
+
+    /**
+     * Change types this rule can report on; the rule is only run for changes assignable to one of them.
+     * Defaults to every change type.
+     *
+     * @return the supported change types
+     */
+    default Collection<Class<? extends Change>> supportedChangeTypes() {
+        return Collections.singleton(Change.class);
+    }
 }
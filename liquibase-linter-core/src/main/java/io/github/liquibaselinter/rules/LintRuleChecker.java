@@ -1,18 +1,30 @@
 package io.github.liquibaselinter.rules;
 
+import io.github.liquibaselinter.config.ConditionEngine;
 import io.github.liquibaselinter.config.RuleConfig;
 import java.util.Optional;
 import liquibase.change.ColumnConfig;
+import org.springframework.expression.Expression;
 
 public class LintRuleChecker {
 
     private final RuleConfig ruleConfig;
+    private final ChangeFacts facts;
     private final PatternChecker patternChecker;
 
     public LintRuleChecker(RuleConfig ruleConfig) {
+        this(ruleConfig, null);
+    }
+
+    /**
+     * @param facts the facts of the change checked, which match identifiers against combined patterns and evaluate
+     *     expressions shared by the engine, or {@code null}
+     */
+    public LintRuleChecker(RuleConfig ruleConfig, ChangeFacts facts) {
         this.ruleConfig = ruleConfig;
+        this.facts = facts;
         if (ruleConfig.hasPattern()) {
-            this.patternChecker = new PatternChecker(ruleConfig);
+            this.patternChecker = new PatternChecker(ruleConfig, facts);
         } else {
             this.patternChecker = null;
         }
@@ -41,7 +53,30 @@ public class LintRuleChecker {
     public boolean columnConditionIsSatisfied(ColumnConfig column) {
         return ruleConfig
             .getConditionalColumnExpression()
-            .map(expression -> expression.getValue(column, boolean.class))
+            .map(expression -> evaluate(facts, expression, column, boolean.class))
             .orElse(true);
     }
+
+    /**
+     * @return the pattern, resolved with the dynamic value for the subject when it is dynamic
+     */
+    public String effectivePatternFor(Object subject) {
+        if (!ruleConfig.hasDynamicPattern()) {
+            return ruleConfig.getPatternString();
+        }
+        return ruleConfig.getDynamicPattern(dynamicValue(ruleConfig, facts, subject)).pattern();
+    }
+
+    static String dynamicValue(RuleConfig ruleConfig, ChangeFacts facts, Object subject) {
+        return ruleConfig
+            .getDynamicValueExpression()
+            .map(expression -> evaluate(facts, expression, subject, String.class))
+            .orElse(null);
+    }
+
+    private static <T> T evaluate(ChangeFacts facts, Expression expression, Object root, Class<T> resultType) {
+        return facts == null
+            ? ConditionEngine.evaluate(expression, root, resultType)
+            : facts.evaluate(expression, root, resultType);
+    }
 }
@@ -1,14 +1,19 @@
 package io.github.liquibaselinter.rules;
 
 import io.github.liquibaselinter.config.RuleConfig;
-import java.util.regex.Matcher;
 
 class PatternChecker {
 
     private final RuleConfig ruleConfig;
+    private final ChangeFacts facts;
 
     public PatternChecker(RuleConfig ruleConfig) {
+        this(ruleConfig, null);
+    }
+
+    PatternChecker(RuleConfig ruleConfig, ChangeFacts facts) {
         this.ruleConfig = ruleConfig;
+        this.facts = facts;
     }
 
     public boolean check(String value, Object subject) {
@@ -16,9 +21,12 @@ class PatternChecker {
             return false;
         }
         if (ruleConfig.hasDynamicPattern()) {
-            String dynamicValue = ruleConfig.getDynamicValue(subject);
-            return !ruleConfig.getDynamicPattern(dynamicValue).matcher(value).matches();
+            String dynamicValue = LintRuleChecker.dynamicValue(ruleConfig, facts, subject);
+            return !ruleConfig.getCompiled().matchesDynamicPattern(dynamicValue, value);
+        }
+        if (facts != null) {
+            return !facts.matchesPattern(ruleConfig, value);
         }
-        return !ruleConfig.getPattern().map(pattern -> pattern.matcher(value)).map(Matcher::matches).orElse(true);
+        return !ruleConfig.getCompiled().matchesPattern(value);
     }
 }
@@ -0,0 +1,30 @@
+package io.github.liquibaselinter.rules;
+
+import io.github.liquibaselinter.config.RuleConfig;
+import java.util.Collection;
+import java.util.function.Predicate;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+
+/**
+ * A change log rule checking the change sets of the root change log across all the files it includes, in order.
+ * <p>
+ * It checks the root change log once, before any file is linted, even when the root change log itself is not linted,
+ * e.g. while {@code enable-after} is pending or when its file is ignored. It still sees every change set, but is told
+ * which ones are linted for the rule config, and only reports what it finds in those.
+ */
+public interface RootChangeLogRule extends ChangeLogRule {
+    /**
+     * @param linted tells whether a change set is linted for the rule config, as of its turn in the change log
+     * @return the violations found in the change sets linted
+     */
+    Collection<RuleViolation> check(DatabaseChangeLog changeLog, Predicate<ChangeSet> linted, RuleConfig ruleConfig);
+
+    /**
+     * Checks the root change log as if every change set were linted.
+     */
+    @Override
+    default Collection<RuleViolation> check(DatabaseChangeLog changeLog, RuleConfig ruleConfig) {
+        return check(changeLog, changeSet -> true, ruleConfig);
+    }
+}
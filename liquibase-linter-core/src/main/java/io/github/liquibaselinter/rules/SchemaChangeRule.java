@@ -0,0 +1,22 @@
+package io.github.liquibaselinter.rules;
+
+import io.github.liquibaselinter.config.RuleConfig;
+import java.util.Collection;
+import liquibase.change.Change;
+
+/**
+ * A rule checking changes against the {@link SchemaModel schema} built by the change sets before them, across all the
+ * files of the change log, in order.
+ * <p>
+ * The schema is built on the linting thread, once the other rules have checked a change set, so these rules run there
+ * too. Their report items are never cached: a change set checks the same way only as long as the ones before it do.
+ */
+public interface SchemaChangeRule {
+    String getName();
+
+    /**
+     * @param schema the schema before the change is applied
+     * @return the violations found
+     */
+    Collection<RuleViolation> check(Change change, SchemaModel schema, RuleConfig ruleConfig);
+}
@@ -0,0 +1,304 @@
+package io.github.liquibaselinter.rules;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import liquibase.change.AbstractSQLChange;
+import liquibase.change.Change;
+import liquibase.change.ColumnConfig;
+import liquibase.change.ConstraintsConfig;
+import liquibase.change.core.AddColumnChange;
+import liquibase.change.core.AddForeignKeyConstraintChange;
+import liquibase.change.core.AddLookupTableChange;
+import liquibase.change.core.AddPrimaryKeyChange;
+import liquibase.change.core.AddUniqueConstraintChange;
+import liquibase.change.core.CreateIndexChange;
+import liquibase.change.core.CreateProcedureChange;
+import liquibase.change.core.CreateTableChange;
+import liquibase.change.core.DropColumnChange;
+import liquibase.change.core.DropForeignKeyConstraintChange;
+import liquibase.change.core.DropIndexChange;
+import liquibase.change.core.DropPrimaryKeyChange;
+import liquibase.change.core.DropTableChange;
+import liquibase.change.core.DropUniqueConstraintChange;
+import liquibase.change.core.ExecuteShellCommandChange;
+import liquibase.change.core.ModifyDataTypeChange;
+import liquibase.change.core.RenameColumnChange;
+import liquibase.change.core.RenameTableChange;
+import liquibase.change.custom.CustomChangeWrapper;
+
+/**
+ * The tables, columns, indexes and constraints that the change sets met so far create, as seen by a
+ * {@link SchemaChangeRule} checking a change: before that change is applied.
+ * <p>
+ * The model only knows what structural changes tell. Raw SQL, custom changes and the like may create anything, so
+ * once one of them is applied, what was never created is {@link Existence#UNKNOWN} rather than
+ * {@link Existence#MISSING}. Names compare ignoring case, qualified by their schema when a change gives one, and are
+ * interned along with column types, so that a long history keeps each distinct name once. As the default schema is not
+ * known, a name that was only met qualified when looked up unqualified, or the other way around, is
+ * {@link Existence#UNKNOWN}. Lookups and updates take constant time, except dropping or renaming a table, which goes
+ * through the indexes and constraints.
+ */
+public final class SchemaModel {
+
+    public enum Existence {
+        EXISTS,
+        MISSING,
+        UNKNOWN,
+    }
+
+    private final Map<String, String> interned = new HashMap<>();
+    private final Map<String, Map<String, String>> tables = new HashMap<>();
+    private final Map<String, String> indexes = new HashMap<>();
+    private final Map<String, String> constraints = new HashMap<>();
+    private final Set<String> qualifiedNames = new HashSet<>();
+    private boolean opaque;
+
+    public Existence table(String schemaName, String tableName) {
+        return tableName == null ? Existence.UNKNOWN : existence(tables, schemaName, tableName);
+    }
+
+    public Existence column(String schemaName, String tableName, String columnName) {
+        final Existence table = table(schemaName, tableName);
+        if (table != Existence.EXISTS || columnName == null) {
+            return table == Existence.MISSING ? Existence.MISSING : Existence.UNKNOWN;
+        }
+        return existence(tables.get(key(schemaName, tableName)).containsKey(normalize(columnName)));
+    }
+
+    /**
+     * @return the type the column was last created or modified with, unless unknown
+     */
+    public Optional<String> columnType(String schemaName, String tableName, String columnName) {
+        final Map<String, String> columns = tableName == null ? null : tables.get(key(schemaName, tableName));
+        return columns == null || columnName == null
+            ? Optional.empty()
+            : Optional.ofNullable(columns.get(normalize(columnName)));
+    }
+
+    /**
+     * An index exists as well when a primary key or unique constraint of the same name does, as databases back those
+     * with an index of their name.
+     */
+    public Existence index(String schemaName, String indexName) {
+        if (indexName == null) {
+            return Existence.UNKNOWN;
+        }
+        final Existence index = existence(indexes, schemaName, indexName);
+        return index == Existence.MISSING ? existence(constraints, schemaName, indexName) : index;
+    }
+
+    public Existence constraint(String schemaName, String constraintName) {
+        return constraintName == null
+            ? Existence.UNKNOWN
+            : existence(constraints, schemaName, constraintName);
+    }
+
+    private Existence existence(Map<String, ?> names, String schemaName, String name) {
+        if (names.containsKey(key(schemaName, name))) {
+            return Existence.EXISTS;
+        }
+        final boolean otherwiseQualified = schemaName == null || schemaName.isEmpty()
+            ? qualifiedNames.contains(normalize(name))
+            : names.containsKey(normalize(name));
+        return otherwiseQualified ? Existence.UNKNOWN : existence(false);
+    }
+
+    private Existence existence(boolean exists) {
+        if (exists) {
+            return Existence.EXISTS;
+        }
+        return opaque ? Existence.UNKNOWN : Existence.MISSING;
+    }
+
+    /**
+     * Applies a change to the model, as the linter does once the rules have checked it.
+     */
+    public void apply(Change change) {
+        if (change instanceof CreateTableChange) {
+            final CreateTableChange createTable = (CreateTableChange) change;
+            final String table = declare(createTable.getSchemaName(), createTable.getTableName());
+            tables.put(table, new HashMap<>());
+            addColumns(table, createTable.getColumns());
+        } else if (change instanceof AddLookupTableChange) {
+            final AddLookupTableChange addLookupTable = (AddLookupTableChange) change;
+            final String table = declare(addLookupTable.getNewTableSchemaName(), addLookupTable.getNewTableName());
+            final Map<String, String> columns = new HashMap<>();
+            if (addLookupTable.getNewColumnName() != null) {
+                columns.put(
+                    intern(normalize(addLookupTable.getNewColumnName())),
+                    internType(addLookupTable.getNewColumnDataType())
+                );
+            }
+            tables.put(table, columns);
+            addConstraint(
+                addLookupTable.getExistingTableSchemaName(),
+                key(addLookupTable.getExistingTableSchemaName(), addLookupTable.getExistingTableName()),
+                addLookupTable.getFinalConstraintName()
+            );
+        } else if (change instanceof AddColumnChange) {
+            final AddColumnChange addColumn = (AddColumnChange) change;
+            addColumns(key(addColumn.getSchemaName(), addColumn.getTableName()), addColumn.getColumns());
+        } else if (change instanceof DropColumnChange) {
+            final DropColumnChange dropColumn = (DropColumnChange) change;
+            final Map<String, String> columns = columnsOf(dropColumn.getSchemaName(), dropColumn.getTableName());
+            if (dropColumn.getColumnName() != null) {
+                columns.remove(normalize(dropColumn.getColumnName()));
+            }
+            for (ColumnConfig column : dropColumn.getColumns()) {
+                columns.remove(normalize(column.getName()));
+            }
+        } else if (change instanceof RenameColumnChange) {
+            final RenameColumnChange renameColumn = (RenameColumnChange) change;
+            final Map<String, String> columns = columnsOf(renameColumn.getSchemaName(), renameColumn.getTableName());
+            if (columns.containsKey(normalize(renameColumn.getOldColumnName()))) {
+                columns.put(
+                    intern(normalize(renameColumn.getNewColumnName())),
+                    columns.remove(normalize(renameColumn.getOldColumnName()))
+                );
+            }
+        } else if (change instanceof ModifyDataTypeChange) {
+            final ModifyDataTypeChange modifyDataType = (ModifyDataTypeChange) change;
+            final Map<String, String> columns = columnsOf(
+                modifyDataType.getSchemaName(),
+                modifyDataType.getTableName()
+            );
+            if (columns.containsKey(normalize(modifyDataType.getColumnName()))) {
+                columns.put(normalize(modifyDataType.getColumnName()), internType(modifyDataType.getNewDataType()));
+            }
+        } else {
+            applyToTablesAndIndexes(change);
+        }
+    }
+
+    private void applyToTablesAndIndexes(Change change) {
+        if (change instanceof DropTableChange) {
+            final DropTableChange dropTable = (DropTableChange) change;
+            final String table = key(dropTable.getSchemaName(), dropTable.getTableName());
+            tables.remove(table);
+            indexes.values().removeIf(table::equals);
+            constraints.values().removeIf(table::equals);
+        } else if (change instanceof RenameTableChange) {
+            final RenameTableChange renameTable = (RenameTableChange) change;
+            final String table = key(renameTable.getSchemaName(), renameTable.getOldTableName());
+            final String newTable = declare(renameTable.getSchemaName(), renameTable.getNewTableName());
+            final Map<String, String> columns = tables.remove(table);
+            if (columns != null) {
+                tables.put(newTable, columns);
+            }
+            indexes.replaceAll((index, owner) -> owner.equals(table) ? newTable : owner);
+            constraints.replaceAll((constraint, owner) -> owner.equals(table) ? newTable : owner);
+        } else if (change instanceof CreateIndexChange) {
+            final CreateIndexChange createIndex = (CreateIndexChange) change;
+            indexes.put(
+                declare(createIndex.getSchemaName(), createIndex.getIndexName()),
+                intern(key(createIndex.getSchemaName(), createIndex.getTableName()))
+            );
+        } else if (change instanceof DropIndexChange) {
+            final DropIndexChange dropIndex = (DropIndexChange) change;
+            indexes.remove(key(dropIndex.getSchemaName(), dropIndex.getIndexName()));
+        } else {
+            applyToConstraints(change);
+        }
+    }
+
+    private void applyToConstraints(Change change) {
+        if (change instanceof AddPrimaryKeyChange) {
+            final AddPrimaryKeyChange addPrimaryKey = (AddPrimaryKeyChange) change;
+            addConstraint(
+                addPrimaryKey.getSchemaName(),
+                key(addPrimaryKey.getSchemaName(), addPrimaryKey.getTableName()),
+                addPrimaryKey.getConstraintName()
+            );
+        } else if (change instanceof AddUniqueConstraintChange) {
+            final AddUniqueConstraintChange addUnique = (AddUniqueConstraintChange) change;
+            addConstraint(
+                addUnique.getSchemaName(),
+                key(addUnique.getSchemaName(), addUnique.getTableName()),
+                addUnique.getConstraintName()
+            );
+        } else if (change instanceof AddForeignKeyConstraintChange) {
+            final AddForeignKeyConstraintChange addForeignKey = (AddForeignKeyConstraintChange) change;
+            addConstraint(
+                addForeignKey.getBaseTableSchemaName(),
+                key(addForeignKey.getBaseTableSchemaName(), addForeignKey.getBaseTableName()),
+                addForeignKey.getConstraintName()
+            );
+        } else if (change instanceof DropPrimaryKeyChange) {
+            final DropPrimaryKeyChange dropPrimaryKey = (DropPrimaryKeyChange) change;
+            constraints.remove(key(dropPrimaryKey.getSchemaName(), dropPrimaryKey.getConstraintName()));
+        } else if (change instanceof DropUniqueConstraintChange) {
+            final DropUniqueConstraintChange dropUnique = (DropUniqueConstraintChange) change;
+            constraints.remove(key(dropUnique.getSchemaName(), dropUnique.getConstraintName()));
+        } else if (change instanceof DropForeignKeyConstraintChange) {
+            final DropForeignKeyConstraintChange dropForeignKey = (DropForeignKeyConstraintChange) change;
+            constraints.remove(key(dropForeignKey.getBaseTableSchemaName(), dropForeignKey.getConstraintName()));
+        } else if (
+            change instanceof AbstractSQLChange ||
+            change instanceof CustomChangeWrapper ||
+            change instanceof ExecuteShellCommandChange ||
+            change instanceof CreateProcedureChange
+        ) {
+            opaque = true;
+        }
+    }
+
+    private void addColumns(String table, List<? extends ColumnConfig> columnConfigs) {
+        final String schemaName = table.indexOf('.') < 0 ? null : table.substring(0, table.indexOf('.'));
+        final Map<String, String> columns = tables.get(table);
+        for (ColumnConfig column : columnConfigs) {
+            if (columns != null && column.getName() != null) {
+                columns.put(intern(normalize(column.getName())), internType(column.getType()));
+            }
+            final ConstraintsConfig constraintsConfig = column.getConstraints();
+            if (constraintsConfig != null) {
+                addConstraint(schemaName, table, constraintsConfig.getPrimaryKeyName());
+                addConstraint(schemaName, table, constraintsConfig.getUniqueConstraintName());
+                addConstraint(schemaName, table, constraintsConfig.getForeignKeyName());
+            }
+        }
+    }
+
+    private void addConstraint(String schemaName, String table, String constraintName) {
+        if (constraintName != null) {
+            constraints.put(declare(schemaName, constraintName), intern(table));
+        }
+    }
+
+    /**
+     * @return the columns of a table, which are not kept when the table is unknown
+     */
+    private Map<String, String> columnsOf(String schemaName, String tableName) {
+        return tableName == null ? new HashMap<>() : tables.getOrDefault(key(schemaName, tableName), new HashMap<>());
+    }
+
+    /**
+     * @return the interned key of a name being created, remembering the name when qualified
+     */
+    private String declare(String schemaName, String name) {
+        if (schemaName != null && !schemaName.isEmpty()) {
+            qualifiedNames.add(intern(normalize(name)));
+        }
+        return intern(key(schemaName, name));
+    }
+
+    private String internType(String type) {
+        return type == null ? null : intern(type.trim());
+    }
+
+    private String intern(String name) {
+        return interned.computeIfAbsent(name, ignored -> name);
+    }
+
+    private static String key(String schemaName, String name) {
+        return schemaName == null || schemaName.isEmpty() ? normalize(name) : normalize(schemaName + '.' + name);
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.toUpperCase(Locale.ROOT);
+    }
+}
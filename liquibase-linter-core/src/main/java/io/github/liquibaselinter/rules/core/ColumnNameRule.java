@@ -2,18 +2,16 @@ package io.github.liquibaselinter.rules.core;
 
 import com.google.auto.service.AutoService;
 import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.ChangeFacts;
 import io.github.liquibaselinter.rules.ChangeRule;
 import io.github.liquibaselinter.rules.LintRuleChecker;
 import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
 import io.github.liquibaselinter.rules.RuleViolation;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.stream.Collectors;
 import liquibase.change.Change;
-import liquibase.change.ChangeWithColumns;
-import liquibase.change.ColumnConfig;
 import liquibase.change.core.AddColumnChange;
 import liquibase.change.core.CreateTableChange;
 import liquibase.change.core.MergeColumnChange;
@@ -30,15 +28,31 @@ public class ColumnNameRule implements ChangeRule {
         return NAME;
     }
 
+    @Override
+    public Collection<Class<? extends Change>> supportedChangeTypes() {
+        return Arrays.asList(
+            AddColumnChange.class,
+            RenameColumnChange.class,
+            CreateTableChange.class,
+            MergeColumnChange.class
+        );
+    }
+
     @Override
     public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
+        return check(change, ChangeFacts.of(change), ruleConfig);
+    }
+
+    @Override
+    public Collection<RuleViolation> check(Change change, ChangeFacts facts, RuleConfig ruleConfig) {
         if (!supports(change)) {
             return Collections.emptyList();
         }
-        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig);
+        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig, facts);
         LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
 
-        return getColumnNames(change)
+        return facts
+            .getColumnNames()
             .stream()
             .filter(columnName -> ruleChecker.checkMandatoryPattern(columnName, change))
             .map(columnName -> violations.withFormattedMessage(columnName, ruleConfig.getPatternString()))
@@ -53,18 +67,4 @@ public class ColumnNameRule implements ChangeRule {
             change instanceof MergeColumnChange
         );
     }
-
-    private Set<String> getColumnNames(Change change) {
-        if (change instanceof ChangeWithColumns<?>) {
-            return ((ChangeWithColumns<?>) change).getColumns()
-                .stream()
-                .map(ColumnConfig::getName)
-                .collect(Collectors.toSet());
-        } else if (change instanceof RenameColumnChange) {
-            return Collections.singleton(((RenameColumnChange) change).getNewColumnName());
-        } else if (change instanceof MergeColumnChange) {
-            return Collections.singleton(((MergeColumnChange) change).getFinalColumnName());
-        }
-        return new HashSet<>();
-    }
 }
@@ -0,0 +1,118 @@
+package io.github.liquibaselinter.rules.core;
+
+import com.google.auto.service.AutoService;
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
+import io.github.liquibaselinter.rules.RuleViolation;
+import io.github.liquibaselinter.rules.SchemaChangeRule;
+import io.github.liquibaselinter.rules.SchemaModel;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Optional;
+import liquibase.change.Change;
+import liquibase.change.core.AddAutoIncrementChange;
+import liquibase.change.core.AddDefaultValueChange;
+import liquibase.change.core.AddNotNullConstraintChange;
+import liquibase.change.core.DropNotNullConstraintChange;
+import liquibase.change.core.RenameColumnChange;
+
+@AutoService(SchemaChangeRule.class)
+public class ColumnTypeMatchesRule implements SchemaChangeRule {
+
+    private static final String NAME = "column-type-matches";
+    private static final String MESSAGE = "Column '%s.%s' is given type '%s' but was created with type '%s'";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Collection<RuleViolation> check(Change change, SchemaModel schema, RuleConfig ruleConfig) {
+        final ColumnDataType column = ColumnDataType.of(change);
+        if (column == null || column.dataType == null || column.dataType.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Optional<String> type = schema.columnType(column.schemaName, column.tableName, column.columnName);
+        if (type.isPresent() && !normalize(type.get()).equals(normalize(column.dataType))) {
+            final LintRuleViolationGenerator violations = new LintRuleViolationGenerator(MESSAGE, ruleConfig);
+            return Collections.singleton(
+                violations.withFormattedMessage(
+                    DuplicateDeclarationRule.qualified(column.schemaName, column.tableName),
+                    column.columnName,
+                    column.dataType,
+                    type.get()
+                )
+            );
+        }
+        return Collections.emptyList();
+    }
+
+    private static String normalize(String type) {
+        return type.replaceAll("\\s+", "").toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * The column data type a change repeats, as some databases need it to alter the column.
+     */
+    private static final class ColumnDataType {
+
+        private final String schemaName;
+        private final String tableName;
+        private final String columnName;
+        private final String dataType;
+
+        private ColumnDataType(String schemaName, String tableName, String columnName, String dataType) {
+            this.schemaName = schemaName;
+            this.tableName = tableName;
+            this.columnName = columnName;
+            this.dataType = dataType;
+        }
+
+        private static ColumnDataType of(Change change) {
+            if (change instanceof AddNotNullConstraintChange) {
+                final AddNotNullConstraintChange addNotNull = (AddNotNullConstraintChange) change;
+                return new ColumnDataType(
+                    addNotNull.getSchemaName(),
+                    addNotNull.getTableName(),
+                    addNotNull.getColumnName(),
+                    addNotNull.getColumnDataType()
+                );
+            } else if (change instanceof DropNotNullConstraintChange) {
+                final DropNotNullConstraintChange dropNotNull = (DropNotNullConstraintChange) change;
+                return new ColumnDataType(
+                    dropNotNull.getSchemaName(),
+                    dropNotNull.getTableName(),
+                    dropNotNull.getColumnName(),
+                    dropNotNull.getColumnDataType()
+                );
+            } else if (change instanceof AddDefaultValueChange) {
+                final AddDefaultValueChange addDefaultValue = (AddDefaultValueChange) change;
+                return new ColumnDataType(
+                    addDefaultValue.getSchemaName(),
+                    addDefaultValue.getTableName(),
+                    addDefaultValue.getColumnName(),
+                    addDefaultValue.getColumnDataType()
+                );
+            } else if (change instanceof RenameColumnChange) {
+                final RenameColumnChange renameColumn = (RenameColumnChange) change;
+                return new ColumnDataType(
+                    renameColumn.getSchemaName(),
+                    renameColumn.getTableName(),
+                    renameColumn.getOldColumnName(),
+                    renameColumn.getColumnDataType()
+                );
+            } else if (change instanceof AddAutoIncrementChange) {
+                final AddAutoIncrementChange addAutoIncrement = (AddAutoIncrementChange) change;
+                return new ColumnDataType(
+                    addAutoIncrement.getSchemaName(),
+                    addAutoIncrement.getTableName(),
+                    addAutoIncrement.getColumnName(),
+                    addAutoIncrement.getColumnDataType()
+                );
+            }
+            return null;
+        }
+    }
+}
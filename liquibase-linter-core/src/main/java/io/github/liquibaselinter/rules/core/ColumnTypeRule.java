@@ -2,18 +2,16 @@ package io.github.liquibaselinter.rules.core;
 
 import com.google.auto.service.AutoService;
 import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.ChangeFacts;
 import io.github.liquibaselinter.rules.ChangeRule;
 import io.github.liquibaselinter.rules.LintRuleChecker;
 import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
 import io.github.liquibaselinter.rules.RuleViolation;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.stream.Collectors;
 import liquibase.change.Change;
-import liquibase.change.ChangeWithColumns;
-import liquibase.change.ColumnConfig;
 import liquibase.change.core.AddColumnChange;
 import liquibase.change.core.CreateTableChange;
 
@@ -28,15 +26,26 @@ public class ColumnTypeRule implements ChangeRule {
         return NAME;
     }
 
+    @Override
+    public Collection<Class<? extends Change>> supportedChangeTypes() {
+        return Arrays.asList(AddColumnChange.class, CreateTableChange.class);
+    }
+
     @Override
     public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
+        return check(change, ChangeFacts.of(change), ruleConfig);
+    }
+
+    @Override
+    public Collection<RuleViolation> check(Change change, ChangeFacts facts, RuleConfig ruleConfig) {
         if (!supports(change)) {
             return Collections.emptyList();
         }
-        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig);
+        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig, facts);
         LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
 
-        return getColumns(change)
+        return facts
+            .getColumns()
             .stream()
             .filter(ruleChecker::columnConditionIsSatisfied)
             .filter(column -> ruleChecker.checkMandatoryPattern(column.getType(), change))
@@ -49,11 +58,4 @@ public class ColumnTypeRule implements ChangeRule {
     private boolean supports(Change change) {
         return (change instanceof AddColumnChange || change instanceof CreateTableChange);
     }
-
-    private Set<ColumnConfig> getColumns(Change change) {
-        if (change instanceof ChangeWithColumns<?>) {
-            return new HashSet<>(((ChangeWithColumns<?>) change).getColumns());
-        }
-        return new HashSet<>();
-    }
 }
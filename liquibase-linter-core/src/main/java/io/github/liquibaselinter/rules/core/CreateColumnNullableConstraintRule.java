@@ -5,6 +5,7 @@ import io.github.liquibaselinter.config.RuleConfig;
 import io.github.liquibaselinter.rules.ChangeRule;
 import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
 import io.github.liquibaselinter.rules.RuleViolation;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
@@ -24,6 +25,11 @@ public class CreateColumnNullableConstraintRule implements ChangeRule {
         return NAME;
     }
 
+    @Override
+    public Collection<Class<? extends Change>> supportedChangeTypes() {
+        return Arrays.asList(CreateTableChange.class, AddColumnChange.class);
+    }
+
     @Override
     public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
         if (!supports(change)) {
@@ -2,6 +2,7 @@ package io.github.liquibaselinter.rules.core;
 
 import com.google.auto.service.AutoService;
 import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.ChangeFacts;
 import io.github.liquibaselinter.rules.ChangeRule;
 import io.github.liquibaselinter.rules.LintRuleChecker;
 import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
@@ -23,13 +24,23 @@ public class DropNotNullRequireColumnDataTypeRule implements ChangeRule {
         return NAME;
     }
 
+    @Override
+    public Collection<Class<? extends Change>> supportedChangeTypes() {
+        return Collections.singleton(DropNotNullConstraintChange.class);
+    }
+
     @Override
     public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
+        return check(change, ChangeFacts.of(change), ruleConfig);
+    }
+
+    @Override
+    public Collection<RuleViolation> check(Change change, ChangeFacts facts, RuleConfig ruleConfig) {
         if (!(change instanceof DropNotNullConstraintChange)) {
             return Collections.emptyList();
         }
         DropNotNullConstraintChange dropNotNullConstraintChange = (DropNotNullConstraintChange) change;
-        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig);
+        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig, facts);
         if (ruleChecker.checkNotBlank(dropNotNullConstraintChange.getColumnDataType())) {
             LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
             return Collections.singleton(violations.withFormattedMessage());
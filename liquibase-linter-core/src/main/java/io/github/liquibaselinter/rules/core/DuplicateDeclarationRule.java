@@ -0,0 +1,320 @@
+package io.github.liquibaselinter.rules.core;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
+import io.github.liquibaselinter.rules.RootChangeLogRule;
+import io.github.liquibaselinter.rules.RuleViolation;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+
+/**
+ * Base of the rules finding names declared again while still declared, across every change set of the root change
+ * log in order, so across all the files it includes. Every change set declares its names, but a name declared again
+ * is only reported when the change set declaring it again is linted. Violations are reported on the root change log.
+ * <p>
+ * Names are first tracked as 64-bit hashes in a {@link LongOpenHashMap}, which only keeps a few bytes per name
+ * however many change sets there are. Only the names whose hash turns up again are then tracked as strings on a
+ * second pass, so that a hash collision is never reported.
+ */
+abstract class DuplicateDeclarationRule implements RootChangeLogRule {
+
+    private static final HashFunction HASH = Hashing.farmHashFingerprint64();
+
+    private final String defaultMessage;
+    private final boolean scopedByDbms;
+
+    /**
+     * @param defaultMessage formatted with the name, and where it was first and then again declared
+     * @param scopedByDbms whether change sets for different {@code dbms} declare names apart, as alternatives
+     */
+    DuplicateDeclarationRule(String defaultMessage, boolean scopedByDbms) {
+        this.defaultMessage = defaultMessage;
+        this.scopedByDbms = scopedByDbms;
+    }
+
+    /**
+     * Declares and releases the names of a change set, in the order its changes are run.
+     */
+    abstract void declare(ChangeSet changeSet, Declarations declarations);
+
+    @Override
+    public Collection<RuleViolation> check(
+        DatabaseChangeLog changeLog,
+        Predicate<ChangeSet> linted,
+        RuleConfig ruleConfig
+    ) {
+        if (changeLog.getRootChangeLog() != changeLog) {
+            return Collections.emptyList();
+        }
+        final HashedDeclarations hashed = new HashedDeclarations();
+        visit(changeLog.getChangeSets(), hashed);
+        if (hashed.suspects.size() == 0) {
+            return Collections.emptyList();
+        }
+        final ExactDeclarations exact = new ExactDeclarations(hashed.suspects, linted);
+        visit(changeLog.getChangeSets(), exact);
+
+        final LintRuleViolationGenerator violations = new LintRuleViolationGenerator(defaultMessage, ruleConfig);
+        return exact.duplicates
+            .stream()
+            .map(duplicate -> violations.withFormattedMessage(duplicate.name, duplicate.first, duplicate.again))
+            .collect(Collectors.toList());
+    }
+
+    private void visit(List<ChangeSet> changeSets, Declarations declarations) {
+        for (ChangeSet changeSet : changeSets) {
+            if (!changeSet.isIgnore()) {
+                declarations.changeSet = changeSet;
+                declare(changeSet, declarations);
+            }
+        }
+    }
+
+    /**
+     * @return the name qualified with its schema, when there is one
+     */
+    static String qualified(String schemaName, String name) {
+        return name == null || schemaName == null || schemaName.isEmpty() ? name : schemaName + '.' + name;
+    }
+
+    /**
+     * @return the name as compared with others; database object names compare ignoring case
+     */
+    String normalize(String name) {
+        return name.toUpperCase(Locale.ROOT);
+    }
+
+    private static long hash(String key) {
+        return HASH.hashString(key, StandardCharsets.UTF_8).asLong();
+    }
+
+    /**
+     * The names declared so far, in namespaces such as tables or indexes, each name possibly owned by another one,
+     * such as an index by its table.
+     */
+    abstract class Declarations {
+
+        private ChangeSet changeSet;
+
+        /**
+         * Declares a name, which is a duplicate when already declared in its namespace.
+         *
+         * @param owner name of the table the name goes with, or {@code null}
+         */
+        void declare(String namespace, String name, String owner) {
+            if (name != null && !name.isEmpty()) {
+                declareKey(key(namespace, name), name, owner == null ? null : key("", owner));
+            }
+        }
+
+        void release(String namespace, String name) {
+            if (name != null && !name.isEmpty()) {
+                releaseKey(key(namespace, name));
+            }
+        }
+
+        /**
+         * Releases the names owned by a name, as when dropping a table drops its indexes.
+         */
+        void releaseOwnedBy(String owner) {
+            if (owner != null) {
+                releaseOwnedByKey(key("", owner));
+            }
+        }
+
+        /**
+         * Moves the names owned by a name to another one, as when renaming a table.
+         */
+        void transferOwnership(String owner, String newOwner) {
+            if (owner != null && newOwner != null) {
+                transferOwnershipByKey(key("", owner), key("", newOwner));
+            }
+        }
+
+        private String key(String namespace, String name) {
+            final String dbms = scopedByDbms && changeSet.getDbmsSet() != null
+                ? String.join(",", new TreeSet<>(changeSet.getDbmsSet()))
+                : "";
+            return dbms + '|' + namespace + '|' + normalize(name);
+        }
+
+        String location() {
+            return changeSet.toString(false);
+        }
+
+        ChangeSet changeSet() {
+            return changeSet;
+        }
+
+        abstract void declareKey(String key, String name, String ownerKey);
+
+        abstract void releaseKey(String key);
+
+        abstract void releaseOwnedByKey(String ownerKey);
+
+        abstract void transferOwnershipByKey(String ownerKey, String newOwnerKey);
+    }
+
+    /**
+     * Tracks hashes of names, collecting those declared again, which are duplicates unless their hashes collide.
+     * <p>
+     * The hashes each owner was given are kept aside too, so that dropping or renaming an owner only visits its own
+     * names. They may include names released since, or given to another owner, which the declared hashes tell apart.
+     */
+    private final class HashedDeclarations extends Declarations {
+
+        private final LongOpenHashMap declared = new LongOpenHashMap();
+        private final LongOpenHashMap suspects = new LongOpenHashMap();
+        private final Map<Long, OwnedHashes> owned = new HashMap<>();
+
+        @Override
+        void declareKey(String key, String name, String ownerKey) {
+            final long hash = hash(key);
+            final long ownerHash = ownerKey == null ? 0 : hash(ownerKey);
+            if (!declared.putIfAbsent(hash, ownerHash)) {
+                suspects.putIfAbsent(hash, 0);
+            } else if (ownerHash != 0) {
+                owned.computeIfAbsent(ownerHash, owner -> new OwnedHashes()).add(hash);
+            }
+        }
+
+        @Override
+        void releaseKey(String key) {
+            declared.remove(hash(key));
+        }
+
+        @Override
+        void releaseOwnedByKey(String ownerKey) {
+            final long ownerHash = hash(ownerKey);
+            final OwnedHashes hashes = owned.remove(ownerHash);
+            if (hashes == null) {
+                return;
+            }
+            for (int index = 0; index < hashes.size; index++) {
+                if (isOwnedBy(hashes.hashes[index], ownerHash)) {
+                    declared.remove(hashes.hashes[index]);
+                }
+            }
+        }
+
+        @Override
+        void transferOwnershipByKey(String ownerKey, String newOwnerKey) {
+            final long ownerHash = hash(ownerKey);
+            final long newOwnerHash = hash(newOwnerKey);
+            final OwnedHashes hashes = ownerHash == newOwnerHash ? null : owned.remove(ownerHash);
+            if (hashes == null) {
+                return;
+            }
+            final OwnedHashes newOwnerHashes = owned.computeIfAbsent(newOwnerHash, owner -> new OwnedHashes());
+            for (int index = 0; index < hashes.size; index++) {
+                if (isOwnedBy(hashes.hashes[index], ownerHash)) {
+                    declared.replace(hashes.hashes[index], newOwnerHash);
+                    newOwnerHashes.add(hashes.hashes[index]);
+                }
+            }
+        }
+
+        private boolean isOwnedBy(long hash, long ownerHash) {
+            return declared.containsKey(hash) && declared.get(hash) == ownerHash;
+        }
+    }
+
+    /**
+     * The hashes of the names given to an owner, in a growing array.
+     */
+    private static final class OwnedHashes {
+
+        private long[] hashes = new long[4];
+        private int size;
+
+        private void add(long hash) {
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size * 2);
+            }
+            hashes[size++] = hash;
+        }
+    }
+
+    /**
+     * Tracks the names whose hashes were declared again, as strings, collecting the actual duplicates declared again in
+     * a linted change set.
+     */
+    private final class ExactDeclarations extends Declarations {
+
+        private final LongOpenHashMap suspects;
+        private final Predicate<ChangeSet> linted;
+        private final Map<String, Declaration> declared = new HashMap<>();
+        private final List<Duplicate> duplicates = new ArrayList<>();
+
+        private ExactDeclarations(LongOpenHashMap suspects, Predicate<ChangeSet> linted) {
+            this.suspects = suspects;
+            this.linted = linted;
+        }
+
+        @Override
+        void declareKey(String key, String name, String ownerKey) {
+            if (!suspects.containsKey(hash(key))) {
+                return;
+            }
+            final Declaration previous = declared.putIfAbsent(key, new Declaration(ownerKey, location()));
+            if (previous != null && linted.test(changeSet())) {
+                duplicates.add(new Duplicate(name, previous.location, location()));
+            }
+        }
+
+        @Override
+        void releaseKey(String key) {
+            declared.remove(key);
+        }
+
+        @Override
+        void releaseOwnedByKey(String ownerKey) {
+            declared.values().removeIf(declaration -> ownerKey.equals(declaration.ownerKey));
+        }
+
+        @Override
+        void transferOwnershipByKey(String ownerKey, String newOwnerKey) {
+            declared.replaceAll((key, declaration) ->
+                ownerKey.equals(declaration.ownerKey) ? new Declaration(newOwnerKey, declaration.location) : declaration
+            );
+        }
+    }
+
+    private static final class Declaration {
+
+        private final String ownerKey;
+        private final String location;
+
+        private Declaration(String ownerKey, String location) {
+            this.ownerKey = ownerKey;
+            this.location = location;
+        }
+    }
+
+    private static final class Duplicate {
+
+        private final String name;
+        private final String first;
+        private final String again;
+
+        private Duplicate(String name, String first, String again) {
+            this.name = name;
+            this.first = first;
+            this.again = again;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.liquibaselinter.rules.core;
+
+/**
+ * A map from {@code long} keys to {@code long} values, with open addressing and linear probing over two primitive
+ * arrays, so that the hashes of hundreds of thousands of names take a few megabytes rather than an object each.
+ * <p>
+ * An empty slot holds the key {@code 0}, so that key is kept aside.
+ */
+final class LongOpenHashMap {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int size;
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    /**
+     * @return whether the key was absent, and so is now mapped to the value
+     */
+    boolean putIfAbsent(long key, long value) {
+        if (key == 0) {
+            if (hasZeroKey) {
+                return false;
+            }
+            hasZeroKey = true;
+            zeroValue = value;
+            return true;
+        }
+        int slot = slot(key, keys.length);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & (keys.length - 1);
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size * 2 > keys.length) {
+            grow();
+        }
+        return true;
+    }
+
+    boolean containsKey(long key) {
+        return key == 0 ? hasZeroKey : find(key) >= 0;
+    }
+
+    void remove(long key) {
+        if (key == 0) {
+            hasZeroKey = false;
+            return;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return;
+        }
+        size--;
+        // shift the entries that follow back into the hole, so that probing never stops short of them
+        int next = (slot + 1) & (keys.length - 1);
+        while (keys[next] != 0) {
+            final int home = slot(keys[next], keys.length);
+            if (((next - home) & (keys.length - 1)) >= ((next - slot) & (keys.length - 1))) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+            next = (next + 1) & (keys.length - 1);
+        }
+        keys[slot] = 0;
+    }
+
+    /**
+     * @return the value the key is mapped to, or {@code 0} when it is absent
+     */
+    long get(long key) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : 0;
+        }
+        final int slot = find(key);
+        return slot < 0 ? 0 : values[slot];
+    }
+
+    /**
+     * Maps a key to another value, if it is present.
+     */
+    void replace(long key, long value) {
+        if (key == 0) {
+            if (hasZeroKey) {
+                zeroValue = value;
+            }
+            return;
+        }
+        final int slot = find(key);
+        if (slot >= 0) {
+            values[slot] = value;
+        }
+    }
+
+    int size() {
+        return hasZeroKey ? size + 1 : size;
+    }
+
+    private int find(long key) {
+        int slot = slot(key, keys.length);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & (keys.length - 1);
+        }
+        return -1;
+    }
+
+    private void grow() {
+        final long[] oldKeys = keys;
+        final long[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new long[oldValues.length * 2];
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            if (oldKeys[oldSlot] != 0) {
+                int slot = slot(oldKeys[oldSlot], keys.length);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & (keys.length - 1);
+                }
+                keys[slot] = oldKeys[oldSlot];
+                values[slot] = oldValues[oldSlot];
+            }
+        }
+    }
+
+    private static int slot(long key, int capacity) {
+        final long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & (capacity - 1);
+    }
+}
@@ -2,13 +2,13 @@ package io.github.liquibaselinter.rules.core;
 
 import com.google.auto.service.AutoService;
 import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.ChangeFacts;
 import io.github.liquibaselinter.rules.ChangeRule;
 import io.github.liquibaselinter.rules.LintRuleChecker;
 import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
 import io.github.liquibaselinter.rules.RuleViolation;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.regex.Pattern;
 import liquibase.change.Change;
 import liquibase.change.core.AbstractModifyDataChange;
 
@@ -23,14 +23,24 @@ public class ModifyDataEnforceWhere implements ChangeRule {
         return NAME;
     }
 
+    @Override
+    public Collection<Class<? extends Change>> supportedChangeTypes() {
+        return Collections.singleton(AbstractModifyDataChange.class);
+    }
+
     @Override
     public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
+        return check(change, ChangeFacts.of(change), ruleConfig);
+    }
+
+    @Override
+    public Collection<RuleViolation> check(Change change, ChangeFacts facts, RuleConfig ruleConfig) {
         if (!(change instanceof AbstractModifyDataChange)) {
             return Collections.emptyList();
         }
 
         AbstractModifyDataChange modifyDataChange = (AbstractModifyDataChange) change;
-        if (isInvalid(ruleConfig, modifyDataChange)) {
+        if (isInvalid(ruleConfig, facts, modifyDataChange)) {
             LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
             return Collections.singleton(violations.withFormattedMessage(modifyDataChange.getTableName()));
         }
@@ -38,8 +48,8 @@ public class ModifyDataEnforceWhere implements ChangeRule {
         return Collections.emptyList();
     }
 
-    private boolean isInvalid(RuleConfig ruleConfig, AbstractModifyDataChange modifyDataChange) {
-        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig);
+    private boolean isInvalid(RuleConfig ruleConfig, ChangeFacts facts, AbstractModifyDataChange modifyDataChange) {
+        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig, facts);
         return (
             matchesTableName(ruleConfig, modifyDataChange.getTableName()) &&
             (ruleChecker.checkNotBlank(modifyDataChange.getWhere()) ||
@@ -48,9 +58,6 @@ public class ModifyDataEnforceWhere implements ChangeRule {
     }
 
     private boolean matchesTableName(RuleConfig ruleConfig, String tableName) {
-        if (ruleConfig.getValues() == null) {
-            return true;
-        }
-        return ruleConfig.getValues().stream().anyMatch(value -> Pattern.compile(value).matcher(tableName).matches());
+        return ruleConfig.getCompiled().matchesValuePatterns(tableName);
     }
 }
@@ -23,6 +23,11 @@ public class ModifyDataStartsWithWhere implements ChangeRule {
         return NAME;
     }
 
+    @Override
+    public Collection<Class<? extends Change>> supportedChangeTypes() {
+        return Collections.singleton(AbstractModifyDataChange.class);
+    }
+
     @Override
     public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
         if (!(change instanceof AbstractModifyDataChange)) {
@@ -0,0 +1,36 @@
+package io.github.liquibaselinter.rules.core;
+
+import com.google.auto.service.AutoService;
+import io.github.liquibaselinter.rules.ChangeLogRule;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+
+@AutoService({ ChangeLogRule.class })
+public class NoDuplicateChangeSetRule extends DuplicateDeclarationRule {
+
+    private static final String NAME = "no-duplicate-changeset";
+    private static final String MESSAGE = "ChangeSet '%s' is declared more than once";
+
+    public NoDuplicateChangeSetRule() {
+        super(MESSAGE, false);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    void declare(ChangeSet changeSet, Declarations declarations) {
+        final String filePath = DatabaseChangeLog.normalizePath(changeSet.getFilePath());
+        declarations.declare("changeSet", filePath + "::" + changeSet.getId() + "::" + changeSet.getAuthor(), null);
+    }
+
+    /**
+     * Change set ids and authors are case-sensitive.
+     */
+    @Override
+    String normalize(String name) {
+        return name;
+    }
+}
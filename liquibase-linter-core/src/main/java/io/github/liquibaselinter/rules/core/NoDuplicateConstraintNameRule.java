@@ -0,0 +1,166 @@
+package io.github.liquibaselinter.rules.core;
+
+import com.google.auto.service.AutoService;
+import io.github.liquibaselinter.rules.ChangeLogRule;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import liquibase.change.Change;
+import liquibase.change.ColumnConfig;
+import liquibase.change.ConstraintsConfig;
+import liquibase.change.core.AddColumnChange;
+import liquibase.change.core.AddForeignKeyConstraintChange;
+import liquibase.change.core.AddPrimaryKeyChange;
+import liquibase.change.core.AddUniqueConstraintChange;
+import liquibase.change.core.CreateIndexChange;
+import liquibase.change.core.CreateTableChange;
+import liquibase.change.core.DropForeignKeyConstraintChange;
+import liquibase.change.core.DropIndexChange;
+import liquibase.change.core.DropPrimaryKeyChange;
+import liquibase.change.core.DropTableChange;
+import liquibase.change.core.DropUniqueConstraintChange;
+import liquibase.change.core.RenameTableChange;
+import liquibase.changelog.ChangeSet;
+
+/**
+ * Primary key, unique and foreign key constraints share a namespace, and indexes have their own, since an index may
+ * well be named after the constraint it backs. Dropping a table releases the names of its constraints and indexes.
+ */
+@AutoService({ ChangeLogRule.class })
+public class NoDuplicateConstraintNameRule extends DuplicateDeclarationRule {
+
+    private static final String NAME = "no-duplicate-constraint-name";
+    private static final String MESSAGE = "Constraint or index name '%s' declared in '%s' is declared again in '%s'";
+    private static final String CONSTRAINT = "constraint";
+    private static final String INDEX = "index";
+
+    public NoDuplicateConstraintNameRule() {
+        super(MESSAGE, true);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    void declare(ChangeSet changeSet, Declarations declarations) {
+        for (Change change : changeSet.getChanges()) {
+            declare(change, declarations);
+        }
+    }
+
+    private static void declare(Change change, Declarations declarations) {
+        if (change instanceof CreateTableChange) {
+            final CreateTableChange createTable = (CreateTableChange) change;
+            declareColumnConstraints(
+                createTable.getSchemaName(),
+                createTable.getTableName(),
+                createTable.getColumns(),
+                declarations
+            );
+        } else if (change instanceof AddColumnChange) {
+            final AddColumnChange addColumn = (AddColumnChange) change;
+            declareColumnConstraints(
+                addColumn.getSchemaName(),
+                addColumn.getTableName(),
+                addColumn.getColumns(),
+                declarations
+            );
+        } else if (change instanceof AddPrimaryKeyChange) {
+            final AddPrimaryKeyChange addPrimaryKey = (AddPrimaryKeyChange) change;
+            declareConstraint(
+                addPrimaryKey.getSchemaName(),
+                addPrimaryKey.getTableName(),
+                addPrimaryKey.getConstraintName(),
+                declarations
+            );
+        } else if (change instanceof AddUniqueConstraintChange) {
+            final AddUniqueConstraintChange addUnique = (AddUniqueConstraintChange) change;
+            declareConstraint(
+                addUnique.getSchemaName(),
+                addUnique.getTableName(),
+                addUnique.getConstraintName(),
+                declarations
+            );
+        } else if (change instanceof AddForeignKeyConstraintChange) {
+            final AddForeignKeyConstraintChange addForeignKey = (AddForeignKeyConstraintChange) change;
+            declareConstraint(
+                addForeignKey.getBaseTableSchemaName(),
+                addForeignKey.getBaseTableName(),
+                addForeignKey.getConstraintName(),
+                declarations
+            );
+        } else if (change instanceof CreateIndexChange) {
+            final CreateIndexChange createIndex = (CreateIndexChange) change;
+            declarations.declare(
+                INDEX,
+                qualified(createIndex.getSchemaName(), createIndex.getIndexName()),
+                qualified(createIndex.getSchemaName(), createIndex.getTableName())
+            );
+        } else {
+            release(change, declarations);
+        }
+    }
+
+    private static void release(Change change, Declarations declarations) {
+        if (change instanceof DropPrimaryKeyChange) {
+            final DropPrimaryKeyChange dropPrimaryKey = (DropPrimaryKeyChange) change;
+            declarations.release(
+                CONSTRAINT,
+                qualified(dropPrimaryKey.getSchemaName(), dropPrimaryKey.getConstraintName())
+            );
+        } else if (change instanceof DropUniqueConstraintChange) {
+            final DropUniqueConstraintChange dropUnique = (DropUniqueConstraintChange) change;
+            declarations.release(CONSTRAINT, qualified(dropUnique.getSchemaName(), dropUnique.getConstraintName()));
+        } else if (change instanceof DropForeignKeyConstraintChange) {
+            final DropForeignKeyConstraintChange dropForeignKey = (DropForeignKeyConstraintChange) change;
+            declarations.release(
+                CONSTRAINT,
+                qualified(dropForeignKey.getBaseTableSchemaName(), dropForeignKey.getConstraintName())
+            );
+        } else if (change instanceof DropIndexChange) {
+            final DropIndexChange dropIndex = (DropIndexChange) change;
+            declarations.release(INDEX, qualified(dropIndex.getSchemaName(), dropIndex.getIndexName()));
+        } else if (change instanceof DropTableChange) {
+            final DropTableChange dropTable = (DropTableChange) change;
+            declarations.releaseOwnedBy(qualified(dropTable.getSchemaName(), dropTable.getTableName()));
+        } else if (change instanceof RenameTableChange) {
+            final RenameTableChange renameTable = (RenameTableChange) change;
+            declarations.transferOwnership(
+                qualified(renameTable.getSchemaName(), renameTable.getOldTableName()),
+                qualified(renameTable.getSchemaName(), renameTable.getNewTableName())
+            );
+        }
+    }
+
+    private static void declareColumnConstraints(
+        String schemaName,
+        String tableName,
+        List<? extends ColumnConfig> columns,
+        Declarations declarations
+    ) {
+        // the columns of a composite key each name the same constraint
+        final Set<String> constraintNames = new LinkedHashSet<>();
+        for (ColumnConfig column : columns) {
+            final ConstraintsConfig constraints = column.getConstraints();
+            if (constraints != null) {
+                constraintNames.add(constraints.getPrimaryKeyName());
+                constraintNames.add(constraints.getUniqueConstraintName());
+                constraintNames.add(constraints.getForeignKeyName());
+            }
+        }
+        for (String constraintName : constraintNames) {
+            declareConstraint(schemaName, tableName, constraintName, declarations);
+        }
+    }
+
+    private static void declareConstraint(
+        String schemaName,
+        String tableName,
+        String constraintName,
+        Declarations declarations
+    ) {
+        declarations.declare(CONSTRAINT, qualified(schemaName, constraintName), qualified(schemaName, tableName));
+    }
+}
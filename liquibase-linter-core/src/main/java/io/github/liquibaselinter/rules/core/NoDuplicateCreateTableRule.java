@@ -0,0 +1,47 @@
+package io.github.liquibaselinter.rules.core;
+
+import com.google.auto.service.AutoService;
+import io.github.liquibaselinter.rules.ChangeLogRule;
+import liquibase.change.Change;
+import liquibase.change.core.CreateTableChange;
+import liquibase.change.core.DropTableChange;
+import liquibase.change.core.RenameTableChange;
+import liquibase.changelog.ChangeSet;
+
+@AutoService({ ChangeLogRule.class })
+public class NoDuplicateCreateTableRule extends DuplicateDeclarationRule {
+
+    private static final String NAME = "no-duplicate-create-table";
+    private static final String MESSAGE = "Table '%s' created in '%s' is created again in '%s'";
+    private static final String TABLE = "table";
+
+    public NoDuplicateCreateTableRule() {
+        super(MESSAGE, true);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    void declare(ChangeSet changeSet, Declarations declarations) {
+        for (Change change : changeSet.getChanges()) {
+            if (change instanceof CreateTableChange) {
+                final CreateTableChange createTable = (CreateTableChange) change;
+                declarations.declare(TABLE, qualified(createTable.getSchemaName(), createTable.getTableName()), null);
+            } else if (change instanceof DropTableChange) {
+                final DropTableChange dropTable = (DropTableChange) change;
+                declarations.release(TABLE, qualified(dropTable.getSchemaName(), dropTable.getTableName()));
+            } else if (change instanceof RenameTableChange) {
+                final RenameTableChange renameTable = (RenameTableChange) change;
+                declarations.release(TABLE, qualified(renameTable.getSchemaName(), renameTable.getOldTableName()));
+                declarations.declare(
+                    TABLE,
+                    qualified(renameTable.getSchemaName(), renameTable.getNewTableName()),
+                    null
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.liquibaselinter.rules.core;
+
+import com.google.auto.service.AutoService;
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
+import io.github.liquibaselinter.rules.RuleViolation;
+import io.github.liquibaselinter.rules.SchemaChangeRule;
+import io.github.liquibaselinter.rules.SchemaModel;
+import java.util.Collection;
+import java.util.Collections;
+import liquibase.change.Change;
+import liquibase.change.core.DropIndexChange;
+
+@AutoService(SchemaChangeRule.class)
+public class NoMissingIndexRule implements SchemaChangeRule {
+
+    private static final String NAME = "no-missing-index";
+    private static final String MESSAGE = "Index '%s' is not created by any earlier change set";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Collection<RuleViolation> check(Change change, SchemaModel schema, RuleConfig ruleConfig) {
+        if (!(change instanceof DropIndexChange)) {
+            return Collections.emptyList();
+        }
+        final DropIndexChange dropIndex = (DropIndexChange) change;
+        if (schema.index(dropIndex.getSchemaName(), dropIndex.getIndexName()) == SchemaModel.Existence.MISSING) {
+            final LintRuleViolationGenerator violations = new LintRuleViolationGenerator(MESSAGE, ruleConfig);
+            return Collections.singleton(
+                violations.withFormattedMessage(
+                    DuplicateDeclarationRule.qualified(dropIndex.getSchemaName(), dropIndex.getIndexName())
+                )
+            );
+        }
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.liquibaselinter.rules.core;
+
+import com.google.auto.service.AutoService;
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
+import io.github.liquibaselinter.rules.RuleViolation;
+import io.github.liquibaselinter.rules.SchemaChangeRule;
+import io.github.liquibaselinter.rules.SchemaModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import liquibase.change.Change;
+import liquibase.change.core.*;
+
+@AutoService(SchemaChangeRule.class)
+public class NoMissingTableRule implements SchemaChangeRule {
+
+    private static final String NAME = "no-missing-table";
+    private static final String MESSAGE = "Table '%s' is not created by any earlier change set";
+
+    private static final Map<Class<? extends Change>, Function<Change, List<TableName>>> TABLES = new LinkedHashMap<>();
+
+    private static final Map<Class<?>, Function<Change, List<TableName>>> RESOLVED = new ConcurrentHashMap<>();
+
+    static {
+        add(AddColumnChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(DropColumnChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(RenameColumnChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(ModifyDataTypeChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(AddNotNullConstraintChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(DropNotNullConstraintChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(AddDefaultValueChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(DropDefaultValueChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(AddAutoIncrementChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(CreateIndexChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(AddPrimaryKeyChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(DropPrimaryKeyChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(AddUniqueConstraintChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(DropUniqueConstraintChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(AddForeignKeyConstraintChange.class, change ->
+            Arrays.asList(
+                new TableName(change.getBaseTableSchemaName(), change.getBaseTableName()),
+                new TableName(change.getReferencedTableSchemaName(), change.getReferencedTableName())
+            )
+        );
+        add(AddLookupTableChange.class, change ->
+            table(change.getExistingTableSchemaName(), change.getExistingTableName())
+        );
+        add(DropForeignKeyConstraintChange.class, change ->
+            table(change.getBaseTableSchemaName(), change.getBaseTableName())
+        );
+        add(DropTableChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(RenameTableChange.class, change -> table(change.getSchemaName(), change.getOldTableName()));
+        add(SetColumnRemarksChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(SetTableRemarksChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(InsertDataChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(LoadDataChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+        add(AbstractModifyDataChange.class, change -> table(change.getSchemaName(), change.getTableName()));
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Collection<RuleViolation> check(Change change, SchemaModel schema, RuleConfig ruleConfig) {
+        final Function<Change, List<TableName>> tables = RESOLVED.computeIfAbsent(change.getClass(), changeType ->
+            TABLES.entrySet()
+                .stream()
+                .filter(entry -> entry.getKey().isAssignableFrom(changeType))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(ignored -> Collections.emptyList())
+        );
+        final LintRuleViolationGenerator violations = new LintRuleViolationGenerator(MESSAGE, ruleConfig);
+        final List<RuleViolation> missing = new ArrayList<>();
+        for (TableName table : tables.apply(change)) {
+            if (schema.table(table.schemaName, table.tableName) == SchemaModel.Existence.MISSING) {
+                missing.add(violations.withFormattedMessage(table));
+            }
+        }
+        return missing;
+    }
+
+    private static <C extends Change> void add(Class<C> changeType, Function<C, List<TableName>> tables) {
+        TABLES.put(changeType, change -> tables.apply(changeType.cast(change)));
+    }
+
+    private static List<TableName> table(String schemaName, String tableName) {
+        return Collections.singletonList(new TableName(schemaName, tableName));
+    }
+
+    private static final class TableName {
+
+        private final String schemaName;
+        private final String tableName;
+
+        private TableName(String schemaName, String tableName) {
+            this.schemaName = schemaName;
+            this.tableName = tableName;
+        }
+
+        @Override
+        public String toString() {
+            return DuplicateDeclarationRule.qualified(schemaName, tableName);
+        }
+    }
+}
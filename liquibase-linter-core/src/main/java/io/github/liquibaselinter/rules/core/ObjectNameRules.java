@@ -2,15 +2,16 @@ package io.github.liquibaselinter.rules.core;
 
 import com.google.auto.service.AutoService;
 import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.ChangeFacts;
 import io.github.liquibaselinter.rules.ChangeRule;
 import io.github.liquibaselinter.rules.LintRuleChecker;
 import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
 import io.github.liquibaselinter.rules.RuleViolation;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
 import liquibase.change.Change;
-import liquibase.change.ColumnConfig;
 import liquibase.change.core.AddColumnChange;
 import liquibase.change.core.AddForeignKeyConstraintChange;
 import liquibase.change.core.AddPrimaryKeyChange;
@@ -24,45 +25,20 @@ import liquibase.change.core.RenameViewChange;
 
 public class ObjectNameRules {
 
-    private static Collection<String> getObjectNames(Change change) {
-        if (change instanceof AddColumnChange) {
-            return ((AddColumnChange) change).getColumns()
-                .stream()
-                .map(ColumnConfig::getName)
-                .collect(Collectors.toList());
-        }
-        if (change instanceof AddForeignKeyConstraintChange) {
-            return Collections.singletonList(((AddForeignKeyConstraintChange) change).getConstraintName());
-        }
-        if (change instanceof AddPrimaryKeyChange) {
-            return Collections.singletonList(((AddPrimaryKeyChange) change).getConstraintName());
-        }
-        if (change instanceof AddUniqueConstraintChange) {
-            return Collections.singletonList(((AddUniqueConstraintChange) change).getConstraintName());
-        }
-        if (change instanceof CreateTableChange) {
-            return ((CreateTableChange) change).getColumns()
-                .stream()
-                .map(ColumnConfig::getName)
-                .collect(Collectors.toList());
-        }
-        if (change instanceof MergeColumnChange) {
-            return Collections.singletonList(((MergeColumnChange) change).getFinalColumnName());
-        }
-        if (change instanceof RenameColumnChange) {
-            return Collections.singletonList(((RenameColumnChange) change).getNewColumnName());
-        }
-        if (change instanceof RenameViewChange) {
-            return Collections.singletonList(((RenameViewChange) change).getNewViewName());
-        }
-        if (change instanceof CreateViewChange) {
-            return Collections.singletonList(((CreateViewChange) change).getViewName());
-        }
-        if (change instanceof CreateIndexChange) {
-            return Collections.singletonList(((CreateIndexChange) change).getIndexName());
-        }
-        return Collections.emptyList();
-    }
+    private static final Collection<Class<? extends Change>> SUPPORTED_CHANGE_TYPES = Collections.unmodifiableList(
+        Arrays.asList(
+            AddColumnChange.class,
+            AddForeignKeyConstraintChange.class,
+            AddPrimaryKeyChange.class,
+            AddUniqueConstraintChange.class,
+            CreateTableChange.class,
+            MergeColumnChange.class,
+            RenameColumnChange.class,
+            RenameViewChange.class,
+            CreateViewChange.class,
+            CreateIndexChange.class
+        )
+    );
 
     @AutoService(ChangeRule.class)
     public static class ObjectNameRule implements ChangeRule {
@@ -75,11 +51,22 @@ public class ObjectNameRules {
             return NAME;
         }
 
+        @Override
+        public Collection<Class<? extends Change>> supportedChangeTypes() {
+            return SUPPORTED_CHANGE_TYPES;
+        }
+
         @Override
         public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
-            LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig);
+            return check(change, ChangeFacts.of(change), ruleConfig);
+        }
+
+        @Override
+        public Collection<RuleViolation> check(Change change, ChangeFacts facts, RuleConfig ruleConfig) {
+            LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig, facts);
             LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
-            return getObjectNames(change)
+            return facts
+                .getObjectNames()
                 .stream()
                 .filter(objectName -> ruleChecker.checkMandatoryPattern(objectName, change))
                 .map(objectName -> violations.withFormattedMessage(objectName, ruleConfig.getPatternString()))
@@ -98,11 +85,22 @@ public class ObjectNameRules {
             return NAME;
         }
 
+        @Override
+        public Collection<Class<? extends Change>> supportedChangeTypes() {
+            return SUPPORTED_CHANGE_TYPES;
+        }
+
         @Override
         public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
-            LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig);
+            return check(change, ChangeFacts.of(change), ruleConfig);
+        }
+
+        @Override
+        public Collection<RuleViolation> check(Change change, ChangeFacts facts, RuleConfig ruleConfig) {
+            LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig, facts);
             LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
-            return getObjectNames(change)
+            return facts
+                .getObjectNames()
                 .stream()
                 .filter(ruleChecker::checkMaxLength)
                 .map(objectName -> violations.withFormattedMessage(objectName, ruleConfig.getMaxLength()))
@@ -2,18 +2,15 @@ package io.github.liquibaselinter.rules.core;
 
 import com.google.auto.service.AutoService;
 import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.ChangeFacts;
 import io.github.liquibaselinter.rules.ChangeRule;
 import io.github.liquibaselinter.rules.LintRuleChecker;
 import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
 import io.github.liquibaselinter.rules.RuleViolation;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 import liquibase.change.Change;
-import liquibase.change.ColumnConfig;
-import liquibase.change.ConstraintsConfig;
 import liquibase.change.core.AddPrimaryKeyChange;
 import liquibase.change.core.CreateTableChange;
 
@@ -29,42 +26,26 @@ public class PrimaryKeyNameRule implements ChangeRule {
     }
 
     @Override
-    public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
-        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig);
-        LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
-        return extractConstraintNamesFrom(change)
-            .stream()
-            .filter(constraintName -> ruleChecker.checkMandatoryPattern(constraintName, change))
-            .map(constraintName ->
-                violations.withFormattedMessage(constraintName, ruleConfig.effectivePatternFor(change))
-            )
-            .collect(Collectors.toList());
+    public Collection<Class<? extends Change>> supportedChangeTypes() {
+        return Arrays.asList(AddPrimaryKeyChange.class, CreateTableChange.class);
     }
 
-    private Collection<String> extractConstraintNamesFrom(Change change) {
-        if (change instanceof AddPrimaryKeyChange) {
-            return Collections.singleton(((AddPrimaryKeyChange) change).getConstraintName());
-        }
-        if (change instanceof CreateTableChange) {
-            return primaryKeyNamesFromCreateTable((CreateTableChange) change);
-        }
-        return Collections.emptyList();
+    @Override
+    public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
+        return check(change, ChangeFacts.of(change), ruleConfig);
     }
 
-    private static List<String> primaryKeyNamesFromCreateTable(CreateTableChange change) {
-        if (change.getColumns() == null) {
-            return Collections.emptyList();
-        }
-        return change
-            .getColumns()
+    @Override
+    public Collection<RuleViolation> check(Change change, ChangeFacts facts, RuleConfig ruleConfig) {
+        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig, facts);
+        LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
+        return facts
+            .getPrimaryKeyNames()
             .stream()
-            .map(ColumnConfig::getConstraints)
-            .filter(Objects::nonNull)
-            .filter(
-                constraint -> Boolean.TRUE.equals(constraint.isPrimaryKey()) || constraint.getPrimaryKeyName() != null
+            .filter(constraintName -> ruleChecker.checkMandatoryPattern(constraintName, change))
+            .map(constraintName ->
+                violations.withFormattedMessage(constraintName, ruleChecker.effectivePatternFor(change))
             )
-            .map(ConstraintsConfig::getPrimaryKeyName)
-            .distinct()
             .collect(Collectors.toList());
     }
 }
@@ -2,6 +2,7 @@ package io.github.liquibaselinter.rules.core;
 
 import com.google.auto.service.AutoService;
 import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.ChangeFacts;
 import io.github.liquibaselinter.rules.ChangeRule;
 import io.github.liquibaselinter.rules.LintRuleChecker;
 import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
@@ -51,126 +52,47 @@ import liquibase.change.core.SetTableRemarksChange;
 
 public class SchemaNameRules {
 
-    private static Collection<String> getSchemaName(Change change) {
-        if (change instanceof AbstractModifyDataChange) {
-            return Collections.singletonList(((AbstractModifyDataChange) change).getSchemaName());
-        }
-        if (change instanceof AddAutoIncrementChange) {
-            return Collections.singletonList(((AddAutoIncrementChange) change).getSchemaName());
-        }
-        if (change instanceof AddColumnChange) {
-            return Collections.singletonList(((AddColumnChange) change).getSchemaName());
-        }
-        if (change instanceof AddDefaultValueChange) {
-            return Collections.singletonList(((AddDefaultValueChange) change).getSchemaName());
-        }
-        if (change instanceof AddForeignKeyConstraintChange) {
-            return Arrays.asList(
-                ((AddForeignKeyConstraintChange) change).getBaseTableSchemaName(),
-                ((AddForeignKeyConstraintChange) change).getReferencedTableSchemaName()
-            );
-        }
-        if (change instanceof AddLookupTableChange) {
-            return Arrays.asList(
-                ((AddLookupTableChange) change).getExistingTableSchemaName(),
-                ((AddLookupTableChange) change).getNewTableSchemaName()
-            );
-        }
-        if (change instanceof AddNotNullConstraintChange) {
-            return Collections.singletonList(((AddNotNullConstraintChange) change).getSchemaName());
-        }
-        if (change instanceof AddPrimaryKeyChange) {
-            return Collections.singletonList(((AddPrimaryKeyChange) change).getSchemaName());
-        }
-        if (change instanceof AddUniqueConstraintChange) {
-            return Collections.singletonList(((AddUniqueConstraintChange) change).getSchemaName());
-        }
-        if (change instanceof AlterSequenceChange) {
-            return Collections.singletonList(((AlterSequenceChange) change).getSchemaName());
-        }
-        if (change instanceof CreateIndexChange) {
-            return Collections.singletonList(((CreateIndexChange) change).getSchemaName());
-        }
-        if (change instanceof CreateProcedureChange) {
-            return Collections.singletonList(((CreateProcedureChange) change).getSchemaName());
-        }
-        if (change instanceof CreateSequenceChange) {
-            return Collections.singletonList(((CreateSequenceChange) change).getSchemaName());
-        }
-        if (change instanceof CreateTableChange) {
-            return Collections.singletonList(((CreateTableChange) change).getSchemaName());
-        }
-        if (change instanceof CreateViewChange) {
-            return Collections.singletonList(((CreateViewChange) change).getSchemaName());
-        }
-        if (change instanceof DropAllForeignKeyConstraintsChange) {
-            return Collections.singletonList(((DropAllForeignKeyConstraintsChange) change).getBaseTableSchemaName());
-        }
-        if (change instanceof DropColumnChange) {
-            return Collections.singletonList(((DropColumnChange) change).getSchemaName());
-        }
-        if (change instanceof DropDefaultValueChange) {
-            return Collections.singletonList(((DropDefaultValueChange) change).getSchemaName());
-        }
-        if (change instanceof DropForeignKeyConstraintChange) {
-            return Collections.singletonList(((DropForeignKeyConstraintChange) change).getBaseTableSchemaName());
-        }
-        if (change instanceof DropIndexChange) {
-            return Collections.singletonList(((DropIndexChange) change).getSchemaName());
-        }
-        if (change instanceof DropNotNullConstraintChange) {
-            return Collections.singletonList(((DropNotNullConstraintChange) change).getSchemaName());
-        }
-        if (change instanceof DropPrimaryKeyChange) {
-            return Collections.singletonList(((DropPrimaryKeyChange) change).getSchemaName());
-        }
-        if (change instanceof DropProcedureChange) {
-            return Collections.singletonList(((DropProcedureChange) change).getSchemaName());
-        }
-        if (change instanceof DropSequenceChange) {
-            return Collections.singletonList(((DropSequenceChange) change).getSchemaName());
-        }
-        if (change instanceof DropTableChange) {
-            return Collections.singletonList(((DropTableChange) change).getSchemaName());
-        }
-        if (change instanceof DropUniqueConstraintChange) {
-            return Collections.singletonList(((DropUniqueConstraintChange) change).getSchemaName());
-        }
-        if (change instanceof DropViewChange) {
-            return Collections.singletonList(((DropViewChange) change).getSchemaName());
-        }
-        if (change instanceof InsertDataChange) {
-            return Collections.singletonList(((InsertDataChange) change).getSchemaName());
-        }
-        if (change instanceof LoadDataChange) {
-            return Collections.singletonList(((LoadDataChange) change).getSchemaName());
-        }
-        if (change instanceof MergeColumnChange) {
-            return Collections.singletonList(((MergeColumnChange) change).getSchemaName());
-        }
-        if (change instanceof ModifyDataTypeChange) {
-            return Collections.singletonList(((ModifyDataTypeChange) change).getSchemaName());
-        }
-        if (change instanceof RenameColumnChange) {
-            return Collections.singletonList(((RenameColumnChange) change).getSchemaName());
-        }
-        if (change instanceof RenameSequenceChange) {
-            return Collections.singletonList(((RenameSequenceChange) change).getSchemaName());
-        }
-        if (change instanceof RenameTableChange) {
-            return Collections.singletonList(((RenameTableChange) change).getSchemaName());
-        }
-        if (change instanceof RenameViewChange) {
-            return Collections.singletonList(((RenameViewChange) change).getSchemaName());
-        }
-        if (change instanceof SetColumnRemarksChange) {
-            return Collections.singletonList(((SetColumnRemarksChange) change).getSchemaName());
-        }
-        if (change instanceof SetTableRemarksChange) {
-            return Collections.singletonList(((SetTableRemarksChange) change).getSchemaName());
-        }
-        return Collections.emptyList();
-    }
+    private static final Collection<Class<? extends Change>> SUPPORTED_CHANGE_TYPES = Collections.unmodifiableList(
+        Arrays.asList(
+            AbstractModifyDataChange.class,
+            AddAutoIncrementChange.class,
+            AddColumnChange.class,
+            AddDefaultValueChange.class,
+            AddForeignKeyConstraintChange.class,
+            AddLookupTableChange.class,
+            AddNotNullConstraintChange.class,
+            AddPrimaryKeyChange.class,
+            AddUniqueConstraintChange.class,
+            AlterSequenceChange.class,
+            CreateIndexChange.class,
+            CreateProcedureChange.class,
+            CreateSequenceChange.class,
+            CreateTableChange.class,
+            CreateViewChange.class,
+            DropAllForeignKeyConstraintsChange.class,
+            DropColumnChange.class,
+            DropDefaultValueChange.class,
+            DropForeignKeyConstraintChange.class,
+            DropIndexChange.class,
+            DropNotNullConstraintChange.class,
+            DropPrimaryKeyChange.class,
+            DropProcedureChange.class,
+            DropSequenceChange.class,
+            DropTableChange.class,
+            DropUniqueConstraintChange.class,
+            DropViewChange.class,
+            InsertDataChange.class,
+            LoadDataChange.class,
+            MergeColumnChange.class,
+            ModifyDataTypeChange.class,
+            RenameColumnChange.class,
+            RenameSequenceChange.class,
+            RenameTableChange.class,
+            RenameViewChange.class,
+            SetColumnRemarksChange.class,
+            SetTableRemarksChange.class
+        )
+    );
 
     @AutoService(ChangeRule.class)
     public static class SchemaNameRule implements ChangeRule {
@@ -183,11 +105,22 @@ public class SchemaNameRules {
             return NAME;
         }
 
+        @Override
+        public Collection<Class<? extends Change>> supportedChangeTypes() {
+            return SUPPORTED_CHANGE_TYPES;
+        }
+
         @Override
         public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
-            LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig);
+            return check(change, ChangeFacts.of(change), ruleConfig);
+        }
+
+        @Override
+        public Collection<RuleViolation> check(Change change, ChangeFacts facts, RuleConfig ruleConfig) {
+            LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig, facts);
             LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
-            return getSchemaName(change)
+            return facts
+                .getSchemaNames()
                 .stream()
                 .filter(schemaName -> ruleChecker.checkMandatoryPattern(schemaName, change))
                 .distinct()
@@ -207,11 +140,22 @@ public class SchemaNameRules {
             return NAME;
         }
 
+        @Override
+        public Collection<Class<? extends Change>> supportedChangeTypes() {
+            return SUPPORTED_CHANGE_TYPES;
+        }
+
         @Override
         public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
-            LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig);
+            return check(change, ChangeFacts.of(change), ruleConfig);
+        }
+
+        @Override
+        public Collection<RuleViolation> check(Change change, ChangeFacts facts, RuleConfig ruleConfig) {
+            LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig, facts);
             LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
-            return getSchemaName(change)
+            return facts
+                .getSchemaNames()
                 .stream()
                 .filter(ruleChecker::checkBlank)
                 .distinct()
@@ -41,13 +41,13 @@ public class SeparateDDLChangesRule implements ChangeSetRule {
         for (Change change : changeSet.getChanges()) {
             if (Changes.isDDL(change)) {
                 for (String context : contexts) {
-                    if (!ruleConfig.getPattern().map(pattern -> pattern.matcher(context).matches()).orElse(true)) {
+                    if (!ruleConfig.getCompiled().matchesPattern(context)) {
                         return true;
                     }
                 }
             } else if (Changes.isDML(change)) {
                 for (String context : contexts) {
-                    if (ruleConfig.getPattern().map(pattern -> pattern.matcher(context).matches()).orElse(false)) {
+                    if (ruleConfig.getPattern().isPresent() && ruleConfig.getCompiled().matchesPattern(context)) {
                         return true;
                     }
                 }
@@ -2,10 +2,12 @@ package io.github.liquibaselinter.rules.core;
 
 import com.google.auto.service.AutoService;
 import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.ChangeFacts;
 import io.github.liquibaselinter.rules.ChangeRule;
 import io.github.liquibaselinter.rules.LintRuleChecker;
 import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
 import io.github.liquibaselinter.rules.RuleViolation;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
@@ -24,14 +26,24 @@ public class SequenceNameRule implements ChangeRule {
         return NAME;
     }
 
+    @Override
+    public Collection<Class<? extends Change>> supportedChangeTypes() {
+        return Arrays.asList(CreateSequenceChange.class, RenameSequenceChange.class);
+    }
+
     @Override
     public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
-        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig);
+        return check(change, ChangeFacts.of(change), ruleConfig);
+    }
+
+    @Override
+    public Collection<RuleViolation> check(Change change, ChangeFacts facts, RuleConfig ruleConfig) {
+        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig, facts);
         LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
         return getSequencesName(change)
             .stream()
             .filter(sequenceName -> ruleChecker.checkMandatoryPattern(sequenceName, change))
-            .map(sequenceName -> violations.withFormattedMessage(sequenceName, ruleConfig.effectivePatternFor(change)))
+            .map(sequenceName -> violations.withFormattedMessage(sequenceName, ruleChecker.effectivePatternFor(change)))
             .collect(Collectors.toList());
     }
 
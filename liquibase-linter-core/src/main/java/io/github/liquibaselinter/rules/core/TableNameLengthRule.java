@@ -2,12 +2,13 @@ package io.github.liquibaselinter.rules.core;
 
 import com.google.auto.service.AutoService;
 import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.ChangeFacts;
 import io.github.liquibaselinter.rules.ChangeRule;
 import io.github.liquibaselinter.rules.LintRuleChecker;
 import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
 import io.github.liquibaselinter.rules.RuleViolation;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import liquibase.change.Change;
@@ -25,25 +26,26 @@ public class TableNameLengthRule implements ChangeRule {
         return NAME;
     }
 
+    @Override
+    public Collection<Class<? extends Change>> supportedChangeTypes() {
+        return Arrays.asList(CreateTableChange.class, RenameTableChange.class);
+    }
+
     @Override
     public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
-        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig);
+        return check(change, ChangeFacts.of(change), ruleConfig);
+    }
+
+    @Override
+    public Collection<RuleViolation> check(Change change, ChangeFacts facts, RuleConfig ruleConfig) {
+        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig, facts);
         LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
-        return getTablesName(change)
+        return facts
+            .getTableNames()
             .stream()
             .filter(Objects::nonNull)
             .filter(ruleChecker::checkMaxLength)
             .map(tableName -> violations.withFormattedMessage(tableName, ruleConfig.getMaxLength()))
             .collect(Collectors.toList());
     }
-
-    private Collection<String> getTablesName(Change change) {
-        if (change instanceof CreateTableChange) {
-            return Collections.singleton(((CreateTableChange) change).getTableName());
-        }
-        if (change instanceof RenameTableChange) {
-            return Collections.singleton(((RenameTableChange) change).getNewTableName());
-        }
-        return Collections.emptyList();
-    }
 }
@@ -2,12 +2,14 @@ package io.github.liquibaselinter.rules.core;
 
 import com.google.auto.service.AutoService;
 import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.ChangeFacts;
 import io.github.liquibaselinter.rules.ChangeRule;
 import io.github.liquibaselinter.rules.LintRuleChecker;
 import io.github.liquibaselinter.rules.LintRuleViolationGenerator;
 import io.github.liquibaselinter.rules.RuleViolation;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.stream.Collectors;
 import liquibase.change.Change;
 import liquibase.change.core.AddUniqueConstraintChange;
 
@@ -22,24 +24,30 @@ public class UniqueConstraintNameRule implements ChangeRule {
         return NAME;
     }
 
+    @Override
+    public Collection<Class<? extends Change>> supportedChangeTypes() {
+        return Collections.singleton(AddUniqueConstraintChange.class);
+    }
+
     @Override
     public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
+        return check(change, ChangeFacts.of(change), ruleConfig);
+    }
+
+    @Override
+    public Collection<RuleViolation> check(Change change, ChangeFacts facts, RuleConfig ruleConfig) {
         if (!(change instanceof AddUniqueConstraintChange)) {
             return Collections.emptyList();
         }
-
-        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig);
-        AddUniqueConstraintChange addUniqueConstraintChange = (AddUniqueConstraintChange) change;
-        if (ruleChecker.checkMandatoryPattern(addUniqueConstraintChange.getConstraintName(), change)) {
-            LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
-            return Collections.singleton(
-                violations.withFormattedMessage(
-                    addUniqueConstraintChange.getConstraintName(),
-                    ruleConfig.effectivePatternFor(change)
-                )
-            );
-        }
-
-        return Collections.emptyList();
+        LintRuleChecker ruleChecker = new LintRuleChecker(ruleConfig, facts);
+        LintRuleViolationGenerator violations = new LintRuleViolationGenerator(DEFAULT_MESSAGE, ruleConfig);
+        return facts
+            .getConstraintNames()
+            .stream()
+            .filter(constraintName -> ruleChecker.checkMandatoryPattern(constraintName, change))
+            .map(constraintName ->
+                violations.withFormattedMessage(constraintName, ruleChecker.effectivePatternFor(change))
+            )
+            .collect(Collectors.toList());
     }
 }
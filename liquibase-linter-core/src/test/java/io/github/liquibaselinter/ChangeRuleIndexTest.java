@@ -0,0 +1,122 @@
+package io.github.liquibaselinter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableListMultimap;
+import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.ChangeRule;
+import io.github.liquibaselinter.rules.RuleViolation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import liquibase.change.Change;
+import liquibase.change.core.AbstractModifyDataChange;
+import liquibase.change.core.CreateTableChange;
+import liquibase.change.core.DeleteDataChange;
+import liquibase.change.core.RenameTableChange;
+import liquibase.change.core.UpdateDataChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChangeRuleIndexTest {
+
+    private static final ChangeRule TABLE_RULE = new TestChangeRule("table-rule", CreateTableChange.class);
+    private static final ChangeRule MODIFY_DATA_RULE = new TestChangeRule(
+        "modify-data-rule",
+        AbstractModifyDataChange.class
+    );
+    private static final ChangeRule CUSTOM_RULE = new TestChangeRule("custom-rule");
+
+    @DisplayName("Should only return rules supporting the change type, in rule and config order")
+    @Test
+    void shouldOnlyReturnSupportingRules() {
+        final RuleConfig firstTableConfig = enabled();
+        final RuleConfig secondTableConfig = enabled();
+        final RuleConfig customConfig = enabled();
+        final ChangeRuleIndex index = index(
+            ImmutableListMultimap.of(
+                "table-rule",
+                firstTableConfig,
+                "modify-data-rule",
+                enabled(),
+                "custom-rule",
+                customConfig,
+                "table-rule",
+                secondTableConfig
+            )
+        );
+
+        assertThat(index.forChange(new CreateTableChange()))
+            .extracting(ChangeRuleIndex.ChangeRuleBinding::getRuleConfig)
+            .containsExactly(firstTableConfig, secondTableConfig, customConfig);
+        assertThat(ruleNames(index.forChange(new RenameTableChange()))).containsExactly("custom-rule");
+    }
+
+    @DisplayName("Should match subclasses of supported change types")
+    @Test
+    void shouldMatchSubclasses() {
+        final ChangeRuleIndex index = index(
+            ImmutableListMultimap.of("modify-data-rule", enabled(), "table-rule", enabled())
+        );
+
+        assertThat(ruleNames(index.forChange(new UpdateDataChange()))).containsExactly("modify-data-rule");
+        assertThat(ruleNames(index.forChange(new DeleteDataChange()))).containsExactly("modify-data-rule");
+        assertThat(ruleNames(index.forChange(mock(CreateTableChange.class)))).containsExactly("table-rule");
+    }
+
+    @DisplayName("Should leave out disabled and unconfigured rules")
+    @Test
+    void shouldLeaveOutDisabledRules() {
+        final ChangeRuleIndex index = index(
+            ImmutableListMultimap.of("table-rule", RuleConfig.builder().withEnabled(false).build())
+        );
+
+        assertThat(index.forChange(new CreateTableChange())).isEmpty();
+        assertThat(index.forChange(new UpdateDataChange())).isEmpty();
+    }
+
+    private static ChangeRuleIndex index(ImmutableListMultimap<String, RuleConfig> rules) {
+        return new ChangeRuleIndex(
+            Arrays.asList(TABLE_RULE, MODIFY_DATA_RULE, CUSTOM_RULE),
+            new Config.Builder().withRules(rules).build()
+        );
+    }
+
+    private static RuleConfig enabled() {
+        return RuleConfig.builder().withEnabled(true).build();
+    }
+
+    private static String[] ruleNames(List<ChangeRuleIndex.ChangeRuleBinding> bindings) {
+        return bindings.stream().map(binding -> binding.getChangeRule().getName()).toArray(String[]::new);
+    }
+
+    private static final class TestChangeRule implements ChangeRule {
+
+        private final String name;
+        private final Collection<Class<? extends Change>> supportedChangeTypes;
+
+        @SafeVarargs
+        private TestChangeRule(String name, Class<? extends Change>... supportedChangeTypes) {
+            this.name = name;
+            this.supportedChangeTypes = Arrays.asList(supportedChangeTypes);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Collection<RuleViolation> check(Change change, RuleConfig ruleConfig) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Collection<Class<? extends Change>> supportedChangeTypes() {
+            return supportedChangeTypes.isEmpty() ? ChangeRule.super.supportedChangeTypes() : supportedChangeTypes;
+        }
+    }
+}
@@ -2,12 +2,14 @@ package io.github.liquibaselinter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.github.liquibaselinter.config.ConditionEngine;
 import io.github.liquibaselinter.config.RuleConfig;
 import liquibase.ContextExpression;
 import liquibase.changelog.ChangeSet;
 import liquibase.changelog.DatabaseChangeLog;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.standard.SpelExpression;
 
 class ConditionHelperTest {
 
@@ -19,7 +21,7 @@ class ConditionHelperTest {
             ChangeSet changeSet = changeSetWithContext("foo");
             RuleConfig ruleConfig = RuleConfig.builder().withCondition("matchesContext('foo')").build();
 
-            assertThat(ConditionHelper.evaluateCondition(ruleConfig, changeSet)).isTrue();
+            assertThat(ConditionHelper.evaluateCondition(new ConditionEngine(), ruleConfig, changeSet)).isTrue();
         }
 
         @Test
@@ -27,7 +29,7 @@ class ConditionHelperTest {
             ChangeSet changeSet = changeSetWithContext("!foo");
             RuleConfig ruleConfig = RuleConfig.builder().withCondition("matchesContext('foo')").build();
 
-            assertThat(ConditionHelper.evaluateCondition(ruleConfig, changeSet)).isFalse();
+            assertThat(ConditionHelper.evaluateCondition(new ConditionEngine(), ruleConfig, changeSet)).isFalse();
         }
 
         @Test
@@ -35,7 +37,7 @@ class ConditionHelperTest {
             ChangeSet changeSet = changeSetWithContext("foo");
             RuleConfig ruleConfig = RuleConfig.builder().withCondition("matchesContext('bar')").build();
 
-            assertThat(ConditionHelper.evaluateCondition(ruleConfig, changeSet)).isFalse();
+            assertThat(ConditionHelper.evaluateCondition(new ConditionEngine(), ruleConfig, changeSet)).isFalse();
         }
 
         @Test
@@ -43,7 +45,7 @@ class ConditionHelperTest {
             ChangeSet changeSet = changeSetWithNoContext();
             RuleConfig ruleConfig = RuleConfig.builder().withCondition("matchesContext('bar')").build();
 
-            assertThat(ConditionHelper.evaluateCondition(ruleConfig, changeSet)).isFalse();
+            assertThat(ConditionHelper.evaluateCondition(new ConditionEngine(), ruleConfig, changeSet)).isFalse();
         }
 
         @Test
@@ -51,10 +53,22 @@ class ConditionHelperTest {
             ChangeSet changeSet = changeSetWithContext("foo and bar");
             RuleConfig ruleConfig = RuleConfig.builder().withCondition("matchesContext('foo', 'bar')").build();
 
-            assertThat(ConditionHelper.evaluateCondition(ruleConfig, changeSet)).isTrue();
+            assertThat(ConditionHelper.evaluateCondition(new ConditionEngine(), ruleConfig, changeSet)).isTrue();
         }
     }
 
+    @Test
+    void shouldEvaluateCompiledCondition() {
+        ChangeSet changeSet = changeSetWithContext("foo");
+        RuleConfig ruleConfig = RuleConfig.builder().withCondition("changeSet.id == null and change == null").build();
+
+        assertThat(ConditionHelper.evaluateCondition(new ConditionEngine(), ruleConfig, changeSet)).isTrue();
+        assertThat(((SpelExpression) ruleConfig.getConditionalExpression().get()).compileExpression()).isTrue();
+        assertThat(ConditionHelper.evaluateCondition(new ConditionEngine(), ruleConfig, changeSet)).isTrue();
+        ChangeSet changeSetWithId = new ChangeSet("id", "author", false, false, null, null, null, new DatabaseChangeLog());
+        assertThat(ConditionHelper.evaluateCondition(new ConditionEngine(), ruleConfig, changeSetWithId)).isFalse();
+    }
+
     private static ChangeSet changeSetWithContext(String contextExpression) {
         ChangeSet changeSet = changeSetWithNoContext();
         changeSet.setContextFilter(new ContextExpression(contextExpression));
@@ -0,0 +1,254 @@
+package io.github.liquibaselinter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.config.ConfigLoader;
+import io.github.liquibaselinter.corpus.ChangeLogCorpusGenerator;
+import io.github.liquibaselinter.corpus.ChangeLogFormat;
+import io.github.liquibaselinter.corpus.CorpusLinter;
+import io.github.liquibaselinter.corpus.GeneratedCorpus;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import liquibase.Liquibase;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.database.OfflineConnection;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.resource.DirectoryResourceAccessor;
+import liquibase.resource.ResourceAccessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LintAttestationTest {
+
+    private static final String CHANGE_LOG_START =
+        "<databaseChangeLog\n" +
+        "  xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" +
+        "  xmlns=\"http://www.liquibase.org/xml/ns/dbchangelog\"\n" +
+        "  xsi:schemaLocation=\"http://www.liquibase.org/xml/ns/dbchangelog " +
+        "http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd\"\n" +
+        ">\n";
+    private static final String CHANGE_LOG_END = "</databaseChangeLog>\n";
+
+    @TempDir
+    Path directory;
+
+    private GeneratedCorpus corpus;
+    private ResourceAccessor resourceAccessor;
+
+    @AfterEach
+    void tearDown() {
+        ChangeLogParserFactory.reset();
+    }
+
+    @DisplayName("Should attest a change log whose files are unchanged")
+    @Test
+    void shouldAttestUnchangedChangeLog() throws Exception {
+        generateCorpus(0);
+        final LintEngine engine = engine();
+
+        final LintAttestation attestation = writeAndRead(attest(engine));
+
+        assertThat(attestation.attests(engine, resourceAccessor, parse())).isTrue();
+    }
+
+    @DisplayName("Should not attest a change log with a changed file")
+    @Test
+    void shouldNotAttestChangedFile() throws Exception {
+        generateCorpus(0);
+        final LintEngine engine = engine();
+        final LintAttestation attestation = writeAndRead(attest(engine));
+
+        final DatabaseChangeLog changeLog = parse();
+        Files.write(
+            corpus.getDirectory().resolve(changeLog.getChangeSets().get(0).getChangeLog().getPhysicalFilePath()),
+            "\n".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+
+        assertThat(attestation.attests(engine, resourceAccessor, changeLog)).isFalse();
+    }
+
+    @DisplayName("Should not attest a change log linted with another configuration")
+    @Test
+    void shouldNotAttestOtherConfiguration() throws Exception {
+        generateCorpus(0);
+        final LintAttestation attestation = writeAndRead(attest(engine()));
+
+        final LintEngine otherEngine = new LintEngine(
+            new Config.Builder(ConfigLoader.loadConfig(resourceAccessor, corpus.getConfigFile()))
+                .withIgnoreContextPattern("^none$")
+                .build()
+        );
+
+        assertThat(attestation.attests(otherEngine, resourceAccessor, parse())).isFalse();
+    }
+
+    @DisplayName("Should not attest a change log with lint errors")
+    @Test
+    void shouldNotAttestErrors() throws Exception {
+        generateCorpus(0.02);
+        final LintSession session = engine().newSession(resourceAccessor);
+        try {
+            session.lintChangeLog(parse());
+        } catch (ChangeLogLintingException e) {
+            // the session keeps its report
+        }
+
+        assertThatIllegalStateException().isThrownBy(session::attest);
+    }
+
+    @DisplayName("Should not attest a change log whose files swapped places")
+    @Test
+    void shouldNotAttestSwappedFiles() throws Exception {
+        resourceAccessor = new DirectoryResourceAccessor(directory);
+        writeChangeLog("db/first.xml", "first", "foo");
+        writeChangeLog("db/second.xml", "second", "bar");
+        writeRootChangeLog("db/root.xml", "first.xml", "second.xml");
+        final LintEngine engine = new LintEngine(new Config.Builder().build());
+        final LintAttestation attestation = writeAndRead(attest(engine, parse("db/root.xml")));
+
+        final byte[] first = Files.readAllBytes(directory.resolve("db/first.xml"));
+        Files.write(directory.resolve("db/first.xml"), Files.readAllBytes(directory.resolve("db/second.xml")));
+        Files.write(directory.resolve("db/second.xml"), first);
+
+        assertThat(attestation.attests(engine, resourceAccessor, parse("db/root.xml"))).isFalse();
+    }
+
+    @DisplayName("Should not attest a change log parsed with other parameter values")
+    @Test
+    void shouldNotAttestOtherParameterValues() throws Exception {
+        resourceAccessor = new DirectoryResourceAccessor(directory);
+        writeChangeLog("db/first.xml", "first", "${table}");
+        writeRootChangeLog("db/root.xml", "first.xml");
+        final LintEngine engine = new LintEngine(new Config.Builder().build());
+        final LintAttestation attestation = writeAndRead(
+            attest(engine, parse("db/root.xml", Collections.singletonMap("table", "foo")))
+        );
+
+        assertThat(
+            attestation.attests(
+                engine,
+                resourceAccessor,
+                parse("db/root.xml", Collections.singletonMap("table", "foo"))
+            )
+        ).isTrue();
+        assertThat(
+            attestation.attests(
+                engine,
+                resourceAccessor,
+                parse("db/root.xml", Collections.singletonMap("table", "bar"))
+            )
+        ).isFalse();
+    }
+
+    @DisplayName("Should attest a change log on the classpath it was linted from a resource directory")
+    @Test
+    void shouldAttestRelativeToResourceDirectory() throws Exception {
+        resourceAccessor = new DirectoryResourceAccessor(directory);
+        writeChangeLog("src/main/resources/db/first.xml", "first", "foo");
+        writeRootChangeLog("src/main/resources/db/root.xml", "first.xml");
+        final LintEngine engine = new LintEngine(new Config.Builder().build());
+        final LintAttestation attestation = writeAndRead(
+            attest(engine, parse("src/main/resources/db/root.xml")).relativeTo(
+                Collections.singletonList("src/main/resources")
+            )
+        );
+
+        resourceAccessor = new DirectoryResourceAccessor(directory.resolve("src/main/resources"));
+
+        assertThat(attestation.attests(engine, resourceAccessor, parse("db/root.xml"))).isTrue();
+    }
+
+    private void generateCorpus(double violationRate) throws Exception {
+        corpus = ChangeLogCorpusGenerator.builder()
+            .withChangeSets(60)
+            .withChangeSetsPerFile(10)
+            .withFormats(ChangeLogFormat.XML, ChangeLogFormat.YAML)
+            .withIncludeDepth(2)
+            .withViolationRates(violationRate)
+            .build()
+            .generate(directory.resolve("corpus"));
+        resourceAccessor = new DirectoryResourceAccessor(corpus.getDirectory());
+    }
+
+    private LintEngine engine() throws Exception {
+        return new LintEngine(ConfigLoader.loadConfig(resourceAccessor, corpus.getConfigFile()));
+    }
+
+    private LintAttestation attest(LintEngine engine) throws Exception {
+        return attest(engine, parse());
+    }
+
+    private LintAttestation attest(LintEngine engine, DatabaseChangeLog changeLog) throws Exception {
+        final LintSession session = engine.newSession(resourceAccessor);
+        session.lintChangeLog(changeLog);
+        return session.attest();
+    }
+
+    private LintAttestation writeAndRead(LintAttestation attestation) throws Exception {
+        attestation.write(directory.resolve("build").resolve(LintAttestation.LQLINT_ATTESTATION));
+        return LintAttestation.read(
+            new DirectoryResourceAccessor(directory.resolve("build")),
+            LintAttestation.LQLINT_ATTESTATION
+        ).orElseThrow(() -> new AssertionError("No attestation written"));
+    }
+
+    private DatabaseChangeLog parse() throws Exception {
+        return CorpusLinter.parse(corpus, resourceAccessor);
+    }
+
+    private DatabaseChangeLog parse(String rootChangeLog) throws Exception {
+        return parse(rootChangeLog, Collections.emptyMap());
+    }
+
+    private DatabaseChangeLog parse(String rootChangeLog, Map<String, String> parameters) throws Exception {
+        ChangeLogParserFactory.reset();
+        final Liquibase liquibase = new Liquibase(
+            rootChangeLog,
+            resourceAccessor,
+            new OfflineConnection("offline:h2", resourceAccessor)
+        );
+        parameters.forEach(liquibase::setChangeLogParameter);
+        return liquibase.getDatabaseChangeLog();
+    }
+
+    private void writeRootChangeLog(String path, String... includes) throws Exception {
+        final StringBuilder changeLog = new StringBuilder(CHANGE_LOG_START);
+        for (String include : includes) {
+            changeLog.append("    <include file=\"").append(include).append("\" relativeToChangelogFile=\"true\"/>\n");
+        }
+        write(path, changeLog.append(CHANGE_LOG_END).toString());
+    }
+
+    private void writeChangeLog(String path, String id, String tableName) throws Exception {
+        write(
+            path,
+            CHANGE_LOG_START +
+            "    <changeSet id=\"" +
+            id +
+            "\" author=\"test\">\n" +
+            "        <comment>Drop " +
+            id +
+            "</comment>\n" +
+            "        <dropTable tableName=\"" +
+            tableName +
+            "\"/>\n" +
+            "    </changeSet>\n" +
+            CHANGE_LOG_END
+        );
+    }
+
+    private void write(String path, String content) throws Exception {
+        final Path file = directory.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.liquibaselinter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.corpus.ChangeLogCorpusGenerator;
+import io.github.liquibaselinter.corpus.ChangeLogFormat;
+import io.github.liquibaselinter.corpus.CorpusLinter;
+import io.github.liquibaselinter.corpus.GeneratedCorpus;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import liquibase.parser.ChangeLogParserFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LintCacheTest {
+
+    private static final String TAMPERED = "cached: ";
+
+    @TempDir
+    Path directory;
+
+    private GeneratedCorpus corpus;
+    private Path cacheDirectory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        corpus = ChangeLogCorpusGenerator.builder()
+            .withChangeSets(300)
+            .withChangeSetsPerFile(10)
+            .withFormats(ChangeLogFormat.XML, ChangeLogFormat.YAML, ChangeLogFormat.SQL)
+            .withIncludeDepth(2)
+            .withViolationRates(0.02)
+            .withViolationRate("changelog-file-name", 0.1)
+            .build()
+            .generate(directory.resolve("corpus"));
+        cacheDirectory = directory.resolve("cache");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ChangeLogParserFactory.reset();
+    }
+
+    @DisplayName("Should report the same items from the cache as without it")
+    @Test
+    void shouldReportLikeUncachedRun() throws Exception {
+        final List<String> uncached = lint(UnaryOperator.identity());
+
+        final List<String> firstCachedRun = lint(this::cached);
+        final List<String> secondCachedRun = lint(this::cached);
+
+        assertThat(uncached).anyMatch(item -> item.startsWith("ERROR"));
+        assertThat(firstCachedRun).isEqualTo(uncached);
+        assertThat(secondCachedRun).isEqualTo(uncached);
+    }
+
+    @DisplayName("Should reuse cached items instead of linting unchanged files again")
+    @Test
+    void shouldReuseCachedItems() throws Exception {
+        lint(this::cached);
+        tamperWithCache();
+
+        final List<String> errors = errors(lint(this::cached));
+
+        assertThat(errors).isNotEmpty().allMatch(item -> item.contains(TAMPERED));
+    }
+
+    @DisplayName("Should lint changed files again")
+    @Test
+    void shouldLintChangedFiles() throws Exception {
+        final List<String> errors = errors(lint(this::cached));
+        final String changedFile = errors
+            .stream()
+            .map(item -> item.split("\\|")[1])
+            .filter(file -> !file.endsWith(corpus.getRootChangeLog()))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No error in an included file"));
+        tamperWithCache();
+        Files.write(
+            corpus.getDirectory().resolve(changedFile),
+            "\n".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+
+        final List<String> cachedErrors = errors(lint(this::cached));
+
+        assertThat(cachedErrors)
+            .filteredOn(item -> item.contains(changedFile))
+            .noneMatch(item -> item.contains(TAMPERED));
+        assertThat(cachedErrors)
+            .filteredOn(item -> !item.contains(changedFile))
+            .allMatch(item -> item.contains(TAMPERED));
+    }
+
+    @DisplayName("Should not reuse items cached with another configuration")
+    @Test
+    void shouldNotReuseItemsOfOtherConfiguration() throws Exception {
+        lint(this::cached);
+        tamperWithCache();
+
+        final List<String> errors = errors(lint(builder -> cached(builder).withIgnoreContextPattern("^none$")));
+
+        assertThat(errors).isNotEmpty().noneMatch(item -> item.contains(TAMPERED));
+    }
+
+    @DisplayName("Should only reuse items cached in the same enable-after state")
+    @Test
+    void shouldHonourEnableAfter() throws Exception {
+        final List<String> all = lint(UnaryOperator.identity());
+        final String enableAfter = all.get(all.size() / 2).split("\\|")[1];
+        final List<String> uncached = lint(builder -> builder.withEnableAfter(enableAfter));
+
+        lint(this::cached);
+        final List<String> cached = lint(builder -> cached(builder).withEnableAfter(enableAfter));
+
+        assertThat(uncached).isNotEmpty().hasSizeLessThan(all.size());
+        assertThat(cached).isEqualTo(uncached);
+    }
+
+    @DisplayName("Should report the same items from the cache when linting in parallel")
+    @Test
+    void shouldReportLikeUncachedRunInParallel() throws Exception {
+        final List<String> uncached = lint(UnaryOperator.identity());
+
+        final List<String> firstCachedRun = lint(builder -> cached(builder).withParallelism(4));
+        final List<String> secondCachedRun = lint(builder -> cached(builder).withParallelism(4));
+
+        assertThat(firstCachedRun).isEqualTo(uncached);
+        assertThat(secondCachedRun).isEqualTo(uncached);
+    }
+
+    private Config.Builder cached(Config.Builder builder) {
+        return builder.withCacheDirectory(cacheDirectory.toString());
+    }
+
+    private void tamperWithCache() throws IOException {
+        try (Stream<Path> entries = Files.list(cacheDirectory)) {
+            for (Path entry : entries.collect(Collectors.toList())) {
+                final String content = new String(Files.readAllBytes(entry), StandardCharsets.UTF_8);
+                Files.write(
+                    entry,
+                    content.replace("\"message\":\"", "\"message\":\"" + TAMPERED).getBytes(StandardCharsets.UTF_8)
+                );
+            }
+        }
+    }
+
+    private static List<String> errors(List<String> items) {
+        return items.stream().filter(item -> item.startsWith("ERROR")).collect(Collectors.toList());
+    }
+
+    private List<String> lint(UnaryOperator<Config.Builder> configuration) throws Exception {
+        return CorpusLinter.describe(CorpusLinter.lint(corpus, configuration).getItems());
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.liquibaselinter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import liquibase.resource.DirectoryResourceAccessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LintEngineCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private final LintEngineCache cache = new LintEngineCache();
+
+    @DisplayName("Should share one engine between resource accessors of the same root")
+    @Test
+    void shouldShareEngineForSameRoot() throws Exception {
+        writeConfig("lqlint.json", "{\"rules\": {\"table-name\": {\"pattern\": \"^[A-Z_]+$\"}}}");
+
+        final LintEngine engine = cache.get(new DirectoryResourceAccessor(directory));
+
+        assertThat(cache.get(new DirectoryResourceAccessor(directory))).isSameAs(engine);
+        assertThat(engine.getConfig().getRules().get("table-name")).hasSize(1);
+    }
+
+    @DisplayName("Should load the engine again when the config changes")
+    @Test
+    void shouldReloadWhenConfigChanges() throws Exception {
+        writeConfig("lqlint.json", "{\"rules\": {\"table-name\": {\"pattern\": \"^[A-Z_]+$\"}}}");
+        final LintEngine engine = cache.get(new DirectoryResourceAccessor(directory));
+
+        writeConfig("lqlint.json", "{\"rules\": {\"table-name\": {\"pattern\": \"^[a-z_]+$\"}}}");
+        final LintEngine reloaded = cache.get(new DirectoryResourceAccessor(directory));
+
+        assertThat(reloaded).isNotSameAs(engine);
+        assertThat(reloaded.getConfig().getRules().get("table-name").get(0).getPatternString()).isEqualTo("^[a-z_]+$");
+    }
+
+    @DisplayName("Should load the engine again when an imported config changes")
+    @Test
+    void shouldReloadWhenImportedConfigChanges() throws Exception {
+        writeConfig("lqlint.json", "{\"import\": [\"imported.json\"]}");
+        writeConfig("imported.json", "{\"rules\": {\"table-name\": true}}");
+        final LintEngine engine = cache.get(new DirectoryResourceAccessor(directory));
+
+        writeConfig("imported.json", "{\"rules\": {\"table-name\": false}}");
+
+        assertThat(cache.get(new DirectoryResourceAccessor(directory))).isNotSameAs(engine);
+    }
+
+    @DisplayName("Should only keep the engines of the most recently used roots")
+    @Test
+    void shouldBoundEngines() throws Exception {
+        final LintEngineCache boundedCache = new LintEngineCache(1);
+        writeConfig("lqlint.json", "{\"rules\": {\"table-name\": true}}");
+        final Path other = Files.createDirectory(directory.resolve("other"));
+        Files.write(other.resolve("lqlint.json"), "{\"rules\": {}}".getBytes(StandardCharsets.UTF_8));
+        final LintEngine engine = boundedCache.get(new DirectoryResourceAccessor(directory));
+
+        boundedCache.get(new DirectoryResourceAccessor(other));
+
+        assertThat(boundedCache.get(new DirectoryResourceAccessor(directory))).isNotSameAs(engine);
+    }
+
+    @DisplayName("Should keep an engine per context class loader")
+    @Test
+    void shouldKeepEnginePerClassLoader() throws Exception {
+        writeConfig("lqlint.json", "{\"rules\": {\"table-name\": true}}");
+        final LintEngine engine = cache.get(new DirectoryResourceAccessor(directory));
+        final Thread thread = Thread.currentThread();
+        final ClassLoader classLoader = thread.getContextClassLoader();
+
+        final LintEngine otherEngine;
+        thread.setContextClassLoader(new URLClassLoader(new URL[0], classLoader));
+        try {
+            otherEngine = cache.get(new DirectoryResourceAccessor(directory));
+        } finally {
+            thread.setContextClassLoader(classLoader);
+        }
+
+        assertThat(otherEngine).isNotSameAs(engine);
+        assertThat(cache.get(new DirectoryResourceAccessor(directory))).isSameAs(engine);
+    }
+
+    private void writeConfig(String fileName, String content) throws Exception {
+        Files.write(directory.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
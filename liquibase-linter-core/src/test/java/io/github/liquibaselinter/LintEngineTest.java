@@ -0,0 +1,197 @@
+package io.github.liquibaselinter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.google.common.collect.ImmutableListMultimap;
+import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.config.ConfigLoader;
+import io.github.liquibaselinter.corpus.ChangeLogCorpusGenerator;
+import io.github.liquibaselinter.corpus.ChangeLogFormat;
+import io.github.liquibaselinter.corpus.CorpusLinter;
+import io.github.liquibaselinter.corpus.GeneratedCorpus;
+import io.github.liquibaselinter.report.Report;
+import io.github.liquibaselinter.report.ReportItem;
+import io.github.liquibaselinter.report.StreamingReporter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.exception.LiquibaseException;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.resource.DirectoryResourceAccessor;
+import liquibase.resource.ResourceAccessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LintEngineTest {
+
+    @TempDir
+    Path directory;
+
+    private ResourceAccessor resourceAccessor;
+    private GeneratedCorpus corpus;
+    private LintEngine engine;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        corpus = ChangeLogCorpusGenerator.builder()
+            .withChangeSets(300)
+            .withChangeSetsPerFile(10)
+            .withFormats(ChangeLogFormat.XML, ChangeLogFormat.YAML)
+            .withViolationRates(0.02)
+            .build()
+            .generate(directory);
+        resourceAccessor = new DirectoryResourceAccessor(corpus.getDirectory());
+        engine = new LintEngine(ConfigLoader.loadConfig(resourceAccessor, corpus.getConfigFile()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ChangeLogParserFactory.reset();
+    }
+
+    @DisplayName("Should start every session from a clean state")
+    @Test
+    void shouldIsolateSuccessiveSessions() throws Exception {
+        final DatabaseChangeLog changeLog = parse();
+
+        final List<String> first = lint(changeLog);
+        final List<String> second = lint(changeLog);
+
+        assertThat(first).isNotEmpty().anyMatch(item -> item.startsWith("ERROR"));
+        assertThat(second).isEqualTo(first);
+    }
+
+    @DisplayName("Should lint in concurrent sessions sharing one engine")
+    @Test
+    void shouldLintConcurrentSessions() throws Exception {
+        final List<String> expected = lint(parse());
+        final List<DatabaseChangeLog> changeLogs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            changeLogs.add(parse());
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(changeLogs.size());
+        try {
+            final List<Future<List<String>>> reports = new ArrayList<>();
+            for (DatabaseChangeLog changeLog : changeLogs) {
+                reports.add(executor.submit(() -> lint(changeLog)));
+            }
+            for (Future<List<String>> report : reports) {
+                assertThat(report.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("Should let reported sessions use the reporters one at a time")
+    @Test
+    void shouldReportSessionsOneAtATime() throws Exception {
+        final OverlapReporter reporter = new OverlapReporter();
+        engine = new LintEngine(
+            new Config.Builder(engine.getConfig())
+                .withReporting(ImmutableListMultimap.of("overlap", reporter))
+                .build()
+        );
+        final List<DatabaseChangeLog> changeLogs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            changeLogs.add(parse());
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(changeLogs.size());
+        try {
+            final List<Future<List<String>>> reports = new ArrayList<>();
+            for (DatabaseChangeLog changeLog : changeLogs) {
+                reports.add(executor.submit(() -> lint(changeLog)));
+            }
+            for (Future<List<String>> report : reports) {
+                report.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(reporter.finished.get()).isEqualTo(changeLogs.size());
+        assertThat(reporter.overlapped.get()).isFalse();
+    }
+
+    @DisplayName("Should report unreported sessions as one")
+    @Test
+    void shouldReportUnreportedSessionsAsOne() throws Exception {
+        final DatabaseChangeLog changeLog = parse();
+        final List<Report> reports = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            final LintSession session = engine.newUnreportedSession(resourceAccessor);
+            assertThatExceptionOfType(ChangeLogLintingException.class).isThrownBy(() ->
+                session.lintChangeLog(changeLog)
+            );
+            reports.add(session.getReport());
+        }
+        final long errors = reports
+            .get(0)
+            .getItems()
+            .stream()
+            .filter(item -> item.getType() == ReportItem.ReportItemType.ERROR)
+            .count();
+
+        assertThatExceptionOfType(ChangeLogLintingException.class)
+            .isThrownBy(() -> engine.report(reports))
+            .withMessageStartingWith("Linting failed with " + errors * 2 + " errors");
+    }
+
+    private DatabaseChangeLog parse() throws LiquibaseException {
+        return CorpusLinter.parse(corpus, resourceAccessor);
+    }
+
+    private List<String> lint(DatabaseChangeLog changeLog) {
+        final LintSession session = engine.newSession(resourceAccessor);
+        try {
+            session.lintChangeLog(changeLog);
+        } catch (ChangeLogLintingException e) {
+            // errors are asserted on the session report
+        }
+        return CorpusLinter.describe(session.getReport().getItems());
+    }
+
+    private static final class OverlapReporter implements StreamingReporter {
+
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger finished = new AtomicInteger();
+        private final AtomicBoolean overlapped = new AtomicBoolean();
+
+        @Override
+        public void onStart(Config config) {
+            if (running.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+        }
+
+        @Override
+        public void onItem(ReportItem item) {
+            if (running.get() != 1) {
+                overlapped.set(true);
+            }
+        }
+
+        @Override
+        public void onFinish(Report report) {
+            running.decrementAndGet();
+            finished.incrementAndGet();
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+    }
+}
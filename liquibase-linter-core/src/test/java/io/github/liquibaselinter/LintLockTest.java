@@ -0,0 +1,134 @@
+package io.github.liquibaselinter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.corpus.ChangeLogCorpusGenerator;
+import io.github.liquibaselinter.corpus.ChangeLogFormat;
+import io.github.liquibaselinter.corpus.CorpusLinter;
+import io.github.liquibaselinter.corpus.GeneratedCorpus;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import liquibase.parser.ChangeLogParserFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LintLockTest {
+
+    private static final String TAMPERED = "locked: ";
+
+    @TempDir
+    Path directory;
+
+    private GeneratedCorpus corpus;
+    private Path lockFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        corpus = ChangeLogCorpusGenerator.builder()
+            .withChangeSets(300)
+            .withChangeSetsPerFile(10)
+            .withFormats(ChangeLogFormat.XML, ChangeLogFormat.YAML, ChangeLogFormat.SQL)
+            .withIncludeDepth(2)
+            .withViolationRates(0.02)
+            .withViolationRate("changelog-file-name", 0.1)
+            .build()
+            .generate(directory.resolve("corpus"));
+        lockFile = directory.resolve("lqlint-lock.json");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ChangeLogParserFactory.reset();
+    }
+
+    @DisplayName("Should report the same items from the lock as without it")
+    @Test
+    void shouldReportLikeUnlockedRun() throws Exception {
+        final List<String> unlocked = lint(UnaryOperator.identity());
+
+        final List<String> firstLockedRun = lint(this::locked);
+        final List<String> secondLockedRun = lint(this::locked);
+
+        assertThat(unlocked).anyMatch(item -> item.startsWith("ERROR"));
+        assertThat(firstLockedRun).isEqualTo(unlocked);
+        assertThat(secondLockedRun).isEqualTo(unlocked);
+    }
+
+    @DisplayName("Should reuse locked items of unchanged change sets in changed files")
+    @Test
+    void shouldReuseLockedItemsOfUnchangedChangeSets() throws Exception {
+        final List<String> errors = errors(lint(this::locked));
+        final String changedFile = errors
+            .stream()
+            .map(item -> item.split("\\|")[1])
+            .filter(file -> !file.endsWith(corpus.getRootChangeLog()))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No error in an included file"));
+        tamperWithLock();
+        Files.write(
+            corpus.getDirectory().resolve(changedFile),
+            "\n".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+
+        final List<String> lockedErrors = errors(lint(this::locked));
+
+        assertThat(lockedErrors)
+            .filteredOn(item -> item.contains(changedFile) && !item.contains("|null|"))
+            .isNotEmpty()
+            .allMatch(item -> item.contains(TAMPERED));
+    }
+
+    @DisplayName("Should not reuse items locked with another configuration")
+    @Test
+    void shouldNotReuseItemsOfOtherConfiguration() throws Exception {
+        lint(this::locked);
+        tamperWithLock();
+
+        final List<String> errors = errors(lint(builder -> locked(builder).withIgnoreContextPattern("^none$")));
+
+        assertThat(errors).isNotEmpty().noneMatch(item -> item.contains(TAMPERED));
+    }
+
+    @DisplayName("Should report the same items from the lock when linting in parallel")
+    @Test
+    void shouldReportLikeUnlockedRunInParallel() throws Exception {
+        final List<String> unlocked = lint(UnaryOperator.identity());
+
+        final List<String> firstLockedRun = lint(builder -> locked(builder).withParallelism(4));
+        final List<String> secondLockedRun = lint(builder -> locked(builder).withParallelism(4));
+
+        assertThat(firstLockedRun).isEqualTo(unlocked);
+        assertThat(secondLockedRun).isEqualTo(unlocked);
+    }
+
+    private Config.Builder locked(Config.Builder builder) {
+        return builder.withLockFile(lockFile.toString());
+    }
+
+    private void tamperWithLock() throws IOException {
+        final String content = new String(Files.readAllBytes(lockFile), StandardCharsets.UTF_8);
+        Files.write(
+            lockFile,
+            content.replace("\"message\":\"", "\"message\":\"" + TAMPERED).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private static List<String> errors(List<String> items) {
+        return items.stream().filter(item -> item.startsWith("ERROR")).collect(Collectors.toList());
+    }
+
+    private List<String> lint(UnaryOperator<Config.Builder> configuration) throws Exception {
+        return CorpusLinter.describe(CorpusLinter.lint(corpus, configuration).getItems());
+    }
+}
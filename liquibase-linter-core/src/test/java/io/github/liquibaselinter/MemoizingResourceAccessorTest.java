@@ -0,0 +1,84 @@
+package io.github.liquibaselinter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import liquibase.resource.DirectoryResourceAccessor;
+import liquibase.resource.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MemoizingResourceAccessorTest {
+
+    @TempDir
+    Path directory;
+
+    private MemoizingResourceAccessor resourceAccessor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(directory.resolve("db/changes"));
+        Files.write(directory.resolve("db/root.xml"), "<databaseChangeLog/>".getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("db/changes/1.xml"), "<databaseChangeLog/>".getBytes(StandardCharsets.UTF_8));
+        resourceAccessor = new MemoizingResourceAccessor(new DirectoryResourceAccessor(directory));
+    }
+
+    @DisplayName("Should look each path up once")
+    @Test
+    void shouldLookEachPathUpOnce() throws IOException {
+        assertThat(resourceAccessor.get("db/root.xml").exists()).isTrue();
+        assertThat(resourceAccessor.get("db/root.xml").exists()).isTrue();
+        assertThat(resourceAccessor.get("db/missing.xml").exists()).isFalse();
+        assertThat(resourceAccessor.get("db/missing.xml").exists()).isFalse();
+
+        assertThat(resourceAccessor.getMissCount()).isEqualTo(2);
+        assertThat(resourceAccessor.getHitCount()).isEqualTo(2);
+    }
+
+    @DisplayName("Should remember getting a path apart from looking all its resources up")
+    @Test
+    void shouldRememberGettingApartFromGettingAll() throws IOException {
+        assertThat(resourceAccessor.get("db/root.xml").exists()).isTrue();
+        assertThat(resourceAccessor.getAll("db/root.xml")).hasSize(1);
+        assertThat(resourceAccessor.getAll("db/root.xml")).hasSize(1);
+        assertThat(resourceAccessor.get("db/root.xml").exists()).isTrue();
+
+        assertThat(resourceAccessor.getMissCount()).isEqualTo(2);
+        assertThat(resourceAccessor.getHitCount()).isEqualTo(2);
+    }
+
+    @DisplayName("Should remember searches by recursion")
+    @Test
+    void shouldRememberSearchesByRecursion() throws IOException {
+        assertThat(paths(resourceAccessor.search("db", false))).containsExactly("db/root.xml");
+        assertThat(paths(resourceAccessor.search("db", true))).containsExactlyInAnyOrder(
+            "db/root.xml",
+            "db/changes/1.xml"
+        );
+        assertThat(paths(resourceAccessor.search("db", true))).hasSize(2);
+
+        assertThat(resourceAccessor.getMissCount()).isEqualTo(2);
+        assertThat(resourceAccessor.getHitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("Should not let callers change what it remembers")
+    @Test
+    void shouldNotLetCallersChangeWhatItRemembers() throws IOException {
+        resourceAccessor.search("db", true).clear();
+        resourceAccessor.getAll("db/root.xml").clear();
+
+        assertThat(resourceAccessor.search("db", true)).hasSize(2);
+        assertThat(resourceAccessor.getAll("db/root.xml")).hasSize(1);
+    }
+
+    private static List<String> paths(List<Resource> resources) {
+        return resources.stream().map(Resource::getPath).collect(Collectors.toList());
+    }
+}
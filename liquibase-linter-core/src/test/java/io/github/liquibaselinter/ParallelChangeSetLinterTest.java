@@ -0,0 +1,89 @@
+package io.github.liquibaselinter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.corpus.ChangeLogCorpusGenerator;
+import io.github.liquibaselinter.corpus.ChangeLogFormat;
+import io.github.liquibaselinter.corpus.CorpusLinter;
+import io.github.liquibaselinter.corpus.GeneratedCorpus;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import liquibase.parser.ChangeLogParserFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ParallelChangeSetLinterTest {
+
+    @TempDir
+    Path directory;
+
+    private GeneratedCorpus corpus;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        corpus = ChangeLogCorpusGenerator.builder()
+            .withChangeSets(600)
+            .withChangeSetsPerFile(10)
+            .withFormats(ChangeLogFormat.XML, ChangeLogFormat.YAML, ChangeLogFormat.SQL)
+            .withIncludeDepth(2)
+            .withViolationRates(0.01)
+            .withViolationRate("changelog-file-name", 0.1)
+            .build()
+            .generate(directory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ChangeLogParserFactory.reset();
+    }
+
+    @DisplayName("Should report the same items in the same order as a sequential run")
+    @Test
+    void shouldReportLikeSequentialRun() throws Exception {
+        final List<String> sequential = lint(builder -> builder.withParallelism(1));
+        final List<String> parallel = lint(builder -> builder.withParallelism(4));
+
+        assertThat(sequential).anyMatch(item -> item.startsWith("ERROR"));
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    @DisplayName("Should only lint the change sets after enable-after, like a sequential run")
+    @Test
+    void shouldHonourEnableAfterLikeSequentialRun() throws Exception {
+        final List<String> all = lint(builder -> builder.withParallelism(1));
+        final String enableAfter = all.get(all.size() / 2).split("\\|")[1];
+
+        final List<String> sequential = lint(builder -> builder.withParallelism(1).withEnableAfter(enableAfter));
+        final List<String> parallel = lint(builder -> builder.withParallelism(4).withEnableAfter(enableAfter));
+
+        assertThat(sequential).isNotEmpty().hasSizeLessThan(all.size());
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    @DisplayName("Should fail fast on the same violation as a sequential run")
+    @Test
+    void shouldFailFastLikeSequentialRun() throws Exception {
+        final ChangeLogLintingException sequential = failFast(1);
+        final ChangeLogLintingException parallel = failFast(4);
+
+        assertThat(parallel).hasMessage(sequential.getMessage());
+    }
+
+    private ChangeLogLintingException failFast(int parallelism) throws Exception {
+        final ChangeLogLintingException[] thrown = new ChangeLogLintingException[1];
+        assertThatExceptionOfType(ChangeLogLintingException.class)
+            .isThrownBy(() -> lint(builder -> builder.withParallelism(parallelism).withFailFast(true)))
+            .satisfies(exception -> thrown[0] = exception);
+        return thrown[0];
+    }
+
+    private List<String> lint(UnaryOperator<Config.Builder> configuration) throws Exception {
+        return CorpusLinter.describe(CorpusLinter.lint(corpus, configuration).getItems());
+    }
+}
@@ -9,12 +9,16 @@ import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ListMultimap;
 import io.github.liquibaselinter.config.Config;
 import io.github.liquibaselinter.config.RuleConfig;
 import io.github.liquibaselinter.report.Report;
+import io.github.liquibaselinter.report.ReporterConfig;
+import io.github.liquibaselinter.report.TextReporter;
 import liquibase.change.Change;
+import liquibase.change.core.CreateIndexChange;
 import liquibase.change.core.RenameTableChange;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -115,11 +119,100 @@ class RuleRunnerTest {
         assertThat(report.getItems()).isEmpty();
     }
 
+    @DisplayName("Should not run rules against change types they do not support")
+    @Test
+    void shouldNotRunRulesForUnsupportedChangeTypes() throws ChangeLogLintingException {
+        RuleRunner ruleRunner = ruleRunnerWithTableNameRule(null, false);
+
+        ruleRunner.checkChange(mock(CreateIndexChange.class, RETURNS_DEEP_STUBS));
+
+        assertThat(ruleRunner.buildReport().getItems()).isEmpty();
+    }
+
+    @DisplayName("Should only count passed checks when no reporter includes them")
+    @Test
+    void shouldCountPassedWhenNoReporterIncludesThem() throws ChangeLogLintingException {
+        RuleRunner ruleRunner = new RuleRunner(
+            tableNameRuleConfig(null, false).withReporting(ImmutableListMultimap.of()).build()
+        );
+
+        ruleRunner.checkChange(mockInvalidChange(null, "TBL_TABLE"));
+        ruleRunner.checkChange(mockInvalidChange(null, "VALID_TABLE"));
+
+        Report report = ruleRunner.buildReport();
+        assertThat(report.getItems()).extracting("type").containsExactly(ERROR);
+        assertThat(report.getPassedItemCounts().getCountsByRule()).containsEntry("table-name", 3L);
+        assertThat(report.countItems(PASSED)).isEqualTo(3);
+        assertThat(report.countItems(ERROR)).isEqualTo(1);
+    }
+
+    @DisplayName("Should only count passed checks when the enabled reporters filter them out")
+    @Test
+    void shouldCountPassedWhenReportersFilterThemOut() throws ChangeLogLintingException {
+        RuleRunner ruleRunner = new RuleRunner(
+            tableNameRuleConfig(null, false)
+                .withReporting(
+                    ImmutableListMultimap.of(
+                        TextReporter.NAME,
+                        new TextReporter(ReporterConfig.builder().withFilter(ERROR, IGNORED).build()),
+                        TextReporter.NAME,
+                        new TextReporter(ReporterConfig.builder().withEnabled(false).withFilter(PASSED).build())
+                    )
+                )
+                .build()
+        );
+
+        ruleRunner.checkChange(mockInvalidChange(null, "VALID_TABLE"));
+
+        Report report = ruleRunner.buildReport();
+        assertThat(report.getItems()).isEmpty();
+        assertThat(report.countItems(PASSED)).isEqualTo(2);
+    }
+
+    @DisplayName("Should report a pattern that takes too long to match as a rule error")
+    @Test
+    void shouldReportPatternTimeoutAsError() throws ChangeLogLintingException {
+        RuleRunner ruleRunner = new RuleRunner(
+            new Config.Builder()
+                .withRules(
+                    ImmutableListMultimap.of(
+                        "table-name",
+                        RuleConfig.builder().withPattern("^((A+)+)\\2$").withPatternTimeoutMillis(50).build()
+                    )
+                )
+                .build()
+        );
+
+        ruleRunner.checkChange(mockInvalidChange(null, Strings.repeat("A", 32) + "!"));
+
+        Report report = ruleRunner.buildReport();
+        assertThat(report.getItems()).extracting("type").containsExactly(ERROR);
+        assertThat(report.getItems())
+            .extracting("message")
+            .containsExactly(
+                "Pattern '^((A+)+)\\2$' did not finish matching 'AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA!' within 50 ms"
+            );
+    }
+
     private RuleRunner ruleRunnerWithTableNameRule(String condition, boolean failFast) {
         return ruleRunnerWithTableNameRule(condition, failFast, null);
     }
 
     private RuleRunner ruleRunnerWithTableNameRule(String condition, boolean failFast, String enableAfter) {
+        return new RuleRunner(
+            tableNameRuleConfig(condition, failFast)
+                .withEnableAfter(enableAfter)
+                .withReporting(
+                    ImmutableListMultimap.of(
+                        TextReporter.NAME,
+                        new TextReporter(ReporterConfig.builder().withFilter(ERROR, IGNORED, PASSED).build())
+                    )
+                )
+                .build()
+        );
+    }
+
+    private Config.Builder tableNameRuleConfig(String condition, boolean failFast) {
         final ListMultimap<String, RuleConfig> ruleConfigMap = ImmutableListMultimap.of(
             "table-name",
             RuleConfig.builder()
@@ -134,9 +227,7 @@ class RuleRunnerTest {
                 .withCondition(condition)
                 .build()
         );
-        return new RuleRunner(
-            new Config.Builder().withRules(ruleConfigMap).withFailFast(failFast).withEnableAfter(enableAfter).build()
-        );
+        return new Config.Builder().withRules(ruleConfigMap).withFailFast(failFast);
     }
 
     private Change mockInvalidChange(String changeComment, String tableName) {
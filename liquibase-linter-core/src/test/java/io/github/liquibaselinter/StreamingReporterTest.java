@@ -0,0 +1,191 @@
+package io.github.liquibaselinter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.corpus.ChangeLogCorpusGenerator;
+import io.github.liquibaselinter.corpus.ChangeLogFormat;
+import io.github.liquibaselinter.corpus.CorpusLinter;
+import io.github.liquibaselinter.corpus.GeneratedCorpus;
+import io.github.liquibaselinter.report.Report;
+import io.github.liquibaselinter.report.ReportItem;
+import io.github.liquibaselinter.report.StreamingReporter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import liquibase.parser.ChangeLogParserFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StreamingReporterTest {
+
+    @TempDir
+    Path directory;
+
+    private GeneratedCorpus corpus;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        corpus = ChangeLogCorpusGenerator.builder()
+            .withChangeSets(300)
+            .withChangeSetsPerFile(10)
+            .withFormats(ChangeLogFormat.XML, ChangeLogFormat.YAML, ChangeLogFormat.SQL)
+            .withIncludeDepth(2)
+            .withViolationRates(0.02)
+            .build()
+            .generate(directory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ChangeLogParserFactory.reset();
+    }
+
+    @DisplayName("Should stream the items of each file before completing it, then finish")
+    @Test
+    void shouldStreamItemsWhileLinting() throws Exception {
+        final RecordingReporter reporter = lint(new RecordingReporter(), UnaryOperator.identity());
+
+        assertThat(reporter.events.get(0)).isEqualTo("start");
+        assertThat(reporter.events.get(reporter.events.size() - 1)).isEqualTo("finish");
+        assertThat(reporter.events).anyMatch(event -> event.startsWith("item|ERROR"));
+
+        final List<String> completed = new ArrayList<>();
+        final Set<String> filesWithItems = new HashSet<>();
+        for (String event : reporter.events) {
+            if (event.startsWith("file|")) {
+                assertThat(completed).doesNotContain(event.substring("file|".length()));
+                completed.add(event.substring("file|".length()));
+            } else if (event.startsWith("item|")) {
+                assertThat(completed).doesNotContain(event.split("\\|")[2]);
+                filesWithItems.add(event.split("\\|")[2]);
+            }
+        }
+        assertThat(completed).containsAll(filesWithItems).hasSizeLessThanOrEqualTo(corpus.getChangeLogFiles());
+    }
+
+    @DisplayName("Should stream the same events in the same order when linting in parallel")
+    @Test
+    void shouldStreamLikeSequentialRun() throws Exception {
+        final RecordingReporter sequential = lint(new RecordingReporter(), builder -> builder.withParallelism(1));
+        final RecordingReporter parallel = lint(new RecordingReporter(), builder -> builder.withParallelism(4));
+
+        assertThat(parallel.events).isEqualTo(sequential.events);
+    }
+
+    @DisplayName("Should stream passed items but only count them in the report")
+    @Test
+    void shouldOnlyCountStreamedPassedItems() throws Exception {
+        final RecordingReporter reporter = lint(new RecordingReporter(), UnaryOperator.identity());
+
+        final long streamedPasses = reporter.events
+            .stream()
+            .filter(event -> event.startsWith("item|PASSED"))
+            .count();
+        assertThat(streamedPasses).isPositive();
+        assertThat(reporter.report.getItems()).noneMatch(item -> item.getType() == ReportItem.ReportItemType.PASSED);
+        assertThat(reporter.report.countItems(ReportItem.ReportItemType.PASSED)).isEqualTo(streamedPasses);
+    }
+
+    @DisplayName("Should only stream the item types the reporter includes")
+    @Test
+    void shouldOnlyStreamIncludedItems() throws Exception {
+        final RecordingReporter reporter = lint(
+            new RecordingReporter(ReportItem.ReportItemType.ERROR),
+            UnaryOperator.identity()
+        );
+
+        assertThat(reporter.events)
+            .filteredOn(event -> event.startsWith("item|"))
+            .isNotEmpty()
+            .allMatch(event -> event.startsWith("item|ERROR"));
+    }
+
+    @DisplayName("Should replay a finished report to a streaming reporter")
+    @Test
+    void shouldReplayFinishedReport() throws Exception {
+        final RecordingReporter streamed = lint(
+            new RecordingReporter(ReportItem.ReportItemType.ERROR),
+            UnaryOperator.identity()
+        );
+        final RecordingReporter replayed = new RecordingReporter(ReportItem.ReportItemType.ERROR);
+
+        replayed.processReport(streamed.report);
+
+        assertThat(replayed.events).isEqualTo(
+            streamed.events
+                .stream()
+                .filter(event -> !event.startsWith("file|"))
+                .collect(Collectors.toList())
+        );
+    }
+
+    private RecordingReporter lint(RecordingReporter reporter, UnaryOperator<Config.Builder> configuration)
+        throws Exception {
+        CorpusLinter.lint(corpus, configuration, reporter);
+        return reporter;
+    }
+
+    private static final class RecordingReporter implements StreamingReporter {
+
+        private final Set<ReportItem.ReportItemType> filter;
+        private final List<String> events = new ArrayList<>();
+        private Report report;
+
+        private RecordingReporter(ReportItem.ReportItemType... filter) {
+            this.filter = filter.length == 0
+                ? EnumSet.allOf(ReportItem.ReportItemType.class)
+                : EnumSet.copyOf(Arrays.asList(filter));
+        }
+
+        @Override
+        public void onStart(Config config) {
+            events.add("start");
+        }
+
+        @Override
+        public void onItem(ReportItem item) {
+            events.add(
+                String.join(
+                    "|",
+                    "item",
+                    item.getType().name(),
+                    item.getFilePath(),
+                    item.getChangeSetId(),
+                    item.getRule(),
+                    item.getMessage()
+                )
+            );
+        }
+
+        @Override
+        public void onFileComplete(String filePath) {
+            events.add("file|" + filePath);
+        }
+
+        @Override
+        public void onFinish(Report report) {
+            this.report = report;
+            events.add("finish");
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean includes(ReportItem.ReportItemType type) {
+            return filter.contains(type);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.liquibaselinter.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import io.github.liquibaselinter.rules.ChangeFacts;
+import liquibase.change.ColumnConfig;
+import liquibase.change.core.CreateTableChange;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.standard.SpelExpression;
+
+class ConditionEngineTest {
+
+    @Test
+    void shouldShareExpressionsOnlyWithinAnEngine() {
+        final Expression first = RuleConfig.builder()
+            .withCondition("change.tableName == 'FOO'")
+            .build()
+            .getConditionalExpression()
+            .get();
+        final Expression second = RuleConfig.builder()
+            .withCondition("change.tableName == 'FOO'")
+            .build()
+            .getConditionalExpression()
+            .get();
+        final ConditionEngine engine = new ConditionEngine();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(engine.shared(first)).isSameAs(first);
+        assertThat(engine.shared(second)).isSameAs(first);
+        assertThat(new ConditionEngine().shared(second)).isSameAs(second);
+    }
+
+    @Test
+    void shouldShareExpressionsEvaluatedThroughChangeFacts() {
+        final Expression first = RuleConfig.builder()
+            .withColumnCondition("name != null")
+            .build()
+            .getConditionalColumnExpression()
+            .get();
+        final Expression second = RuleConfig.builder()
+            .withColumnCondition("name != null")
+            .build()
+            .getConditionalColumnExpression()
+            .get();
+        final ConditionEngine engine = new ConditionEngine();
+        final ChangeFacts facts = ChangeFacts.of(new CreateTableChange(), null, engine);
+
+        assertThat(facts.evaluate(first, new ColumnConfig().setName("FOO_ID"), boolean.class)).isTrue();
+        assertThat(engine.shared(second)).isSameAs(first);
+    }
+
+    @Test
+    void shouldNotAssignVariables() {
+        final ColumnConfig column = new ColumnConfig().setName("FOO_ID");
+
+        assertThatExceptionOfType(SpelEvaluationException.class).isThrownBy(() ->
+            ConditionEngine.evaluate(ConditionEngine.parse("(#seen = name) != null"), column, boolean.class)
+        );
+        assertThat(ConditionEngine.evaluate(ConditionEngine.parse("#seen == null"), column, boolean.class)).isTrue();
+    }
+
+    @Test
+    void shouldCallMethodsAndReferToTypes() {
+        final ColumnConfig column = new ColumnConfig().setName("FOO_ID");
+
+        assertThat(
+            ConditionEngine.evaluate(
+                ConditionEngine.parse("name.toLowerCase().length() == T(java.lang.Integer).valueOf(6)"),
+                column,
+                boolean.class
+            )
+        ).isTrue();
+    }
+
+    @Test
+    void shouldNotWriteProperties() {
+        final ColumnConfig column = new ColumnConfig().setName("FOO_ID");
+
+        assertThatExceptionOfType(SpelEvaluationException.class).isThrownBy(() ->
+            ConditionEngine.evaluate(ConditionEngine.parse("(name = 'BAR') != null"), column, boolean.class)
+        );
+        assertThat(column.getName()).isEqualTo("FOO_ID");
+    }
+
+    @Test
+    void shouldEvaluateCompiledExpressions() {
+        final Expression expression = ConditionEngine.parse("name != null and name.startsWith('FOO_')");
+        final ColumnConfig matching = new ColumnConfig().setName("FOO_ID");
+        final ColumnConfig notMatching = new ColumnConfig().setName("BAR_ID");
+
+        assertThat(ConditionEngine.evaluate(expression, matching, boolean.class)).isTrue();
+        assertThat(((SpelExpression) expression).compileExpression()).isTrue();
+        assertThat(ConditionEngine.evaluate(expression, matching, boolean.class)).isTrue();
+        assertThat(ConditionEngine.evaluate(expression, notMatching, boolean.class)).isFalse();
+    }
+
+    @Test
+    void shouldFallBackToInterpretedModeWhenCompiledExpressionFails() {
+        final Expression expression = ConditionEngine.parse("name.length() > 3");
+
+        assertThat(ConditionEngine.evaluate(expression, new ColumnConfig().setName("FOO_ID"), boolean.class)).isTrue();
+        assertThat(((SpelExpression) expression).compileExpression()).isTrue();
+
+        assertThat(ConditionEngine.evaluate(expression, new Named("FOO_ID"), boolean.class)).isTrue();
+        assertThat(ConditionEngine.evaluate(expression, new Named("FOO"), boolean.class)).isFalse();
+    }
+
+    @Test
+    void shouldRejectInvalidExpressions() {
+        assertThatExceptionOfType(ParseException.class).isThrownBy(() -> ConditionEngine.parse("name ==="));
+    }
+
+    public static final class Named {
+
+        private final String name;
+
+        Named(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
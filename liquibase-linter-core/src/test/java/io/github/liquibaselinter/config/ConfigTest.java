@@ -10,7 +10,9 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableListMultimap;
+import io.github.liquibaselinter.report.ConsoleReporter;
 import io.github.liquibaselinter.report.Reporter;
 import java.io.IOException;
 import org.apache.commons.io.IOUtils;
@@ -50,6 +52,39 @@ class ConfigTest {
             .withMessageContaining("instance of `io.github.liquibaselinter.config.RuleConfig$RuleConfigBuilder`");
     }
 
+    @DisplayName("Should name the rule config of an invalid pattern")
+    @Test
+    void shouldNameRuleConfigOfInvalidPattern() {
+        String configJson =
+            "{\n" +
+            "    \"rules\": {\n" +
+            "        \"object-name\": [\n" +
+            "            { \"pattern\": \"^[A-Z_0-9]+$\" },\n" +
+            "            { \"pattern\": \"^POWER[.*$\" }\n" +
+            "        ]\n" +
+            "    }\n" +
+            "}\n";
+
+        assertThatExceptionOfType(JsonMappingException.class)
+            .isThrownBy(() -> Config.fromInputStream(IOUtils.toInputStream(configJson, UTF_8)))
+            .withMessageContaining("Invalid lq lint config rules.object-name[1]: Invalid pattern '^POWER[.*$'");
+    }
+
+    @DisplayName("Should name the rule config of an invalid condition")
+    @Test
+    void shouldNameRuleConfigOfInvalidCondition() {
+        String configJson =
+            "{\n" +
+            "  \"rules\": {\n" +
+            "    \"table-name\": { \"condition\": \"change.tableName ==\" }\n" +
+            "  }\n" +
+            "}";
+
+        assertThatExceptionOfType(JsonMappingException.class)
+            .isThrownBy(() -> Config.fromInputStream(IOUtils.toInputStream(configJson, UTF_8)))
+            .withMessageContaining("Invalid lq lint config rules.table-name: Invalid condition 'change.tableName =='");
+    }
+
     @DisplayName("Should support having rule config value as boolean")
     @Test
     void shouldSupportHavingRuleConfigAsBoolean() throws IOException {
@@ -144,6 +179,23 @@ class ConfigTest {
         );
     }
 
+    @DisplayName("Should match the ignore patterns within the default pattern timeout")
+    @Test
+    void shouldMatchIgnorePatternsWithinTimeout() {
+        Config config = new Config.Builder()
+            .withIgnoreContextPattern("^test.*$")
+            .withIgnoreFilesPattern("^((B+)+)\\2/.*$")
+            .build();
+
+        assertThat(config.isContextIgnored("test-data")).isTrue();
+        assertThat(config.isContextIgnored("prod")).isFalse();
+        assertThat(config.isFileIgnored("BB\\changelog.xml")).isTrue();
+        assertThatExceptionOfType(PatternTimeoutException.class)
+            .isThrownBy(() -> config.isFileIgnored(Strings.repeat("B", 40) + "!/changelog.xml"))
+            .withMessageContaining("within 1000 ms");
+        assertThat(new Config.Builder().build().isFileIgnored("changelog.xml")).isFalse();
+    }
+
     @DisplayName("Should copy existing config with builder")
     @Test
     void shouldCopyConfigWithBuilder() {
@@ -244,4 +296,56 @@ class ConfigTest {
 
         assertThat(config.getRules().size()).isEqualTo(1);
     }
+
+    @DisplayName("Should support cache directory")
+    @Test
+    void shouldSupportCacheDirectory() throws IOException {
+        String configJson = "{\n" + "  \"cache\": \"target/lqlint-cache\"\n" + "}";
+
+        Config config = Config.fromInputStream(IOUtils.toInputStream(configJson, UTF_8));
+
+        assertThat(config.getCacheDirectory()).isEqualTo("target/lqlint-cache");
+        assertThat(new Config.Builder(config).build().getCacheDirectory()).isEqualTo("target/lqlint-cache");
+    }
+
+    @DisplayName("Should only change the fingerprint when settings deciding linting results change")
+    @Test
+    void shouldFingerprintLintingSettings() throws IOException {
+        String configJson =
+            "{\n" +
+            "  \"enable-after\": \"first.xml\",\n" +
+            "  \"rules\": {\n" +
+            "    \"table-name\": { \"pattern\": \"^[A-Z_]+$\", \"condition\": \"true\" }\n" +
+            "  }\n" +
+            "}";
+        Config config = Config.fromInputStream(IOUtils.toInputStream(configJson, UTF_8));
+        Config sameConfig = Config.fromInputStream(IOUtils.toInputStream(configJson, UTF_8));
+
+        assertThat(sameConfig.fingerprint()).isEqualTo(config.fingerprint());
+        assertThat(
+            new Config.Builder(config)
+                .withParallelism(4)
+                .withCacheDirectory("target/lqlint-cache")
+                .withReporting(ImmutableListMultimap.of("console", new ConsoleReporter.Factory().create(true)))
+                .build()
+                .fingerprint()
+        ).isEqualTo(config.fingerprint());
+        assertThat(new Config.Builder(config).withFailFast(true).build().fingerprint()).isNotEqualTo(
+            config.fingerprint()
+        );
+        assertThat(new Config.Builder(config).withEnableAfter(null).build().fingerprint()).isNotEqualTo(
+            config.fingerprint()
+        );
+        assertThat(
+            new Config.Builder(config)
+                .withRules(
+                    ImmutableListMultimap.of(
+                        "table-name",
+                        RuleConfig.builder().withPattern("^[A-Z_]+$").withCondition("false").build()
+                    )
+                )
+                .build()
+                .fingerprint()
+        ).isNotEqualTo(config.fingerprint());
+    }
 }
@@ -0,0 +1,93 @@
+package io.github.liquibaselinter.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableListMultimap;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NamingPatternsTest {
+
+    private static final RuleConfig UPPER_CASE = pattern("^(?!_)[A-Z_0-9]+(?<!_)$");
+    private static final RuleConfig SUFFIXED = pattern("^.*_TAB$");
+    private static final RuleConfig CASE_INSENSITIVE = pattern("(?i)^foo_.*$");
+    private static final RuleConfig ALTERNATIVES = pattern("A|AB");
+    private static final List<String> VALUES = Arrays.asList("FOO_TAB", "foo_bar", "_FOO", "FOO_", "AB", "A", "");
+
+    @DisplayName("Should tell which combined patterns of a rule a value does not match")
+    @Test
+    void shouldTellFailedPatterns() {
+        final NamingPatterns namingPatterns = new NamingPatterns(
+            config(ImmutableListMultimap.of("table-name", UPPER_CASE, "table-name", SUFFIXED))
+        );
+
+        assertThat(namingPatterns.failedPatterns("table-name", "FOO_TAB")).isEmpty();
+        assertThat(namingPatterns.failedPatterns("table-name", "FOO")).containsExactly("^.*_TAB$");
+        assertThat(namingPatterns.failedPatterns("table-name", "_foo")).containsExactly(
+            "^(?!_)[A-Z_0-9]+(?<!_)$",
+            "^.*_TAB$"
+        );
+        assertThat(namingPatterns.failedPatterns("column-name", "FOO")).isEmpty();
+    }
+
+    @DisplayName("Should match values against combined patterns as each pattern on its own does")
+    @Test
+    void shouldMatchAsEachPattern() {
+        final List<RuleConfig> ruleConfigs = Arrays.asList(UPPER_CASE, SUFFIXED, CASE_INSENSITIVE, ALTERNATIVES);
+        final ImmutableListMultimap.Builder<String, RuleConfig> rules = ImmutableListMultimap.builder();
+        ruleConfigs.forEach(ruleConfig -> rules.put("object-name", ruleConfig));
+        final NamingPatterns namingPatterns = new NamingPatterns(config(rules.build()));
+        final NamingPatterns.Matches matches = namingPatterns.newMatches();
+
+        for (String value : VALUES) {
+            for (RuleConfig ruleConfig : ruleConfigs) {
+                assertThat(namingPatterns.isCombined(ruleConfig)).isTrue();
+                assertThat(matches.matchesPattern(ruleConfig, value))
+                    .as("%s matching '%s'", ruleConfig.getPatternString(), value)
+                    .isEqualTo(ruleConfig.getCompiled().matchesPattern(value));
+            }
+        }
+    }
+
+    @DisplayName("Should match dynamic patterns, back references and single patterns on their own")
+    @Test
+    void shouldNotCombineUnsuitablePatterns() {
+        final RuleConfig dynamic = RuleConfig.builder()
+            .withPattern("^{{value}}_PK$")
+            .withDynamicValue("tableName")
+            .build();
+        final RuleConfig backReference = pattern("^(A)\\1$");
+        final RuleConfig otherTimeout = RuleConfig.builder().withPattern("^B$").withPatternTimeoutMillis(0).build();
+        final NamingPatterns namingPatterns = new NamingPatterns(
+            config(
+                ImmutableListMultimap.of(
+                    "primary-key-name",
+                    dynamic,
+                    "primary-key-name",
+                    backReference,
+                    "primary-key-name",
+                    UPPER_CASE,
+                    "primary-key-name",
+                    otherTimeout
+                )
+            )
+        );
+
+        assertThat(namingPatterns.isCombined(dynamic)).isFalse();
+        assertThat(namingPatterns.isCombined(backReference)).isFalse();
+        assertThat(namingPatterns.isCombined(UPPER_CASE)).isFalse();
+        assertThat(namingPatterns.isCombined(otherTimeout)).isFalse();
+        assertThat(namingPatterns.newMatches().matchesPattern(backReference, "AA")).isTrue();
+        assertThat(namingPatterns.newMatches().matchesPattern(backReference, "AB")).isFalse();
+    }
+
+    private static RuleConfig pattern(String pattern) {
+        return RuleConfig.builder().withPattern(pattern).build();
+    }
+
+    private static Config config(ImmutableListMultimap<String, RuleConfig> rules) {
+        return new Config.Builder().withRules(rules).build();
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.liquibaselinter.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.google.common.base.Strings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PatternComplexityTest {
+
+    @DisplayName("Should flag repeated groups that contain a repetition")
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "^(a+)+$",
+            "(.*)*",
+            "^(\\w+\\s?)*$",
+            "^(?:[A-Z]+_?){2,}$",
+            "((ab)*c)+",
+            "^(x(a|b+))*$",
+            "^(a+/?)+$",
+            "^(a+/|b+)+$",
+        }
+    )
+    void shouldFlagNestedQuantifiers(String regex) {
+        assertThat(PatternComplexity.isProneToBacktracking(regex)).isTrue();
+    }
+
+    @DisplayName("Should not flag patterns without nested repetitions")
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "^(?!_)[A-Z_0-9]+(?<!_)$",
+            "^[A-Z]+_PK$",
+            "^.*foo.*$",
+            "^(a+)?$",
+            "^(ab){2,5}$",
+            "^([a+])+$",
+            "^(\\(+)$",
+            "^(a++)+$",
+            "^(?>a+)+$",
+            "\\Q(a+)+\\E",
+            "^([a-z0-9_]+/)*[a-z0-9_.-]+\\.(xml|yaml|json|sql)$",
+            "^([A-Z]+_)+[A-Z]+$",
+            "^(\\w+\\.)+\\w+$",
+        }
+    )
+    void shouldNotFlagSafePatterns(String regex) {
+        assertThat(PatternComplexity.isProneToBacktracking(regex)).isFalse();
+    }
+
+    @DisplayName("Should stop a match that takes longer than its timeout")
+    @Test
+    void shouldStopMatchAfterTimeout() {
+        CompiledRuleConfig compiled = RuleConfig.builder()
+            .withPattern("^((B+)+)\\2$")
+            .withPatternTimeoutMillis(50)
+            .build()
+            .getCompiled();
+        String value = Strings.repeat("B", 32) + "!";
+
+        assertThatExceptionOfType(PatternTimeoutException.class)
+            .isThrownBy(() -> compiled.matchesPattern(value))
+            .withMessageContaining("within 50 ms");
+        assertThat(compiled.matchesPattern(Strings.repeat("B", 32))).isTrue();
+    }
+}
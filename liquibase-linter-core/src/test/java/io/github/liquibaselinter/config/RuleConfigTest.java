@@ -0,0 +1,143 @@
+package io.github.liquibaselinter.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RuleConfigTest {
+
+    @DisplayName("Should compile a dynamic pattern once per resolved value")
+    @Test
+    void shouldCacheDynamicPatterns() {
+        RuleConfig ruleConfig = RuleConfig.builder().withPattern("^{{value}}_PK$").withDynamicValue("tableName").build();
+
+        Pattern first = ruleConfig.getDynamicPattern("FOO");
+        Pattern second = ruleConfig.getDynamicPattern("FOO");
+        Pattern other = ruleConfig.getDynamicPattern("BAR");
+
+        assertThat(second).isSameAs(first);
+        assertThat(other.pattern()).isEqualTo("^BAR_PK$");
+        assertThat(ruleConfig.getDynamicPatternCacheStats().hitCount()).isEqualTo(1);
+        assertThat(ruleConfig.getDynamicPatternCacheStats().missCount()).isEqualTo(2);
+    }
+
+    @DisplayName("Should bound the dynamic patterns cache to its configured size")
+    @Test
+    void shouldBoundDynamicPatternsCache() {
+        RuleConfig ruleConfig = RuleConfig.builder()
+            .withPattern("^{{value}}_PK$")
+            .withDynamicValue("tableName")
+            .withDynamicPatternCacheSize(0)
+            .build();
+
+        Pattern first = ruleConfig.getDynamicPattern("FOO");
+
+        assertThat(ruleConfig.getDynamicPattern("FOO")).isNotSameAs(first);
+        assertThat(ruleConfig.getDynamicPatternCacheStats().hitCount()).isZero();
+    }
+
+    @DisplayName("Should throw the pattern syntax error of an invalid dynamic pattern")
+    @Test
+    void shouldThrowForInvalidDynamicPattern() {
+        RuleConfig ruleConfig = RuleConfig.builder().withPattern("^{{value}}_PK$").withDynamicValue("tableName").build();
+
+        assertThatExceptionOfType(PatternSyntaxException.class).isThrownBy(() -> ruleConfig.getDynamicPattern("FOO("));
+    }
+
+    @DisplayName("Should compile patterns and expressions once when built")
+    @Test
+    void shouldCompileWhenBuilt() {
+        RuleConfig ruleConfig = RuleConfig.builder()
+            .withPattern("^[A-Z_]+$")
+            .withCondition("change.tableName != null")
+            .withColumnCondition("name != null")
+            .withValues("^FOO.*$", "BAR")
+            .build();
+
+        assertThat(ruleConfig.getPattern()).containsSame(ruleConfig.getCompiled().getPattern().get());
+        assertThat(ruleConfig.getConditionalExpression()).containsSame(
+            ruleConfig.getCompiled().getConditionExpression().get()
+        );
+        assertThat(ruleConfig.getConditionalColumnExpression()).isPresent();
+        assertThat(ruleConfig.getCompiled().getValuePatterns())
+            .extracting(Pattern::pattern)
+            .containsExactly("^FOO.*$", "BAR");
+    }
+
+    @DisplayName("Should fail to build with an invalid pattern")
+    @Test
+    void shouldFailToBuildWithInvalidPattern() {
+        RuleConfig.RuleConfigBuilder builder = RuleConfig.builder().withPattern("^[A-Z_+$");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(builder::build)
+            .withMessageStartingWith("Invalid pattern '^[A-Z_+$': Unclosed character class");
+    }
+
+    @DisplayName("Should fail to build with an invalid dynamic pattern template")
+    @Test
+    void shouldFailToBuildWithInvalidDynamicPatternTemplate() {
+        RuleConfig.RuleConfigBuilder builder = RuleConfig.builder()
+            .withPattern("^({{value}}_PK$")
+            .withDynamicValue("tableName");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(builder::build)
+            .withMessageStartingWith("Invalid pattern '^(value_PK$'");
+    }
+
+    @DisplayName("Should fail to build with an invalid expression")
+    @Test
+    void shouldFailToBuildWithInvalidExpression() {
+        RuleConfig.RuleConfigBuilder builder = RuleConfig.builder().withDynamicValue("tableName +");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(builder::build)
+            .withMessageStartingWith("Invalid dynamicValue 'tableName +'");
+    }
+
+    @DisplayName("Should only fail on values that are not regular expressions when used as such")
+    @Test
+    void shouldFailOnInvalidValuePatternWhenUsed() {
+        RuleConfig ruleConfig = RuleConfig.builder().withValues("db/[changelog.xml").build();
+
+        assertThat(ruleConfig.getValues()).containsExactly("db/[changelog.xml");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> ruleConfig.getCompiled().getValuePatterns())
+            .withMessageStartingWith("Invalid values 'db/[changelog.xml'");
+    }
+
+    @DisplayName("Should match the pattern of a rule config")
+    @Test
+    void shouldMatchPattern() {
+        CompiledRuleConfig compiled = RuleConfig.builder().withPattern("^[A-Z]+_PK$").build().getCompiled();
+
+        assertThat(compiled.matchesPattern("TABLE_PK")).isTrue();
+        assertThat(compiled.matchesPattern("TABLE")).isFalse();
+        assertThat(RuleConfig.enabled().getCompiled().matchesPattern("anything")).isTrue();
+    }
+
+    @DisplayName("Should compile the pattern of each rule config on its own")
+    @Test
+    void shouldNotSharePatternsBetweenRuleConfigs() {
+        RuleConfig tableName = RuleConfig.builder().withPattern("^[A-Z_]+$").build();
+        RuleConfig columnName = RuleConfig.builder().withPattern("^[A-Z_]+$").build();
+
+        assertThat(tableName.getPattern().get()).isNotSameAs(columnName.getPattern().get());
+    }
+
+    @DisplayName("Should read dynamic pattern cache size from json")
+    @Test
+    void shouldReadDynamicPatternCacheSize() throws IOException {
+        RuleConfig ruleConfig = new ObjectMapper().readValue("{\"dynamicPatternCacheSize\": 50}", RuleConfig.class);
+
+        assertThat(ruleConfig.getDynamicPatternCacheSize()).isEqualTo(50);
+        assertThat(RuleConfig.enabled().getDynamicPatternCacheSize()).isEqualTo(1000);
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.liquibaselinter.corpus;
+
+/**
+ * Kinds of change the corpus generator mixes into its change sets. Each generated change set holds a single change of
+ * one of these kinds, unless a violation adds another one.
+ */
+public enum ChangeKind {
+    CREATE_TABLE(true, 10),
+    ADD_COLUMN(true, 20),
+    CREATE_INDEX(true, 8),
+    ADD_PRIMARY_KEY(true, 4),
+    ADD_FOREIGN_KEY(true, 6),
+    ADD_UNIQUE_CONSTRAINT(true, 3),
+    CREATE_SEQUENCE(true, 2),
+    RENAME_TABLE(true, 2),
+    DROP_NOT_NULL(true, 3),
+    INSERT(false, 15),
+    UPDATE(false, 10),
+    DELETE(false, 4),
+    LOAD_DATA(false, 3),
+    SQL(false, 10);
+
+    private final boolean ddl;
+    private final int defaultWeight;
+
+    ChangeKind(boolean ddl, int defaultWeight) {
+        this.ddl = ddl;
+        this.defaultWeight = defaultWeight;
+    }
+
+    public boolean isDdl() {
+        return ddl;
+    }
+
+    int getDefaultWeight() {
+        return defaultWeight;
+    }
+}
@@ -0,0 +1,596 @@
+package io.github.liquibaselinter.corpus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Writes reproducible synthetic change log trees, far bigger than the integration test fixtures, for scale tests and
+ * benchmarks. The tree has a configurable number of change sets, spread over leaf files of the configured formats,
+ * which are included from the root change log through {@code includeDepth} levels of {@code include} or
+ * {@code includeAll}.
+ * <p>
+ * A {@code lqlint.json} enabling every {@link CorpusRule} is written next to the root change log. Without violation
+ * rates the corpus passes it; each violation rate is the share of change sets (of leaf files for
+ * {@code changelog-file-name}) that break that one rule. Violations a file format cannot express, such as column rules
+ * in formatted SQL, are skipped, so {@link GeneratedCorpus#getInjectedViolations()} gives the exact counts.
+ * <p>
+ * From the command line, with the core test classpath:
+ * {@code ChangeLogCorpusGenerator <directory> [changeSets=100000] [formats=xml,yaml] [includeDepth=3] [includeAll=true]
+ * [seed=42] [mix.sql=0] [violation.table-name=0.01]}.
+ */
+public final class ChangeLogCorpusGenerator {
+
+    public static final String ROOT_CHANGE_LOG = "db.changelog-master";
+    public static final String CONFIG_FILE = "lqlint.json";
+
+    private static final String DATA_FILE = "data/reference_data.csv";
+    private static final String ID_DATE = "20180906";
+    private static final String TABLESPACE = "TS_INDEX";
+    private static final String REVIEWED_SQL_LABEL = "reviewed-sql";
+    private static final List<String> AUTHORS = Arrays.asList("alice", "bob.martin", "carol", "dave.ops", "erin");
+    private static final List<String> NOUNS = Arrays.asList(
+        "ACCOUNT",
+        "ADDRESS",
+        "CUSTOMER",
+        "INVOICE",
+        "ORDERS",
+        "PAYMENT",
+        "PRODUCT",
+        "SHIPMENT",
+        "SUPPLIER",
+        "TICKET",
+        "USERS",
+        "WAREHOUSE"
+    );
+    private static final String[][] COLUMNS = {
+        { "NAME", "VARCHAR(255)" },
+        { "DESCRIPTION", "VARCHAR(4000)" },
+        { "STATUS", "VARCHAR(20)" },
+        { "CODE", "VARCHAR(50)" },
+        { "AMOUNT", "DECIMAL(19, 4)" },
+        { "QUANTITY", "INT" },
+        { "ACTIVE", "BOOLEAN" },
+        { "CREATED_AT", "TIMESTAMP" },
+        { "UPDATED_AT", "TIMESTAMP" },
+        { "VERSION", "BIGINT" },
+        { "EXTERNAL_REF", "VARCHAR(100)" },
+        { "PARENT_ID", "BIGINT" },
+    };
+    private static final String[] SQL_TEMPLATES = {
+        "UPDATE %s SET VERSION = VERSION + 1 WHERE ID = %d;",
+        "DELETE FROM %s WHERE CREATED_AT < CURRENT_DATE - %d;",
+        "CREATE OR REPLACE VIEW %s_V AS SELECT * FROM %1$s WHERE ID > %d;",
+        "GRANT SELECT ON %s TO REPORTING_%d;",
+    };
+
+    private final int changeSets;
+    private final int changeSetsPerFile;
+    private final List<ChangeLogFormat> formats;
+    private final int includeDepth;
+    private final boolean includeAll;
+    private final Map<ChangeKind, Integer> changeMix;
+    private final Map<CorpusRule, Double> violationRates;
+    private final long seed;
+
+    private ChangeLogCorpusGenerator(Builder builder) {
+        this.changeSets = builder.changeSets;
+        this.changeSetsPerFile = builder.changeSetsPerFile;
+        this.formats = Collections.unmodifiableList(new ArrayList<>(builder.formats));
+        this.includeDepth = builder.includeDepth;
+        this.includeAll = builder.includeAll;
+        this.changeMix = Collections.unmodifiableMap(new EnumMap<>(builder.changeMix));
+        this.violationRates = Collections.unmodifiableMap(new EnumMap<>(builder.violationRates));
+        this.seed = builder.seed;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public GeneratedCorpus generate(Path directory) throws IOException {
+        return new Generation(new Random(seed)).run(directory);
+    }
+
+    static ChangeNode createIndex(String tableName, String suffix) {
+        return new ChangeNode("createIndex")
+            .attribute("tableName", tableName)
+            .attribute("indexName", tableName + '_' + suffix)
+            .attribute("tablespace", TABLESPACE)
+            .column(new ColumnNode().attribute("name", "ID"));
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException(
+                "Usage: ChangeLogCorpusGenerator <directory> [changeSets=n] [changeSetsPerFile=n] [formats=xml,yaml] " +
+                "[includeDepth=n] [includeAll=true] [seed=n] [mix.<kind>=weight] [violation.<rule>=rate]"
+            );
+        }
+        final Builder builder = builder();
+        for (String option : Arrays.asList(args).subList(1, args.length)) {
+            final String[] keyValue = option.split("=", 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Expected key=value option but got " + option);
+            }
+            builder.withOption(keyValue[0], keyValue[1]);
+        }
+        final GeneratedCorpus corpus = builder.build().generate(Paths.get(args[0]));
+        System.out.printf(
+            "Wrote %d change sets in %d change logs to %s, injected violations: %s%n",
+            corpus.getChangeSets(),
+            corpus.getChangeLogFiles(),
+            corpus.getDirectory().toAbsolutePath(),
+            corpus.getInjectedViolations()
+        );
+    }
+
+    private final class Generation {
+
+        private final Random random;
+        private final List<ChangeLogFile> files = new ArrayList<>();
+        private final List<ChangeLogFile> leaves = new ArrayList<>();
+        private final Map<ChangeLogFile, String> dataFiles = new LinkedHashMap<>();
+        private final Map<String, Integer> injectedViolations = new TreeMap<>();
+        private final List<String> tables = new ArrayList<>();
+        private final ChangeLogFormat aggregatorFormat = formats
+            .stream()
+            .filter(ChangeLogFormat::supportsIncludes)
+            .findFirst()
+            .orElse(ChangeLogFormat.XML);
+
+        private Generation(Random random) {
+            this.random = random;
+        }
+
+        private GeneratedCorpus run(Path directory) throws IOException {
+            final ChangeLogFile root = new ChangeLogFile(
+                ROOT_CHANGE_LOG + '.' + aggregatorFormat.getExtension(),
+                aggregatorFormat
+            );
+            files.add(root);
+            final int leafCount = (changeSets + changeSetsPerFile - 1) / changeSetsPerFile;
+            final int fanout = Math.max(2, (int) Math.ceil(Math.pow(leafCount, 1.0 / includeDepth)));
+            planIncludes(root, "", 0, leafCount, 1, fanout);
+
+            int changeSetNumber = 0;
+            for (ChangeLogFile leaf : leaves) {
+                final int count = Math.min(changeSetsPerFile, changeSets - changeSetNumber);
+                for (int i = 0; i < count; i++) {
+                    changeSetNumber++;
+                    leaf.getChangeSets().add(changeSet(leaf, changeSetNumber));
+                }
+            }
+
+            write(directory);
+            return new GeneratedCorpus(
+                directory,
+                root.getPath(),
+                CONFIG_FILE,
+                changeSets,
+                files.size(),
+                injectedViolations
+            );
+        }
+
+        private void planIncludes(ChangeLogFile parent, String directory, int from, int to, int level, int fanout) {
+            if (level == includeDepth) {
+                for (int index = from; index < to; index++) {
+                    final ChangeLogFile leaf = leaf(directory, index);
+                    if (!includeAll) {
+                        parent.getIncludes().add(leaf.getPath().substring(directory.length()));
+                    }
+                    dataFiles.put(leaf, directory + DATA_FILE);
+                }
+                if (includeAll) {
+                    parent.setIncludeAllPath("changes/");
+                }
+                return;
+            }
+            final int groups = Math.min(fanout, to - from);
+            final int groupSize = (to - from + groups - 1) / groups;
+            for (int group = 0; group * groupSize < to - from; group++) {
+                final String groupDirectory = String.format(Locale.ROOT, "part_%03d/", group + 1);
+                final ChangeLogFile aggregator = new ChangeLogFile(
+                    directory + groupDirectory + "changelog." + aggregatorFormat.getExtension(),
+                    aggregatorFormat
+                );
+                files.add(aggregator);
+                parent.getIncludes().add(aggregator.getPath().substring(directory.length()));
+                final int groupFrom = from + group * groupSize;
+                planIncludes(
+                    aggregator,
+                    directory + groupDirectory,
+                    groupFrom,
+                    Math.min(to, groupFrom + groupSize),
+                    level + 1,
+                    fanout
+                );
+            }
+        }
+
+        private ChangeLogFile leaf(String directory, int index) {
+            final ChangeLogFormat format = formats.get(index % formats.size());
+            final boolean badFileName = roll(violationRates.getOrDefault(CorpusRule.CHANGELOG_FILE_NAME, 0.0));
+            if (badFileName) {
+                injectedViolations.merge(CorpusRule.CHANGELOG_FILE_NAME.getRuleName(), 1, Integer::sum);
+            }
+            final String fileName = String.format(
+                Locale.ROOT,
+                "%05d_%s.%s",
+                index + 1,
+                badFileName ? "Changes" : "changes",
+                format.getExtension()
+            );
+            final ChangeLogFile leaf = new ChangeLogFile(directory + "changes/" + fileName, format);
+            files.add(leaf);
+            leaves.add(leaf);
+            return leaf;
+        }
+
+        private ChangeSetNode changeSet(ChangeLogFile leaf, int number) {
+            CorpusRule violation = pickViolation();
+            final Set<ChangeKind> candidates = new LinkedHashSet<>();
+            changeMix.forEach((kind, weight) -> {
+                if (weight > 0 && leaf.getFormat().supports(kind)) {
+                    candidates.add(kind);
+                }
+            });
+            if (violation != null) {
+                final Set<ChangeKind> violating = new LinkedHashSet<>(candidates);
+                violating.retainAll(violation.getKinds());
+                if (violating.isEmpty()) {
+                    violation = null;
+                } else {
+                    candidates.retainAll(violating);
+                }
+            }
+            if (candidates.isEmpty()) {
+                throw new IllegalArgumentException("No change kind of the mix can be written as " + leaf.getFormat());
+            }
+            final ChangeKind kind = pickKind(candidates);
+            final ChangeSetNode changeSet = new ChangeSetNode(
+                kind,
+                ID_DATE + '-' + number,
+                AUTHORS.get(random.nextInt(AUTHORS.size()))
+            );
+            changeSet.setContext(kind.isDdl() ? "ddl" : "dml");
+            changeSet.setComment(
+                "Generated " + kind.name().toLowerCase(Locale.ROOT).replace('_', ' ') + " change set " + number
+            );
+            changeSet.getChanges().add(change(kind, leaf, number, violation == null));
+            if (kind == ChangeKind.SQL) {
+                changeSet.setLabels(REVIEWED_SQL_LABEL);
+            }
+            if (violation != null) {
+                violation.inject(changeSet);
+                injectedViolations.merge(violation.getRuleName(), 1, Integer::sum);
+            }
+            return changeSet;
+        }
+
+        private CorpusRule pickViolation() {
+            double draw = random.nextDouble();
+            for (Map.Entry<CorpusRule, Double> rate : violationRates.entrySet()) {
+                if (rate.getKey().isFileLevel()) {
+                    continue;
+                }
+                draw -= rate.getValue();
+                if (draw < 0) {
+                    return rate.getKey();
+                }
+            }
+            return null;
+        }
+
+        private ChangeKind pickKind(Set<ChangeKind> candidates) {
+            final int total = candidates.stream().mapToInt(changeMix::get).sum();
+            int draw = random.nextInt(total);
+            for (ChangeKind kind : candidates) {
+                draw -= changeMix.get(kind);
+                if (draw < 0) {
+                    return kind;
+                }
+            }
+            throw new IllegalStateException("Weighted draw out of range");
+        }
+
+        private boolean roll(double rate) {
+            return rate > 0 && random.nextDouble() < rate;
+        }
+
+        private ChangeNode change(ChangeKind kind, ChangeLogFile leaf, int number, boolean registerTable) {
+            switch (kind) {
+                case CREATE_TABLE:
+                    return createTable(number, registerTable);
+                case ADD_COLUMN:
+                    return addColumn(number);
+                case CREATE_INDEX:
+                    return createIndex(existingTable(), String.format(Locale.ROOT, "IX%02d", 1 + random.nextInt(9)));
+                case ADD_PRIMARY_KEY:
+                    return tableConstraint("addPrimaryKey", "ID", "_PK");
+                case ADD_FOREIGN_KEY:
+                    return addForeignKey();
+                case ADD_UNIQUE_CONSTRAINT:
+                    return tableConstraint("addUniqueConstraint", "CODE", "_UQ1");
+                case CREATE_SEQUENCE:
+                    return new ChangeNode("createSequence")
+                        .attribute("sequenceName", newName(number) + "_SEQ")
+                        .attribute("startValue", 1);
+                case RENAME_TABLE:
+                    return renameTable(number, registerTable);
+                case DROP_NOT_NULL:
+                    return dropNotNull();
+                case INSERT:
+                    return new ChangeNode("insert")
+                        .attribute("tableName", existingTable())
+                        .column(new ColumnNode().attribute("name", "ID").attribute("valueNumeric", number))
+                        .column(new ColumnNode().attribute("name", "NAME").attribute("value", "Name " + number));
+                case UPDATE:
+                    return new ChangeNode("update")
+                        .attribute("tableName", existingTable())
+                        .column(new ColumnNode().attribute("name", "STATUS").attribute("value", "ARCHIVED"))
+                        .where("ID = " + random.nextInt(number));
+                case DELETE:
+                    return new ChangeNode("delete")
+                        .attribute("tableName", existingTable())
+                        .where("ID = " + random.nextInt(number));
+                case LOAD_DATA:
+                    return new ChangeNode("loadData")
+                        .attribute("tableName", existingTable())
+                        .attribute("file", dataFiles.get(leaf))
+                        .attribute("separator", ";");
+                case SQL:
+                    return new ChangeNode("sql").sql(
+                        String.format(
+                            Locale.ROOT,
+                            SQL_TEMPLATES[random.nextInt(SQL_TEMPLATES.length)],
+                            existingTable(),
+                            1 + random.nextInt(number)
+                        )
+                    );
+                default:
+                    throw new IllegalArgumentException("Unsupported change kind " + kind);
+            }
+        }
+
+        private ChangeNode createTable(int number, boolean registerTable) {
+            final String tableName = newName(number);
+            final ChangeNode change = new ChangeNode("createTable")
+                .attribute("tableName", tableName)
+                .attribute("remarks", "Stores " + tableName.toLowerCase(Locale.ROOT) + " records")
+                .column(column("ID", "BIGINT", false));
+            final List<String[]> columns = new ArrayList<>(Arrays.asList(COLUMNS));
+            Collections.shuffle(columns, random);
+            for (String[] column : columns.subList(0, 2 + random.nextInt(4))) {
+                change.column(column(column[0], column[1], random.nextBoolean()));
+            }
+            if (registerTable) {
+                tables.add(tableName);
+            }
+            return change;
+        }
+
+        private ChangeNode addColumn(int number) {
+            final ChangeNode change = new ChangeNode("addColumn").attribute("tableName", existingTable());
+            for (int i = 1 + random.nextInt(2); i > 0; i--) {
+                final String[] column = COLUMNS[random.nextInt(COLUMNS.length)];
+                change.column(column(column[0] + '_' + number + '_' + i, column[1], random.nextBoolean()));
+            }
+            return change;
+        }
+
+        private ChangeNode tableConstraint(String changeName, String columnNames, String constraintSuffix) {
+            final String tableName = existingTable();
+            return new ChangeNode(changeName)
+                .attribute("tableName", tableName)
+                .attribute("columnNames", columnNames)
+                .attribute("constraintName", tableName + constraintSuffix)
+                .attribute("tablespace", TABLESPACE);
+        }
+
+        private ChangeNode addForeignKey() {
+            final String baseTableName = existingTable();
+            return new ChangeNode("addForeignKeyConstraint")
+                .attribute("baseTableName", baseTableName)
+                .attribute("baseColumnNames", "PARENT_ID")
+                .attribute("referencedTableName", existingTable())
+                .attribute("referencedColumnNames", "ID")
+                .attribute("constraintName", baseTableName + "_FK" + (1 + random.nextInt(9)));
+        }
+
+        private ChangeNode renameTable(int number, boolean registerTable) {
+            final String oldTableName = existingTable();
+            final String newTableName = newName(number);
+            tables.remove(oldTableName);
+            if (registerTable) {
+                tables.add(newTableName);
+            }
+            return new ChangeNode("renameTable")
+                .attribute("oldTableName", oldTableName)
+                .attribute("newTableName", newTableName);
+        }
+
+        private ChangeNode dropNotNull() {
+            final String[] column = COLUMNS[random.nextInt(COLUMNS.length)];
+            return new ChangeNode("dropNotNullConstraint")
+                .attribute("tableName", existingTable())
+                .attribute("columnName", column[0])
+                .attribute("columnDataType", column[1]);
+        }
+
+        private ColumnNode column(String name, String type, boolean nullable) {
+            return new ColumnNode()
+                .attribute("name", name)
+                .attribute("type", type)
+                .attribute("remarks", "The " + name.toLowerCase(Locale.ROOT).replace('_', ' '))
+                .constraint("nullable", nullable);
+        }
+
+        private String newName(int number) {
+            return NOUNS.get(random.nextInt(NOUNS.size())) + '_' + number;
+        }
+
+        private String existingTable() {
+            return tables.isEmpty() ? NOUNS.get(0) + "_0" : tables.get(random.nextInt(tables.size()));
+        }
+
+        private void write(Path directory) throws IOException {
+            for (ChangeLogFile file : files) {
+                final Path path = directory.resolve(file.getPath());
+                Files.createDirectories(path.getParent());
+                try (Writer output = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                    file.getFormat().getWriter().write(file, output);
+                }
+            }
+            for (String dataFile : new LinkedHashSet<>(dataFiles.values())) {
+                final Path path = directory.resolve(dataFile);
+                Files.createDirectories(path.getParent());
+                Files.write(path, "ID;NAME\n1;First\n2;Second\n".getBytes(StandardCharsets.UTF_8));
+            }
+            final Map<String, Object> rules = new LinkedHashMap<>();
+            for (CorpusRule rule : CorpusRule.values()) {
+                rules.put(rule.getRuleName(), rule.getConfig());
+            }
+            final Map<String, Object> config = new LinkedHashMap<>();
+            config.put("fail-fast", false);
+            config.put("rules", rules);
+            new ObjectMapper()
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(directory.resolve(CONFIG_FILE).toFile(), config);
+        }
+    }
+
+    public static final class Builder {
+
+        private int changeSets = 1000;
+        private int changeSetsPerFile = 50;
+        private List<ChangeLogFormat> formats = Collections.singletonList(ChangeLogFormat.XML);
+        private int includeDepth = 1;
+        private boolean includeAll;
+        private final Map<ChangeKind, Integer> changeMix = new EnumMap<>(ChangeKind.class);
+        private final Map<CorpusRule, Double> violationRates = new EnumMap<>(CorpusRule.class);
+        private long seed = 20_180_906L;
+
+        private Builder() {
+            for (ChangeKind kind : ChangeKind.values()) {
+                changeMix.put(kind, kind.getDefaultWeight());
+            }
+        }
+
+        public Builder withChangeSets(int changeSets) {
+            this.changeSets = changeSets;
+            return this;
+        }
+
+        public Builder withChangeSetsPerFile(int changeSetsPerFile) {
+            this.changeSetsPerFile = changeSetsPerFile;
+            return this;
+        }
+
+        public Builder withFormats(ChangeLogFormat... formats) {
+            this.formats = Arrays.asList(formats);
+            return this;
+        }
+
+        public Builder withIncludeDepth(int includeDepth) {
+            this.includeDepth = includeDepth;
+            return this;
+        }
+
+        public Builder withIncludeAll(boolean includeAll) {
+            this.includeAll = includeAll;
+            return this;
+        }
+
+        public Builder withChangeMix(ChangeKind kind, int weight) {
+            this.changeMix.put(kind, weight);
+            return this;
+        }
+
+        public Builder withViolationRate(String ruleName, double rate) {
+            this.violationRates.put(CorpusRule.forRuleName(ruleName), rate);
+            return this;
+        }
+
+        public Builder withViolationRates(double rate) {
+            for (CorpusRule rule : CorpusRule.values()) {
+                this.violationRates.put(rule, rate);
+            }
+            return this;
+        }
+
+        public Builder withSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        private void withOption(String key, String value) {
+            if (key.startsWith("mix.")) {
+                withChangeMix(ChangeKind.valueOf(key.substring(4).toUpperCase(Locale.ROOT)), Integer.parseInt(value));
+            } else if (key.startsWith("violation.")) {
+                withViolationRate(key.substring(10), Double.parseDouble(value));
+            } else if ("changeSets".equals(key)) {
+                withChangeSets(Integer.parseInt(value));
+            } else if ("changeSetsPerFile".equals(key)) {
+                withChangeSetsPerFile(Integer.parseInt(value));
+            } else if ("formats".equals(key)) {
+                withFormats(
+                    Arrays.stream(value.split(","))
+                        .map(format -> ChangeLogFormat.valueOf(format.trim().toUpperCase(Locale.ROOT)))
+                        .toArray(ChangeLogFormat[]::new)
+                );
+            } else if ("includeDepth".equals(key)) {
+                withIncludeDepth(Integer.parseInt(value));
+            } else if ("includeAll".equals(key)) {
+                withIncludeAll(Boolean.parseBoolean(value));
+            } else if ("seed".equals(key)) {
+                withSeed(Long.parseLong(value));
+            } else {
+                throw new IllegalArgumentException("Unknown option " + key);
+            }
+        }
+
+        public ChangeLogCorpusGenerator build() {
+            if (changeSets < 1 || changeSetsPerFile < 1 || includeDepth < 1) {
+                throw new IllegalArgumentException("changeSets, changeSetsPerFile and includeDepth must be positive");
+            }
+            if (formats.isEmpty()) {
+                throw new IllegalArgumentException("At least one change log format is required");
+            }
+            if (violationRates.values().stream().anyMatch(rate -> rate < 0 || rate > 1)) {
+                throw new IllegalArgumentException("Violation rates must be between 0 and 1");
+            }
+            final double changeSetRates = violationRates
+                .entrySet()
+                .stream()
+                .filter(rate -> !rate.getKey().isFileLevel())
+                .mapToDouble(Map.Entry::getValue)
+                .sum();
+            if (changeSetRates > 1) {
+                throw new IllegalArgumentException(
+                    "Each change set carries at most one violation, so the change set violation rates must not " +
+                    "add up to more than 1, but they add up to " +
+                    changeSetRates
+                );
+            }
+            return new ChangeLogCorpusGenerator(this);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.liquibaselinter.corpus;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingInt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.liquibaselinter.report.Report;
+import io.github.liquibaselinter.report.ReportItem;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import liquibase.parser.ChangeLogParserFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChangeLogCorpusGeneratorTest {
+
+    private static final String SCALE_PROPERTY = "lqlint.corpus.changeSets";
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        ChangeLogParserFactory.reset();
+    }
+
+    @Test
+    void shouldPassLintingWithoutViolations() throws Exception {
+        final GeneratedCorpus corpus = ChangeLogCorpusGenerator.builder()
+            .withChangeSets(400)
+            .withChangeSetsPerFile(20)
+            .withFormats(ChangeLogFormat.values())
+            .withIncludeDepth(2)
+            .build()
+            .generate(directory);
+
+        final Report report = CorpusLinter.lint(corpus);
+
+        assertThat(corpus.getInjectedViolations()).isEmpty();
+        assertThat(report.getItems()).extracting(ReportItem::getType).containsOnly(ReportItem.ReportItemType.PASSED);
+        assertThat(changeSetIds(report)).hasSize(400);
+    }
+
+    @Test
+    void shouldReportEachInjectedViolationAsOneError() throws Exception {
+        final GeneratedCorpus corpus = ChangeLogCorpusGenerator.builder()
+            .withChangeSets(2000)
+            .withChangeSetsPerFile(25)
+            .withFormats(ChangeLogFormat.values())
+            .withIncludeDepth(3)
+            .withIncludeAll(true)
+            .withViolationRates(0.02)
+            .withViolationRate("changelog-file-name", 0.1)
+            .build()
+            .generate(directory);
+
+        final Report report = CorpusLinter.lint(corpus);
+
+        assertThat(corpus.getInjectedViolations().keySet()).containsExactlyInAnyOrder(
+            Arrays.stream(CorpusRule.values()).map(CorpusRule::getRuleName).toArray(String[]::new)
+        );
+        assertThat(errorsByRule(report)).isEqualTo(corpus.getInjectedViolations());
+        assertThat(changeSetIds(report)).hasSize(2000);
+    }
+
+    @Test
+    void shouldGenerateTheSameCorpusForTheSameSeed() throws IOException {
+        final ChangeLogCorpusGenerator generator = ChangeLogCorpusGenerator.builder()
+            .withChangeSets(300)
+            .withFormats(ChangeLogFormat.XML, ChangeLogFormat.YAML, ChangeLogFormat.JSON, ChangeLogFormat.SQL)
+            .withIncludeDepth(2)
+            .withViolationRate("table-name", 0.1)
+            .withViolationRate("changelog-file-name", 0.2)
+            .build();
+
+        final GeneratedCorpus first = generator.generate(directory.resolve("first"));
+        final GeneratedCorpus second = generator.generate(directory.resolve("second"));
+
+        assertThat(second.getInjectedViolations()).isEqualTo(first.getInjectedViolations());
+        assertThat(contents(second.getDirectory())).isEqualTo(contents(first.getDirectory()));
+    }
+
+    @Test
+    void shouldRejectViolationRatesAddingUpToMoreThanOne() {
+        final ChangeLogCorpusGenerator.Builder builder = ChangeLogCorpusGenerator.builder().withViolationRates(0.5);
+
+        assertThatThrownBy(builder::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must not add up to more than 1");
+    }
+
+    @Test
+    void shouldRejectUnsupportedRule() {
+        assertThatThrownBy(() -> ChangeLogCorpusGenerator.builder().withViolationRate("schema-name", 0.1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("schema-name");
+    }
+
+    /**
+     * Production sized run, e.g. {@code -Dlqlint.corpus.changeSets=100000}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = SCALE_PROPERTY, matches = "\\d+")
+    void shouldLintProductionSizedCorpus() throws Exception {
+        final int changeSets = Integer.parseInt(System.getProperty(SCALE_PROPERTY));
+        final GeneratedCorpus corpus = ChangeLogCorpusGenerator.builder()
+            .withChangeSets(changeSets)
+            .withFormats(ChangeLogFormat.XML, ChangeLogFormat.YAML, ChangeLogFormat.SQL)
+            .withIncludeDepth(3)
+            .withViolationRates(0.001)
+            .build()
+            .generate(directory);
+
+        final Report report = CorpusLinter.lint(corpus);
+
+        assertThat(errorsByRule(report)).isEqualTo(corpus.getInjectedViolations());
+        assertThat(changeSetIds(report)).hasSize(changeSets);
+    }
+
+    private static Map<String, Integer> errorsByRule(Report report) {
+        return report
+            .getItems()
+            .stream()
+            .filter(item -> item.getType() == ReportItem.ReportItemType.ERROR)
+            .collect(groupingBy(ReportItem::getRule, summingInt(item -> 1)));
+    }
+
+    private static List<String> changeSetIds(Report report) {
+        return report
+            .getItems()
+            .stream()
+            .filter(item -> item.getChangeSetId() != null)
+            .map(item -> item.getFilePath() + "::" + item.getChangeSetId())
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    private static Map<Path, List<String>> contents(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files
+                .filter(Files::isRegularFile)
+                .collect(Collectors.toMap(root::relativize, ChangeLogCorpusGeneratorTest::readLines));
+        }
+    }
+
+    private static List<String> readLines(Path file) {
+        try {
+            return Files.readAllLines(file);
+        } catch (IOException e) {
+            throw new AssertionError("Cannot read " + file, e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.liquibaselinter.corpus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A change log file to write: either an aggregator that includes other files, or a leaf holding change sets.
+ */
+final class ChangeLogFile {
+
+    private final String path;
+    private final ChangeLogFormat format;
+    private final List<String> includes = new ArrayList<>();
+    private final List<ChangeSetNode> changeSets = new ArrayList<>();
+    private String includeAllPath;
+
+    ChangeLogFile(String path, ChangeLogFormat format) {
+        this.path = path;
+        this.format = format;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    ChangeLogFormat getFormat() {
+        return format;
+    }
+
+    List<String> getIncludes() {
+        return includes;
+    }
+
+    List<ChangeSetNode> getChangeSets() {
+        return changeSets;
+    }
+
+    String getIncludeAllPath() {
+        return includeAllPath;
+    }
+
+    void setIncludeAllPath(String includeAllPath) {
+        this.includeAllPath = includeAllPath;
+    }
+}
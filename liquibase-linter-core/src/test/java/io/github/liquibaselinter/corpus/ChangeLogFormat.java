@@ -0,0 +1,36 @@
+package io.github.liquibaselinter.corpus;
+
+/**
+ * Change log formats the corpus generator can write. Formatted SQL files can only hold raw sql change sets and cannot
+ * include other files, so they are only ever used for leaf change logs.
+ */
+public enum ChangeLogFormat {
+    XML("xml", new XmlChangeLogWriter()),
+    YAML("yaml", StructuredChangeLogWriter.yaml()),
+    JSON("json", StructuredChangeLogWriter.json()),
+    SQL("sql", new FormattedSqlChangeLogWriter());
+
+    private final String extension;
+    private final ChangeLogWriter writer;
+
+    ChangeLogFormat(String extension, ChangeLogWriter writer) {
+        this.extension = extension;
+        this.writer = writer;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    ChangeLogWriter getWriter() {
+        return writer;
+    }
+
+    boolean supportsIncludes() {
+        return this != SQL;
+    }
+
+    boolean supports(ChangeKind kind) {
+        return this != SQL || kind == ChangeKind.SQL;
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.liquibaselinter.corpus;
+
+import java.io.IOException;
+import java.io.Writer;
+
+interface ChangeLogWriter {
+    void write(ChangeLogFile changeLog, Writer output) throws IOException;
+}
@@ -0,0 +1,76 @@
+package io.github.liquibaselinter.corpus;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A change in a format neutral shape: its Liquibase name, attributes, columns and the optional {@code where} or
+ * {@code sql} text that each format writes as a nested element.
+ */
+final class ChangeNode {
+
+    private String name;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private final List<ColumnNode> columns = new ArrayList<>();
+    private String where;
+    private String sql;
+
+    ChangeNode(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    void setName(String name) {
+        this.name = name;
+    }
+
+    Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    ChangeNode attribute(String attributeName, Object value) {
+        attributes.put(attributeName, value);
+        return this;
+    }
+
+    String getAttribute(String attributeName) {
+        final Object value = attributes.get(attributeName);
+        return value == null ? null : value.toString();
+    }
+
+    List<ColumnNode> getColumns() {
+        return columns;
+    }
+
+    ChangeNode column(ColumnNode column) {
+        columns.add(column);
+        return this;
+    }
+
+    ColumnNode getLastColumn() {
+        return columns.get(columns.size() - 1);
+    }
+
+    String getWhere() {
+        return where;
+    }
+
+    ChangeNode where(String where) {
+        this.where = where;
+        return this;
+    }
+
+    String getSql() {
+        return sql;
+    }
+
+    ChangeNode sql(String sql) {
+        this.sql = sql;
+        return this;
+    }
+}
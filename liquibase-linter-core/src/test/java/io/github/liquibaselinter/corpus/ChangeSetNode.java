@@ -0,0 +1,82 @@
+package io.github.liquibaselinter.corpus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class ChangeSetNode {
+
+    private final ChangeKind kind;
+    private final List<ChangeNode> changes = new ArrayList<>();
+    private String id;
+    private String author;
+    private String context;
+    private String labels;
+    private String comment;
+    private String preconditionTable;
+
+    ChangeSetNode(ChangeKind kind, String id, String author) {
+        this.kind = kind;
+        this.id = id;
+        this.author = author;
+    }
+
+    ChangeKind getKind() {
+        return kind;
+    }
+
+    List<ChangeNode> getChanges() {
+        return changes;
+    }
+
+    ChangeNode getChange() {
+        return changes.get(0);
+    }
+
+    String getId() {
+        return id;
+    }
+
+    void setId(String id) {
+        this.id = id;
+    }
+
+    String getAuthor() {
+        return author;
+    }
+
+    void setAuthor(String author) {
+        this.author = author;
+    }
+
+    String getContext() {
+        return context;
+    }
+
+    void setContext(String context) {
+        this.context = context;
+    }
+
+    String getLabels() {
+        return labels;
+    }
+
+    void setLabels(String labels) {
+        this.labels = labels;
+    }
+
+    String getComment() {
+        return comment;
+    }
+
+    void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    String getPreconditionTable() {
+        return preconditionTable;
+    }
+
+    void setPreconditionTable(String preconditionTable) {
+        this.preconditionTable = preconditionTable;
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.liquibaselinter.corpus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class ColumnNode {
+
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private final Map<String, Object> constraints = new LinkedHashMap<>();
+
+    Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    ColumnNode attribute(String attributeName, Object value) {
+        attributes.put(attributeName, value);
+        return this;
+    }
+
+    Map<String, Object> getConstraints() {
+        return constraints;
+    }
+
+    ColumnNode constraint(String constraintName, Object value) {
+        constraints.put(constraintName, value);
+        return this;
+    }
+}
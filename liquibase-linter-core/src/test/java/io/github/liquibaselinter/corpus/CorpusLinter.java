@@ -0,0 +1,115 @@
+package io.github.liquibaselinter.corpus;
+
+import com.google.common.collect.ImmutableListMultimap;
+import io.github.liquibaselinter.ChangeLogLinter;
+import io.github.liquibaselinter.ChangeLogLintingException;
+import io.github.liquibaselinter.config.Config;
+import io.github.liquibaselinter.config.ConfigLoader;
+import io.github.liquibaselinter.report.Report;
+import io.github.liquibaselinter.report.ReportItem;
+import io.github.liquibaselinter.report.Reporter;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import liquibase.Liquibase;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.database.OfflineConnection;
+import liquibase.exception.LiquibaseException;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.resource.DirectoryResourceAccessor;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * Parses and lints {@link GeneratedCorpus generated corpora} the way the tests running the linter end to end need.
+ */
+public final class CorpusLinter {
+
+    private CorpusLinter() {}
+
+    /**
+     * Parses the root change log of the corpus offline, with a fresh parser factory so that no parsed file is reused.
+     */
+    public static DatabaseChangeLog parse(GeneratedCorpus corpus, ResourceAccessor resourceAccessor)
+        throws LiquibaseException {
+        ChangeLogParserFactory.reset();
+        return new Liquibase(
+            corpus.getRootChangeLog(),
+            resourceAccessor,
+            new OfflineConnection("offline:h2", resourceAccessor)
+        ).getDatabaseChangeLog();
+    }
+
+    /**
+     * @return the report of linting the corpus with its configuration
+     */
+    public static Report lint(GeneratedCorpus corpus) throws Exception {
+        return lint(corpus, UnaryOperator.identity());
+    }
+
+    /**
+     * @param configuration changes to the configuration of the corpus
+     * @return the report of linting the corpus, errors included
+     * @throws ChangeLogLintingException only if the configuration fails fast
+     */
+    public static Report lint(GeneratedCorpus corpus, UnaryOperator<Config.Builder> configuration) throws Exception {
+        final CapturingReporter reporter = new CapturingReporter();
+        lint(corpus, configuration, reporter);
+        return reporter.report;
+    }
+
+    /**
+     * Lints the corpus, handing the items to the reporter only.
+     *
+     * @throws ChangeLogLintingException only if the configuration fails fast
+     */
+    public static void lint(GeneratedCorpus corpus, UnaryOperator<Config.Builder> configuration, Reporter reporter)
+        throws Exception {
+        final ResourceAccessor resourceAccessor = new DirectoryResourceAccessor(corpus.getDirectory());
+        final DatabaseChangeLog changeLog = parse(corpus, resourceAccessor);
+        final Config config = configuration
+            .apply(new Config.Builder(ConfigLoader.loadConfig(resourceAccessor, corpus.getConfigFile())))
+            .withReporting(ImmutableListMultimap.of("capture", reporter))
+            .build();
+
+        try {
+            new ChangeLogLinter(resourceAccessor, config).lintChangeLog(changeLog);
+        } catch (ChangeLogLintingException e) {
+            if (config.isFailFast()) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * @return each item as {@code type|file|change set|rule|message}, for comparing runs
+     */
+    public static List<String> describe(List<ReportItem> items) {
+        return items.stream().map(CorpusLinter::describe).collect(Collectors.toList());
+    }
+
+    private static String describe(ReportItem item) {
+        return String.join(
+            "|",
+            item.getType().name(),
+            item.getFilePath(),
+            item.getChangeSetId(),
+            item.getRule(),
+            item.getMessage()
+        );
+    }
+
+    private static final class CapturingReporter implements Reporter {
+
+        private Report report;
+
+        @Override
+        public void processReport(Report report) {
+            this.report = report;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+    }
+}
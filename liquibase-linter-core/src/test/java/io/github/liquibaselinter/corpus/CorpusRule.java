@@ -0,0 +1,321 @@
+package io.github.liquibaselinter.corpus;
+
+import static io.github.liquibaselinter.corpus.ChangeKind.ADD_COLUMN;
+import static io.github.liquibaselinter.corpus.ChangeKind.ADD_FOREIGN_KEY;
+import static io.github.liquibaselinter.corpus.ChangeKind.ADD_PRIMARY_KEY;
+import static io.github.liquibaselinter.corpus.ChangeKind.ADD_UNIQUE_CONSTRAINT;
+import static io.github.liquibaselinter.corpus.ChangeKind.CREATE_INDEX;
+import static io.github.liquibaselinter.corpus.ChangeKind.CREATE_SEQUENCE;
+import static io.github.liquibaselinter.corpus.ChangeKind.CREATE_TABLE;
+import static io.github.liquibaselinter.corpus.ChangeKind.DELETE;
+import static io.github.liquibaselinter.corpus.ChangeKind.DROP_NOT_NULL;
+import static io.github.liquibaselinter.corpus.ChangeKind.INSERT;
+import static io.github.liquibaselinter.corpus.ChangeKind.LOAD_DATA;
+import static io.github.liquibaselinter.corpus.ChangeKind.RENAME_TABLE;
+import static io.github.liquibaselinter.corpus.ChangeKind.SQL;
+import static io.github.liquibaselinter.corpus.ChangeKind.UPDATE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The core rules the generated configuration enables, each with the configuration the clean corpus satisfies and the
+ * mutation that makes a change set break that rule, and only that rule, exactly once.
+ * <p>
+ * {@code schema-name} is left out because it contradicts {@code no-schema-name}, and {@code file-not-included} because
+ * it depends on the layout of the project rather than on the change logs.
+ */
+public enum CorpusRule {
+    CHANGELOG_FILE_NAME(
+        "changelog-file-name",
+        config("pattern", "^([a-z0-9_]+/)*[a-z0-9_.-]+\\.(xml|yaml|json|sql)$")
+    ),
+    CHANGESET_AUTHOR(
+        "changeset-author",
+        config("pattern", "^[a-z]+(\\.[a-z]+)?$"),
+        allKinds(),
+        changeSet -> changeSet.setAuthor("Release.Manager")
+    ),
+    CHANGESET_ID(
+        "changeset-id",
+        config("pattern", "^[0-9]{8}-[0-9]+$"),
+        allKinds(),
+        changeSet -> changeSet.setId("CS_" + changeSet.getId().replace('-', '_'))
+    ),
+    HAS_COMMENT("has-comment", config(), allKinds(), changeSet -> changeSet.setComment(null)),
+    HAS_CONTEXT("has-context", config(), allKinds(), changeSet -> changeSet.setContext(null)),
+    VALID_CONTEXT(
+        "valid-context",
+        config("pattern", "^(ddl|dml)$"),
+        EnumSet.of(INSERT, UPDATE, DELETE, LOAD_DATA, SQL),
+        changeSet -> changeSet.setContext("dml_hotfix")
+    ),
+    SEPARATE_DDL_CONTEXT(
+        "separate-ddl-context",
+        config("pattern", "^ddl$"),
+        ddlKinds(),
+        changeSet -> changeSet.setContext("dml")
+    ),
+    ISOLATE_DDL_CHANGES(
+        "isolate-ddl-changes",
+        config(),
+        tableKinds(),
+        changeSet -> changeSet.getChanges().add(ChangeLogCorpusGenerator.createIndex(tableOf(changeSet), "IX99"))
+    ),
+    NO_PRECONDITIONS("no-preconditions", config(), allKinds(), changeSet ->
+        changeSet.setPreconditionTable("DATABASECHANGELOG")
+    ),
+    NO_RAW_SQL(
+        "no-raw-sql",
+        config("condition", "changeSet.labels == null or !changeSet.labels.labels.contains('reviewed-sql')"),
+        EnumSet.of(SQL),
+        changeSet -> changeSet.setLabels(null)
+    ),
+    ILLEGAL_CHANGE_TYPES(
+        "illegal-change-types",
+        config("values", Collections.singletonList("dropTable")),
+        tableKinds(),
+        changeSet -> {
+            final String tableName = tableOf(changeSet);
+            changeSet.getChanges().clear();
+            changeSet.getChanges().add(new ChangeNode("dropTable").attribute("tableName", tableName));
+        }
+    ),
+    NO_SCHEMA_NAME(
+        "no-schema-name",
+        config(),
+        EnumSet.complementOf(EnumSet.of(SQL)),
+        changeSet ->
+            changeSet
+                .getChange()
+                .attribute(changeSet.getKind() == ADD_FOREIGN_KEY ? "baseTableSchemaName" : "schemaName", "APP")
+    ),
+    TABLE_NAME(
+        "table-name",
+        config("pattern", "^(?!TBL_)[A-Z][A-Z_0-9]*$"),
+        EnumSet.of(CREATE_TABLE, RENAME_TABLE),
+        changeSet -> renameCreatedTable(changeSet, "TBL_" + createdTableOf(changeSet))
+    ),
+    TABLE_NAME_LENGTH(
+        "table-name-length",
+        config("maxLength", 30),
+        EnumSet.of(CREATE_TABLE, RENAME_TABLE),
+        changeSet -> renameCreatedTable(changeSet, createdTableOf(changeSet) + "_WITH_A_NAME_FAR_TOO_LONG_TO_PASS")
+    ),
+    COLUMN_NAME(
+        "column-name",
+        config("pattern", "^[A-Z_0-9]+$"),
+        EnumSet.of(CREATE_TABLE, ADD_COLUMN),
+        changeSet -> renameLastColumn(changeSet, lastColumnName(changeSet).toLowerCase(Locale.ROOT))
+    ),
+    COLUMN_TYPE(
+        "column-type",
+        config("pattern", "^(BIGINT|INT|BOOLEAN|TIMESTAMP|VARCHAR\\([0-9]+\\)|DECIMAL\\([0-9]+, ?[0-9]+\\))$"),
+        EnumSet.of(CREATE_TABLE, ADD_COLUMN),
+        changeSet -> changeSet.getChange().getLastColumn().attribute("type", "varchar2(50)")
+    ),
+    OBJECT_NAME(
+        "object-name",
+        config("pattern", "^(?!_).*(?<!_)$"),
+        EnumSet.of(CREATE_TABLE, ADD_COLUMN),
+        changeSet -> renameLastColumn(changeSet, '_' + lastColumnName(changeSet))
+    ),
+    OBJECT_NAME_LENGTH(
+        "object-name-length",
+        config("maxLength", 30),
+        EnumSet.of(CREATE_TABLE, ADD_COLUMN),
+        changeSet -> renameLastColumn(changeSet, lastColumnName(changeSet) + "_WITH_A_NAME_FAR_TOO_LONG_TO_PASS")
+    ),
+    CREATE_COLUMN_NO_DEFINE_PRIMARY_KEY(
+        "create-column-no-define-primary-key",
+        config(),
+        EnumSet.of(ADD_COLUMN),
+        changeSet -> changeSet.getChange().getLastColumn().constraint("primaryKey", true)
+    ),
+    CREATE_COLUMN_NULLABLE_CONSTRAINT(
+        "create-column-nullable-constraint",
+        config(),
+        EnumSet.of(CREATE_TABLE, ADD_COLUMN),
+        changeSet -> changeSet.getChange().getLastColumn().getConstraints().remove("nullable")
+    ),
+    CREATE_COLUMN_REMARKS(
+        "create-column-remarks",
+        config(),
+        EnumSet.of(CREATE_TABLE, ADD_COLUMN),
+        changeSet -> changeSet.getChange().getLastColumn().getAttributes().remove("remarks")
+    ),
+    CREATE_TABLE_REMARKS("create-table-remarks", config(), EnumSet.of(CREATE_TABLE), changeSet ->
+        changeSet.getChange().getAttributes().remove("remarks")
+    ),
+    DROP_NOT_NULL_REQUIRE_COLUMN_DATA_TYPE(
+        "drop-not-null-require-column-data-type",
+        config(),
+        EnumSet.of(DROP_NOT_NULL),
+        changeSet -> changeSet.getChange().getAttributes().remove("columnDataType")
+    ),
+    FOREIGN_KEY_NAME(
+        "foreign-key-name",
+        config("pattern", "^{{value}}_FK[0-9]+$", "dynamicValue", "baseTableName"),
+        EnumSet.of(ADD_FOREIGN_KEY),
+        changeSet -> changeSet.getChange().attribute("constraintName", "FK_" + tableOf(changeSet))
+    ),
+    INDEX_NAME(
+        "index-name",
+        config("pattern", "^{{value}}_IX[0-9]{2}$", "dynamicValue", "tableName"),
+        EnumSet.of(CREATE_INDEX),
+        changeSet -> changeSet.getChange().attribute("indexName", "IX_" + tableOf(changeSet))
+    ),
+    INDEX_TABLESPACE("index-tablespace", config("pattern", "^TS_INDEX$"), EnumSet.of(CREATE_INDEX), changeSet ->
+        changeSet.getChange().getAttributes().remove("tablespace")
+    ),
+    PRIMARY_KEY_NAME(
+        "primary-key-name",
+        config("pattern", "^{{value}}_PK$", "dynamicValue", "tableName"),
+        EnumSet.of(ADD_PRIMARY_KEY),
+        changeSet -> changeSet.getChange().attribute("constraintName", "PK_" + tableOf(changeSet))
+    ),
+    PRIMARY_KEY_TABLESPACE(
+        "primary-key-tablespace",
+        config("pattern", "^TS_INDEX$"),
+        EnumSet.of(ADD_PRIMARY_KEY),
+        changeSet -> changeSet.getChange().getAttributes().remove("tablespace")
+    ),
+    UNIQUE_CONSTRAINT_NAME(
+        "unique-constraint-name",
+        config("pattern", "^{{value}}_UQ[0-9]+$", "dynamicValue", "tableName"),
+        EnumSet.of(ADD_UNIQUE_CONSTRAINT),
+        changeSet -> changeSet.getChange().attribute("constraintName", "UQ_" + tableOf(changeSet))
+    ),
+    UNIQUE_CONSTRAINT_TABLESPACE(
+        "unique-constraint-tablespace",
+        config("pattern", "^TS_INDEX$"),
+        EnumSet.of(ADD_UNIQUE_CONSTRAINT),
+        changeSet -> changeSet.getChange().getAttributes().remove("tablespace")
+    ),
+    SEQUENCE_NAME(
+        "sequence-name",
+        config("pattern", "^[A-Z_0-9]+_SEQ$"),
+        EnumSet.of(CREATE_SEQUENCE),
+        changeSet -> {
+            final String sequenceName = changeSet.getChange().getAttribute("sequenceName");
+            changeSet.getChange().attribute("sequenceName", "SEQ_" + sequenceName.replaceFirst("_SEQ$", ""));
+        }
+    ),
+    MODIFY_DATA_ENFORCE_WHERE("modify-data-enforce-where", config(), EnumSet.of(UPDATE, DELETE), changeSet ->
+        changeSet.getChange().where(null)
+    ),
+    MODIFY_DATA_STARTS_WITH_WHERE(
+        "modify-data-starts-with-where",
+        config(),
+        EnumSet.of(UPDATE, DELETE),
+        changeSet -> changeSet.getChange().where("WHERE " + changeSet.getChange().getWhere())
+    );
+
+    private final String ruleName;
+    private final Map<String, Object> config;
+    private final Set<ChangeKind> kinds;
+    private final Consumer<ChangeSetNode> mutation;
+
+    CorpusRule(String ruleName, Map<String, Object> config) {
+        this(ruleName, config, EnumSet.noneOf(ChangeKind.class), changeSet -> {});
+    }
+
+    CorpusRule(String ruleName, Map<String, Object> config, Set<ChangeKind> kinds, Consumer<ChangeSetNode> mutation) {
+        this.ruleName = ruleName;
+        this.config = config;
+        this.kinds = kinds;
+        this.mutation = mutation;
+    }
+
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    public static CorpusRule forRuleName(String ruleName) {
+        return Arrays.stream(values())
+            .filter(rule -> rule.ruleName.equals(ruleName))
+            .findFirst()
+            .orElseThrow(() ->
+                new IllegalArgumentException("Corpus generator cannot inject violations of rule " + ruleName)
+            );
+    }
+
+    Object getConfig() {
+        return config.isEmpty() ? Boolean.TRUE : config;
+    }
+
+    /**
+     * @return true when the violation is carried by a change log file name rather than by one of its change sets
+     */
+    boolean isFileLevel() {
+        return kinds.isEmpty();
+    }
+
+    Set<ChangeKind> getKinds() {
+        return kinds;
+    }
+
+    void inject(ChangeSetNode changeSet) {
+        mutation.accept(changeSet);
+    }
+
+    private static Map<String, Object> config(Object... keyValues) {
+        final Map<String, Object> config = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            config.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return config;
+    }
+
+    private static Set<ChangeKind> allKinds() {
+        return EnumSet.allOf(ChangeKind.class);
+    }
+
+    private static Set<ChangeKind> ddlKinds() {
+        final Set<ChangeKind> kinds = EnumSet.noneOf(ChangeKind.class);
+        Arrays.stream(ChangeKind.values()).filter(ChangeKind::isDdl).forEach(kinds::add);
+        return kinds;
+    }
+
+    private static Set<ChangeKind> tableKinds() {
+        return EnumSet.of(
+            CREATE_TABLE,
+            ADD_COLUMN,
+            CREATE_INDEX,
+            ADD_PRIMARY_KEY,
+            ADD_UNIQUE_CONSTRAINT,
+            DROP_NOT_NULL
+        );
+    }
+
+    private static String tableOf(ChangeSetNode changeSet) {
+        final ChangeNode change = changeSet.getChange();
+        return changeSet.getKind() == ADD_FOREIGN_KEY
+            ? change.getAttribute("baseTableName")
+            : change.getAttribute("tableName");
+    }
+
+    private static String createdTableOf(ChangeSetNode changeSet) {
+        return changeSet.getKind() == RENAME_TABLE
+            ? changeSet.getChange().getAttribute("newTableName")
+            : changeSet.getChange().getAttribute("tableName");
+    }
+
+    private static void renameCreatedTable(ChangeSetNode changeSet, String tableName) {
+        changeSet.getChange().attribute(changeSet.getKind() == RENAME_TABLE ? "newTableName" : "tableName", tableName);
+    }
+
+    private static String lastColumnName(ChangeSetNode changeSet) {
+        return changeSet.getChange().getLastColumn().getAttributes().get("name").toString();
+    }
+
+    private static void renameLastColumn(ChangeSetNode changeSet, String columnName) {
+        changeSet.getChange().getLastColumn().attribute("name", columnName);
+    }
+}
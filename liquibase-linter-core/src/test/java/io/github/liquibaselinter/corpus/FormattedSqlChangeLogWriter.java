@@ -0,0 +1,37 @@
+package io.github.liquibaselinter.corpus;
+
+import java.io.IOException;
+import java.io.Writer;
+
+final class FormattedSqlChangeLogWriter implements ChangeLogWriter {
+
+    @Override
+    public void write(ChangeLogFile changeLog, Writer output) throws IOException {
+        output.write("--liquibase formatted sql\n");
+        for (ChangeSetNode changeSet : changeLog.getChangeSets()) {
+            output.write("\n--changeset " + changeSet.getAuthor() + ':' + changeSet.getId());
+            if (changeSet.getContext() != null) {
+                output.write(" context:" + changeSet.getContext());
+            }
+            if (changeSet.getLabels() != null) {
+                output.write(" labels:" + changeSet.getLabels());
+            }
+            output.write('\n');
+            if (changeSet.getPreconditionTable() != null) {
+                output.write("--preconditions onFail:MARK_RAN\n");
+                output.write(
+                    "--precondition-sql-check expectedResult:1 SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES " +
+                    "WHERE TABLE_NAME = '" +
+                    changeSet.getPreconditionTable() +
+                    "'\n"
+                );
+            }
+            if (changeSet.getComment() != null) {
+                output.write("--comment: " + changeSet.getComment() + '\n');
+            }
+            for (ChangeNode change : changeSet.getChanges()) {
+                output.write(change.getSql() + '\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.liquibaselinter.corpus;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class GeneratedCorpus {
+
+    private final Path directory;
+    private final String rootChangeLog;
+    private final String configFile;
+    private final int changeSets;
+    private final int changeLogFiles;
+    private final Map<String, Integer> injectedViolations;
+
+    GeneratedCorpus(
+        Path directory,
+        String rootChangeLog,
+        String configFile,
+        int changeSets,
+        int changeLogFiles,
+        Map<String, Integer> injectedViolations
+    ) {
+        this.directory = directory;
+        this.rootChangeLog = rootChangeLog;
+        this.configFile = configFile;
+        this.changeSets = changeSets;
+        this.changeLogFiles = changeLogFiles;
+        this.injectedViolations = Collections.unmodifiableMap(new TreeMap<>(injectedViolations));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return path of the root change log, relative to {@link #getDirectory()}
+     */
+    public String getRootChangeLog() {
+        return rootChangeLog;
+    }
+
+    /**
+     * @return path of the generated lqlint configuration, relative to {@link #getDirectory()}
+     */
+    public String getConfigFile() {
+        return configFile;
+    }
+
+    public int getChangeSets() {
+        return changeSets;
+    }
+
+    public int getChangeLogFiles() {
+        return changeLogFiles;
+    }
+
+    /**
+     * @return number of violations injected per rule name; each one is reported as exactly one error
+     */
+    public Map<String, Integer> getInjectedViolations() {
+        return injectedViolations;
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.liquibaselinter.corpus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Writes YAML and JSON change logs, which share the same structure: the change log is turned into maps and lists, then
+ * serialised by SnakeYAML or Jackson.
+ */
+final class StructuredChangeLogWriter implements ChangeLogWriter {
+
+    private final Serializer serializer;
+
+    private StructuredChangeLogWriter(Serializer serializer) {
+        this.serializer = serializer;
+    }
+
+    static StructuredChangeLogWriter yaml() {
+        final DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        options.setIndent(2);
+        final Yaml yaml = new Yaml(options);
+        return new StructuredChangeLogWriter(yaml::dump);
+    }
+
+    static StructuredChangeLogWriter json() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        return new StructuredChangeLogWriter((tree, output) ->
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(output, tree)
+        );
+    }
+
+    @Override
+    public void write(ChangeLogFile changeLog, Writer output) throws IOException {
+        final List<Object> entries = new ArrayList<>();
+        for (String include : changeLog.getIncludes()) {
+            entries.add(entry("include", includeOf("file", include)));
+        }
+        if (changeLog.getIncludeAllPath() != null) {
+            entries.add(entry("includeAll", includeOf("path", changeLog.getIncludeAllPath())));
+        }
+        for (ChangeSetNode changeSet : changeLog.getChangeSets()) {
+            entries.add(entry("changeSet", changeSetOf(changeSet)));
+        }
+        serializer.serialize(entry("databaseChangeLog", entries), output);
+    }
+
+    private static Map<String, Object> includeOf(String pathAttribute, String path) {
+        final Map<String, Object> include = new LinkedHashMap<>();
+        include.put(pathAttribute, path);
+        include.put("relativeToChangelogFile", true);
+        return include;
+    }
+
+    private static Map<String, Object> changeSetOf(ChangeSetNode changeSet) {
+        final Map<String, Object> node = new LinkedHashMap<>();
+        node.put("id", changeSet.getId());
+        node.put("author", changeSet.getAuthor());
+        putIfPresent(node, "context", changeSet.getContext());
+        putIfPresent(node, "labels", changeSet.getLabels());
+        if (changeSet.getPreconditionTable() != null) {
+            final List<Object> preconditions = new ArrayList<>();
+            preconditions.add(entry("onFail", "MARK_RAN"));
+            preconditions.add(
+                entry("tableExists", Collections.singletonMap("tableName", changeSet.getPreconditionTable()))
+            );
+            node.put("preConditions", preconditions);
+        }
+        putIfPresent(node, "comment", changeSet.getComment());
+        final List<Object> changes = new ArrayList<>();
+        for (ChangeNode change : changeSet.getChanges()) {
+            changes.add(entry(change.getName(), changeOf(change)));
+        }
+        node.put("changes", changes);
+        return node;
+    }
+
+    private static Map<String, Object> changeOf(ChangeNode change) {
+        final Map<String, Object> node = new LinkedHashMap<>(change.getAttributes());
+        if (!change.getColumns().isEmpty()) {
+            final List<Object> columns = new ArrayList<>();
+            for (ColumnNode column : change.getColumns()) {
+                final Map<String, Object> columnNode = new LinkedHashMap<>(column.getAttributes());
+                if (!column.getConstraints().isEmpty()) {
+                    columnNode.put("constraints", new LinkedHashMap<>(column.getConstraints()));
+                }
+                columns.add(entry("column", columnNode));
+            }
+            node.put("columns", columns);
+        }
+        putIfPresent(node, "where", change.getWhere());
+        putIfPresent(node, "sql", change.getSql());
+        return node;
+    }
+
+    private static Map<String, Object> entry(String key, Object value) {
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put(key, value);
+        return entry;
+    }
+
+    private static void putIfPresent(Map<String, Object> node, String key, Object value) {
+        if (value != null) {
+            node.put(key, value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Serializer {
+        void serialize(Object tree, Writer output) throws IOException;
+    }
+}
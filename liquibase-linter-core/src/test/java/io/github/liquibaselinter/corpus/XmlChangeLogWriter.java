@@ -0,0 +1,103 @@
+package io.github.liquibaselinter.corpus;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+final class XmlChangeLogWriter implements ChangeLogWriter {
+
+    private static final String HEADER =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+        "<databaseChangeLog\n" +
+        "  xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" +
+        "  xmlns=\"http://www.liquibase.org/xml/ns/dbchangelog\"\n" +
+        "  xsi:schemaLocation=\"http://www.liquibase.org/xml/ns/dbchangelog " +
+        "http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd\"\n" +
+        ">\n";
+
+    @Override
+    public void write(ChangeLogFile changeLog, Writer output) throws IOException {
+        output.write(HEADER);
+        for (String include : changeLog.getIncludes()) {
+            output.write("  <include file=\"" + escape(include) + "\" relativeToChangelogFile=\"true\" />\n");
+        }
+        if (changeLog.getIncludeAllPath() != null) {
+            output.write(
+                "  <includeAll path=\"" +
+                escape(changeLog.getIncludeAllPath()) +
+                "\" relativeToChangelogFile=\"true\" />\n"
+            );
+        }
+        for (ChangeSetNode changeSet : changeLog.getChangeSets()) {
+            writeChangeSet(changeSet, output);
+        }
+        output.write("</databaseChangeLog>\n");
+    }
+
+    private static void writeChangeSet(ChangeSetNode changeSet, Writer output) throws IOException {
+        output.write("  <changeSet id=\"" + escape(changeSet.getId()) + "\" author=\"" + escape(changeSet.getAuthor()));
+        output.write('"');
+        if (changeSet.getContext() != null) {
+            output.write(" context=\"" + escape(changeSet.getContext()) + '"');
+        }
+        if (changeSet.getLabels() != null) {
+            output.write(" labels=\"" + escape(changeSet.getLabels()) + '"');
+        }
+        output.write(">\n");
+        if (changeSet.getPreconditionTable() != null) {
+            output.write("    <preConditions onFail=\"MARK_RAN\">\n");
+            output.write("      <tableExists tableName=\"" + escape(changeSet.getPreconditionTable()) + "\" />\n");
+            output.write("    </preConditions>\n");
+        }
+        if (changeSet.getComment() != null) {
+            output.write("    <comment>" + escape(changeSet.getComment()) + "</comment>\n");
+        }
+        for (ChangeNode change : changeSet.getChanges()) {
+            writeChange(change, output);
+        }
+        output.write("  </changeSet>\n");
+    }
+
+    private static void writeChange(ChangeNode change, Writer output) throws IOException {
+        output.write("    <" + change.getName());
+        writeAttributes(change.getAttributes(), output);
+        if (change.getColumns().isEmpty() && change.getWhere() == null && change.getSql() == null) {
+            output.write(" />\n");
+            return;
+        }
+        if (change.getSql() != null) {
+            output.write(">" + escape(change.getSql()) + "</" + change.getName() + ">\n");
+            return;
+        }
+        output.write(">\n");
+        for (ColumnNode column : change.getColumns()) {
+            output.write("      <column");
+            writeAttributes(column.getAttributes(), output);
+            if (column.getConstraints().isEmpty()) {
+                output.write(" />\n");
+            } else {
+                output.write(">\n        <constraints");
+                writeAttributes(column.getConstraints(), output);
+                output.write(" />\n      </column>\n");
+            }
+        }
+        if (change.getWhere() != null) {
+            output.write("      <where>" + escape(change.getWhere()) + "</where>\n");
+        }
+        output.write("    </" + change.getName() + ">\n");
+    }
+
+    private static void writeAttributes(Map<String, Object> attributes, Writer output) throws IOException {
+        for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+            output.write(" " + attribute.getKey() + "=\"" + escape(String.valueOf(attribute.getValue())) + '"');
+        }
+    }
+
+    private static String escape(String value) {
+        return value
+            .replace("&", "&amp;")
+            .replace("<", "&lt;")
+            .replace(">", "&gt;")
+            .replace("\"", "&quot;");
+    }
+}
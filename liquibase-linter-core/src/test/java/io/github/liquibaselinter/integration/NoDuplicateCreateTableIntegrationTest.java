@@ -0,0 +1,46 @@
+package io.github.liquibaselinter.integration;
+
+class NoDuplicateCreateTableIntegrationTest extends LinterIntegrationTest {
+
+    @Override
+    void registerTests() {
+        shouldFail(
+            "Should fail when a table is created again in another included file",
+            "no-duplicate-create-table/duplicate-create-table-root.xml",
+            "no-duplicate-create-table/lqlint.json",
+            "Table 'FOO' created in 'no-duplicate-create-table/create-foo.xml::201811070940::lrogers' is created again in 'no-duplicate-create-table/create-foo-again.xml::201811071030::lrogers'"
+        );
+
+        shouldPass(
+            "Should pass when a table is created again once dropped",
+            "no-duplicate-create-table/recreate-table-root.xml",
+            "no-duplicate-create-table/lqlint.json"
+        );
+
+        shouldFail(
+            "Should fail when a table is created again once linting is enabled",
+            "no-duplicate-create-table/duplicate-create-table-root.xml",
+            "no-duplicate-create-table/lqlint-enable-after.json",
+            "Table 'FOO' created in 'no-duplicate-create-table/create-foo.xml::201811070940::lrogers' is created again in 'no-duplicate-create-table/create-foo-again.xml::201811071030::lrogers'"
+        );
+
+        shouldPass(
+            "Should pass when a table is created again before the rule is enabled",
+            "no-duplicate-create-table/duplicate-create-table-root.xml",
+            "no-duplicate-create-table/lqlint-rule-enable-after.json"
+        );
+
+        shouldFail(
+            "Should fail when a table is created again in included files while the root change log is ignored",
+            "no-duplicate-create-table/duplicate-create-table-root.xml",
+            "no-duplicate-create-table/lqlint-ignore-root.json",
+            "Table 'FOO' created in 'no-duplicate-create-table/create-foo.xml::201811070940::lrogers' is created again in 'no-duplicate-create-table/create-foo-again.xml::201811071030::lrogers'"
+        );
+
+        shouldPass(
+            "Should pass when a table is created again in an ignored file",
+            "no-duplicate-create-table/duplicate-create-table-root.xml",
+            "no-duplicate-create-table/lqlint-ignore-again.json"
+        );
+    }
+}
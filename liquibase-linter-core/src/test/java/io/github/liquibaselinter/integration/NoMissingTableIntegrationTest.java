@@ -0,0 +1,20 @@
+package io.github.liquibaselinter.integration;
+
+class NoMissingTableIntegrationTest extends LinterIntegrationTest {
+
+    @Override
+    void registerTests() {
+        shouldFail(
+            "Should fail when a table is changed before the included file creating it",
+            "no-missing-table/missing-table-root.xml",
+            "no-missing-table/lqlint.json",
+            "Table 'FOO' is not created by any earlier change set"
+        );
+
+        shouldPass(
+            "Should pass when a table is changed after the included file creating it",
+            "no-missing-table/created-table-root.xml",
+            "no-missing-table/lqlint.json"
+        );
+    }
+}
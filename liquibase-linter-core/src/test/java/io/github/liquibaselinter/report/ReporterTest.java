@@ -4,6 +4,7 @@ import static io.github.liquibaselinter.report.ReportItem.ReportItemType.ERROR;
 import static io.github.liquibaselinter.report.ReportItem.ReportItemType.IGNORED;
 import static io.github.liquibaselinter.report.ReportItem.ReportItemType.PASSED;
 import static io.github.liquibaselinter.report.ReporterConfig.builder;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.common.collect.ImmutableList;
@@ -47,6 +48,7 @@ class ReporterTest {
     Stream<DynamicTest> reporterTests() {
         REPORT_TYPES.forEach((reportType, suffix) -> {
             addDefaultFilters(reportType, suffix);
+            addCountedPassedItems(reportType, suffix);
             addLimitedFilters(reportType, suffix);
             addFullFilters(reportType, suffix);
             addEmptyReport(reportType, suffix);
@@ -111,6 +113,30 @@ class ReporterTest {
         );
     }
 
+    private void addCountedPassedItems(String reportType, String suffix) {
+        final Report fullReport = buildFullReport();
+        final PassedItemCounts passedItemCounts = new PassedItemCounts();
+        fullReport
+            .getItems()
+            .stream()
+            .filter(item -> item.getType() == PASSED)
+            .forEach(item -> passedItemCounts.add(item.getFilePath(), item.getRule(), 1));
+        final Report report = new Report(
+            fullReport.getConfig(),
+            fullReport.getItems().stream().filter(item -> item.getType() != PASSED).collect(toList()),
+            passedItemCounts
+        );
+        tests.add(
+            new ReportingTestConfig(
+                reportType,
+                builder().withPath("target/lqlint-counted." + suffix).build(),
+                report,
+                "target/lqlint-counted." + suffix,
+                "defaultFilters." + suffix
+            )
+        );
+    }
+
     private void addLimitedFilters(String reportType, String suffix) {
         Report report = buildFullReport();
         tests.add(
@@ -0,0 +1,116 @@
+package io.github.liquibaselinter.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import liquibase.change.AddColumnConfig;
+import liquibase.change.ColumnConfig;
+import liquibase.change.ConstraintsConfig;
+import liquibase.change.core.AddColumnChange;
+import liquibase.change.core.AddForeignKeyConstraintChange;
+import liquibase.change.core.CreateTableChange;
+import liquibase.change.core.DeleteDataChange;
+import liquibase.change.core.RawSQLChange;
+import liquibase.change.core.RenameTableChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChangeFactsTest {
+
+    @DisplayName("Should extract the facts of a create table change")
+    @Test
+    void shouldExtractCreateTableFacts() {
+        CreateTableChange change = new CreateTableChange();
+        change.setSchemaName("SCHEMA");
+        change.setTableName("TABLE");
+        change.addColumn(column("ID", new ConstraintsConfig().setPrimaryKey(true).setPrimaryKeyName("TABLE_PK")));
+        change.addColumn(column("NAME", null));
+        change.addColumn(column("NAME", null));
+
+        ChangeFacts facts = ChangeFacts.of(change);
+
+        assertThat(facts.getTableNames()).containsExactly("TABLE");
+        assertThat(facts.getSchemaNames()).containsExactly("SCHEMA");
+        assertThat(facts.getColumns()).extracting(ColumnConfig::getName).containsExactly("ID", "NAME", "NAME");
+        assertThat(facts.getColumnNames()).containsExactly("ID", "NAME");
+        assertThat(facts.getObjectNames()).containsExactly("ID", "NAME", "NAME");
+        assertThat(facts.getPrimaryKeyNames()).containsExactly("TABLE_PK");
+        assertThat(facts.getConstraintNames()).isEmpty();
+    }
+
+    @DisplayName("Should extract the facts of a rename table change")
+    @Test
+    void shouldExtractRenameTableFacts() {
+        RenameTableChange change = new RenameTableChange();
+        change.setOldTableName("OLD");
+        change.setNewTableName("NEW");
+
+        ChangeFacts facts = ChangeFacts.of(change);
+
+        assertThat(facts.getTableNames()).containsExactly("NEW");
+        assertThat(facts.getSchemaNames()).containsExactly((String) null);
+        assertThat(facts.getColumns()).isEmpty();
+        assertThat(facts.getObjectNames()).isEmpty();
+    }
+
+    @DisplayName("Should extract both schema names of a foreign key")
+    @Test
+    void shouldExtractForeignKeyFacts() {
+        AddForeignKeyConstraintChange change = new AddForeignKeyConstraintChange();
+        change.setConstraintName("FK_NAME");
+        change.setBaseTableSchemaName("BASE");
+        change.setReferencedTableSchemaName("REFERENCED");
+
+        ChangeFacts facts = ChangeFacts.of(change);
+
+        assertThat(facts.getConstraintNames()).containsExactly("FK_NAME");
+        assertThat(facts.getObjectNames()).containsExactly("FK_NAME");
+        assertThat(facts.getSchemaNames()).containsExactly("BASE", "REFERENCED");
+        assertThat(facts.getPrimaryKeyNames()).isEmpty();
+    }
+
+    @DisplayName("Should extract facts declared for a super class")
+    @Test
+    void shouldExtractFactsOfSuperClass() {
+        DeleteDataChange change = new DeleteDataChange();
+        change.setSchemaName("SCHEMA");
+
+        assertThat(ChangeFacts.of(change).getSchemaNames()).containsExactly("SCHEMA");
+    }
+
+    @DisplayName("Should extract columns of changes with columns")
+    @Test
+    void shouldExtractColumns() {
+        AddColumnChange change = new AddColumnChange();
+        AddColumnConfig column = new AddColumnConfig();
+        column.setName("COLUMN");
+        change.addColumn(column);
+
+        ChangeFacts facts = ChangeFacts.of(change);
+
+        assertThat(facts.getColumns()).containsExactly(column);
+        assertThat(facts.getColumnNames()).containsExactly("COLUMN");
+        assertThat(facts.getObjectNames()).containsExactly("COLUMN");
+        assertThat(facts.getTableNames()).isEmpty();
+    }
+
+    @DisplayName("Should have no facts for other changes")
+    @Test
+    void shouldHaveNoFactsForOtherChanges() {
+        ChangeFacts facts = ChangeFacts.of(new RawSQLChange("select 1"));
+
+        assertThat(facts.getTableNames()).isEmpty();
+        assertThat(facts.getColumns()).isEmpty();
+        assertThat(facts.getColumnNames()).isEmpty();
+        assertThat(facts.getObjectNames()).isEmpty();
+        assertThat(facts.getSchemaNames()).isEmpty();
+        assertThat(facts.getConstraintNames()).isEmpty();
+        assertThat(facts.getPrimaryKeyNames()).isEmpty();
+    }
+
+    private static ColumnConfig column(String name, ConstraintsConfig constraints) {
+        ColumnConfig column = new ColumnConfig();
+        column.setName(name);
+        column.setConstraints(constraints);
+        return column;
+    }
+}
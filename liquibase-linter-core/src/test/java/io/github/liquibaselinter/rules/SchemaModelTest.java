@@ -0,0 +1,141 @@
+package io.github.liquibaselinter.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.liquibaselinter.rules.SchemaModel.Existence;
+import liquibase.change.ColumnConfig;
+import liquibase.change.ConstraintsConfig;
+import liquibase.change.core.AddLookupTableChange;
+import liquibase.change.core.CreateIndexChange;
+import liquibase.change.core.CreateTableChange;
+import liquibase.change.core.DropTableChange;
+import liquibase.change.core.ModifyDataTypeChange;
+import liquibase.change.core.RawSQLChange;
+import liquibase.change.core.RenameColumnChange;
+import liquibase.change.core.RenameTableChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SchemaModelTest {
+
+    private final SchemaModel schema = new SchemaModel();
+
+    @DisplayName("Should track tables and columns ignoring case, qualified by schema")
+    @Test
+    void shouldTrackTablesAndColumns() {
+        schema.apply(createTable("APP", "FOO"));
+
+        assertThat(schema.table("app", "foo")).isEqualTo(Existence.EXISTS);
+        assertThat(schema.table("OTHER", "FOO")).isEqualTo(Existence.MISSING);
+        assertThat(schema.column("APP", "FOO", "id")).isEqualTo(Existence.EXISTS);
+        assertThat(schema.column("APP", "FOO", "NAME")).isEqualTo(Existence.MISSING);
+        assertThat(schema.column("APP", "BAR", "ID")).isEqualTo(Existence.MISSING);
+        assertThat(schema.columnType("APP", "FOO", "ID")).contains("NUMBER(10)");
+        assertThat(schema.constraint("APP", "FOO_PK")).isEqualTo(Existence.EXISTS);
+        assertThat(schema.index("APP", "FOO_PK")).isEqualTo(Existence.EXISTS);
+    }
+
+    @DisplayName("Should follow renamed and modified columns and tables")
+    @Test
+    void shouldFollowRenamesAndModifications() {
+        final RenameColumnChange renameColumn = new RenameColumnChange();
+        renameColumn.setTableName("FOO");
+        renameColumn.setOldColumnName("ID");
+        renameColumn.setNewColumnName("FOO_ID");
+        final ModifyDataTypeChange modifyDataType = new ModifyDataTypeChange();
+        modifyDataType.setTableName("FOO");
+        modifyDataType.setColumnName("FOO_ID");
+        modifyDataType.setNewDataType("BIGINT");
+        final RenameTableChange renameTable = new RenameTableChange();
+        renameTable.setOldTableName("FOO");
+        renameTable.setNewTableName("BAR");
+
+        schema.apply(createTable(null, "FOO"));
+        schema.apply(renameColumn);
+        schema.apply(modifyDataType);
+        schema.apply(renameTable);
+
+        assertThat(schema.table(null, "FOO")).isEqualTo(Existence.MISSING);
+        assertThat(schema.column(null, "BAR", "ID")).isEqualTo(Existence.MISSING);
+        assertThat(schema.columnType(null, "BAR", "FOO_ID")).contains("BIGINT");
+        assertThat(schema.constraint(null, "FOO_PK")).isEqualTo(Existence.EXISTS);
+    }
+
+    @DisplayName("Should drop the indexes and constraints of a dropped table")
+    @Test
+    void shouldDropIndexesAndConstraintsWithTable() {
+        final CreateIndexChange createIndex = new CreateIndexChange();
+        createIndex.setTableName("FOO");
+        createIndex.setIndexName("FOO_IDX");
+        final DropTableChange dropTable = new DropTableChange();
+        dropTable.setTableName("foo");
+
+        schema.apply(createTable(null, "FOO"));
+        schema.apply(createIndex);
+        assertThat(schema.index(null, "FOO_IDX")).isEqualTo(Existence.EXISTS);
+        schema.apply(dropTable);
+
+        assertThat(schema.table(null, "FOO")).isEqualTo(Existence.MISSING);
+        assertThat(schema.index(null, "FOO_IDX")).isEqualTo(Existence.MISSING);
+        assertThat(schema.constraint(null, "FOO_PK")).isEqualTo(Existence.MISSING);
+    }
+
+    @DisplayName("Should not tell whether a name met only qualified, or only unqualified, exists")
+    @Test
+    void shouldNotTellAcrossQualification() {
+        schema.apply(createTable("PUBLIC", "FOO"));
+        schema.apply(createTable(null, "BAR"));
+
+        assertThat(schema.table(null, "foo")).isEqualTo(Existence.UNKNOWN);
+        assertThat(schema.column(null, "FOO", "ID")).isEqualTo(Existence.UNKNOWN);
+        assertThat(schema.index(null, "FOO_PK")).isEqualTo(Existence.UNKNOWN);
+        assertThat(schema.table("PUBLIC", "BAR")).isEqualTo(Existence.UNKNOWN);
+        assertThat(schema.constraint("PUBLIC", "BAR_PK")).isEqualTo(Existence.UNKNOWN);
+        assertThat(schema.table(null, "BAZ")).isEqualTo(Existence.MISSING);
+        assertThat(schema.table("PUBLIC", "BAZ")).isEqualTo(Existence.MISSING);
+    }
+
+    @DisplayName("Should track lookup tables and their foreign keys")
+    @Test
+    void shouldTrackLookupTables() {
+        final AddLookupTableChange addLookupTable = new AddLookupTableChange();
+        addLookupTable.setExistingTableName("FOO");
+        addLookupTable.setExistingColumnName("STATE");
+        addLookupTable.setNewTableName("FOO_STATE");
+        addLookupTable.setNewColumnName("CODE");
+        addLookupTable.setNewColumnDataType("VARCHAR(10)");
+        addLookupTable.setConstraintName("FOO_STATE_FK");
+        schema.apply(createTable(null, "FOO"));
+
+        schema.apply(addLookupTable);
+
+        assertThat(schema.table(null, "FOO_STATE")).isEqualTo(Existence.EXISTS);
+        assertThat(schema.columnType(null, "FOO_STATE", "CODE")).contains("VARCHAR(10)");
+        assertThat(schema.constraint(null, "FOO_STATE_FK")).isEqualTo(Existence.EXISTS);
+    }
+
+    @DisplayName("Should not tell what is missing once raw SQL ran")
+    @Test
+    void shouldNotTellWhatIsMissingAfterRawSql() {
+        schema.apply(createTable(null, "FOO"));
+        schema.apply(new RawSQLChange("create table BAR (ID int)"));
+
+        assertThat(schema.table(null, "FOO")).isEqualTo(Existence.EXISTS);
+        assertThat(schema.table(null, "BAR")).isEqualTo(Existence.UNKNOWN);
+        assertThat(schema.column(null, "BAR", "ID")).isEqualTo(Existence.UNKNOWN);
+        assertThat(schema.index(null, "BAR_IDX")).isEqualTo(Existence.UNKNOWN);
+    }
+
+    private static CreateTableChange createTable(String schemaName, String tableName) {
+        final CreateTableChange createTable = new CreateTableChange();
+        createTable.setSchemaName(schemaName);
+        createTable.setTableName(tableName);
+        createTable.addColumn(
+            new ColumnConfig()
+                .setName("ID")
+                .setType("NUMBER(10)")
+                .setConstraints(new ConstraintsConfig().setPrimaryKey(true).setPrimaryKeyName(tableName + "_PK"))
+        );
+        return createTable;
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.liquibaselinter.rules.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.RuleViolation;
+import io.github.liquibaselinter.rules.SchemaModel;
+import liquibase.change.ColumnConfig;
+import liquibase.change.core.AddNotNullConstraintChange;
+import liquibase.change.core.CreateTableChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ColumnTypeMatchesRuleTest {
+
+    private final ColumnTypeMatchesRule rule = new ColumnTypeMatchesRule();
+    private final SchemaModel schema = new SchemaModel();
+
+    @DisplayName("Column data type must match the type the column was created with")
+    @Test
+    void columnDataTypeMustMatch() {
+        schema.apply(createTable());
+
+        assertThat(rule.check(addNotNull("varchar( 50 )"), schema, RuleConfig.enabled())).isEmpty();
+        assertThat(rule.check(addNotNull("VARCHAR(100)"), schema, RuleConfig.enabled()))
+            .extracting(RuleViolation::message)
+            .containsExactly("Column 'foo.name' is given type 'VARCHAR(100)' but was created with type 'VARCHAR(50)'");
+    }
+
+    @DisplayName("Column data type of an unknown column may be anything")
+    @Test
+    void columnDataTypeOfUnknownColumnMayBeAnything() {
+        assertThat(rule.check(addNotNull("VARCHAR(100)"), schema, RuleConfig.enabled())).isEmpty();
+    }
+
+    private static CreateTableChange createTable() {
+        final CreateTableChange createTable = new CreateTableChange();
+        createTable.setTableName("FOO");
+        createTable.addColumn(new ColumnConfig().setName("NAME").setType("VARCHAR(50)"));
+        return createTable;
+    }
+
+    private static AddNotNullConstraintChange addNotNull(String columnDataType) {
+        final AddNotNullConstraintChange addNotNull = new AddNotNullConstraintChange();
+        addNotNull.setTableName("foo");
+        addNotNull.setColumnName("name");
+        addNotNull.setColumnDataType(columnDataType);
+        return addNotNull;
+    }
+}
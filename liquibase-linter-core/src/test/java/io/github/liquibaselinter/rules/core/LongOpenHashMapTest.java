@@ -0,0 +1,68 @@
+package io.github.liquibaselinter.rules.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongOpenHashMapTest {
+
+    @DisplayName("Should only put absent keys")
+    @Test
+    void shouldOnlyPutAbsentKeys() {
+        final LongOpenHashMap map = new LongOpenHashMap();
+
+        assertThat(map.putIfAbsent(42, 1)).isTrue();
+        assertThat(map.putIfAbsent(42, 2)).isFalse();
+        assertThat(map.putIfAbsent(0, 3)).isTrue();
+        assertThat(map.putIfAbsent(0, 4)).isFalse();
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(42)).isEqualTo(1);
+        assertThat(map.get(0)).isEqualTo(3);
+    }
+
+    @DisplayName("Should behave like a hash map through growing and removals")
+    @Test
+    void shouldBehaveLikeHashMap() {
+        final LongOpenHashMap map = new LongOpenHashMap();
+        final Map<Long, Long> expected = new HashMap<>();
+        final Random random = new Random(20181107);
+
+        for (int operation = 0; operation < 200_000; operation++) {
+            // a small key range, so that keys are put and removed again, with many collisions
+            final long key = random.nextInt(20_000) - 10_000L;
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                assertThat(map.putIfAbsent(key, key % 7)).isEqualTo(expected.putIfAbsent(key, key % 7) == null);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = -10_000; key < 10_000; key++) {
+            assertThat(map.containsKey(key)).isEqualTo(expected.containsKey(key));
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, 0L));
+        }
+    }
+
+    @DisplayName("Should replace values")
+    @Test
+    void shouldReplaceValues() {
+        final LongOpenHashMap map = new LongOpenHashMap();
+        map.putIfAbsent(1, 10);
+        map.putIfAbsent(2, 10);
+        map.putIfAbsent(3, 30);
+
+        map.replace(1, 20);
+        map.replace(4, 40);
+
+        assertThat(map.get(1)).isEqualTo(20);
+        assertThat(map.get(2)).isEqualTo(10);
+        assertThat(map.containsKey(4)).isFalse();
+    }
+}
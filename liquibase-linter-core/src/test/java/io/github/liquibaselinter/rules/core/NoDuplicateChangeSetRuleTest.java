@@ -0,0 +1,55 @@
+package io.github.liquibaselinter.rules.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.RuleViolation;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NoDuplicateChangeSetRuleTest {
+
+    private final NoDuplicateChangeSetRule rule = new NoDuplicateChangeSetRule();
+
+    @DisplayName("Change set id, author and path must be unique across included files")
+    @Test
+    void changeSetMustBeUnique() {
+        final DatabaseChangeLog changeLog = new DatabaseChangeLog("root.xml");
+        addChangeSet(changeLog, "1", "included.xml");
+        addChangeSet(changeLog, "2", "included.xml");
+        addChangeSet(changeLog, "1", "other.xml");
+        addChangeSet(changeLog, "1", "included.xml");
+
+        assertThat(rule.check(changeLog, RuleConfig.enabled()))
+            .extracting(RuleViolation::message)
+            .containsExactly("ChangeSet 'included.xml::1::lrogers' is declared more than once");
+    }
+
+    @DisplayName("Change set ids are case-sensitive")
+    @Test
+    void changeSetIdsAreCaseSensitive() {
+        final DatabaseChangeLog changeLog = new DatabaseChangeLog("root.xml");
+        addChangeSet(changeLog, "a", "included.xml");
+        addChangeSet(changeLog, "A", "included.xml");
+
+        assertThat(rule.check(changeLog, RuleConfig.enabled())).isEmpty();
+    }
+
+    @DisplayName("Only the root change log is checked, as it holds the change sets of every file")
+    @Test
+    void onlyRootChangeLogIsChecked() {
+        final DatabaseChangeLog root = new DatabaseChangeLog("root.xml");
+        final DatabaseChangeLog included = new DatabaseChangeLog("included.xml");
+        included.setRootChangeLog(root);
+        addChangeSet(included, "1", "included.xml");
+        addChangeSet(included, "1", "included.xml");
+
+        assertThat(rule.check(included, RuleConfig.enabled())).isEmpty();
+    }
+
+    private static void addChangeSet(DatabaseChangeLog changeLog, String id, String filePath) {
+        changeLog.addChangeSet(new ChangeSet(id, "lrogers", false, false, filePath, null, null, changeLog));
+    }
+}
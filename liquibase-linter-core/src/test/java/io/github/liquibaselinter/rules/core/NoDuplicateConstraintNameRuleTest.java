@@ -0,0 +1,152 @@
+package io.github.liquibaselinter.rules.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.RuleViolation;
+import liquibase.change.Change;
+import liquibase.change.ColumnConfig;
+import liquibase.change.ConstraintsConfig;
+import liquibase.change.core.AddPrimaryKeyChange;
+import liquibase.change.core.AddUniqueConstraintChange;
+import liquibase.change.core.CreateIndexChange;
+import liquibase.change.core.CreateTableChange;
+import liquibase.change.core.DropIndexChange;
+import liquibase.change.core.DropTableChange;
+import liquibase.change.core.RenameTableChange;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NoDuplicateConstraintNameRuleTest {
+
+    private final NoDuplicateConstraintNameRule rule = new NoDuplicateConstraintNameRule();
+    private final DatabaseChangeLog changeLog = new DatabaseChangeLog("root.xml");
+
+    @DisplayName("Constraint names must be unique across tables")
+    @Test
+    void constraintNamesMustBeUnique() {
+        addChangeSet("1", createTableWithPrimaryKey("FOO", "FOO_PK", "ID", "VERSION"));
+        addChangeSet("2", addUniqueConstraint("BAR", "FOO_PK"));
+
+        assertThat(rule.check(changeLog, RuleConfig.enabled()))
+            .extracting(RuleViolation::message)
+            .containsExactly(
+                "Constraint or index name 'FOO_PK' declared in 'constraints.xml::1::lrogers' is declared again in " +
+                "'constraints.xml::2::lrogers'"
+            );
+    }
+
+    @DisplayName("Index names must be unique, but may match a constraint name")
+    @Test
+    void indexNamesMustBeUnique() {
+        addChangeSet("1", addPrimaryKey("FOO", "FOO_PK"));
+        addChangeSet("2", createIndex("FOO", "FOO_PK"));
+        addChangeSet("3", createIndex("BAR", "foo_pk"));
+
+        assertThat(rule.check(changeLog, RuleConfig.enabled()))
+            .extracting(RuleViolation::message)
+            .containsExactly(
+                "Constraint or index name 'foo_pk' declared in 'constraints.xml::2::lrogers' is declared again in " +
+                "'constraints.xml::3::lrogers'"
+            );
+    }
+
+    @DisplayName("Names may be declared again once dropped, along with their table or not")
+    @Test
+    void namesMayBeDeclaredAgainOnceDropped() {
+        final DropIndexChange dropIndex = new DropIndexChange();
+        dropIndex.setIndexName("FOO_I1");
+        final DropTableChange dropTable = new DropTableChange();
+        dropTable.setTableName("FOO");
+        addChangeSet("1", createTableWithPrimaryKey("FOO", "FOO_PK", "ID"));
+        addChangeSet("2", createIndex("FOO", "FOO_I1"));
+        addChangeSet("3", dropIndex);
+        addChangeSet("4", createIndex("FOO", "FOO_I1"));
+        addChangeSet("5", dropTable);
+        addChangeSet("6", createTableWithPrimaryKey("FOO", "FOO_PK", "ID"));
+        addChangeSet("7", createIndex("FOO", "FOO_I1"));
+
+        assertThat(rule.check(changeLog, RuleConfig.enabled())).isEmpty();
+    }
+
+    @DisplayName("Names follow their table when it is renamed, and are dropped with it")
+    @Test
+    void namesFollowRenamedTable() {
+        final RenameTableChange renameTable = new RenameTableChange();
+        renameTable.setOldTableName("FOO");
+        renameTable.setNewTableName("BAR");
+        final DropTableChange dropFoo = new DropTableChange();
+        dropFoo.setTableName("FOO");
+        final DropTableChange dropBar = new DropTableChange();
+        dropBar.setTableName("BAR");
+        addChangeSet("1", createTableWithPrimaryKey("FOO", "FOO_PK", "ID"));
+        addChangeSet("2", createIndex("FOO", "FOO_I1"));
+        addChangeSet("3", renameTable);
+        addChangeSet("4", createTableWithPrimaryKey("FOO", "FOO2_PK", "ID"));
+        addChangeSet("5", dropFoo);
+        addChangeSet("6", createIndex("BAZ", "FOO_I1"));
+        addChangeSet("7", dropBar);
+        addChangeSet("8", addUniqueConstraint("BAZ", "FOO_PK"));
+
+        assertThat(rule.check(changeLog, RuleConfig.enabled()))
+            .extracting(RuleViolation::message)
+            .containsExactly(
+                "Constraint or index name 'FOO_I1' declared in 'constraints.xml::2::lrogers' is declared again in " +
+                "'constraints.xml::6::lrogers'"
+            );
+    }
+
+    private static CreateTableChange createTableWithPrimaryKey(
+        String tableName,
+        String primaryKeyName,
+        String... columnNames
+    ) {
+        final CreateTableChange createTable = new CreateTableChange();
+        createTable.setTableName(tableName);
+        for (String columnName : columnNames) {
+            final ColumnConfig column = new ColumnConfig();
+            column.setName(columnName);
+            column.setConstraints(new ConstraintsConfig().setPrimaryKey(true).setPrimaryKeyName(primaryKeyName));
+            createTable.addColumn(column);
+        }
+        return createTable;
+    }
+
+    private static AddPrimaryKeyChange addPrimaryKey(String tableName, String constraintName) {
+        final AddPrimaryKeyChange addPrimaryKey = new AddPrimaryKeyChange();
+        addPrimaryKey.setTableName(tableName);
+        addPrimaryKey.setConstraintName(constraintName);
+        return addPrimaryKey;
+    }
+
+    private static AddUniqueConstraintChange addUniqueConstraint(String tableName, String constraintName) {
+        final AddUniqueConstraintChange addUniqueConstraint = new AddUniqueConstraintChange();
+        addUniqueConstraint.setTableName(tableName);
+        addUniqueConstraint.setConstraintName(constraintName);
+        return addUniqueConstraint;
+    }
+
+    private static CreateIndexChange createIndex(String tableName, String indexName) {
+        final CreateIndexChange createIndex = new CreateIndexChange();
+        createIndex.setTableName(tableName);
+        createIndex.setIndexName(indexName);
+        return createIndex;
+    }
+
+    private void addChangeSet(String id, Change change) {
+        final ChangeSet changeSet = new ChangeSet(
+            id,
+            "lrogers",
+            false,
+            false,
+            "constraints.xml",
+            null,
+            null,
+            changeLog
+        );
+        changeSet.addChange(change);
+        changeLog.addChangeSet(changeSet);
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.liquibaselinter.rules.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.RuleViolation;
+import liquibase.change.Change;
+import liquibase.change.core.CreateTableChange;
+import liquibase.change.core.DropTableChange;
+import liquibase.change.core.RenameTableChange;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NoDuplicateCreateTableRuleTest {
+
+    private final NoDuplicateCreateTableRule rule = new NoDuplicateCreateTableRule();
+    private final DatabaseChangeLog changeLog = new DatabaseChangeLog("root.xml");
+
+    @DisplayName("Table must not be created twice")
+    @Test
+    void tableMustNotBeCreatedTwice() {
+        addChangeSet("1", null, createTable("FOO"));
+        addChangeSet("2", null, createTable("BAR"));
+        addChangeSet("3", null, createTable("foo"));
+
+        assertThat(rule.check(changeLog, RuleConfig.enabled()))
+            .extracting(RuleViolation::message)
+            .containsExactly(
+                "Table 'foo' created in 'tables.xml::1::lrogers' is created again in 'tables.xml::3::lrogers'"
+            );
+    }
+
+    @DisplayName("Table may be created again once dropped or renamed")
+    @Test
+    void tableMayBeCreatedAgainOnceDroppedOrRenamed() {
+        final DropTableChange dropTable = new DropTableChange();
+        dropTable.setTableName("FOO");
+        final RenameTableChange renameTable = new RenameTableChange();
+        renameTable.setOldTableName("FOO");
+        renameTable.setNewTableName("FOO_OLD");
+        addChangeSet("1", null, createTable("FOO"));
+        addChangeSet("2", null, dropTable);
+        addChangeSet("3", null, createTable("FOO"));
+        addChangeSet("4", null, renameTable);
+        addChangeSet("5", null, createTable("FOO"));
+
+        assertThat(rule.check(changeLog, RuleConfig.enabled())).isEmpty();
+    }
+
+    @DisplayName("Tables created for different dbms are alternatives")
+    @Test
+    void tablesForDifferentDbmsAreAlternatives() {
+        addChangeSet("1", "oracle", createTable("FOO"));
+        addChangeSet("2", "postgresql", createTable("FOO"));
+
+        assertThat(rule.check(changeLog, RuleConfig.enabled())).isEmpty();
+    }
+
+    @DisplayName("Tables in different schemas are different tables")
+    @Test
+    void tablesInDifferentSchemasAreDifferent() {
+        final CreateTableChange createTableInSchema = createTable("FOO");
+        createTableInSchema.setSchemaName("OTHER");
+        addChangeSet("1", null, createTable("FOO"));
+        addChangeSet("2", null, createTableInSchema);
+
+        assertThat(rule.check(changeLog, RuleConfig.enabled())).isEmpty();
+    }
+
+    private static CreateTableChange createTable(String tableName) {
+        final CreateTableChange createTable = new CreateTableChange();
+        createTable.setTableName(tableName);
+        return createTable;
+    }
+
+    private void addChangeSet(String id, String dbms, Change change) {
+        final ChangeSet changeSet = new ChangeSet(id, "lrogers", false, false, "tables.xml", null, dbms, changeLog);
+        changeSet.addChange(change);
+        changeLog.addChangeSet(changeSet);
+    }
+}
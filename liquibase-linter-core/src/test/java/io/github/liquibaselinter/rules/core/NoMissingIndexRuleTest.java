@@ -0,0 +1,50 @@
+package io.github.liquibaselinter.rules.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.RuleViolation;
+import io.github.liquibaselinter.rules.SchemaModel;
+import liquibase.change.core.AddUniqueConstraintChange;
+import liquibase.change.core.CreateIndexChange;
+import liquibase.change.core.DropIndexChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NoMissingIndexRuleTest {
+
+    private final NoMissingIndexRule rule = new NoMissingIndexRule();
+    private final SchemaModel schema = new SchemaModel();
+
+    @DisplayName("Dropped index must have been created")
+    @Test
+    void droppedIndexMustHaveBeenCreated() {
+        final CreateIndexChange createIndex = new CreateIndexChange();
+        createIndex.setTableName("FOO");
+        createIndex.setIndexName("FOO_IDX");
+        schema.apply(createIndex);
+
+        assertThat(rule.check(dropIndex("foo_idx"), schema, RuleConfig.enabled())).isEmpty();
+        assertThat(rule.check(dropIndex("BAR_IDX"), schema, RuleConfig.enabled()))
+            .extracting(RuleViolation::message)
+            .containsExactly("Index 'BAR_IDX' is not created by any earlier change set");
+    }
+
+    @DisplayName("Dropped index may back a unique constraint")
+    @Test
+    void droppedIndexMayBackUniqueConstraint() {
+        final AddUniqueConstraintChange addUnique = new AddUniqueConstraintChange();
+        addUnique.setTableName("FOO");
+        addUnique.setConstraintName("FOO_UK");
+        schema.apply(addUnique);
+
+        assertThat(rule.check(dropIndex("FOO_UK"), schema, RuleConfig.enabled())).isEmpty();
+    }
+
+    private static DropIndexChange dropIndex(String indexName) {
+        final DropIndexChange dropIndex = new DropIndexChange();
+        dropIndex.setTableName("FOO");
+        dropIndex.setIndexName(indexName);
+        return dropIndex;
+    }
+}
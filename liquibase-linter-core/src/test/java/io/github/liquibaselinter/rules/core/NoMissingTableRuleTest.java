@@ -0,0 +1,90 @@
+package io.github.liquibaselinter.rules.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.liquibaselinter.config.RuleConfig;
+import io.github.liquibaselinter.rules.RuleViolation;
+import io.github.liquibaselinter.rules.SchemaModel;
+import liquibase.change.core.AddColumnChange;
+import liquibase.change.core.AddForeignKeyConstraintChange;
+import liquibase.change.core.AddLookupTableChange;
+import liquibase.change.core.CreateTableChange;
+import liquibase.change.core.RawSQLChange;
+import liquibase.change.core.UpdateDataChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NoMissingTableRuleTest {
+
+    private final NoMissingTableRule rule = new NoMissingTableRule();
+    private final SchemaModel schema = new SchemaModel();
+
+    @DisplayName("Changed tables must have been created")
+    @Test
+    void changedTablesMustHaveBeenCreated() {
+        schema.apply(createTable("FOO"));
+        final AddForeignKeyConstraintChange addForeignKey = new AddForeignKeyConstraintChange();
+        addForeignKey.setBaseTableName("foo");
+        addForeignKey.setReferencedTableSchemaName("APP");
+        addForeignKey.setReferencedTableName("BAR");
+
+        assertThat(rule.check(addForeignKey, schema, RuleConfig.enabled()))
+            .extracting(RuleViolation::message)
+            .containsExactly("Table 'APP.BAR' is not created by any earlier change set");
+    }
+
+    @DisplayName("Data changes must target created tables")
+    @Test
+    void dataChangesMustTargetCreatedTables() {
+        final UpdateDataChange updateData = new UpdateDataChange();
+        updateData.setTableName("BAR");
+
+        assertThat(rule.check(updateData, schema, RuleConfig.enabled()))
+            .extracting(RuleViolation::message)
+            .containsExactly("Table 'BAR' is not created by any earlier change set");
+    }
+
+    @DisplayName("Tables created with a schema may be changed without one")
+    @Test
+    void tablesMayBeChangedWithoutTheirSchema() {
+        final CreateTableChange createTable = createTable("foo");
+        createTable.setSchemaName("public");
+        schema.apply(createTable);
+        final AddColumnChange addColumn = new AddColumnChange();
+        addColumn.setTableName("foo");
+
+        assertThat(rule.check(addColumn, schema, RuleConfig.enabled())).isEmpty();
+    }
+
+    @DisplayName("Lookup tables must be added to created tables, and are created")
+    @Test
+    void lookupTablesMustBeAddedToCreatedTables() {
+        final AddLookupTableChange addLookupTable = new AddLookupTableChange();
+        addLookupTable.setExistingTableName("FOO");
+        addLookupTable.setNewTableName("FOO_STATE");
+        final UpdateDataChange updateData = new UpdateDataChange();
+        updateData.setTableName("FOO_STATE");
+
+        assertThat(rule.check(addLookupTable, schema, RuleConfig.enabled()))
+            .extracting(RuleViolation::message)
+            .containsExactly("Table 'FOO' is not created by any earlier change set");
+        schema.apply(addLookupTable);
+        assertThat(rule.check(updateData, schema, RuleConfig.enabled())).isEmpty();
+    }
+
+    @DisplayName("Tables may have been created by raw SQL")
+    @Test
+    void tablesMayHaveBeenCreatedByRawSql() {
+        schema.apply(new RawSQLChange("create table BAR (ID int)"));
+        final UpdateDataChange updateData = new UpdateDataChange();
+        updateData.setTableName("BAR");
+
+        assertThat(rule.check(updateData, schema, RuleConfig.enabled())).isEmpty();
+    }
+
+    private static CreateTableChange createTable(String tableName) {
+        final CreateTableChange createTable = new CreateTableChange();
+        createTable.setTableName(tableName);
+        return createTable;
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.liquibaselinter.mavenplugin;
+
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import liquibase.resource.AbstractResourceAccessor;
+import liquibase.resource.PathResource;
+import liquibase.resource.Resource;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * Answers resource lookups from an index of the files in some directories, walked once up front, along with another
+ * accessor for what is not in directories, e.g. one scanning jars.
+ * <p>
+ * Getting a path returns the file of the first directory having it, and only asks the other accessor when none does.
+ * Looking up all the resources of a path, and searching, return the files of every directory, in order, and then
+ * whatever the other accessor finds, as a lookup over the whole classpath would, so the other accessor should not
+ * cover the directories again. Directories excluded from the walk, hidden ones, and the build directories of the
+ * modules found within, are not indexed: paths in them are checked on the file system when looked up, and searched
+ * when the search starts within them. The index is never updated, so the files must not change while it is in use.
+ */
+class IndexedResourceAccessor extends AbstractResourceAccessor {
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final String MODULE_FILE = "pom.xml";
+    private static final String MODULE_BUILD_DIRECTORY = "target";
+
+    private final List<IndexedDirectory> directories = new ArrayList<>();
+    private final ResourceAccessor fallback;
+
+    /**
+     * @param excluded directories not to walk, and their contents
+     * @param fallback the accessor for resources outside the directories, whose results are added to theirs
+     */
+    IndexedResourceAccessor(List<Path> directories, Collection<Path> excluded, ResourceAccessor fallback)
+        throws IOException {
+        this.fallback = fallback;
+        final List<Path> excludedDirectories = excluded
+            .stream()
+            .map(directory -> directory.toAbsolutePath().normalize())
+            .collect(Collectors.toList());
+        for (Path directory : directories) {
+            if (Files.isDirectory(directory)) {
+                this.directories.add(new IndexedDirectory(directory.toAbsolutePath().normalize(), excludedDirectories));
+            }
+        }
+    }
+
+    /**
+     * @return the file of the first directory having the path, without looking in the other accessor, or else what the
+     *     other accessor gets
+     */
+    @Override
+    public Resource get(String path) throws IOException {
+        final String indexPath = indexPath(path);
+        if (indexPath != null) {
+            for (IndexedDirectory directory : directories) {
+                final Path file = directory.get(indexPath);
+                if (file != null) {
+                    return new PathResource(indexPath, file);
+                }
+            }
+        }
+        return fallback.get(path);
+    }
+
+    @Override
+    public List<Resource> getAll(String path) throws IOException {
+        final String indexPath = indexPath(path);
+        final List<Resource> resources = new ArrayList<>();
+        if (indexPath != null) {
+            for (IndexedDirectory directory : directories) {
+                final Path file = directory.get(indexPath);
+                if (file != null) {
+                    resources.add(new PathResource(indexPath, file));
+                }
+            }
+        }
+        addAll(resources, fallback.getAll(path));
+        return resources;
+    }
+
+    @Override
+    public List<Resource> search(String path, boolean recursive) throws IOException {
+        final String indexPath = indexPath(path);
+        final List<Resource> resources = new ArrayList<>();
+        if (indexPath != null) {
+            for (IndexedDirectory directory : directories) {
+                directory.search(indexPath, recursive, resources);
+            }
+        }
+        addAll(resources, fallback.search(path, recursive));
+        return resources;
+    }
+
+    private static void addAll(List<Resource> resources, List<Resource> found) {
+        if (found != null) {
+            resources.addAll(found);
+        }
+    }
+
+    /**
+     * @return the path as keyed in the index, or {@code null} when it cannot be in the index, e.g. as it is absolute
+     *     or goes up from the directories
+     */
+    static String indexPath(String path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Path must not be null");
+        }
+        String relativePath = path.replace('\\', '/');
+        if (relativePath.startsWith(CLASSPATH_PREFIX)) {
+            relativePath = relativePath.substring(CLASSPATH_PREFIX.length());
+        }
+        while (relativePath.startsWith("/")) {
+            relativePath = relativePath.substring(1);
+        }
+        final Path normalized;
+        try {
+            normalized = Paths.get(relativePath).normalize();
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+        final String indexPath = normalized.toString().replace('\\', '/');
+        return normalized.isAbsolute() || "..".equals(indexPath) || indexPath.startsWith("../") ? null : indexPath;
+    }
+
+    @Override
+    public List<String> describeLocations() {
+        final List<String> locations = directories
+            .stream()
+            .map(directory -> directory.root.toString())
+            .collect(Collectors.toList());
+        locations.addAll(fallback.describeLocations());
+        return locations;
+    }
+
+    @Override
+    public void close() throws Exception {
+        fallback.close();
+    }
+
+    /**
+     * The files of a directory by path relative to it, and the directories within left out of the walk.
+     */
+    private static final class IndexedDirectory {
+
+        private final Path root;
+        private final NavigableMap<String, Path> files = new TreeMap<>();
+        private final List<Path> skipped = new ArrayList<>();
+
+        private IndexedDirectory(Path root, List<Path> excluded) throws IOException {
+            this.root = root;
+            Files.walkFileTree(
+                root,
+                EnumSet.of(FileVisitOption.FOLLOW_LINKS),
+                Integer.MAX_VALUE,
+                new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                        if (directory.equals(root)) {
+                            return FileVisitResult.CONTINUE;
+                        }
+                        if (isSkipped(directory, excluded)) {
+                            skipped.add(directory);
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                        if (attributes.isRegularFile()) {
+                            files.put(key(file), file);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException exception) {
+                        // e.g. a symbolic link loop, which is then left out
+                        return FileVisitResult.CONTINUE;
+                    }
+                }
+            );
+        }
+
+        /**
+         * @return whether the directory is hidden, excluded, or the build directory of a module
+         */
+        private static boolean isSkipped(Path directory, List<Path> excluded) {
+            final String name = directory.getFileName().toString();
+            return (
+                name.startsWith(".") ||
+                excluded.contains(directory) ||
+                (MODULE_BUILD_DIRECTORY.equals(name) && Files.isRegularFile(directory.resolveSibling(MODULE_FILE)))
+            );
+        }
+
+        private Path get(String indexPath) {
+            final Path file = files.get(indexPath);
+            if (file != null) {
+                return file;
+            }
+            final Path candidate = root.resolve(indexPath);
+            return isInSkipped(candidate) && Files.isRegularFile(candidate) ? candidate : null;
+        }
+
+        private void search(String indexPath, boolean recursive, List<Resource> resources) throws IOException {
+            final Path start = root.resolve(indexPath);
+            if (isInSkipped(start)) {
+                if (Files.isDirectory(start)) {
+                    try (Stream<Path> found = Files.walk(start, recursive ? Integer.MAX_VALUE : 1)) {
+                        found
+                            .filter(Files::isRegularFile)
+                            .sorted()
+                            .forEach(file -> resources.add(new PathResource(key(file), file)));
+                    }
+                }
+                return;
+            }
+            final String prefix = indexPath.isEmpty() || indexPath.endsWith("/") ? indexPath : indexPath + "/";
+            for (Map.Entry<String, Path> entry : files.tailMap(prefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                if (recursive || entry.getKey().indexOf('/', prefix.length()) < 0) {
+                    resources.add(new PathResource(entry.getKey(), entry.getValue()));
+                }
+            }
+        }
+
+        private boolean isInSkipped(Path file) {
+            return skipped.stream().anyMatch(file::startsWith);
+        }
+
+        private String key(Path file) {
+            return root.relativize(file).toString().replace('\\', '/');
+        }
+    }
+}
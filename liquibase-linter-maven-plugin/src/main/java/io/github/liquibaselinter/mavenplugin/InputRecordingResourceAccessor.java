@@ -0,0 +1,96 @@
+package io.github.liquibaselinter.mavenplugin;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import liquibase.resource.AbstractResourceAccessor;
+import liquibase.resource.Resource;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * Records the resources looked up through another accessor, which are the inputs of linting: the configuration files
+ * and the change log files reached, and the paths looked up but not found, which would change the outcome by turning
+ * up. Searching, as {@code includeAll} and {@code file-not-included} do, has inputs that
+ * cannot be told from the resources found, so it is only recorded as having happened.
+ * <p>
+ * Change logs linted concurrently share one accessor, so it is thread-safe.
+ */
+class InputRecordingResourceAccessor extends AbstractResourceAccessor {
+
+    private final ResourceAccessor delegate;
+    private final Set<URI> inputs = Collections.synchronizedSet(new LinkedHashSet<>());
+    private final Set<String> missing = Collections.synchronizedSet(new LinkedHashSet<>());
+    private final AtomicBoolean searched = new AtomicBoolean();
+
+    InputRecordingResourceAccessor(ResourceAccessor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<Resource> search(String path, boolean recursive) throws IOException {
+        searched.set(true);
+        return delegate.search(path, recursive);
+    }
+
+    @Override
+    public Resource get(String path) throws IOException {
+        final Resource resource = delegate.get(path);
+        if (resource.exists()) {
+            inputs.add(resource.getUri());
+        } else {
+            missing.add(path);
+        }
+        return resource;
+    }
+
+    @Override
+    public List<Resource> getAll(String path) throws IOException {
+        final List<Resource> resources = delegate.getAll(path);
+        boolean found = false;
+        if (resources != null) {
+            for (Resource resource : resources) {
+                if (resource.exists()) {
+                    inputs.add(resource.getUri());
+                    found = true;
+                }
+            }
+        }
+        if (!found) {
+            missing.add(path);
+        }
+        return resources;
+    }
+
+    @Override
+    public List<String> describeLocations() {
+        return delegate.describeLocations();
+    }
+
+    @Override
+    public void close() throws Exception {
+        delegate.close();
+    }
+
+    /**
+     * @return the resources looked up so far, any of which may be shadowed by another; not to be iterated while still
+     *     looking resources up
+     */
+    Set<URI> getInputs() {
+        return Collections.unmodifiableSet(inputs);
+    }
+
+    /**
+     * @return the paths looked up so far that were not found; not to be iterated while still looking resources up
+     */
+    Set<String> getMissing() {
+        return Collections.unmodifiableSet(missing);
+    }
+
+    boolean hasSearched() {
+        return searched.get();
+    }
+}
@@ -1,8 +1,11 @@
 package io.github.liquibaselinter.mavenplugin;
 
 import com.google.common.collect.ImmutableListMultimap;
-import io.github.liquibaselinter.ChangeLogLinter;
 import io.github.liquibaselinter.ChangeLogLintingException;
+import io.github.liquibaselinter.LintAttestation;
+import io.github.liquibaselinter.LintEngine;
+import io.github.liquibaselinter.LintSession;
+import io.github.liquibaselinter.MemoizingResourceAccessor;
 import io.github.liquibaselinter.config.Config;
 import io.github.liquibaselinter.config.ConfigLoader;
 import io.github.liquibaselinter.report.ConsoleReporter;
@@ -14,22 +17,41 @@ import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.inject.Inject;
-import liquibase.Liquibase;
 import liquibase.Scope;
+import liquibase.changelog.ChangeLogParameters;
 import liquibase.changelog.DatabaseChangeLog;
-import liquibase.database.DatabaseConnection;
-import liquibase.database.OfflineConnection;
 import liquibase.exception.LiquibaseException;
 import liquibase.integration.spring.SpringResourceAccessor;
-import liquibase.resource.CompositeResourceAccessor;
+import liquibase.parser.ChangeLogParser;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.parser.core.xml.XMLChangeLogSAXParser;
 import liquibase.resource.ResourceAccessor;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -45,12 +67,60 @@ import org.springframework.core.io.DefaultResourceLoader;
 )
 public class LintMojo extends AbstractMojo {
 
-    @Parameter(property = "changeLogFile", required = true)
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    @Parameter(property = "changeLogFile")
     private String changeLogFile;
 
+    /**
+     * Root change logs to lint alongside or instead of {@code changeLogFile}, each either a path or a glob relative to
+     * the project base directory, e.g. {@code src/main/resources/db/*&#47;changelog-root.xml}. They are linted
+     * concurrently with one configuration and reported as one, failing once for all their errors.
+     */
+    @Parameter(property = "lqlint.changeLogFiles")
+    private List<String> changeLogFiles;
+
     @Parameter(property = "configurationFile", defaultValue = "src/test/resources/lqlint.json", required = true)
     private String configurationFile;
 
+    /**
+     * Directory to cache lint results in between builds; overrides the {@code cache} entry of the configuration file.
+     */
+    @Parameter(property = "lqlint.cacheDirectory")
+    private File cacheDirectory;
+
+    /**
+     * File to lock lint results per change set in between builds; overrides the {@code lock} entry of the configuration
+     * file.
+     */
+    @Parameter(property = "lqlint.lockFile")
+    private File lockFile;
+
+    /**
+     * File to write a {@link LintAttestation} to when linting finds no errors, e.g.
+     * {@code ${project.build.outputDirectory}/lqlint-attestation.json} so that the parser extension finds it on the
+     * runtime classpath. Change log files are attested by their path relative to the resource or output directory
+     * they are in.
+     */
+    @Parameter(property = "lqlint.attestationFile")
+    private File attestationFile;
+
+    /**
+     * File to keep the inputs of the last successful lint in, so that linting is skipped while they are unchanged:
+     * the change log files reached, the configuration file and its imports, the goal parameters and the plugin.
+     */
+    @Parameter(property = "lqlint.stateFile", defaultValue = "${project.build.directory}/lqlint/lint-state.json")
+    private File stateFile;
+
+    /**
+     * Lint even when the inputs are unchanged since the last successful lint.
+     */
+    @Parameter(property = "lqlint.force", defaultValue = "false")
+    private boolean force;
+
+    @Parameter(defaultValue = "${plugin}", readonly = true)
+    private PluginDescriptor pluginDescriptor;
+
     /**
      * The active Maven project.
      */
@@ -59,21 +129,215 @@ public class LintMojo extends AbstractMojo {
 
     @Override
     public void execute() throws MojoFailureException, MojoExecutionException {
-        try (ResourceAccessor resourceAccessor = buildResourceAccessor()) {
+        final List<String> rootChangeLogs = rootChangeLogs();
+        if (attestationFile != null && rootChangeLogs.size() > 1) {
+            throw new MojoExecutionException(
+                "An attestationFile attests a single change log, but " + rootChangeLogs.size() + " are linted"
+            );
+        }
+        final LintState state = new LintState(stateFile.toPath(), stateParameters(rootChangeLogs), getLog());
+        if (!force && state.isUpToDate() && (attestationFile == null || attestationFile.isFile())) {
+            getLog().info("Change log unchanged since it last linted without errors, skipping");
+            return;
+        }
+        final MemoizingResourceAccessor resources = new MemoizingResourceAccessor(buildResourceAccessor());
+        try (InputRecordingResourceAccessor resourceAccessor = new InputRecordingResourceAccessor(resources)) {
+            state.invalidate();
             Scope.child(setUpLiquibaseLogging(), () -> {
-                Liquibase liquibase = createLiquibase(relativePathOf(changeLogFile), resourceAccessor);
-                DatabaseChangeLog databaseChangeLog = liquibase.getDatabaseChangeLog();
-
                 Config linterConfig = linterConfiguration(resourceAccessor, configurationFile);
-                new ChangeLogLinter(resourceAccessor, linterConfig).lintChangeLog(databaseChangeLog);
+                LintEngine engine = new LintEngine(linterConfig);
+                if (rootChangeLogs.size() == 1) {
+                    lint(engine, rootChangeLogs.get(0), resourceAccessor);
+                } else {
+                    lintConcurrently(engine, rootChangeLogs, resourceAccessor);
+                }
+                state.write(resourceAccessor, indexedDirectories());
             });
         } catch (ChangeLogLintingException lintingException) {
             throw new MojoFailureException(lintingException);
         } catch (Exception e) {
             throw new MojoExecutionException(e);
+        } finally {
+            getLog().debug(
+                String.format(
+                    "Looked resources up %d times, %d of them from memory",
+                    resources.getMissCount() + resources.getHitCount(),
+                    resources.getHitCount()
+                )
+            );
+        }
+    }
+
+    private void lint(LintEngine engine, String rootChangeLog, ResourceAccessor resourceAccessor) throws Exception {
+        DatabaseChangeLog databaseChangeLog = parseChangeLog(rootChangeLog, resourceAccessor);
+        LintSession session = engine.newSession(resourceAccessor);
+        if (attestationFile != null) {
+            // never leave the attestation of an earlier build behind when this one fails
+            Files.deleteIfExists(attestationFile.toPath());
+        }
+        session.lintChangeLog(databaseChangeLog);
+        if (attestationFile != null) {
+            session.attest().relativeTo(classpathDirectories()).write(attestationFile.toPath());
         }
     }
 
+    /**
+     * @return the directories change log files are copied to the runtime classpath from, as change logs are parsed
+     */
+    private List<String> classpathDirectories() {
+        final List<String> directories = mavenProject
+            .getResources()
+            .stream()
+            .map(resource -> relativePathOf(resource.getDirectory()))
+            .collect(Collectors.toList());
+        directories.add(relativePathOf(mavenProject.getBuild().getOutputDirectory()));
+        return directories;
+    }
+
+    /**
+     * Lints each root change log in its own session of the engine, and reports them as one once all are linted.
+     * <p>
+     * Parsing stays on this thread, as Liquibase keeps a single current scope for all threads by default and parsing
+     * changes it.
+     */
+    private void lintConcurrently(LintEngine engine, List<String> rootChangeLogs, ResourceAccessor resourceAccessor)
+        throws Exception {
+        getLog().info("Linting " + rootChangeLogs.size() + " change logs");
+        final List<DatabaseChangeLog> databaseChangeLogs = new ArrayList<>();
+        for (String rootChangeLog : rootChangeLogs) {
+            databaseChangeLogs.add(parseChangeLog(rootChangeLog, resourceAccessor));
+        }
+        final List<LintSession> sessions = new ArrayList<>();
+        final List<Future<ChangeLogLintingException>> failures = new ArrayList<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(rootChangeLogs.size(), Runtime.getRuntime().availableProcessors())
+        );
+        try {
+            for (DatabaseChangeLog databaseChangeLog : databaseChangeLogs) {
+                final LintSession session = engine.newUnreportedSession(resourceAccessor);
+                sessions.add(session);
+                failures.add(executor.submit(() -> lintUnreported(session, databaseChangeLog)));
+            }
+            ChangeLogLintingException firstFailure = null;
+            for (Future<ChangeLogLintingException> failure : failures) {
+                final ChangeLogLintingException exception = failure.get();
+                if (firstFailure == null) {
+                    firstFailure = exception;
+                }
+            }
+            engine.report(sessions.stream().map(LintSession::getReport).collect(Collectors.toList()));
+            if (firstFailure != null) {
+                // e.g. failing fast, which leaves no error in the report
+                throw firstFailure;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the failure of the session, which the merged report fails on again when it is for errors
+     */
+    private static ChangeLogLintingException lintUnreported(LintSession session, DatabaseChangeLog databaseChangeLog) {
+        try {
+            session.lintChangeLog(databaseChangeLog);
+            return null;
+        } catch (ChangeLogLintingException exception) {
+            return exception;
+        }
+    }
+
+    /**
+     * @return the {@code changeLogFile} and {@code changeLogFiles}, with globs expanded, relative to the base directory
+     */
+    private List<String> rootChangeLogs() throws MojoExecutionException {
+        final Set<String> rootChangeLogs = new LinkedHashSet<>();
+        if (changeLogFile != null) {
+            rootChangeLogs.add(relativePathOf(changeLogFile));
+        }
+        if (changeLogFiles != null) {
+            for (String entry : changeLogFiles) {
+                if (isGlob(entry)) {
+                    final List<String> matches = matching(relativePathOf(entry));
+                    if (matches.isEmpty()) {
+                        getLog().warn("No change log matches " + entry);
+                    }
+                    rootChangeLogs.addAll(matches);
+                } else {
+                    rootChangeLogs.add(relativePathOf(entry));
+                }
+            }
+        }
+        if (rootChangeLogs.isEmpty()) {
+            throw new MojoExecutionException("No change log to lint, set changeLogFile or changeLogFiles");
+        }
+        return new ArrayList<>(rootChangeLogs);
+    }
+
+    private static boolean isGlob(String path) {
+        return path.chars().anyMatch(character -> GLOB_CHARACTERS.indexOf(character) >= 0);
+    }
+
+    /**
+     * @return the files under the base directory matching the glob, sorted, walking only from the directory before its
+     *     first wildcard
+     */
+    private List<String> matching(String glob) throws MojoExecutionException {
+        final String pattern = StringUtils.removeStart(glob.replace('\\', '/'), "/");
+        final int wildcard = StringUtils.indexOfAny(pattern, GLOB_CHARACTERS);
+        final int separator = pattern.lastIndexOf('/', wildcard);
+        final Path baseDirectory = mavenProject.getBasedir().toPath();
+        final Path start = separator < 0 ? baseDirectory : baseDirectory.resolve(pattern.substring(0, separator));
+        if (!Files.isDirectory(start)) {
+            return Collections.emptyList();
+        }
+        final PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        try (Stream<Path> files = Files.walk(start)) {
+            return files
+                .filter(Files::isRegularFile)
+                .map(baseDirectory::relativize)
+                .filter(matcher::matches)
+                .map(file -> file.toString().replace(File.separatorChar, '/'))
+                .sorted()
+                .collect(Collectors.toList());
+        } catch (IOException exception) {
+            throw new MojoExecutionException("Cannot expand changeLogFiles entry " + glob, exception);
+        }
+    }
+
+    /**
+     * @return whatever besides the input files may change the outcome of linting
+     */
+    private List<String> stateParameters(List<String> rootChangeLogs) throws MojoExecutionException {
+        final List<String> parameters = new ArrayList<>(rootChangeLogs);
+        parameters.add(configurationFile);
+        parameters.add(String.valueOf(cacheDirectory));
+        parameters.add(String.valueOf(lockFile));
+        parameters.add(String.valueOf(attestationFile));
+        parameters.add(pluginDescriptor.getId());
+        // a SNAPSHOT dependency, e.g. of custom rules, changes under the same id
+        for (Artifact artifact : pluginDescriptor.getArtifacts()) {
+            parameters.add(artifact.getId());
+            parameters.add(artifact.getFile() == null ? "" : sizeAndTime(artifact.getFile()));
+        }
+        try {
+            for (String element : mavenProject.getCompileClasspathElements()) {
+                parameters.add(element);
+                parameters.add(sizeAndTime(new File(element)));
+            }
+        } catch (DependencyResolutionRequiredException exception) {
+            throw new MojoExecutionException(exception);
+        }
+        return parameters;
+    }
+
+    /**
+     * @return the size and modification time of the file, telling a changed jar apart without reading it
+     */
+    private static String sizeAndTime(File file) {
+        return file.isFile() ? file.length() + "@" + file.lastModified() : "";
+    }
+
     private Map<String, Object> setUpLiquibaseLogging() {
         Map<String, Object> scopeAttrs = new HashMap<>();
         scopeAttrs.put(Scope.Attr.logService.name(), new LiquibaseMavenLogService(getLog()));
@@ -89,6 +353,18 @@ public class LintMojo extends AbstractMojo {
                 throw new MojoExecutionException("Unable to load lq-linter configuration at " + configurationFile1);
             }
             linterConfig = userConfig.mergeWith(defaultMavenLinterConfig());
+            if (cacheDirectory != null) {
+                linterConfig = new Config.Builder(linterConfig)
+                    .withReporting(linterConfig.getReporting())
+                    .withCacheDirectory(cacheDirectory.getAbsolutePath())
+                    .build();
+            }
+            if (lockFile != null) {
+                linterConfig = new Config.Builder(linterConfig)
+                    .withReporting(linterConfig.getReporting())
+                    .withLockFile(lockFile.getAbsolutePath())
+                    .build();
+            }
         } catch (IOException exception) {
             throw new MojoExecutionException("ConfigurationFile " + configurationFile1 + " cannot be read", exception);
         }
@@ -108,26 +384,45 @@ public class LintMojo extends AbstractMojo {
 
     private ResourceAccessor buildResourceAccessor() throws MojoExecutionException {
         try (
-            SpringResourceAccessor springResourceAccessor = new SpringResourceAccessor(
-                new DefaultResourceLoader(classLoaderIncludingProjectClasspath())
-            );
-            ResourceAccessor baseDirResourceAccessor = new SafeDirectoryResourceAccessor(
-                mavenProject.getBasedir(),
-                getLog()
+            SpringResourceAccessor jarResourceAccessor = new SpringResourceAccessor(
+                new DefaultResourceLoader(classLoaderOfProjectJars())
             );
         ) {
-            return new CompositeResourceAccessor(springResourceAccessor, baseDirResourceAccessor);
+            return new IndexedResourceAccessor(
+                indexedDirectories(),
+                Collections.singletonList(Paths.get(mavenProject.getBuild().getDirectory())),
+                jarResourceAccessor
+            );
         } catch (Exception exception) {
             throw new MojoExecutionException(exception);
         }
     }
 
-    private ClassLoader classLoaderIncludingProjectClasspath() throws MojoExecutionException {
+    /**
+     * @return the directories of the compile classpath, in classpath order, and then the base directory
+     */
+    private List<Path> indexedDirectories() throws DependencyResolutionRequiredException {
+        final List<Path> directories = new ArrayList<>();
+        for (String element : mavenProject.getCompileClasspathElements()) {
+            final Path directory = Paths.get(element);
+            if (Files.isDirectory(directory)) {
+                directories.add(directory);
+            }
+        }
+        directories.add(mavenProject.getBasedir().toPath());
+        return directories;
+    }
+
+    /**
+     * @return a class loader of the jars of the compile classpath, as its directories are indexed
+     */
+    private ClassLoader classLoaderOfProjectJars() throws MojoExecutionException {
         try {
             URL[] urls = mavenProject
                 .getCompileClasspathElements()
                 .stream()
                 .map(File::new)
+                .filter(File::isFile)
                 .map(fileToURL())
                 .toArray(URL[]::new);
             return new URLClassLoader(urls, Thread.currentThread().getContextClassLoader());
@@ -146,10 +441,16 @@ public class LintMojo extends AbstractMojo {
         };
     }
 
-    private static Liquibase createLiquibase(String changeLogFile, ResourceAccessor resourceAccessor)
+    /**
+     * Parses the change log as {@link liquibase.Liquibase#getDatabaseChangeLog()} does, but without setting up a
+     * database: linting needs no dialect, so properties are expanded as for no database in particular.
+     */
+    private static DatabaseChangeLog parseChangeLog(String changeLogFile, ResourceAccessor resourceAccessor)
         throws LiquibaseException {
-        try (DatabaseConnection connection = new OfflineConnection("offline:h2", resourceAccessor)) {
-            return new Liquibase(changeLogFile, resourceAccessor, connection);
+        final ChangeLogParser parser = ChangeLogParserFactory.getInstance().getParser(changeLogFile, resourceAccessor);
+        if (parser instanceof XMLChangeLogSAXParser) {
+            ((XMLChangeLogSAXParser) parser).setShouldWarnOnMismatchedXsdVersion(false);
         }
+        return parser.parse(changeLogFile, new ChangeLogParameters(), resourceAccessor);
     }
 }
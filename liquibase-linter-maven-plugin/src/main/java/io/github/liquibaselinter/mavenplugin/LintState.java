@@ -0,0 +1,179 @@
+package io.github.liquibaselinter.mavenplugin;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * The inputs of the last successful lint of a module, so that the goal can tell it would lint the same again without
+ * building a class loader, parsing the change log or loading the rules.
+ * <p>
+ * The state holds a key hashing the goal parameters, and the plugin dependencies and the compile classpath with the
+ * size and time of their jars, along with the content hash of each local file an input was read from: a change log
+ * or configuration file, or the jar holding it. The paths looked up but not found are kept too, as
+ * the files they would be in each directory searched, which must still not exist. It is deleted before linting and
+ * only written once linting succeeds, so a failing module is linted on every build until fixed.
+ */
+final class LintState {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Path file;
+    private final String key;
+    private final Log log;
+
+    /**
+     * @param parameters whatever besides the input files may change the outcome of linting
+     */
+    LintState(Path file, Collection<String> parameters, Log log) {
+        this.file = file;
+        final Hasher hasher = Hashing.sha256().newHasher();
+        for (String parameter : parameters) {
+            final String value = String.valueOf(parameter);
+            hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+        }
+        this.key = hasher.hash().toString();
+        this.log = log;
+    }
+
+    /**
+     * @return whether the last successful lint had the same key and input files, all unchanged
+     */
+    boolean isUpToDate() {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        try {
+            final StateFile state = OBJECT_MAPPER.readValue(file.toFile(), StateFile.class);
+            if (!key.equals(state.key) || state.files.isEmpty()) {
+                return false;
+            }
+            for (Map.Entry<String, String> input : state.files.entrySet()) {
+                final Path path = Paths.get(input.getKey());
+                if (!Files.isRegularFile(path) || !input.getValue().equals(hash(path))) {
+                    log.debug("Linting again, as " + path + " changed");
+                    return false;
+                }
+            }
+            for (String missing : state.missing) {
+                if (Files.exists(Paths.get(missing))) {
+                    log.debug("Linting again, as " + missing + " turned up");
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            log.debug("Cannot read lint state " + file, e);
+            return false;
+        }
+    }
+
+    void invalidate() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Writes the state of a successful lint, unless an input cannot be told to be unchanged later on.
+     *
+     * @param directories the directories paths not found were looked up in, besides the jars of the classpath
+     */
+    void write(InputRecordingResourceAccessor resourceAccessor, Collection<Path> directories) throws IOException {
+        if (resourceAccessor.hasSearched()) {
+            log.debug("Not writing lint state, as linting searched for files");
+            return;
+        }
+        final Map<String, String> files = new TreeMap<>();
+        for (URI input : resourceAccessor.getInputs()) {
+            final Path path = localFile(input);
+            if (path == null) {
+                log.debug("Not writing lint state, as " + input + " is not a local file");
+                return;
+            }
+            files.put(path.toAbsolutePath().toString(), hash(path));
+        }
+        final SortedSet<String> missing = new TreeSet<>();
+        for (String path : resourceAccessor.getMissing()) {
+            final String relativePath = IndexedResourceAccessor.indexPath(path);
+            if (relativePath == null) {
+                log.debug("Not writing lint state, as " + path + " was not found");
+                return;
+            }
+            for (Path directory : directories) {
+                missing.add(directory.resolve(relativePath).toAbsolutePath().toString());
+            }
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        OBJECT_MAPPER.writeValue(file.toFile(), new StateFile(key, files, missing));
+    }
+
+    /**
+     * @return the local file a resource is read from, the jar holding it included, or {@code null} when there is none
+     */
+    private static Path localFile(URI uri) {
+        if ("file".equals(uri.getScheme())) {
+            return Paths.get(uri);
+        }
+        if ("jar".equals(uri.getScheme())) {
+            final String jar = uri.getRawSchemeSpecificPart();
+            final int separator = jar.indexOf("!/");
+            return localFile(URI.create(separator < 0 ? jar : jar.substring(0, separator)));
+        }
+        return null;
+    }
+
+    /**
+     * @return the hash of the content of the file
+     */
+    static String hash(Path path) throws IOException {
+        try (InputStream input = Files.newInputStream(path)) {
+            final Hasher hasher = Hashing.sha256().newHasher();
+            final byte[] buffer = new byte[8192];
+            int read = input.read(buffer);
+            while (read >= 0) {
+                hasher.putBytes(buffer, 0, read);
+                read = input.read(buffer);
+            }
+            return hasher.hash().toString();
+        }
+    }
+
+    private static final class StateFile {
+
+        @JsonProperty("key")
+        private final String key;
+
+        @JsonProperty("files")
+        private final Map<String, String> files;
+
+        @JsonProperty("missing")
+        private final Collection<String> missing;
+
+        @JsonCreator
+        private StateFile(
+            @JsonProperty("key") String key,
+            @JsonProperty("files") Map<String, String> files,
+            @JsonProperty("missing") Collection<String> missing
+        ) {
+            this.key = Objects.requireNonNull(key, "key");
+            this.files = files == null ? Collections.emptyMap() : files;
+            this.missing = missing == null ? Collections.emptyList() : missing;
+        }
+    }
+}
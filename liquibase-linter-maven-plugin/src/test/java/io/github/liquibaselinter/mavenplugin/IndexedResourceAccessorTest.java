@@ -0,0 +1,157 @@
+package io.github.liquibaselinter.mavenplugin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import liquibase.resource.AbstractResourceAccessor;
+import liquibase.resource.DirectoryResourceAccessor;
+import liquibase.resource.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IndexedResourceAccessorTest {
+
+    @TempDir
+    Path directory;
+
+    private IndexedResourceAccessor resourceAccessor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        write("module/target/classes/db/root.xml", "classes");
+        write("module/src/main/resources/db/root.xml", "resources");
+        write("module/src/main/resources/db/changes/1.xml", "resources");
+        write("module/.hidden/db/hidden.xml", "hidden");
+        write("module/child/pom.xml", "<project/>");
+        write("module/child/target/db/built.xml", "built");
+        write("jar/db/root.xml", "jar");
+        write("jar/db/changes/2.xml", "jar");
+        resourceAccessor = new IndexedResourceAccessor(
+            Arrays.asList(
+                directory.resolve("module/target/classes"),
+                directory.resolve("module/src/main/resources")
+            ),
+            Collections.singletonList(directory.resolve("module/target")),
+            new DirectoryResourceAccessor(directory.resolve("jar"))
+        );
+    }
+
+    @DisplayName("Should find a path in every directory, in order, and then in the other accessor")
+    @Test
+    void shouldFindPathEverywhere() throws IOException {
+        assertThat(contents(resourceAccessor.getAll("db/root.xml"))).containsExactly("classes", "resources", "jar");
+        assertThat(contents(resourceAccessor.getAll("classpath:/db/root.xml"))).startsWith("classes");
+        assertThat(contents(resourceAccessor.getAll("db/changes/1.xml"))).containsExactly("resources");
+    }
+
+    @DisplayName("Should get a path from the first directory having it, without asking the other accessor")
+    @Test
+    void shouldGetIndexedPathWithoutOtherAccessor() throws Exception {
+        final List<String> lookups = new ArrayList<>();
+        final DirectoryResourceAccessor jar = new DirectoryResourceAccessor(directory.resolve("jar"));
+        final IndexedResourceAccessor indexedResourceAccessor = new IndexedResourceAccessor(
+            Arrays.asList(directory.resolve("module/target/classes"), directory.resolve("module/src/main/resources")),
+            Collections.emptyList(),
+            new AbstractResourceAccessor() {
+                @Override
+                public List<Resource> search(String path, boolean recursive) throws IOException {
+                    lookups.add(path);
+                    return jar.search(path, recursive);
+                }
+
+                @Override
+                public List<Resource> getAll(String path) throws IOException {
+                    lookups.add(path);
+                    return jar.getAll(path);
+                }
+
+                @Override
+                public List<String> describeLocations() {
+                    return jar.describeLocations();
+                }
+
+                @Override
+                public void close() throws Exception {
+                    jar.close();
+                }
+            }
+        );
+
+        assertThat(content(indexedResourceAccessor.get("db/root.xml"))).isEqualTo("classes");
+        assertThat(indexedResourceAccessor.getExisting("db/changes/1.xml").getPath()).isEqualTo("db/changes/1.xml");
+        assertThat(lookups).isEmpty();
+
+        assertThat(content(indexedResourceAccessor.get("db/changes/2.xml"))).isEqualTo("jar");
+        assertThat(indexedResourceAccessor.get("db/missing.xml").exists()).isFalse();
+        assertThat(lookups).containsExactly("db/changes/2.xml", "db/missing.xml");
+    }
+
+    @DisplayName("Should search the directories and the other accessor")
+    @Test
+    void shouldSearchEverywhere() throws IOException {
+        assertThat(paths(resourceAccessor.search("db/changes", true))).containsExactly(
+            "db/changes/1.xml",
+            "db/changes/2.xml"
+        );
+        assertThat(paths(resourceAccessor.search("db", false))).containsExactly(
+            "db/root.xml",
+            "db/root.xml",
+            "db/root.xml"
+        );
+    }
+
+    @DisplayName("Should not walk hidden directories and the build directories of modules, but find files in them")
+    @Test
+    void shouldFindFilesInSkippedDirectories() throws Exception {
+        final IndexedResourceAccessor moduleResourceAccessor = new IndexedResourceAccessor(
+            Collections.singletonList(directory.resolve("module")),
+            Collections.singletonList(directory.resolve("module/target")),
+            new DirectoryResourceAccessor(directory.resolve("jar"))
+        );
+
+        assertThat(paths(moduleResourceAccessor.search("", true)))
+            .contains("src/main/resources/db/root.xml", "child/pom.xml")
+            .noneMatch(path -> path.startsWith(".hidden/") || path.contains("target/"));
+        assertThat(contents(moduleResourceAccessor.getAll(".hidden/db/hidden.xml"))).containsExactly("hidden");
+        assertThat(contents(moduleResourceAccessor.getAll("child/target/db/built.xml"))).containsExactly("built");
+        assertThat(paths(moduleResourceAccessor.search("child/target", true))).containsExactly(
+            "child/target/db/built.xml"
+        );
+    }
+
+    private void write(String path, String content) throws IOException {
+        final Path file = directory.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> paths(List<Resource> resources) {
+        return resources.stream().map(Resource::getPath).collect(Collectors.toList());
+    }
+
+    private static List<String> contents(List<Resource> resources) throws IOException {
+        final List<String> contents = new ArrayList<>();
+        for (Resource resource : resources) {
+            contents.add(content(resource));
+        }
+        return contents;
+    }
+
+    private static String content(Resource resource) throws IOException {
+        try (InputStream input = resource.openInputStream()) {
+            return new String(ByteStreams.toByteArray(input), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -40,6 +40,53 @@ class LintMojoIT {
         assertThatLintIssueIsDetectedAndReported(result, "config/liquibase/changelog/002_create_index_example.xml");
     }
 
+    @MavenTest
+    @MavenGoal("test")
+    void skip_linting_of_unchanged_change_log(MavenExecutionResult result) {
+        assertThat(result).isSuccessful();
+
+        assertThat(result)
+            .out()
+            .info()
+            .filteredOn(line -> line.contains("Change log unchanged since it last linted without errors, skipping"))
+            .hasSize(1);
+    }
+
+    @MavenTest
+    @MavenGoal("test")
+    void lint_several_root_change_logs(MavenExecutionResult result) {
+        assertThat(result).isFailure();
+
+        assertThat(result).out().info().contains("Linting 3 change logs");
+        assertThat(result)
+            .out()
+            .plain()
+            .containsSequence(
+                "[ERROR] 1 violation(s) found",
+                "[ERROR] src/main/resources/db/tenants/two/root.xml",
+                "[ERROR] \tchangeSet '2'",
+                "[ERROR] \t\t'index-name': Index names must be the table name, suffixed with 'IX' and a two-digit number, e.g. FOO_IX01"
+            );
+    }
+
+    @MavenTest
+    @MavenGoal("test")
+    void reject_attestation_file_with_several_change_logs(MavenExecutionResult result) {
+        assertThat(result).isFailure();
+
+        assertThat(result)
+            .out()
+            .error()
+            .filteredOn(line -> line.contains("An attestationFile attests a single change log, but 3 are linted"))
+            .isNotEmpty();
+    }
+
+    @MavenTest
+    @MavenGoal("test")
+    void parse_change_log_with_properties_and_includes(MavenExecutionResult result) {
+        assertThat(result).isSuccessful();
+    }
+
     private static void assertThatLintIssueIsDetectedAndReported(MavenExecutionResult result, String faultyChangelog) {
         assertThat(result).isFailure();
 
@@ -0,0 +1,121 @@
+package io.github.liquibaselinter.mavenplugin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import liquibase.resource.DirectoryResourceAccessor;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LintStateTest {
+
+    private static final List<String> PARAMETERS = Arrays.asList("db/root.xml", "lqlint.json");
+
+    @TempDir
+    Path directory;
+
+    private Path stateFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stateFile = directory.resolve("target/lqlint/lint-state.json");
+        write("src/db/root.xml", "<databaseChangeLog/>");
+        write("src/lqlint.json", "{}");
+    }
+
+    @DisplayName("Should not be up to date before any successful lint")
+    @Test
+    void shouldNotBeUpToDateWithoutState() {
+        assertThat(state(PARAMETERS).isUpToDate()).isFalse();
+    }
+
+    @DisplayName("Should be up to date while the inputs are unchanged")
+    @Test
+    void shouldBeUpToDateWhileInputsUnchanged() throws Exception {
+        lint("db/root.xml", "lqlint.json");
+
+        assertThat(state(PARAMETERS).isUpToDate()).isTrue();
+    }
+
+    @DisplayName("Should not be up to date once an input changed")
+    @Test
+    void shouldNotBeUpToDateOnceInputChanged() throws Exception {
+        lint("db/root.xml", "lqlint.json");
+
+        write("src/db/root.xml", "<databaseChangeLog></databaseChangeLog>");
+
+        assertThat(state(PARAMETERS).isUpToDate()).isFalse();
+    }
+
+    @DisplayName("Should not be up to date with other parameters")
+    @Test
+    void shouldNotBeUpToDateWithOtherParameters() throws Exception {
+        lint("db/root.xml", "lqlint.json");
+
+        assertThat(state(Arrays.asList("db/other.xml", "lqlint.json")).isUpToDate()).isFalse();
+    }
+
+    @DisplayName("Should not be up to date once a file looked up but not found turned up")
+    @Test
+    void shouldNotBeUpToDateOnceMissingFileTurnedUp() throws Exception {
+        lint("db/root.xml", "lqlint.json", "lqlint-overrides.json");
+        assertThat(state(PARAMETERS).isUpToDate()).isTrue();
+
+        write("src/lqlint-overrides.json", "{}");
+
+        assertThat(state(PARAMETERS).isUpToDate()).isFalse();
+    }
+
+    @DisplayName("Should not be written when linting searched for files")
+    @Test
+    void shouldNotBeWrittenWhenSearched() throws Exception {
+        final LintState state = state(PARAMETERS);
+        try (
+            InputRecordingResourceAccessor resourceAccessor = new InputRecordingResourceAccessor(
+                new DirectoryResourceAccessor(directory.resolve("src"))
+            )
+        ) {
+            resourceAccessor.get("db/root.xml");
+            resourceAccessor.search("db", true);
+            state.write(resourceAccessor, Collections.singletonList(directory.resolve("src")));
+        }
+
+        assertThat(stateFile).doesNotExist();
+        assertThat(state.isUpToDate()).isFalse();
+    }
+
+    private void lint(String... paths) throws Exception {
+        final LintState state = state(PARAMETERS);
+        state.invalidate();
+        try (
+            InputRecordingResourceAccessor resourceAccessor = new InputRecordingResourceAccessor(
+                new DirectoryResourceAccessor(directory.resolve("src"))
+            )
+        ) {
+            for (String path : paths) {
+                resourceAccessor.get(path);
+            }
+            state.write(resourceAccessor, Collections.singletonList(directory.resolve("src")));
+        }
+        assertThat(stateFile).exists();
+    }
+
+    private LintState state(List<String> parameters) {
+        return new LintState(stateFile, parameters, new SystemStreamLog());
+    }
+
+    private void write(String path, String content) throws IOException {
+        final Path file = directory.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.liquibaselinter;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.github.liquibaselinter.config.AsyncMode;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import liquibase.Scope;
+import liquibase.changelog.DatabaseChangeLog;
+
+/**
+ * Lints root change logs on a background thread, for the {@link AsyncMode asynchronous modes} of the parser extension.
+ * <p>
+ * The threads are daemon threads, so a process that exits right after parsing may not finish linting; these modes
+ * suit applications that keep running after applying their change logs.
+ * <p>
+ * A change log is linted while Liquibase goes on using it, e.g. to run an update in {@link AsyncMode#REPORT report}
+ * mode, and linting only reads it. The results are only meant for inspection: a change Liquibase makes to the change
+ * log meanwhile, e.g. to a change set it runs, may or may not be seen. The reporters are shared with every other
+ * session of the engine, which take turns using them.
+ */
+final class AsyncLint {
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(
+        new ThreadFactoryBuilder().setNameFormat("lqlint-async-%d").setDaemon(true).build()
+    );
+
+    private static final Set<CompletableFuture<Void>> RUNNING = ConcurrentHashMap.newKeySet();
+
+    private AsyncLint() {}
+
+    /**
+     * @return completes once linting finishes, exceptionally with a {@link ChangeLogLintingException} when it fails
+     */
+    static CompletableFuture<Void> start(ChangeLogLinter linter, DatabaseChangeLog changeLog) {
+        final String changeLogFile = changeLog.getPhysicalFilePath();
+        final CompletableFuture<Void> lint = CompletableFuture.runAsync(
+            () -> {
+                try {
+                    linter.lintChangeLog(changeLog);
+                } catch (ChangeLogLintingException e) {
+                    throw new CompletionException(e);
+                }
+            },
+            EXECUTOR
+        ).whenComplete((ignored, failure) -> logCompletion(changeLogFile, failure));
+        RUNNING.add(lint);
+        lint.whenComplete((ignored, failure) -> RUNNING.remove(lint));
+        return lint;
+    }
+
+    /**
+     * @return completes once the lints running now have finished, whether they fail or not
+     */
+    static CompletableFuture<Void> running() {
+        return CompletableFuture.allOf(
+            RUNNING.stream().map(lint -> lint.handle((ignored, failure) -> null)).toArray(CompletableFuture[]::new)
+        );
+    }
+
+    private static void logCompletion(String changeLogFile, Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        if (cause == null) {
+            Scope.getCurrentScope().getLog(AsyncLint.class).info("Finished linting " + changeLogFile);
+        } else if (cause instanceof ChangeLogLintingException) {
+            Scope.getCurrentScope()
+                .getLog(AsyncLint.class)
+                .severe("Linting " + changeLogFile + " failed: " + cause.getMessage());
+        } else {
+            Scope.getCurrentScope().getLog(AsyncLint.class).severe("Linting " + changeLogFile + " failed", cause);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.liquibaselinter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.changelog.visitor.ChangeExecListener;
+import liquibase.database.Database;
+import liquibase.exception.UnexpectedLiquibaseException;
+import liquibase.exception.ValidationErrors;
+import liquibase.exception.Warnings;
+import liquibase.parser.core.ParsedNode;
+import liquibase.precondition.AbstractPrecondition;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * Waits for the background linting of a root change log when Liquibase checks its preconditions, which it does while
+ * validating the change log before an update.
+ * <p>
+ * Linting errors are thrown as an {@link UnexpectedLiquibaseException} rather than a failed precondition, so the
+ * update stops whatever {@code onFail} the change log declares for its own preconditions.
+ */
+final class AsyncLintPrecondition extends AbstractPrecondition {
+
+    private final CompletableFuture<Void> lint;
+
+    AsyncLintPrecondition(CompletableFuture<Void> lint) {
+        this.lint = lint;
+    }
+
+    @Override
+    public String getName() {
+        return "lqlintAsync";
+    }
+
+    @Override
+    public String getSerializedObjectNamespace() {
+        return GENERIC_CHANGELOG_EXTENSION_NAMESPACE;
+    }
+
+    @Override
+    public Warnings warn(Database database) {
+        return new Warnings();
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        return new ValidationErrors();
+    }
+
+    @Override
+    public void check(
+        Database database,
+        DatabaseChangeLog changeLog,
+        ChangeSet changeSet,
+        ChangeExecListener changeExecListener
+    ) {
+        try {
+            lint.join();
+        } catch (CompletionException e) {
+            throw new UnexpectedLiquibaseException(e.getCause().getMessage(), e);
+        }
+    }
+
+    @Override
+    public void load(ParsedNode parsedNode, ResourceAccessor resourceAccessor) {
+        // only ever added to a parsed change log, never read from one
+    }
+}
@@ -1,21 +1,33 @@
 package io.github.liquibaselinter;
 
 import com.google.auto.service.AutoService;
-import java.util.stream.Stream;
+import io.github.liquibaselinter.config.AsyncMode;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import liquibase.Scope;
 import liquibase.changelog.ChangeLogParameters;
 import liquibase.changelog.DatabaseChangeLog;
 import liquibase.exception.ChangeLogParseException;
 import liquibase.parser.ChangeLogParser;
 import liquibase.parser.ChangeLogParserFactory;
+import liquibase.precondition.core.PreconditionContainer;
 import liquibase.resource.ResourceAccessor;
 
 @SuppressWarnings("WeakerAccess")
 @AutoService(ChangeLogParser.class)
 public class LintAwareChangeLogParser implements ChangeLogParser {
 
+    private static final LintEngineCache ENGINES = new LintEngineCache();
+
+    private static final AtomicReference<DelegateParsers> DELEGATE_PARSERS = new AtomicReference<>();
+
     @Override
     public boolean supports(String changeLogFile, ResourceAccessor resourceAccessor) {
-        return getParsers().anyMatch(parser -> parser.supports(changeLogFile, resourceAccessor));
+        return getParsers().stream().anyMatch(parser -> parser.supports(changeLogFile, resourceAccessor));
     }
 
     @Override
@@ -37,7 +49,7 @@ public class LintAwareChangeLogParser implements ChangeLogParser {
             );
 
             if (isRootChangeLog(changeLog)) {
-                new ChangeLogLinter(resourceAccessor).lintChangeLog(changeLog);
+                lintChangeLog(changeLog, resourceAccessor);
             }
             return changeLog;
         } catch (ChangeLogLintingException lintingException) {
@@ -45,6 +57,55 @@ public class LintAwareChangeLogParser implements ChangeLogParser {
         }
     }
 
+    private static void lintChangeLog(DatabaseChangeLog changeLog, ResourceAccessor changeLogResourceAccessor)
+        throws ChangeLogLintingException {
+        final LintEngine engine = ENGINES.get(changeLogResourceAccessor);
+        // never closed, as that would close the accessor Liquibase is still using
+        final ResourceAccessor resourceAccessor = new MemoizingResourceAccessor(changeLogResourceAccessor);
+        if (isAttested(changeLog, resourceAccessor, engine)) {
+            Scope.getCurrentScope()
+                .getLog(LintAwareChangeLogParser.class)
+                .info(
+                    "Skipped linting " +
+                    changeLog.getPhysicalFilePath() +
+                    ", attested by " +
+                    LintAttestation.LQLINT_ATTESTATION
+                );
+            return;
+        }
+        final ChangeLogLinter linter = new ChangeLogLinter(resourceAccessor, engine);
+        final AsyncMode asyncMode = engine.getConfig().getAsyncMode();
+        if (asyncMode == AsyncMode.OFF) {
+            linter.lintChangeLog(changeLog);
+            return;
+        }
+
+        final CompletableFuture<Void> lint = AsyncLint.start(linter, changeLog);
+        if (asyncMode == AsyncMode.BLOCK_ON_ERROR) {
+            if (changeLog.getPreconditions() == null) {
+                changeLog.setPreconditions(new PreconditionContainer());
+            }
+            changeLog.getPreconditions().addNestedPrecondition(new AsyncLintPrecondition(lint));
+        }
+    }
+
+    private static boolean isAttested(
+        DatabaseChangeLog changeLog,
+        ResourceAccessor resourceAccessor,
+        LintEngine engine
+    ) {
+        try {
+            return LintAttestation.read(resourceAccessor, LintAttestation.LQLINT_ATTESTATION)
+                .map(attestation -> attestation.attests(engine, resourceAccessor, changeLog))
+                .orElse(false);
+        } catch (IOException e) {
+            Scope.getCurrentScope()
+                .getLog(LintAwareChangeLogParser.class)
+                .warning("Cannot read " + LintAttestation.LQLINT_ATTESTATION + ", linting instead", e);
+            return false;
+        }
+    }
+
     private static boolean isRootChangeLog(DatabaseChangeLog changeLog) {
         return changeLog.getRootChangeLog() == changeLog;
     }
@@ -55,16 +116,39 @@ public class LintAwareChangeLogParser implements ChangeLogParser {
         ResourceAccessor resourceAccessor
     ) throws ChangeLogParseException {
         ChangeLogParser supportingParser = getParsers()
+            .stream()
             .filter(parser -> parser.supports(physicalChangeLogLocation, resourceAccessor))
             .findFirst()
             .orElseThrow(() -> new IllegalArgumentException("Change log file type not supported"));
         return supportingParser.parse(physicalChangeLogLocation, changeLogParameters, resourceAccessor);
     }
 
-    private static Stream<ChangeLogParser> getParsers() {
-        return ChangeLogParserFactory.getInstance()
-            .getParsers()
-            .stream()
-            .filter(parser -> !(parser instanceof LintAwareChangeLogParser));
+    /**
+     * The other parsers are looked up once per {@link ChangeLogParserFactory} instance, so they are looked up again
+     * after the factory is {@link ChangeLogParserFactory#reset() reset}.
+     */
+    private static List<ChangeLogParser> getParsers() {
+        final ChangeLogParserFactory factory = ChangeLogParserFactory.getInstance();
+        DelegateParsers parsers = DELEGATE_PARSERS.get();
+        if (parsers == null || parsers.factory != factory) {
+            parsers = new DelegateParsers(factory);
+            DELEGATE_PARSERS.set(parsers);
+        }
+        return parsers.parsers;
+    }
+
+    private static final class DelegateParsers {
+
+        private final ChangeLogParserFactory factory;
+        private final List<ChangeLogParser> parsers;
+
+        private DelegateParsers(ChangeLogParserFactory factory) {
+            this.factory = factory;
+            this.parsers = factory
+                .getParsers()
+                .stream()
+                .filter(parser -> !(parser instanceof LintAwareChangeLogParser))
+                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+        }
     }
 }
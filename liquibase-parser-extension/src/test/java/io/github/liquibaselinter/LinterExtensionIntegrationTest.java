@@ -6,6 +6,11 @@ import com.google.common.io.CharStreams;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
 import liquibase.Contexts;
 import liquibase.Liquibase;
 import liquibase.database.DatabaseConnection;
@@ -16,12 +21,16 @@ import liquibase.resource.DirectoryResourceAccessor;
 import liquibase.resource.ResourceAccessor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class LinterExtensionIntegrationTest {
 
     private static final ResourceAccessor TEST_FILES_RESOURCE_ACCESSOR = testFilesResourceAccessor();
     private static final String LQLINT_CONFIG_PROPERTY = "lqlint.config.path";
 
+    @TempDir
+    Path directory;
+
     @AfterEach
     void tearDown() {
         System.clearProperty(LQLINT_CONFIG_PROPERTY);
@@ -43,9 +52,64 @@ class LinterExtensionIntegrationTest {
             .withMessageContaining("Linting failed with 1 errors");
     }
 
-    private static Liquibase createLiquibaseWithChangelog(String changeLogFile) throws LiquibaseException {
-        DatabaseConnection conn = new OfflineConnection("offline:h2", TEST_FILES_RESOURCE_ACCESSOR);
-        return new Liquibase(changeLogFile, TEST_FILES_RESOURCE_ACCESSOR, conn);
+    @Test
+    void extensionShouldFailUpdateOnErrorsLintedInBackground() throws LiquibaseException {
+        Writer nullWriter = CharStreams.nullWriter();
+        Contexts contexts = new Contexts();
+
+        System.setProperty(LQLINT_CONFIG_PROPERTY, "lqlint-async-block-on-error.json");
+
+        Liquibase liquibase = createLiquibaseWithChangelog("master.xml");
+
+        assertThatExceptionOfType(CommandExecutionException.class)
+            .isThrownBy(() -> liquibase.update(contexts, nullWriter))
+            .havingRootCause()
+            .isInstanceOf(ChangeLogLintingException.class)
+            .withMessageContaining("Linting failed with 1 errors");
+    }
+
+    @Test
+    void extensionShouldOnlyReportErrorsLintedInBackground() throws Exception {
+        Writer nullWriter = CharStreams.nullWriter();
+        Contexts contexts = new Contexts();
+        Path report = directory.resolve("lqlint-report.txt");
+        Files.copy(Paths.get("src/test/resources/master.xml"), directory.resolve("master.xml"));
+        Files.copy(Paths.get("src/test/resources/lqlint.json"), directory.resolve("lqlint.json"));
+        Files.write(
+            directory.resolve("lqlint-async-report.json"),
+            (
+                "{\"import\": \"lqlint.json\", \"async\": \"report\", " +
+                "\"reporting\": {\"console\": false, \"text\": \"" +
+                report.toString().replace('\\', '/') +
+                "\"}}"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+
+        System.setProperty(LQLINT_CONFIG_PROPERTY, "lqlint-async-report.json");
+
+        Liquibase liquibase = createLiquibaseWithChangelog("master.xml", new DirectoryResourceAccessor(directory));
+
+        assertThatCode(() -> liquibase.update(contexts, nullWriter)).doesNotThrowAnyException();
+        AsyncLint.running().get(1, TimeUnit.MINUTES);
+        assertThat(new String(Files.readAllBytes(report), StandardCharsets.UTF_8))
+            .contains("Index names must be the table name")
+            .contains("ERROR: 1");
+    }
+
+    private Liquibase createLiquibaseWithChangelog(String changeLogFile) throws LiquibaseException {
+        return createLiquibaseWithChangelog(changeLogFile, TEST_FILES_RESOURCE_ACCESSOR);
+    }
+
+    /**
+     * Offline updates record the change sets they run in a CSV file, which is kept out of the module directory.
+     */
+    private Liquibase createLiquibaseWithChangelog(String changeLogFile, ResourceAccessor resourceAccessor)
+        throws LiquibaseException {
+        DatabaseConnection conn = new OfflineConnection(
+            "offline:h2?changeLogFile=" + directory.resolve("databasechangelog.csv").toString().replace('\\', '/'),
+            resourceAccessor
+        );
+        return new Liquibase(changeLogFile, resourceAccessor, conn);
     }
 
     private static ResourceAccessor testFilesResourceAccessor() {